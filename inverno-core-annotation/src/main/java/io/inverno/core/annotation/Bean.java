@@ -194,7 +194,33 @@ public @interface Bean {
 		/**
 		 * Prototype strategy results in multiple instance being created when requested.
 		 */
-		PROTOTYPE
+		PROTOTYPE,
+		/**
+		 * <p>
+		 * Pooled strategy results in instances being borrowed from and returned to a bounded pool of reusable instances.
+		 * </p>
+		 * 
+		 * <p>
+		 * Pooled beans are injected into sockets of type {@code io.inverno.core.v1.Pool<T>}, an instance returned to the pool is reset by invoking the methods annotated with {@link Reset} and
+		 * then kept for later borrowers. Instances are destroyed when they are evicted from the pool or when the module is stopped.
+		 * </p>
+		 * 
+		 * @since 1.6
+		 */
+		POOLED,
+		/**
+		 * <p>
+		 * Scoped strategy results in one single instance being created per active scope, such as a request or a batch partition.
+		 * </p>
+		 * 
+		 * <p>
+		 * Instances are cached in the active {@code io.inverno.core.v1.Scope} and destroyed when the scope is closed. A scoped bean can't be requested when no scope is active, it should then be
+		 * injected lazily into beans which outlive the scope.
+		 * </p>
+		 * 
+		 * @since 1.6
+		 */
+		SCOPED
 	}
 
 	/**
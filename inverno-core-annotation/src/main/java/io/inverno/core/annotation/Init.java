@@ -25,6 +25,11 @@ import java.lang.annotation.Target;
  * <p>
  * Indicates a method that must be executed after a bean has been instantiated and dependency injection is done.
  * </p>
+ * 
+ * <p>
+ * An init method returning a {@link java.util.concurrent.CompletionStage} initializes the bean asynchronously: the module keeps creating beans that do not depend on the bean and dependent beans
+ * are only created once the returned stage completes.
+ * </p>
  *
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  * @since 1.0
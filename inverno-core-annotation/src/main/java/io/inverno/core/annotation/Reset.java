@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.annotation;
+
+import static java.lang.annotation.ElementType.METHOD;
+import java.lang.annotation.Retention;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Indicates a method that must be executed when an instance of a bean with strategy {@link Bean.Strategy#POOLED} is returned to the pool.
+ * </p>
+ *
+ * <p>
+ * A reset method restores the state of an instance so that it can be reused by the next borrower. An instance whose reset method throws an exception is evicted from the pool and destroyed.
+ * Reset methods are ignored for other strategies.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+@Retention(CLASS)
+@Target({ METHOD })
+public @interface Reset {
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.annotation;
+
+import static java.lang.annotation.ElementType.METHOD;
+import java.lang.annotation.Retention;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Indicates a method that must be executed to warm up a bean with strategy {@link Bean.Strategy#SINGLETON} once the module has been started.
+ * </p>
+ *
+ * <p>
+ * A warm-up method typically exercises the code paths of a bean so that they are compiled by the JIT before the application actually receives requests. Unlike initialization methods, warm-up
+ * methods are not on the startup critical path: they are executed concurrently after all beans have been created and the module is only reported ready once they have completed or once the
+ * warm-up time budget is exhausted. An exception thrown by a warm-up method is logged and does not prevent the module from being ready. Warm-up methods are ignored for other strategies.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+@Retention(CLASS)
+@Target({ METHOD })
+public @interface Warmup {
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * <p>
+ * A minimal benchmark harness measuring the average time and the memory allocated per operation.
+ * </p>
+ * 
+ * <p>
+ * A benchmark defines several cases, each case is run in a forked JVM so that the code it exercises is not optimized for the operations measured by other cases. In a case, an operation is
+ * repeated by one or more threads during a number of warmup iterations, which are ignored, and then during a number of measurement iterations. Each thread measures the time and the memory it
+ * spends executing its share of operations, results are averaged over all threads and measurement iterations.
+ * </p>
+ * 
+ * <p>
+ * The number of threads used by contended benchmarks and the number of iterations can be set with the {@code inverno.benchmark.threads}, {@code inverno.benchmark.warmupIterations} and
+ * {@code inverno.benchmark.iterations} system properties. Benchmarks measuring how an operation scales with the number of threads are run with each thread count in the
+ * {@code inverno.benchmark.threadCounts} system property as a comma separated list (defaults to {@code 1,2,4,8,16,32,64}). The cases to run can be selected with the {@code inverno.benchmark.cases} system property as a comma separated list.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+final class Harness {
+
+	/**
+	 * The number of threads used by contended benchmarks.
+	 */
+	static final int THREADS = Integer.getInteger("inverno.benchmark.threads", Math.max(4, Runtime.getRuntime().availableProcessors()));
+	
+	/**
+	 * The numbers of threads used by benchmarks measuring the scalability of an operation.
+	 */
+	static final int[] THREAD_COUNTS = Arrays.stream(System.getProperty("inverno.benchmark.threadCounts", "1,2,4,8,16,32,64").split(",")).mapToInt(threadCount -> Integer.parseInt(threadCount.trim())).toArray();
+	
+	private static final String CASE_PROPERTY = "inverno.benchmark.case";
+	
+	private static final Set<String> SELECTED_CASES = Optional.ofNullable(System.getProperty("inverno.benchmark.cases")).map(cases -> Set.of(cases.split(","))).orElse(null);
+	
+	private static final int WARMUP_ITERATIONS = Integer.getInteger("inverno.benchmark.warmupIterations", 5);
+	
+	private static final int ITERATIONS = Integer.getInteger("inverno.benchmark.iterations", 10);
+	
+	private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+	
+	/**
+	 * Prevents the JIT compiler from eliminating operations whose result is never used.
+	 */
+	private static volatile Object sink;
+	
+	private Harness() {}
+	
+	/**
+	 * <p>
+	 * Runs the cases of a benchmark.
+	 * </p>
+	 * 
+	 * <p>
+	 * When invoked from a forked JVM, the case selected by the parent JVM is run, otherwise a JVM is forked for each case and the results are printed in a table.
+	 * </p>
+	 * 
+	 * @param title     the title of the benchmark
+	 * @param benchmark the class of the benchmark whose main method invokes this method
+	 * @param runner    the runner of a case, measuring its operations
+	 * @param cases     the cases of the benchmark
+	 */
+	static void run(String title, Class<?> benchmark, Consumer<String> runner, String... cases) {
+		String forkedCase = System.getProperty(CASE_PROPERTY);
+		if(forkedCase != null) {
+			runner.accept(forkedCase);
+			return;
+		}
+		
+		System.out.println(title);
+		System.out.printf("%-56s %8s %16s %16s%n", "Benchmark", "Threads", "ns/op", "B/op");
+		for(String benchmarkCase : cases) {
+			if(SELECTED_CASES != null && !SELECTED_CASES.contains(benchmarkCase)) {
+				continue;
+			}
+			List<String> command = new ArrayList<>();
+			command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+			command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+			// Log4j warns that no logging implementation is present in the class path
+			command.add("-Dorg.apache.logging.log4j.simplelog.StatusLogger.level=OFF");
+			command.add("-D" + CASE_PROPERTY + "=" + benchmarkCase);
+			command.add("-cp");
+			command.add(System.getProperty("java.class.path"));
+			command.add(benchmark.getName());
+			try {
+				int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+				if(exitCode != 0) {
+					throw new IllegalStateException("Benchmark case " + benchmarkCase + " failed with exit code " + exitCode);
+				}
+			}
+			catch(IOException e) {
+				throw new IllegalStateException("Error forking benchmark case " + benchmarkCase, e);
+			}
+			catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Measures an operation and prints the result.
+	 * </p>
+	 * 
+	 * @param label         the label of the measured operation
+	 * @param threads       the number of threads executing the operation concurrently
+	 * @param opsPerThread  the number of operations executed by each thread in an iteration
+	 * @param operation     the operation
+	 */
+	static void measure(String label, int threads, int opsPerThread, Supplier<?> operation) {
+		measure(label, threads, opsPerThread, WARMUP_ITERATIONS, ITERATIONS, operation);
+	}
+	
+	/**
+	 * <p>
+	 * Measures an operation with the specified number of iterations and prints the result.
+	 * </p>
+	 * 
+	 * @param label             the label of the measured operation
+	 * @param threads           the number of threads executing the operation concurrently
+	 * @param opsPerThread      the number of operations executed by each thread in an iteration
+	 * @param warmupIterations  the number of warmup iterations
+	 * @param iterations        the number of measurement iterations
+	 * @param operation         the operation
+	 */
+	static void measure(String label, int threads, int opsPerThread, int warmupIterations, int iterations, Supplier<?> operation) {
+		for(int i = 0;i < warmupIterations;i++) {
+			iterate(threads, opsPerThread, operation);
+		}
+		long[] total = new long[2];
+		for(int i = 0;i < iterations;i++) {
+			long[] result = iterate(threads, opsPerThread, operation);
+			total[0] += result[0];
+			total[1] += result[1];
+		}
+		double ops = (double)iterations * threads * opsPerThread;
+		System.out.printf("%-56s %8d %16.2f %16.1f%n", label, threads, total[0] / ops, total[1] / ops);
+	}
+	
+	/**
+	 * <p>
+	 * Executes one iteration.
+	 * </p>
+	 * 
+	 * @return the nanoseconds and the bytes spent by all threads
+	 */
+	private static long[] iterate(int threads, int opsPerThread, Supplier<?> operation) {
+		long[] result = new long[2];
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] workers = new Thread[threads];
+		for(int i = 0;i < threads;i++) {
+			workers[i] = new Thread(() -> {
+				try {
+					start.await();
+				}
+				catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				long bytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+				long nanos = System.nanoTime();
+				Object last = null;
+				for(int j = 0;j < opsPerThread;j++) {
+					last = operation.get();
+				}
+				nanos = System.nanoTime() - nanos;
+				bytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - bytes;
+				sink = last;
+				synchronized(result) {
+					result[0] += nanos;
+					result[1] += bytes;
+				}
+			});
+			workers[i].start();
+		}
+		start.countDown();
+		try {
+			for(Thread worker : workers) {
+				worker.join();
+			}
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.function.Supplier;
+
+import io.inverno.core.v1.Module;
+
+/**
+ * <p>
+ * Measures the resolution of a lazy socket targeting a singleton bean and the creation of the supplier injected into that socket.
+ * </p>
+ * 
+ * <p>
+ * Lazy sockets used to be injected with a new lambda delegating to the bean field of the module each time the consumer bean was created, they are now injected with the supplier returned by
+ * {@link Module#lazy(Module.Bean)}.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class LazySocketBenchmark extends Module {
+
+	private static final int OPS_PER_THREAD = 10_000_000;
+	
+	private final Module.Bean<Object> singletonBean;
+	
+	private LazySocketBenchmark() {
+		super("lazySocket");
+		Object instance = new Object();
+		this.singletonBean = this.with(ModuleBeanBuilder.singleton("singletonBean", () -> instance));
+	}
+	
+	/**
+	 * <p>
+	 * Creates the supplier injected into a lazy socket by the previous generated code.
+	 * </p>
+	 * 
+	 * @return a lazy socket supplier
+	 */
+	private Supplier<Object> lambda() {
+		return () -> this.singletonBean.get();
+	}
+	
+	public static void main(String[] args) {
+		Harness.run("Lazy socket", LazySocketBenchmark.class, benchmarkCase -> {
+			LazySocketBenchmark module = new LazySocketBenchmark();
+			module.start();
+			try {
+				switch(benchmarkCase) {
+					case "lambdaGet": {
+						Supplier<Object> supplier = module.lambda();
+						Harness.measure("lambda supplier get()", 1, OPS_PER_THREAD, supplier);
+						break;
+					}
+					case "lazyGet": {
+						Supplier<Object> supplier = Module.lazy(module.singletonBean);
+						Harness.measure("lazy(bean) supplier get()", 1, OPS_PER_THREAD, supplier);
+						break;
+					}
+					case "lambdaInject":
+						Harness.measure("lambda supplier creation", 1, OPS_PER_THREAD, module::lambda);
+						break;
+					case "lazyInject":
+						Harness.measure("lazy(bean) supplier creation", 1, OPS_PER_THREAD, () -> Module.lazy(module.singletonBean));
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown case: " + benchmarkCase);
+				}
+			}
+			finally {
+				module.stop();
+			}
+		}, "lambdaGet", "lazyGet", "lambdaInject", "lazyInject");
+	}
+}
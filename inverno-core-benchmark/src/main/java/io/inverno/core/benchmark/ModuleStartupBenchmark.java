@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.module.Configuration;
+import java.lang.module.ModuleFinder;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Measures the time to start a generated module, in a new JVM, when the module class is generated with lambdas and when it is generated without lambdas.
+ * </p>
+ * 
+ * <p>
+ * The module defines a number of beans, 500 by default which can be changed with the {@code inverno.benchmark.beans} system property, each bean defines an init method, a destroy method and a
+ * socket. Each mode is started in 10 forked JVMs to measure the time to start the module, including the loading of its classes, and the number of classes loaded in the process. Another JVM is
+ * forked which logs class loading in order to count the lambda classes spun by the JVM.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class ModuleStartupBenchmark {
+
+	private static final String MODULE_NAME = "io.inverno.core.benchmark.startup";
+	
+	private static final int BEAN_COUNT = Integer.getInteger("inverno.benchmark.beans", 500);
+	
+	private static final int FORKS = 10;
+	
+	private static final String RESULT_PREFIX = "RESULT ";
+	
+	public static void main(String[] args) throws Exception {
+		if(args.length > 0) {
+			start(args[0], args[1], Stream.of(args[2].split(File.pathSeparator)).map(Path::of).toArray(Path[]::new));
+			return;
+		}
+		
+		SyntheticModule module = new SyntheticModule(MODULE_NAME, generateSources());
+		Map<String, Path> compiledModules = Map.of(
+			"default", module.compile("default"),
+			"lambda-free", module.compile("lambdaFree", "-Ainverno.lambdaFree=true")
+		);
+		
+		System.out.println("Module startup (" + BEAN_COUNT + " beans)");
+		System.out.printf("%-16s %16s %16s %16s%n", "Mode", "Started (ms)", "Loaded classes", "Lambda classes");
+		for(String mode : List.of("default", "lambda-free")) {
+			List<String> command = new ArrayList<>(List.of(
+				Path.of(System.getProperty("java.home"), "bin", "java").toString(), 
+				"-Dorg.apache.logging.log4j.simplelog.StatusLogger.level=OFF", 
+				"-cp", System.getProperty("java.class.path"), 
+				ModuleStartupBenchmark.class.getName(), 
+				module.getModuleName(), 
+				module.getModuleClassName(), 
+				Stream.concat(Stream.of(compiledModules.get(mode)), SyntheticModule.MODULE_PATH.stream()).map(Path::toString).collect(Collectors.joining(File.pathSeparator))
+			));
+			
+			long startupNanos = 0;
+			long loadedClasses = 0;
+			for(int i = 0;i < FORKS;i++) {
+				String[] result = fork(command).stream().filter(line -> line.startsWith(RESULT_PREFIX)).findFirst().orElseThrow(() -> new IllegalStateException("Missing result")).split(" ");
+				startupNanos += Long.parseLong(result[1]);
+				loadedClasses += Long.parseLong(result[2]);
+			}
+			
+			command.add(1, "-Xlog:class+load=info:stdout");
+			long lambdaClasses = fork(command).stream().filter(line -> line.contains("$$Lambda$")).count();
+			
+			System.out.printf("%-16s %16.1f %16d %16d%n", mode, startupNanos / (FORKS * 1_000_000.0), loadedClasses / FORKS, lambdaClasses);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Loads and starts a compiled module in a new module layer and prints the time to start it and the number of classes loaded meanwhile.
+	 * </p>
+	 */
+	private static void start(String moduleName, String moduleClassName, Path[] modulePath) throws Exception {
+		long loadedClasses = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+		long startupNanos = System.nanoTime();
+		
+		ModuleLayer parentLayer = ModuleLayer.boot();
+		Configuration configuration = parentLayer.configuration().resolve(ModuleFinder.of(modulePath), ModuleFinder.of(), Set.of(moduleName));
+		ModuleLayer layer = parentLayer.defineModulesWithOneLoader(configuration, ClassLoader.getSystemClassLoader());
+		Class<?> builderClass = layer.findLoader(moduleName).loadClass(moduleClassName + "$Builder");
+		Object module = builderClass.getMethod("build").invoke(builderClass.getConstructor().newInstance());
+		module.getClass().getMethod("start").invoke(module);
+		
+		startupNanos = System.nanoTime() - startupNanos;
+		loadedClasses = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount() - loadedClasses;
+		System.out.println(RESULT_PREFIX + startupNanos + " " + loadedClasses);
+		
+		module.getClass().getMethod("stop").invoke(module);
+	}
+	
+	private static List<String> fork(List<String> command) throws IOException, InterruptedException {
+		Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+		List<String> output;
+		try(BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+			output = reader.lines().collect(Collectors.toList());
+		}
+		if(process.waitFor() != 0) {
+			throw new IllegalStateException("Forked JVM failed with exit code " + process.exitValue() + ":\n" + String.join("\n", output));
+		}
+		return output;
+	}
+	
+	/**
+	 * <p>
+	 * Generates the sources of the module.
+	 * </p>
+	 * 
+	 * <p>
+	 * Bean {@code i} defines a socket of type {@code Bean<i/2>}, an init method and a destroy method.
+	 * </p>
+	 */
+	private static Map<String, String> generateSources() {
+		Map<String, String> sources = new HashMap<>();
+		for(int i = 0;i < BEAN_COUNT;i++) {
+			StringBuilder beanSource = new StringBuilder();
+			beanSource.append("@io.inverno.core.annotation.Bean(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)\n");
+			beanSource.append("public class Bean").append(i).append(" {\n");
+			if(i > 0) {
+				beanSource.append("	public Bean").append(i).append("(Bean").append(i / 2).append(" parent) {}\n");
+			}
+			beanSource.append("	@io.inverno.core.annotation.Init public void init() {}\n");
+			beanSource.append("	@io.inverno.core.annotation.Destroy public void destroy() {}\n");
+			beanSource.append("}\n");
+			sources.put("Bean" + i, beanSource.toString());
+		}
+		return sources;
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.inverno.core.v1.Module;
+
+/**
+ * <p>
+ * Measures the injection of a list of singleton beans into a multiple socket, as done by the generated module class each time a prototype bean is created.
+ * </p>
+ * 
+ * <p>
+ * Multiple sockets used to be injected with a {@link Module.BeanAggregator}, they are now injected with an {@code ArrayList} created from {@code List.of(...)} when the beans can't be null. The
+ * generated code adds the beans one by one, the benchmark does the same in a loop.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class MultiSocketBenchmark extends Module {
+
+	private static final int OPS_PER_THREAD = 1_000_000;
+	
+	private final Module.Bean<Object>[] beans;
+	
+	@SuppressWarnings("unchecked")
+	private MultiSocketBenchmark(int beanCount) {
+		super("multiSocket");
+		Object instance = new Object();
+		this.beans = new Module.Bean[beanCount];
+		for(int i = 0;i < beanCount;i++) {
+			this.beans[i] = this.with(ModuleBeanBuilder.singleton("bean" + i, () -> instance));
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Injects the beans with a bean aggregator.
+	 * </p>
+	 * 
+	 * @return a list of beans
+	 */
+	private List<Object> aggregate() {
+		BeanAggregator<Object> aggregator = new BeanAggregator<>();
+		for(Module.Bean<Object> bean : this.beans) {
+			aggregator.add(bean.get());
+		}
+		return aggregator.toList();
+	}
+	
+	/**
+	 * <p>
+	 * Injects the beans with a bean aggregator created with the number of beans.
+	 * </p>
+	 * 
+	 * @return a list of beans
+	 */
+	private List<Object> presizedAggregate() {
+		BeanAggregator<Object> aggregator = new BeanAggregator<>(this.beans.length);
+		for(Module.Bean<Object> bean : this.beans) {
+			aggregator.add(bean.get());
+		}
+		return aggregator.toList();
+	}
+	
+	/**
+	 * <p>
+	 * Injects the beans in a list created from an array.
+	 * </p>
+	 * 
+	 * @return a list of beans
+	 */
+	private List<Object> list() {
+		Object[] instances = new Object[this.beans.length];
+		for(int i = 0;i < instances.length;i++) {
+			instances[i] = this.beans[i].get();
+		}
+		return new ArrayList<>(List.of(instances));
+	}
+	
+	public static void main(String[] args) {
+		Harness.run("Multiple socket injection", MultiSocketBenchmark.class, benchmarkCase -> {
+			MultiSocketBenchmark module = new MultiSocketBenchmark(benchmarkCase.endsWith("100") ? 100 : 10);
+			module.start();
+			try {
+				Supplier<List<Object>> injection;
+				if(benchmarkCase.startsWith("aggregator")) {
+					injection = module::aggregate;
+				}
+				else if(benchmarkCase.startsWith("presizedAggregator")) {
+					injection = module::presizedAggregate;
+				}
+				else if(benchmarkCase.startsWith("list")) {
+					injection = module::list;
+				}
+				else {
+					throw new IllegalArgumentException("Unknown case: " + benchmarkCase);
+				}
+				Harness.measure(benchmarkCase.replaceAll("[0-9]+", "") + " of " + module.beans.length + " beans", 1, OPS_PER_THREAD, injection);
+			}
+			finally {
+				module.stop();
+			}
+		}, "aggregator10", "presizedAggregator10", "list10", "aggregator100", "presizedAggregator100", "list100");
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.inverno.core.v1.Module;
+
+/**
+ * <p>
+ * Measures the creation of prototype module and wrapper beans defining an init method, with and without an override.
+ * </p>
+ * 
+ * <p>
+ * The prototype module bean creates an {@code Object} (16 bytes) and the prototype wrapper bean creates a wrapper and an {@code Object} (32 bytes), overrides return a shared instance. Any
+ * other allocated byte is an overhead of the framework.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class PrototypeCreationBenchmark extends Module {
+
+	private static final int OPS_PER_THREAD = 10_000_000;
+	
+	private static final Object OVERRIDE = new Object();
+	
+	private final Module.Bean<Object> prototypeModuleBean;
+	
+	private final Module.Bean<Object> overriddenPrototypeModuleBean;
+	
+	private final Module.Bean<Object> prototypeWrapperBean;
+	
+	private final Module.Bean<Object> overriddenPrototypeWrapperBean;
+	
+	private PrototypeCreationBenchmark() {
+		super("prototypeCreation");
+		Supplier<Object> override = () -> OVERRIDE;
+		this.prototypeModuleBean = this.with(ModuleBeanBuilder.prototype("prototypeModuleBean", Object::new).init(instance -> {}));
+		this.overriddenPrototypeModuleBean = this.with(ModuleBeanBuilder.prototype("overriddenPrototypeModuleBean", Object::new).init(instance -> {}).override(Optional.of(override)));
+		this.prototypeWrapperBean = this.with(WrapperBeanBuilder.prototype("prototypeWrapperBean", ObjectWrapper::new).init(wrapper -> {}));
+		this.overriddenPrototypeWrapperBean = this.with(WrapperBeanBuilder.prototype("overriddenPrototypeWrapperBean", ObjectWrapper::new).init(wrapper -> {}).override(Optional.of(override)));
+	}
+	
+	public static void main(String[] args) {
+		Harness.run("Prototype bean creation", PrototypeCreationBenchmark.class, benchmarkCase -> {
+			PrototypeCreationBenchmark module = new PrototypeCreationBenchmark();
+			module.start();
+			try {
+				switch(benchmarkCase) {
+					case "module":
+						Harness.measure("prototype module bean get()", 1, OPS_PER_THREAD, module.prototypeModuleBean);
+						break;
+					case "moduleOverride":
+						Harness.measure("overridden prototype module bean get()", 1, OPS_PER_THREAD, module.overriddenPrototypeModuleBean);
+						break;
+					case "wrapper":
+						Harness.measure("prototype wrapper bean get()", 1, OPS_PER_THREAD, module.prototypeWrapperBean);
+						break;
+					case "wrapperOverride":
+						Harness.measure("overridden prototype wrapper bean get()", 1, OPS_PER_THREAD, module.overriddenPrototypeWrapperBean);
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown case: " + benchmarkCase);
+				}
+			}
+			finally {
+				module.stop();
+			}
+		}, "module", "moduleOverride", "wrapper", "wrapperOverride");
+	}
+	
+	/**
+	 * <p>
+	 * A wrapper creating a new instance.
+	 * </p>
+	 */
+	private static class ObjectWrapper implements Supplier<Object> {
+		
+		@Override
+		public Object get() {
+			return new Object();
+		}
+	}
+}
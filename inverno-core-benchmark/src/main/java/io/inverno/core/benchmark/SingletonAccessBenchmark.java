@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.function.Supplier;
+
+import io.inverno.core.v1.Module;
+
+/**
+ * <p>
+ * Measures the access to created singleton module and wrapper beans with an increasing number of concurrent threads (see {@link Harness#THREAD_COUNTS}).
+ * </p>
+ * 
+ * <p>
+ * Every thread executes the same number of operations, the time per operation only remains constant when there are at least as many available processors as threads.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class SingletonAccessBenchmark extends Module {
+
+	private static final int OPS_PER_THREAD = 10_000_000;
+	
+	private final Module.Bean<Object> singletonModuleBean;
+	
+	private final Module.Bean<Object> singletonWrapperBean;
+	
+	private SingletonAccessBenchmark() {
+		super("singletonAccess");
+		Object instance = new Object();
+		Supplier<Object> wrapper = () -> instance;
+		this.singletonModuleBean = this.with(ModuleBeanBuilder.singleton("singletonModuleBean", () -> instance));
+		this.singletonWrapperBean = this.with(WrapperBeanBuilder.singleton("singletonWrapperBean", () -> wrapper));
+	}
+	
+	public static void main(String[] args) {
+		Harness.run("Singleton bean access", SingletonAccessBenchmark.class, benchmarkCase -> {
+			SingletonAccessBenchmark module = new SingletonAccessBenchmark();
+			module.start();
+			try {
+				switch(benchmarkCase) {
+					case "module":
+						for(int threads : Harness.THREAD_COUNTS) {
+							Harness.measure("singleton module bean get()", threads, OPS_PER_THREAD, module.singletonModuleBean);
+						}
+						break;
+					case "wrapper":
+						for(int threads : Harness.THREAD_COUNTS) {
+							Harness.measure("singleton wrapper bean get()", threads, OPS_PER_THREAD, module.singletonWrapperBean);
+						}
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown case: " + benchmarkCase);
+				}
+			}
+			finally {
+				module.stop();
+			}
+		}, "module", "wrapper");
+	}
+}
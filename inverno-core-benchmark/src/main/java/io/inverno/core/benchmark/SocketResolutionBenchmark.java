@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Measures the compilation of modules whose sockets are resolved by type and by annotation selector.
+ * </p>
+ * 
+ * <p>
+ * Bean {@code i} implements interface {@code Api<i>}, which extends {@code Service}, and defines a single socket of type {@code Api<i/2>}. Every third bean is annotated with
+ * {@code @Marked}. A registry bean aggregates all services and the marked services in two multiple sockets. Each size is compiled twice to warm up and then 5 times
+ * to measure the time and the memory allocated per compilation.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class SocketResolutionBenchmark {
+
+	private static final String MODULE_NAME = "io.inverno.core.benchmark.resolution";
+	
+	public static void main(String[] args) {
+		Harness.run("Socket resolution (ns/op is a compilation)", SocketResolutionBenchmark.class, benchmarkCase -> {
+			int beanCount = Integer.parseInt(benchmarkCase);
+			try {
+				SyntheticModule module = new SyntheticModule(MODULE_NAME + beanCount, generateSources(beanCount));
+				Harness.measure("compile module of " + beanCount + " beans", 1, 1, 2, 5, () -> {
+					try {
+						return module.compile("classes");
+					}
+					catch(IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+			catch(IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, "250", "500", "1000");
+	}
+	
+	private static Map<String, String> generateSources(int beanCount) {
+		Map<String, String> sources = new HashMap<>();
+		sources.put("Service", "public interface Service {}\n");
+		sources.put("Marked", 
+			"@java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE)\n" + 
+			"public @interface Marked {}\n"
+		);
+		sources.put("Registry", 
+			"@io.inverno.core.annotation.Bean\n" + 
+			"public class Registry {\n" + 
+			"	public Registry(Service[] services, @io.inverno.core.annotation.AnnotationSelector(Marked.class) Service[] markedServices) {}\n" + 
+			"}\n"
+		);
+		for(int i = 0;i < beanCount;i++) {
+			sources.put("Api" + i, "public interface Api" + i + " extends Service {}\n");
+			
+			StringBuilder beanSource = new StringBuilder();
+			if(i % 3 == 0) {
+				beanSource.append("@Marked\n");
+			}
+			beanSource.append("@io.inverno.core.annotation.Bean(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)\n");
+			beanSource.append("public class Bean").append(i).append(" implements Api").append(i).append(" {\n");
+			if(i > 0) {
+				beanSource.append("	public Bean").append(i).append("(Api").append(i / 2).append(" parent) {}\n");
+			}
+			beanSource.append("}\n");
+			sources.put("Bean" + i, beanSource.toString());
+		}
+		return sources;
+	}
+}
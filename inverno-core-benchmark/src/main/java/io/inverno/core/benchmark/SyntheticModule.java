@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+/**
+ * <p>
+ * A module generated by a benchmark and compiled with the Inverno compiler.
+ * </p>
+ * 
+ * <p>
+ * Modules are compiled against the dependencies copied in {@code target/dependency}. The module path and the annotation processor module path can be replaced with the
+ * {@code inverno.benchmark.modulePath} and {@code inverno.benchmark.processorModulePath} system properties in order to compile with the Inverno compiler of another build.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+final class SyntheticModule {
+
+	private static final Path DEPENDENCIES = Path.of("target", "dependency");
+	
+	private static final Path TARGET = Path.of("target", "benchmark");
+	
+	/**
+	 * The module path used to compile and run synthetic modules.
+	 */
+	static final List<Path> MODULE_PATH = paths("inverno.benchmark.modulePath", "inverno-core-[0-9].*\\.jar", "inverno-core-annotation-.*\\.jar", "log4j-api-.*\\.jar");
+	
+	private static final List<Path> PROCESSOR_MODULE_PATH = paths("inverno.benchmark.processorModulePath", "inverno-core-compiler-.*\\.jar", "inverno-core-annotation-.*\\.jar");
+	
+	private final String moduleName;
+	
+	private final Path sourcePath;
+	
+	/**
+	 * <p>
+	 * Creates a synthetic module.
+	 * </p>
+	 * 
+	 * @param moduleName the name of the module which is also the name of its single package
+	 * @param sources    the sources of the module indexed by simple class name
+	 * 
+	 * @throws IOException if there was an error writing the sources
+	 */
+	SyntheticModule(String moduleName, Map<String, String> sources) throws IOException {
+		this.moduleName = moduleName;
+		this.sourcePath = TARGET.resolve(moduleName).resolve("src");
+		delete(this.sourcePath);
+		
+		Path packagePath = this.sourcePath.resolve(moduleName).resolve(moduleName.replace('.', File.separatorChar));
+		Files.createDirectories(packagePath);
+		Files.writeString(this.sourcePath.resolve(moduleName).resolve("module-info.java"), 
+			"@io.inverno.core.annotation.Module\n" + 
+			"module " + moduleName + " {\n" + 
+			"	requires io.inverno.core;\n" + 
+			"	requires io.inverno.core.annotation;\n" + 
+			"	exports " + moduleName + ";\n" + 
+			"}\n"
+		);
+		for(Map.Entry<String, String> source : sources.entrySet()) {
+			Files.writeString(packagePath.resolve(source.getKey() + ".java"), "package " + moduleName + ";\n" + source.getValue());
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Returns the name of the module.
+	 * </p>
+	 * 
+	 * @return the module name
+	 */
+	String getModuleName() {
+		return this.moduleName;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the name of the module class generated by the Inverno compiler.
+	 * </p>
+	 * 
+	 * @return a class name
+	 */
+	String getModuleClassName() {
+		String simpleName = this.moduleName.substring(this.moduleName.lastIndexOf('.') + 1);
+		return this.moduleName + "." + Character.toUpperCase(simpleName.charAt(0)) + simpleName.substring(1);
+	}
+	
+	/**
+	 * <p>
+	 * Compiles the module.
+	 * </p>
+	 * 
+	 * @param label   the label of the compilation which identifies its output directory
+	 * @param options the compiler options
+	 * 
+	 * @return the directory containing the compiled module
+	 * 
+	 * @throws IOException           if there was an error accessing files
+	 * @throws IllegalStateException if the compilation failed
+	 */
+	Path compile(String label, String... options) throws IOException, IllegalStateException {
+		Path outputPath = TARGET.resolve(this.moduleName).resolve(label);
+		delete(outputPath);
+		Path classOutputPath = outputPath.resolve("classes");
+		Path sourceOutputPath = outputPath.resolve("generated-sources");
+		Files.createDirectories(classOutputPath);
+		Files.createDirectories(sourceOutputPath);
+		
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try(StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+			fileManager.setLocationFromPaths(StandardLocation.MODULE_PATH, MODULE_PATH);
+			fileManager.setLocationFromPaths(StandardLocation.ANNOTATION_PROCESSOR_MODULE_PATH, PROCESSOR_MODULE_PATH);
+			fileManager.setLocationFromPaths(StandardLocation.MODULE_SOURCE_PATH, List.of(this.sourcePath));
+			fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(sourceOutputPath));
+			fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classOutputPath));
+			
+			List<String> compilerOptions = new ArrayList<>(List.of("--module", this.moduleName));
+			compilerOptions.addAll(Arrays.asList(options));
+			if(!compiler.getTask(null, fileManager, diagnostics, compilerOptions, null, null).call()) {
+				throw new IllegalStateException("Error compiling module " + this.moduleName + ":\n" + diagnostics.getDiagnostics().stream().map(Object::toString).collect(Collectors.joining("\n")));
+			}
+		}
+		return classOutputPath;
+	}
+	
+	private static List<Path> paths(String property, String... dependencyPatterns) {
+		String paths = System.getProperty(property);
+		if(paths != null) {
+			return Arrays.stream(paths.split(File.pathSeparator)).map(Path::of).collect(Collectors.toList());
+		}
+		try(Stream<Path> dependencies = Files.list(DEPENDENCIES)) {
+			List<Path> dependencyList = dependencies.collect(Collectors.toList());
+			return Arrays.stream(dependencyPatterns)
+				.map(Pattern::compile)
+				.map(pattern -> dependencyList.stream().filter(dependency -> pattern.matcher(dependency.getFileName().toString()).matches()).findFirst().orElseThrow(() -> new IllegalStateException("Missing dependency " + pattern + " in " + DEPENDENCIES)))
+				.collect(Collectors.toList());
+		}
+		catch(IOException e) {
+			throw new IllegalStateException("Error listing dependencies in " + DEPENDENCIES, e);
+		}
+	}
+	
+	private static void delete(Path path) throws IOException {
+		if(Files.exists(path)) {
+			try(Stream<Path> files = Files.walk(path)) {
+				for(Path file : (Iterable<Path>)files.sorted(Comparator.reverseOrder())::iterator) {
+					Files.delete(file);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.benchmark;
+
+import java.util.function.Supplier;
+
+import io.inverno.core.v1.Module;
+
+/**
+ * <p>
+ * Measures the creation of prototype module and wrapper beans defining a destroy method, whose instances are tracked by weak references, from a single thread and from concurrent threads.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class WeakPrototypeBenchmark extends Module {
+
+	private static final int OPS_PER_THREAD = 200_000;
+	
+	private final Module.Bean<Object> prototypeWeakModuleBean;
+	
+	private final Module.Bean<Object> prototypeWeakWrapperBean;
+	
+	private WeakPrototypeBenchmark() {
+		super("weakPrototype");
+		this.prototypeWeakModuleBean = this.with(ModuleBeanBuilder.prototype("prototypeWeakModuleBean", Object::new).destroy(instance -> {}));
+		this.prototypeWeakWrapperBean = this.with(WrapperBeanBuilder.prototype("prototypeWeakWrapperBean", ObjectWrapper::new).destroy(wrapper -> {}));
+	}
+	
+	public static void main(String[] args) {
+		Harness.run("Weak prototype bean creation", WeakPrototypeBenchmark.class, benchmarkCase -> {
+			WeakPrototypeBenchmark module = new WeakPrototypeBenchmark();
+			module.start();
+			try {
+				switch(benchmarkCase) {
+					case "module":
+						Harness.measure("prototype weak module bean get()", 1, OPS_PER_THREAD, module.prototypeWeakModuleBean);
+						break;
+					case "moduleContended":
+						Harness.measure("prototype weak module bean get()", Harness.THREADS, OPS_PER_THREAD, module.prototypeWeakModuleBean);
+						break;
+					case "wrapper":
+						Harness.measure("prototype weak wrapper bean get()", 1, OPS_PER_THREAD, module.prototypeWeakWrapperBean);
+						break;
+					case "wrapperContended":
+						Harness.measure("prototype weak wrapper bean get()", Harness.THREADS, OPS_PER_THREAD, module.prototypeWeakWrapperBean);
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown case: " + benchmarkCase);
+				}
+			}
+			finally {
+				module.stop();
+			}
+		}, "module", "moduleContended", "wrapper", "wrapperContended");
+	}
+	
+	/**
+	 * <p>
+	 * A wrapper creating a new instance.
+	 * </p>
+	 */
+	private static class ObjectWrapper implements Supplier<Object> {
+		
+		@Override
+		public Object get() {
+			return new Object();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * <p>
+ * Inverno framework core benchmarks.
+ * </p>
+ * 
+ * <p>
+ * Benchmarks are plain Java programs measuring the average time and the memory allocated per operation, they are not part of the default build and must be built with the
+ * {@code io.inverno.benchmark} profile. Each benchmark is then run in a dedicated JVM from the {@code inverno-core-benchmark} directory:
+ * </p>
+ * 
+ * <pre>
+ * $ mvn install -P io.inverno.benchmark -DskipTests
+ * $ java -cp "target/classes:target/dependency/*" io.inverno.core.benchmark.SingletonAccessBenchmark
+ * </pre>
+ * 
+ * <p>
+ * The framework classes used by a benchmark can be replaced by those of another build by placing them before the dependencies in the class path.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+module io.inverno.core.benchmark {
+	requires java.compiler;
+	requires jdk.management;
+	
+	requires io.inverno.core;
+}
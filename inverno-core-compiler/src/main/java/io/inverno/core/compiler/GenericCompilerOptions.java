@@ -30,6 +30,8 @@ public class GenericCompilerOptions implements CompilerOptions {
 	public static final String DEBUG = "inverno.debug";
 	public static final String VERBOSE = "inverno.verbose";
 	public static final String GENERATE_DESCRIPTOR = "inverno.generateDescriptor";
+	public static final String LAMBDA_FREE = "inverno.lambdaFree";
+	public static final String GENERATE_CLASS_LIST = "inverno.generateClassList";
 	
 	private Predicate<String> nameFilter;
 	private Map<String, String> processingEnvOptions;
@@ -37,6 +39,8 @@ public class GenericCompilerOptions implements CompilerOptions {
 	private boolean debug;
 	private boolean verbose;
 	private boolean generateModuleDescriptor;
+	private boolean lambdaFree;
+	private boolean generateClassList;
 	
 	public GenericCompilerOptions(Map<String, String> processingEnvOptions) {
 		this.processingEnvOptions = processingEnvOptions;
@@ -44,6 +48,8 @@ public class GenericCompilerOptions implements CompilerOptions {
 		this.debug = processingEnvOptions.containsKey(DEBUG) && (processingEnvOptions.get(DEBUG) == null || Boolean.valueOf(processingEnvOptions.get(DEBUG)));
 		this.verbose = processingEnvOptions.containsKey(VERBOSE) && (processingEnvOptions.get(VERBOSE) == null || Boolean.valueOf(processingEnvOptions.get(VERBOSE)));
 		this.generateModuleDescriptor = processingEnvOptions.containsKey(GENERATE_DESCRIPTOR) && (processingEnvOptions.get(GENERATE_DESCRIPTOR) == null || Boolean.valueOf(processingEnvOptions.get(GENERATE_DESCRIPTOR)));
+		this.lambdaFree = processingEnvOptions.containsKey(LAMBDA_FREE) && (processingEnvOptions.get(LAMBDA_FREE) == null || Boolean.valueOf(processingEnvOptions.get(LAMBDA_FREE)));
+		this.generateClassList = processingEnvOptions.containsKey(GENERATE_CLASS_LIST) && (processingEnvOptions.get(GENERATE_CLASS_LIST) == null || Boolean.valueOf(processingEnvOptions.get(GENERATE_CLASS_LIST)));
 	}
 	
 	private GenericCompilerOptions(GenericCompilerOptions parentOptions, Predicate<String> nameFilter) {
@@ -52,6 +58,8 @@ public class GenericCompilerOptions implements CompilerOptions {
 		this.debug = parentOptions.debug;
 		this.verbose = parentOptions.verbose;
 		this.generateModuleDescriptor = parentOptions.generateModuleDescriptor;
+		this.lambdaFree = parentOptions.lambdaFree;
+		this.generateClassList = parentOptions.generateClassList;
 	}
 	
 	public GenericCompilerOptions withFilter(Predicate<String> namefilter) {
@@ -69,6 +77,14 @@ public class GenericCompilerOptions implements CompilerOptions {
 	public boolean isGenerateModuleDescriptor() {
 		return generateModuleDescriptor;
 	}
+	
+	public boolean isLambdaFree() {
+		return lambdaFree;
+	}
+	
+	public boolean isGenerateClassList() {
+		return generateClassList;
+	}
 
 	@Override
 	public boolean containsOption(String name) {
@@ -70,7 +70,7 @@ import io.inverno.core.compiler.spi.SocketBeanInfo;
  */
 //@SupportedAnnotationTypes({"io.inverno.core.annotation/io.inverno.core.annotation.Module","io.inverno.core.annotation/io.inverno.core.annotation.Bean"})
 @SupportedAnnotationTypes({"io.inverno.core.annotation.Module","io.inverno.core.annotation.Bean"})
-@SupportedOptions({GenericCompilerOptions.DEBUG, GenericCompilerOptions.VERBOSE, GenericCompilerOptions.GENERATE_DESCRIPTOR})
+@SupportedOptions({GenericCompilerOptions.DEBUG, GenericCompilerOptions.VERBOSE, GenericCompilerOptions.GENERATE_DESCRIPTOR, GenericCompilerOptions.LAMBDA_FREE, GenericCompilerOptions.GENERATE_CLASS_LIST})
 public class InvernoCompiler extends AbstractProcessor {
 
 	public static final int VERSION = 1;
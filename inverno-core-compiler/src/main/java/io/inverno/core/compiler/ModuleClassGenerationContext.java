@@ -50,13 +50,15 @@ class ModuleClassGenerationContext extends AbstractSourceGenerationContext<Modul
 		BEAN_ACCESSOR,
 		BEAN_REFERENCE,
 		BEAN_OPTIONAL_REFERENCE,
+		BEAN_DEPENDENCIES,
 		SOCKET_PARAMETER,
 		SOCKET_FIELD,
 		SOCKET_ASSIGNMENT,
 		SOCKET_INJECTOR,
 		COMPONENT_MODULE_FIELD,
 		COMPONENT_MODULE_NEW,
-		COMPONENT_MODULE_BEAN_REFERENCE
+		COMPONENT_MODULE_BEAN_REFERENCE,
+		COMPONENT_MODULE_DEPENDENCIES
 	}
 	
 	private TypeMirror supplierType;
@@ -68,12 +70,55 @@ class ModuleClassGenerationContext extends AbstractSourceGenerationContext<Modul
 	private String setTypeName;
 	private String npeTypeName;
 	
+	private final boolean lambdaFree;
+	
 	public ModuleClassGenerationContext(Types typeUtils, Elements elementUtils, GenerationMode mode) {
+		this(typeUtils, elementUtils, mode, false);
+	}
+	
+	public ModuleClassGenerationContext(Types typeUtils, Elements elementUtils, GenerationMode mode, boolean lambdaFree) {
 		super(typeUtils, elementUtils, mode);
+		this.lambdaFree = lambdaFree;
 	}
 	
 	private ModuleClassGenerationContext(ModuleClassGenerationContext parentGeneration) {
 		super(parentGeneration);
+		this.lambdaFree = parentGeneration.lambdaFree;
+	}
+	
+	/**
+	 * <p>
+	 * Determines whether the module class must be generated without lambda expressions and method references.
+	 * </p>
+	 * 
+	 * <p>
+	 * When activated, functional interfaces are implemented with anonymous classes in order to avoid lambda bootstrapping at startup and beans and component modules are registered in a
+	 * topological order.
+	 * </p>
+	 * 
+	 * @return true to generate a lambda-free module class, false otherwise
+	 */
+	public boolean isLambdaFree() {
+		return this.lambdaFree;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the expression referencing the module instance being generated.
+	 * </p>
+	 * 
+	 * <p>
+	 * Bean references are generated within anonymous classes when generating a lambda-free module class, the module instance must then be referenced using a qualified this.
+	 * </p>
+	 * 
+	 * @return the expression referencing the module instance
+	 */
+	public String getModuleReference() {
+		if(this.lambdaFree) {
+			String className = this.moduleQualifiedName.getClassName();
+			return className.substring(className.lastIndexOf(".") + 1) + ".this";
+		}
+		return "this";
 	}
 	
 	@Override
@@ -18,6 +18,7 @@ package io.inverno.core.compiler;
 import io.inverno.core.annotation.Bean;
 import io.inverno.core.compiler.ModuleClassGenerationContext.GenerationMode;
 import io.inverno.core.compiler.spi.BeanInfo;
+import io.inverno.core.compiler.spi.Info;
 import io.inverno.core.compiler.spi.ModuleBeanInfo;
 import io.inverno.core.compiler.spi.ModuleBeanMultiSocketInfo;
 import io.inverno.core.compiler.spi.ModuleBeanSingleSocketInfo;
@@ -26,6 +27,7 @@ import io.inverno.core.compiler.spi.ModuleInfo;
 import io.inverno.core.compiler.spi.ModuleInfoVisitor;
 import io.inverno.core.compiler.spi.MultiSocketBeanInfo;
 import io.inverno.core.compiler.spi.MultiSocketInfo;
+import io.inverno.core.compiler.spi.MultiSocketType;
 import io.inverno.core.compiler.spi.NestedBeanInfo;
 import io.inverno.core.compiler.spi.OverridableBeanInfo;
 import io.inverno.core.compiler.spi.OverridingSocketBeanInfo;
@@ -35,12 +37,33 @@ import io.inverno.core.compiler.spi.SocketBeanInfo;
 import io.inverno.core.compiler.spi.SocketInfo;
 import io.inverno.core.compiler.spi.WrapperBeanInfo;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
 
 /**
  * <p>
@@ -55,6 +78,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 	private static final String INVERNO_CORE_PACKAGE = "io.inverno.core.v1";
 	
 	private static final String INVERNO_CORE_MODULE_CLASS = INVERNO_CORE_PACKAGE + ".Module";
+	private static final String INVERNO_CORE_BEANINDEX_CLASS = INVERNO_CORE_PACKAGE + ".BeanIndex";
 	private static final String INVERNO_CORE_MODULE_MODULEBUILDER_CLASS = INVERNO_CORE_PACKAGE + ".Module.ModuleBuilder";
 	private static final String INVERNO_CORE_MODULE_LINKER_CLASS = INVERNO_CORE_PACKAGE + ".Module.ModuleLinker";
 	private static final String INVERNO_CORE_MODULE_BEAN_CLASS = INVERNO_CORE_PACKAGE + ".Module.Bean";
@@ -63,6 +87,8 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 	private static final String INVERNO_CORE_MODULE_BEANAGGREGATOR_CLASS = INVERNO_CORE_PACKAGE + ".Module.BeanAggregator";
 	private static final String INVERNO_CORE_MODULE_SOCKET_ANNOTATION = INVERNO_CORE_PACKAGE + ".Module.Socket";
 	
+	private static final Pattern SYNTHETIC_PARAMETER_NAME = Pattern.compile("arg[0-9]+");
+	
 	@Override
 	public StringBuilder visit(ModuleInfo moduleInfo, ModuleClassGenerationContext context) {
 		String className = moduleInfo.getQualifiedName().getClassName();
@@ -75,6 +101,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 
 			context.addImport(className, moduleInfo.getQualifiedName().getClassName());
 			context.addImport("Builder", moduleInfo.getQualifiedName().getClassName() + ".Builder");
+			context.addImport("Beans", moduleInfo.getQualifiedName().getClassName() + ".Beans");
 			
 			// Fields
 			StringBuilder module_field_beans = Arrays.stream(moduleInfo.getBeans())
@@ -89,18 +116,38 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 				.map(socketInfo -> new StringBuilder().append(context.indent(3)).append(this.visit(socketInfo , context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.SOCKET_PARAMETER))))
 				.collect(context.joining("," + System.lineSeparator()));
 			
-			StringBuilder module_constructor_modules = Arrays.stream(moduleInfo.getModules())
-				.map(componentModuleInfo -> this.visit(componentModuleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.COMPONENT_MODULE_NEW)))
-				.collect(context.joining(System.lineSeparator()));
+			StringBuilder module_constructor_modules;
+			StringBuilder module_constructor_beans;
+			if(context.isLambdaFree()) {
+				// Component modules and beans are registered in creation order so they can be started in registration order
+				module_constructor_modules = new StringBuilder();
+				module_constructor_beans = this.getCreationOrder(moduleInfo, context.withModule(moduleInfo.getQualifiedName())).stream()
+					.map(info -> info instanceof ModuleInfo ? this.visit((ModuleInfo)info, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.COMPONENT_MODULE_NEW)) : this.visit((ModuleBeanInfo)info, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_NEW)))
+					.collect(context.joining(System.lineSeparator()));
+			}
+			else {
+				module_constructor_modules = Arrays.stream(moduleInfo.getModules())
+					.map(componentModuleInfo -> this.visit(componentModuleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.COMPONENT_MODULE_NEW)))
+					.collect(context.joining(System.lineSeparator()));
+
+				module_constructor_beans = Arrays.stream(moduleInfo.getBeans())
+					.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_NEW)))
+					.collect(context.joining(System.lineSeparator()));
+			}
 			
-			StringBuilder module_constructor_beans = Arrays.stream(moduleInfo.getBeans())
-				.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_NEW)))
+			StringBuilder module_constructor_dependencies = Stream.concat(
+					Arrays.stream(moduleInfo.getModules()).map(componentModuleInfo -> this.visit(componentModuleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.COMPONENT_MODULE_DEPENDENCIES))),
+					Arrays.stream(moduleInfo.getBeans()).map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_DEPENDENCIES)))
+				)
+				.filter(dependencies -> dependencies.length() > 0)
 				.collect(context.joining(System.lineSeparator()));
 			
 			StringBuilder module_method_beans = Arrays.stream(moduleInfo.getBeans())
 				.map(moduleBeanInfo -> this.visit(moduleBeanInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.BEAN_ACCESSOR)))
 				.collect(context.joining(System.lineSeparator()));
 			
+			StringBuilder module_bean_index = this.generateBeanIndex(moduleInfo, className, context.withModule(moduleInfo.getQualifiedName()));
+			
 			StringBuilder module_builder = this.visit(moduleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.MODULE_BUILDER_CLASS));
 			StringBuilder module_linker = this.visit(moduleInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.MODULE_LINKER_CLASS));
 			
@@ -112,6 +159,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			
 			context.removeImport(className);
 			context.removeImport("Builder");
+			context.removeImport("Beans");
 			context.removeImport("ModuleBuilder");
 			context.removeImport("ModuleLinker");
 			context.removeImport("Bean");
@@ -136,7 +184,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			}
 			
 			moduleClass.append(context.indent(1)).append("private ").append(className).append("(").append(System.lineSeparator()).append(module_constructor_parameters).append(System.lineSeparator()).append(context.indent(2)).append(") {").append(System.lineSeparator());
-			moduleClass.append(context.indent(2)).append("super(\"").append(moduleInfo.getQualifiedName().getValue()).append("\");").append(System.lineSeparator());
+			moduleClass.append(context.indent(2)).append("super(\"").append(moduleInfo.getQualifiedName().getValue()).append(context.isLambdaFree() ? "\", true);" : "\");").append(System.lineSeparator());
 			
 			if(module_constructor_modules.length() > 0) {
 				moduleClass.append(System.lineSeparator()).append(module_constructor_modules).append(System.lineSeparator());
@@ -144,12 +192,18 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			if(module_constructor_beans.length() > 0) {
 				moduleClass.append(System.lineSeparator()).append(module_constructor_beans).append(System.lineSeparator());
 			}
+			if(module_constructor_dependencies.length() > 0) {
+				moduleClass.append(System.lineSeparator()).append(module_constructor_dependencies).append(System.lineSeparator());
+			}
 			
 			moduleClass.append(context.indent(1)).append("}").append(System.lineSeparator());
 			
 			if(module_method_beans.length() > 0) {
 				moduleClass.append(System.lineSeparator()).append(module_method_beans).append(System.lineSeparator());
 			}
+			if(module_bean_index.length() > 0) {
+				moduleClass.append(module_bean_index).append(System.lineSeparator());
+			}
 			
 			moduleClass.append(module_builder).append(System.lineSeparator()).append(System.lineSeparator());
 			moduleClass.append(module_linker);
@@ -194,6 +248,13 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 				.filter(socketInfo -> socketInfo.isWired())
 				.map(socketInfo -> this.visit(socketInfo, context.withModule(moduleInfo.getQualifiedName()).withMode(GenerationMode.SOCKET_INJECTOR)))
 				.collect(context.joining(System.lineSeparator() + System.lineSeparator()));
+			
+			// Module options are overridden to return the generated builder so they can be chained with socket methods
+			StringBuilder module_builder_option_methods = ElementFilter.methodsIn(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_MODULEBUILDER_CLASS).getEnclosedElements()).stream()
+				.filter(method -> method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.FINAL) && !method.getModifiers().contains(Modifier.STATIC))
+				.filter(method -> context.getTypeUtils().isSameType(context.getTypeUtils().erasure(method.getReturnType()), moduleBuilderType))
+				.map(method -> this.generateBuilderOption(method, context))
+				.collect(context.joining(System.lineSeparator() + System.lineSeparator()));
 
 			StringBuilder moduleBuilderClass = new StringBuilder().append(context.indent(1)).append("public static final class Builder extends ").append(context.getTypeName(moduleBuilderType)).append("<").append(className).append("> {").append(System.lineSeparator()).append(System.lineSeparator());
 			if(module_builder_fields.length() > 0) {
@@ -213,6 +274,9 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			if(module_builder_socket_methods.length() > 0) {
 				moduleBuilderClass.append(System.lineSeparator()).append(module_builder_socket_methods).append(System.lineSeparator());
 			}
+			if(module_builder_option_methods.length() > 0) {
+				moduleBuilderClass.append(System.lineSeparator()).append(module_builder_option_methods).append(System.lineSeparator());
+			}
 			
 			moduleBuilderClass.append(context.indent(1)).append("}");
 			
@@ -281,6 +345,15 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			
 			return moduleNew;
 		}
+		else if(context.getMode() == GenerationMode.COMPONENT_MODULE_DEPENDENCIES) {
+			String dependencies = this.getComponentModuleDependencies(moduleInfo, context)
+				.collect(Collectors.joining(", "));
+			
+			if(dependencies.isEmpty()) {
+				return new StringBuilder();
+			}
+			return new StringBuilder().append(context.indent(2)).append("this.dependsOn(this.").append(context.getFieldName(moduleInfo.getQualifiedName())).append(", ").append(dependencies).append(");");
+		}
 		else if(context.getMode() == GenerationMode.COMPONENT_MODULE_FIELD) {
 			TypeMirror componentModuleType = context.getElementUtils().getTypeElement(moduleInfo.getQualifiedName().getClassName()).asType();
 			return new StringBuilder().append(context.indent(1)).append("private ").append(context.getTypeName(componentModuleType)).append(" ").append(context.getFieldName(moduleInfo.getQualifiedName())/*moduleInfo.getQualifiedName().normalize()*/).append(";");
@@ -305,6 +378,10 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 	@Override
 	public StringBuilder visit(NestedBeanInfo nestedBeanInfo, ModuleClassGenerationContext context) {
 		if(context.getMode() == GenerationMode.BEAN_REFERENCE) {
+			if(context.isLambdaFree()) {
+				TypeMirror objectsType = context.getElementUtils().getTypeElement(Objects.class.getCanonicalName()).asType();
+				return new StringBuilder().append(context.getTypeName(objectsType)).append(".requireNonNull(").append(this.visit(nestedBeanInfo.getProvidingBean(), context)).append(".").append(nestedBeanInfo.getName()).append("(), \"").append(nestedBeanInfo.getQualifiedName().getSimpleValue()).append("\")");
+			}
 			return new StringBuilder().append(context.getOptionalTypeName()).append(".ofNullable(").append(this.visit(nestedBeanInfo.getProvidingBean(), context)).append(".").append(nestedBeanInfo.getName()).append("()).orElseThrow(() -> new ").append(context.getNpeTypeName()).append("(\"").append(nestedBeanInfo.getQualifiedName().getSimpleValue()).append("\"))");
 		}
 		return new StringBuilder();
@@ -349,20 +426,37 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 					beanBuilderType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_MODULEBEANBUILDER_CLASS).asType());
 				}
 				
-				StringBuilder beanNew = new StringBuilder().append(context.indent(2)).append("this.").append(variable).append(" = this.with(").append(context.getTypeName(beanBuilderType)).append(System.lineSeparator());
+				// In a lambda-free module class, the bean constructor is generated within an anonymous class
+				int constructorDepth = context.isLambdaFree() ? 5 : 4;
+				
+				StringBuilder beanNew = new StringBuilder();
+				beanNew.append(context.indent(2)).append("this.").append(variable).append(" = this.with(").append(context.getTypeName(beanBuilderType)).append(System.lineSeparator());
 				
 				switch (moduleBeanInfo.getStrategy()) {
 					case SINGLETON:
-						beanNew.append(context.indent(3)).append(".singleton(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", () -> {").append(System.lineSeparator());
+						beanNew.append(context.indent(3)).append(".singleton(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", ");
 						break;
 					case PROTOTYPE:
-						beanNew.append(context.indent(3)).append(".prototype(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", () -> {").append(System.lineSeparator());
+						beanNew.append(context.indent(3)).append(".prototype(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", ");
+						break;
+					case POOLED:
+						beanNew.append(context.indent(3)).append(".pooled(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", ");
+						break;
+					case SCOPED:
+						beanNew.append(context.indent(3)).append(".scoped(\"").append(moduleBeanInfo.getQualifiedName().getSimpleValue()).append("\", ");
 						break;
 					default:
 					throw new IllegalArgumentException("Unkown bean strategy: " + moduleBeanInfo.getStrategy());
 				}
+				if(context.isLambdaFree()) {
+					beanNew.append("new ").append(context.getSupplierTypeName()).append("<").append(context.getTypeName(beanType)).append(">() {").append(System.lineSeparator());
+					beanNew.append(context.indent(4)).append("public ").append(context.getTypeName(beanType)).append(" get() {").append(System.lineSeparator());
+				}
+				else {
+					beanNew.append("() -> {").append(System.lineSeparator());
+				}
 				
-				beanNew.append(context.indent(4)).append(context.getTypeName(beanType)).append(" ").append(variable).append(" = new ").append(context.getTypeName(beanType)).append("(");
+				beanNew.append(context.indent(constructorDepth)).append(context.getTypeName(beanType)).append(" ").append(variable).append(" = new ").append(context.getTypeName(beanType)).append("(");
 				if(moduleBeanInfo.getRequiredSockets().length > 0) {
 					beanNew.append(System.lineSeparator());
 					beanNew.append(Arrays.stream(moduleBeanInfo.getRequiredSockets())
@@ -373,9 +467,9 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 							List<String> orderedDependencyNames = s1.getSocketElement().get().getParameters().stream().map(element -> element.getSimpleName().toString()).collect(Collectors.toList());
 							return orderedDependencyNames.indexOf(s1.getQualifiedName().getSimpleValue()) - orderedDependencyNames.indexOf(s2.getQualifiedName().getSimpleValue());
 						})
-						.map(socketInfo -> new StringBuilder().append(context.indent(5)).append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_REFERENCE).withIndentDepth(5))))
+						.map(socketInfo -> new StringBuilder().append(context.indent(constructorDepth + 1)).append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_REFERENCE).withIndentDepth(constructorDepth + 1))))
 						.collect(context.joining("," + System.lineSeparator())));
-					beanNew.append(System.lineSeparator()).append(context.indent(4)).append(");").append(System.lineSeparator());
+					beanNew.append(System.lineSeparator()).append(context.indent(constructorDepth)).append(");").append(System.lineSeparator());
 				}
 				else {
 					beanNew.append(");").append(System.lineSeparator());
@@ -383,29 +477,54 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 				beanNew.append(Arrays.stream(moduleBeanInfo.getOptionalSockets())
 					.filter(socketInfo -> socketInfo.isResolved())
 					.map(socketInfo -> {
-						StringBuilder optSocket = new StringBuilder().append(context.indent(4));
-						if(socketInfo.isLazy()) {
-							optSocket.append(variable).append(".").append(socketInfo.getSocketElement().get().getSimpleName().toString()).append("(").append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_REFERENCE).withIndentDepth(4))).append(");");
+						StringBuilder optSocket = new StringBuilder().append(context.indent(constructorDepth));
+						if(socketInfo.isLazy() || socketInfo.isPooled()) {
+							optSocket.append(variable).append(".").append(socketInfo.getSocketElement().get().getSimpleName().toString()).append("(").append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_REFERENCE).withIndentDepth(constructorDepth))).append(");");
+						}
+						else if(context.isLambdaFree()) {
+							TypeMirror consumerType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(Consumer.class.getCanonicalName()).asType());
+							String valueTypeName = socketInfo instanceof MultiSocketInfo ? context.getMultiTypeName(this.getUnwildType(socketInfo.getType(), context), ((MultiSocketInfo)socketInfo).getMultiType()) : context.getTypeName(this.getUnwildType(socketInfo.getType(), context));
+							optSocket.append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_OPTIONAL_REFERENCE).withIndentDepth(constructorDepth))).append(".ifPresent(new ").append(context.getTypeName(consumerType)).append("<").append(valueTypeName).append(">() { public void accept(").append(valueTypeName).append(" value) { ").append(variable).append(".").append(socketInfo.getSocketElement().get().getSimpleName().toString()).append("(value); } });");
 						}
 						else {
-							optSocket.append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_OPTIONAL_REFERENCE).withIndentDepth(4))).append(".ifPresent(").append(variable).append("::").append(socketInfo.getSocketElement().get().getSimpleName().toString()).append(");");
+							optSocket.append(this.visit(socketInfo, context.withMode(GenerationMode.BEAN_OPTIONAL_REFERENCE).withIndentDepth(constructorDepth))).append(".ifPresent(").append(variable).append("::").append(socketInfo.getSocketElement().get().getSimpleName().toString()).append(");");
 						}
 						return optSocket;
 					})
 					.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
 	
-				beanNew.append(context.indent(4)).append("return ").append(variable).append(";").append(System.lineSeparator());
+				beanNew.append(context.indent(constructorDepth)).append("return ").append(variable).append(";").append(System.lineSeparator());
+				if(context.isLambdaFree()) {
+					beanNew.append(context.indent(4)).append("}").append(System.lineSeparator());
+				}
 				beanNew.append(context.indent(3)).append("})").append(System.lineSeparator());
 	
 				if(moduleBeanInfo.getInitElements().length > 0) {
 					beanNew.append(Arrays.stream(moduleBeanInfo.getInitElements())
-						.map(element -> new StringBuilder().append(context.indent(3)).append(".init(").append(context.getTypeName(beanType)).append("::").append(element.getSimpleName().toString()).append(")"))
+						.map(element -> {
+							if(this.isAsyncInit(element, context)) {
+								return new StringBuilder().append(context.indent(3)).append(".initAsync(").append(this.generateAsyncInitMethodReference(beanType, element.getSimpleName().toString(), context)).append(")");
+							}
+							return new StringBuilder().append(context.indent(3)).append(".init(").append(this.generateLifecycleMethodReference(beanType, element.getSimpleName().toString(), context)).append(")");
+						})
 						.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
 				}
 					
 				if(moduleBeanInfo.getDestroyElements().length > 0) {
 					beanNew.append(Arrays.stream(moduleBeanInfo.getDestroyElements())
-						.map(element -> new StringBuilder().append(context.indent(3)).append(".destroy(").append(context.getTypeName(beanType)).append("::").append(element.getSimpleName().toString()).append(")"))
+						.map(element -> new StringBuilder().append(context.indent(3)).append(".destroy(").append(this.generateLifecycleMethodReference(beanType, element.getSimpleName().toString(), context)).append(")"))
+						.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
+				}
+				
+				if(moduleBeanInfo.getResetElements().length > 0) {
+					beanNew.append(Arrays.stream(moduleBeanInfo.getResetElements())
+						.map(element -> new StringBuilder().append(context.indent(3)).append(".reset(").append(this.generateLifecycleMethodReference(beanType, element.getSimpleName().toString(), context)).append(")"))
+						.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
+				}
+				
+				if(moduleBeanInfo.getWarmupElements().length > 0) {
+					beanNew.append(Arrays.stream(moduleBeanInfo.getWarmupElements())
+						.map(element -> new StringBuilder().append(context.indent(3)).append(".warmup(").append(this.generateLifecycleMethodReference(beanType, element.getSimpleName().toString(), context)).append(")"))
 						.collect(context.joining(System.lineSeparator()))).append(System.lineSeparator());
 				}
 				
@@ -417,17 +536,461 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 		else if(context.getMode() == GenerationMode.BEAN_REFERENCE) {
 			if(moduleBeanInfo.getQualifiedName().getModuleQName().equals(context.getModule())) {
 				// We can't use bean accessor for internal beans since provided types are ignored inside a module
-				return new StringBuilder().append("this.").append(context.getFieldName(moduleBeanInfo.getQualifiedName())/*moduleBeanInfo.getQualifiedName().normalize()*/).append(".get()");
+				return new StringBuilder().append(context.getModuleReference()).append(".").append(context.getFieldName(moduleBeanInfo.getQualifiedName())/*moduleBeanInfo.getQualifiedName().normalize()*/).append(".get()");
 			}
 			else {
-				return new StringBuilder().append("this.").append(context.getFieldName(moduleBeanInfo.getQualifiedName().getModuleQName())/*moduleBeanInfo.getQualifiedName().getModuleQName().normalize()*/).append(".").append(moduleBeanInfo.getQualifiedName().normalize()).append("()");
+				return new StringBuilder().append(context.getModuleReference()).append(".").append(context.getFieldName(moduleBeanInfo.getQualifiedName().getModuleQName())/*moduleBeanInfo.getQualifiedName().getModuleQName().normalize()*/).append(".").append(moduleBeanInfo.getQualifiedName().normalize()).append("()");
 			}
 		}
 		else if(context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE) {
 			return new StringBuilder(context.getOptionalTypeName()).append(".of(").append(this.visit(moduleBeanInfo, context.withMode(GenerationMode.BEAN_REFERENCE))).append(")");
 		}
+		else if(context.getMode() == GenerationMode.BEAN_DEPENDENCIES) {
+			String dependencies = this.getModuleBeanDependencies(moduleBeanInfo, context)
+				.collect(Collectors.joining(", "));
+			
+			if(dependencies.isEmpty()) {
+				return new StringBuilder();
+			}
+			return new StringBuilder().append(context.indent(2)).append("this.dependsOn(this.").append(context.getFieldName(moduleBeanInfo.getQualifiedName())).append(", ").append(dependencies).append(");");
+		}
 		return new StringBuilder();
 	}
+	
+	/**
+	 * <p>
+	 * Returns the references to the beans and component modules of the module being generated that must be created before the specified component module can be started.
+	 * </p>
+	 * 
+	 * @param componentModuleInfo a component module
+	 * @param context             the generation context
+	 * 
+	 * @return a stream of bean and component module field references
+	 */
+	private Stream<String> getComponentModuleDependencies(ModuleInfo componentModuleInfo, ModuleClassGenerationContext context) {
+		return Arrays.stream(componentModuleInfo.getSockets())
+			.filter(socketInfo -> socketInfo.isWired())
+			.flatMap(socketInfo -> this.getSocketDependencies(socketInfo, context))
+			.distinct();
+	}
+	
+	/**
+	 * <p>
+	 * Returns the references to the beans and component modules of the module being generated that must be created before the specified bean can be created.
+	 * </p>
+	 * 
+	 * @param moduleBeanInfo a module bean
+	 * @param context        the generation context
+	 * 
+	 * @return a stream of bean and component module field references
+	 */
+	private Stream<String> getModuleBeanDependencies(ModuleBeanInfo moduleBeanInfo, ModuleClassGenerationContext context) {
+		// Lazy sockets are not resolved when the bean is created
+		ModuleBeanInfo socketsBeanInfo = moduleBeanInfo instanceof OverridableBeanInfo ? ((OverridableBeanInfo)moduleBeanInfo).getOverridableBean() : moduleBeanInfo;
+		return Arrays.stream(socketsBeanInfo.getSockets())
+			.filter(socketInfo -> !socketInfo.isLazy())
+			.flatMap(socketInfo -> this.getSocketDependencies(socketInfo, context))
+			.distinct();
+	}
+	
+	/**
+	 * <p>
+	 * Generates the index of the public beans of the module.
+	 * </p>
+	 * 
+	 * <p>
+	 * The index is generated as a nested class extending {@code BeanIndex}: beans are looked up by name and by type using string switches, the types of a bean being all the types its exposed
+	 * type is assignable to. A type matching a case must also be assignable from the exposed type of the first bean of the case so that a type with the same name defined by another class loader
+	 * doesn't match, the check is performed on the exposed type since a supertype might not be accessible from the module class. Nothing is generated when the module exposes no bean, the
+	 * module then uses the default empty index.
+	 * </p>
+	 * 
+	 * @param moduleInfo the module being generated
+	 * @param className  the simple name of the module class
+	 * @param context    the generation context
+	 * 
+	 * @return the bean index method and class or an empty string builder
+	 */
+	private StringBuilder generateBeanIndex(ModuleInfo moduleInfo, String className, ModuleClassGenerationContext context) {
+		List<ModuleBeanInfo> publicBeans = Arrays.stream(moduleInfo.getBeans())
+			.filter(moduleBeanInfo -> moduleBeanInfo.getVisibility().equals(Bean.Visibility.PUBLIC))
+			.collect(Collectors.toList());
+		if(publicBeans.isEmpty()) {
+			return new StringBuilder();
+		}
+		
+		Map<String, List<ModuleBeanInfo>> beansByType = new LinkedHashMap<>();
+		for(ModuleBeanInfo moduleBeanInfo : publicBeans) {
+			TypeMirror exposedType = moduleBeanInfo.getProvidedType() != null ? moduleBeanInfo.getProvidedType() : moduleBeanInfo.getType();
+			for(String typeName : this.getAssignableTypeNames(exposedType, context)) {
+				beansByType.computeIfAbsent(typeName, ign -> new ArrayList<>()).add(moduleBeanInfo);
+			}
+		}
+		
+		String beanIndexTypeName = context.getTypeName(context.getElementUtils().getTypeElement(INVERNO_CORE_BEANINDEX_CLASS).asType());
+		String stringTypeName = context.getTypeName(context.getElementUtils().getTypeElement(String.class.getCanonicalName()).asType());
+		String objectTypeName = context.getTypeName(context.getElementUtils().getTypeElement(Object.class.getCanonicalName()).asType());
+		String classTypeName = context.getTypeName(context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(Class.class.getCanonicalName()).asType()));
+		String setTypeName = context.getSetTypeName();
+		
+		StringBuilder beanIndex = new StringBuilder();
+		beanIndex.append(context.indent(1)).append("@Override").append(System.lineSeparator());
+		beanIndex.append(context.indent(1)).append("protected ").append(beanIndexTypeName).append(" createBeanIndex() {").append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("return new Beans(this);").append(System.lineSeparator());
+		beanIndex.append(context.indent(1)).append("}").append(System.lineSeparator()).append(System.lineSeparator());
+		
+		beanIndex.append(context.indent(1)).append("private static final class Beans extends ").append(beanIndexTypeName).append(" {").append(System.lineSeparator()).append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("private static final ").append(setTypeName).append("<").append(stringTypeName).append("> NAMES = ").append(setTypeName).append(".of(")
+			.append(publicBeans.stream().map(moduleBeanInfo -> new StringBuilder().append("\"").append(moduleBeanInfo.getQualifiedName().getBeanName()).append("\"")).collect(context.joining(", ")))
+			.append(");").append(System.lineSeparator()).append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("private final ").append(className).append(" module;").append(System.lineSeparator()).append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("private Beans(").append(className).append(" module) {").append(System.lineSeparator());
+		beanIndex.append(context.indent(3)).append("this.module = module;").append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("}").append(System.lineSeparator()).append(System.lineSeparator());
+		
+		beanIndex.append(context.indent(2)).append("@Override").append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("public ").append(setTypeName).append("<").append(stringTypeName).append("> names() {").append(System.lineSeparator());
+		beanIndex.append(context.indent(3)).append("return NAMES;").append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("}").append(System.lineSeparator()).append(System.lineSeparator());
+		
+		beanIndex.append(context.indent(2)).append("@Override").append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("protected ").append(objectTypeName).append(" get(").append(stringTypeName).append(" name) {").append(System.lineSeparator());
+		beanIndex.append(context.indent(3)).append("switch(name) {").append(System.lineSeparator());
+		for(ModuleBeanInfo moduleBeanInfo : publicBeans) {
+			beanIndex.append(context.indent(4)).append("case \"").append(moduleBeanInfo.getQualifiedName().getBeanName()).append("\": return this.module.").append(moduleBeanInfo.getQualifiedName().normalize()).append("();").append(System.lineSeparator());
+		}
+		beanIndex.append(context.indent(4)).append("default: return null;").append(System.lineSeparator());
+		beanIndex.append(context.indent(3)).append("}").append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("}").append(System.lineSeparator()).append(System.lineSeparator());
+		
+		beanIndex.append(context.indent(2)).append("@Override").append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("protected ").append(objectTypeName).append("[] getByType(").append(classTypeName).append("<?> type) {").append(System.lineSeparator());
+		beanIndex.append(context.indent(3)).append("switch(type.getName()) {").append(System.lineSeparator());
+		for(Map.Entry<String, List<ModuleBeanInfo>> e : beansByType.entrySet()) {
+			ModuleBeanInfo firstBeanInfo = e.getValue().get(0);
+			TypeMirror firstExposedType = context.getTypeUtils().erasure(firstBeanInfo.getProvidedType() != null ? firstBeanInfo.getProvidedType() : firstBeanInfo.getType());
+			beanIndex.append(context.indent(4)).append("case \"").append(e.getKey()).append("\": return type.isAssignableFrom(").append(context.getTypeName(firstExposedType)).append(".class) ? new ").append(objectTypeName).append("[] {")
+				.append(e.getValue().stream().map(moduleBeanInfo -> new StringBuilder().append("this.module.").append(moduleBeanInfo.getQualifiedName().normalize()).append("()")).collect(context.joining(", ")))
+				.append("} : null;").append(System.lineSeparator());
+		}
+		beanIndex.append(context.indent(4)).append("default: return null;").append(System.lineSeparator());
+		beanIndex.append(context.indent(3)).append("}").append(System.lineSeparator());
+		beanIndex.append(context.indent(2)).append("}").append(System.lineSeparator());
+		beanIndex.append(context.indent(1)).append("}").append(System.lineSeparator());
+		
+		return beanIndex;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the binary names of the erasures of the specified type and of all its supertypes.
+	 * </p>
+	 * 
+	 * @param type    a type
+	 * @param context the generation context
+	 * 
+	 * @return a set of binary type names as returned by {@link Class#getName()}
+	 */
+	private Set<String> getAssignableTypeNames(TypeMirror type, ModuleClassGenerationContext context) {
+		Set<String> typeNames = new LinkedHashSet<>();
+		Deque<TypeMirror> types = new ArrayDeque<>();
+		types.add(type);
+		while(!types.isEmpty()) {
+			TypeMirror currentType = context.getTypeUtils().erasure(types.poll());
+			if(currentType.getKind() == TypeKind.DECLARED && typeNames.add(context.getElementUtils().getBinaryName((TypeElement)context.getTypeUtils().asElement(currentType)).toString())) {
+				types.addAll(context.getTypeUtils().directSupertypes(currentType));
+			}
+		}
+		return typeNames;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the component modules and the beans of the specified module sorted in an order in which they can be created, a component module or a bean
+	 * always appearing after its dependencies.
+	 * </p>
+	 * 
+	 * <p>
+	 * The order is deterministic: component modules and beans are otherwise kept in their declaration order.
+	 * </p>
+	 * 
+	 * @param moduleInfo the module being generated
+	 * @param context    the generation context
+	 * 
+	 * @return a list of component modules and beans
+	 */
+	private List<Info> getCreationOrder(ModuleInfo moduleInfo, ModuleClassGenerationContext context) {
+		Map<String, Info> nodes = new LinkedHashMap<>();
+		for(ModuleInfo componentModuleInfo : moduleInfo.getModules()) {
+			nodes.put("this." + context.getFieldName(componentModuleInfo.getQualifiedName()), componentModuleInfo);
+		}
+		for(ModuleBeanInfo moduleBeanInfo : moduleInfo.getBeans()) {
+			nodes.put("this." + context.getFieldName(moduleBeanInfo.getQualifiedName()), moduleBeanInfo);
+		}
+		
+		List<Info> creationOrder = new ArrayList<>(nodes.size());
+		Set<Info> visited = new HashSet<>();
+		for(Info node : nodes.values()) {
+			this.visitCreationOrder(node, nodes, visited, creationOrder, context);
+		}
+		return creationOrder;
+	}
+	
+	/**
+	 * <p>
+	 * Adds the specified node to the creation order after its dependencies.
+	 * </p>
+	 * 
+	 * @param node          a component module or a bean
+	 * @param nodes         the component modules and beans of the module being generated indexed by field reference
+	 * @param visited       the nodes already visited
+	 * @param creationOrder the creation order
+	 * @param context       the generation context
+	 */
+	private void visitCreationOrder(Info node, Map<String, Info> nodes, Set<Info> visited, List<Info> creationOrder, ModuleClassGenerationContext context) {
+		if(!visited.add(node)) {
+			// Cycles have been reported during module validation
+			return;
+		}
+		Stream<String> dependencies = node instanceof ModuleInfo ? this.getComponentModuleDependencies((ModuleInfo)node, context) : this.getModuleBeanDependencies((ModuleBeanInfo)node, context);
+		dependencies
+			.map(nodes::get)
+			.filter(Objects::nonNull)
+			.forEach(dependency -> this.visitCreationOrder(dependency, nodes, visited, creationOrder, context));
+		creationOrder.add(node);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the references to the beans and component modules of the module being generated that must be created before the specified socket can be resolved.
+	 * </p>
+	 * 
+	 * @param socketInfo a socket
+	 * @param context    the generation context
+	 * 
+	 * @return a stream of bean and component module field references
+	 */
+	private Stream<String> getSocketDependencies(SocketInfo socketInfo, ModuleClassGenerationContext context) {
+		if(!socketInfo.isResolved()) {
+			return Stream.empty();
+		}
+		if(socketInfo instanceof SingleSocketInfo) {
+			return this.getBeanDependencies(((SingleSocketInfo)socketInfo).getBean(), context);
+		}
+		else if(socketInfo instanceof MultiSocketInfo) {
+			return Arrays.stream(((MultiSocketInfo)socketInfo).getBeans()).flatMap(beanInfo -> this.getBeanDependencies(beanInfo, context));
+		}
+		return Stream.empty();
+	}
+	
+	/**
+	 * <p>
+	 * Returns the reference to the bean or the component module of the module being generated that must be created before the specified bean can be injected.
+	 * </p>
+	 * 
+	 * @param beanInfo a bean
+	 * @param context  the generation context
+	 * 
+	 * @return a stream of bean and component module field references
+	 */
+	private Stream<String> getBeanDependencies(BeanInfo beanInfo, ModuleClassGenerationContext context) {
+		if(beanInfo instanceof NestedBeanInfo) {
+			return this.getBeanDependencies(((NestedBeanInfo)beanInfo).getProvidingBean(), context);
+		}
+		else if(beanInfo instanceof ModuleBeanInfo) {
+			if(beanInfo.getQualifiedName().getModuleQName().equals(context.getModule())) {
+				return Stream.of("this." + context.getFieldName(beanInfo.getQualifiedName()));
+			}
+			else {
+				return Stream.of("this." + context.getFieldName(beanInfo.getQualifiedName().getModuleQName()));
+			}
+		}
+		// Socket beans are provided from outside the module
+		return Stream.empty();
+	}
+
+	/**
+	 * <p>
+	 * Generates a supplier of the specified value.
+	 * </p>
+	 * 
+	 * <p>
+	 * A lambda expression is generated by default, an anonymous class is generated when generating a lambda-free module class.
+	 * </p>
+	 * 
+	 * @param suppliedType the type of the supplied value
+	 * @param value        the supplied value expression
+	 * @param context      the generation context
+	 * 
+	 * @return a supplier expression
+	 */
+	private StringBuilder generateSupplier(TypeMirror suppliedType, CharSequence value, ModuleClassGenerationContext context) {
+		if(context.isLambdaFree()) {
+			String suppliedTypeName = context.getTypeName(this.getUnwildType(suppliedType, context));
+			return new StringBuilder().append("new ").append(context.getSupplierTypeName()).append("<").append(suppliedTypeName).append(">() { public ").append(suppliedTypeName).append(" get() { return ").append(value).append("; } }");
+		}
+		return new StringBuilder().append("() -> ").append(value);
+	}
+
+	/**
+	 * <p>
+	 * Generates a module builder method overriding the specified module option in order to return the generated builder.
+	 * </p>
+	 *
+	 * @param option  a module option method of the module builder base class
+	 * @param context the generation context
+	 *
+	 * @return a builder method
+	 */
+	private StringBuilder generateBuilderOption(ExecutableElement option, ModuleClassGenerationContext context) {
+		String optionName = option.getSimpleName().toString();
+		List<? extends VariableElement> optionParameters = option.getParameters();
+		// Parameter names are only available when the core module has been compiled with -parameters, javac otherwise synthesizes argN names
+		boolean syntheticNames = optionParameters.stream().anyMatch(parameter -> SYNTHETIC_PARAMETER_NAME.matcher(parameter.getSimpleName()).matches());
+		String[] parameterNames = new String[optionParameters.size()];
+		for(int i = 0;i < parameterNames.length;i++) {
+			parameterNames[i] = !syntheticNames ? optionParameters.get(i).getSimpleName().toString() : parameterNames.length == 1 ? optionName : optionName + (i + 1);
+		}
+		StringBuilder parameters = IntStream.range(0, parameterNames.length)
+			.mapToObj(i -> new StringBuilder().append(context.getTypeName(optionParameters.get(i).asType())).append(" ").append(parameterNames[i]))
+			.collect(context.joining(", "));
+		StringBuilder arguments = Arrays.stream(parameterNames)
+			.map(parameterName -> new StringBuilder().append(parameterName))
+			.collect(context.joining(", "));
+
+		StringBuilder result = new StringBuilder().append(context.indent(2)).append("@Override").append(System.lineSeparator());
+		result.append(context.indent(2)).append("public Builder ").append(optionName).append("(").append(parameters).append(") {").append(System.lineSeparator());
+		result.append(context.indent(3)).append("super.").append(optionName).append("(").append(arguments).append(");").append(System.lineSeparator());
+		result.append(context.indent(3)).append("return this;").append(System.lineSeparator());
+		result.append(context.indent(2)).append("}");
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * Generates the supplier to inject into a lazy socket resolved to a bean defined in the module being generated.
+	 * </p>
+	 * 
+	 * <p>
+	 * The supplier is provided by the module bean, it is shared by all the sockets resolved to the bean and resolves to the bean instance once it has been created when the bean is a singleton.
+	 * </p>
+	 * 
+	 * @param beanInfo a bean defined in the module being generated
+	 * @param context  the generation context
+	 * 
+	 * @return a supplier expression
+	 */
+	private StringBuilder generateLazySupplier(BeanInfo beanInfo, ModuleClassGenerationContext context) {
+		// Lazy is a protected static method inherited by the generated module class
+		return new StringBuilder().append("lazy(").append(context.getModuleReference()).append(".").append(context.getFieldName(beanInfo.getQualifiedName())).append(")");
+	}
+	
+	/**
+	 * <p>
+	 * Generates a reference to a bean init or destroy method.
+	 * </p>
+	 * 
+	 * <p>
+	 * A method reference is generated by default, an anonymous class is generated when generating a lambda-free module class.
+	 * </p>
+	 * 
+	 * @param beanType   the bean type
+	 * @param methodName the name of the init or destroy method
+	 * @param context    the generation context
+	 * 
+	 * @return a fallible consumer expression
+	 */
+	private StringBuilder generateLifecycleMethodReference(TypeMirror beanType, String methodName, ModuleClassGenerationContext context) {
+		if(context.isLambdaFree()) {
+			// BeanBuilder is a protected member type inherited by the generated module class
+			String beanTypeName = context.getTypeName(beanType);
+			return new StringBuilder().append("new BeanBuilder.FallibleConsumer<").append(beanTypeName).append(">() { public void accept(").append(beanTypeName).append(" bean) throws Exception { bean.").append(methodName).append("(); } }");
+		}
+		return new StringBuilder().append(context.getTypeName(beanType)).append("::").append(methodName);
+	}
+	
+	/**
+	 * <p>
+	 * Determines whether the specified init method initializes the bean asynchronously (ie. returns a {@link CompletionStage}).
+	 * </p>
+	 * 
+	 * @param initElement the init method
+	 * @param context     the generation context
+	 * 
+	 * @return true if the init method is asynchronous, false otherwise
+	 */
+	private boolean isAsyncInit(ExecutableElement initElement, ModuleClassGenerationContext context) {
+		TypeMirror completionStageType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(CompletionStage.class.getCanonicalName()).asType());
+		return initElement.getReturnType().getKind() == TypeKind.DECLARED && context.getTypeUtils().isAssignable(initElement.getReturnType(), completionStageType);
+	}
+	
+	/**
+	 * <p>
+	 * Generates a reference to a bean asynchronous init method.
+	 * </p>
+	 * 
+	 * <p>
+	 * A method reference is generated by default, an anonymous class is generated when generating a lambda-free module class.
+	 * </p>
+	 * 
+	 * @param beanType   the bean type
+	 * @param methodName the name of the init method
+	 * @param context    the generation context
+	 * 
+	 * @return a fallible function expression
+	 */
+	private StringBuilder generateAsyncInitMethodReference(TypeMirror beanType, String methodName, ModuleClassGenerationContext context) {
+		if(context.isLambdaFree()) {
+			String beanTypeName = context.getTypeName(beanType);
+			String completionStageTypeName = context.getTypeName(context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(CompletionStage.class.getCanonicalName()).asType())) + "<?>";
+			return new StringBuilder().append("new BeanBuilder.FallibleFunction<").append(beanTypeName).append(", ").append(completionStageTypeName).append(">() { public ").append(completionStageTypeName).append(" apply(").append(beanTypeName).append(" bean) throws Exception { return bean.").append(methodName).append("(); } }");
+		}
+		return new StringBuilder().append(context.getTypeName(beanType)).append("::").append(methodName);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the type supplied by the supplier implemented by the specified socket type.
+	 * </p>
+	 * 
+	 * @param socketType a socket type
+	 * @param context    the generation context
+	 * 
+	 * @return the supplied type
+	 */
+	private TypeMirror getSuppliedType(TypeMirror socketType, ModuleClassGenerationContext context) {
+		List<? extends TypeMirror> typeArguments = ((DeclaredType)context.getSupplierSocketType(socketType)).getTypeArguments();
+		if(typeArguments.isEmpty()) {
+			return context.getElementUtils().getTypeElement(Object.class.getCanonicalName()).asType();
+		}
+		return this.getUnwildType(typeArguments.get(0), context);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the bound of the specified type when it is a wildcard type.
+	 * </p>
+	 * 
+	 * @param type    a type
+	 * @param context the generation context
+	 * 
+	 * @return the specified type or its bound if it is a wildcard type
+	 */
+	private TypeMirror getUnwildType(TypeMirror type, ModuleClassGenerationContext context) {
+		if(type.getKind().equals(TypeKind.WILDCARD)) {
+			if(((WildcardType)type).getExtendsBound() != null) {
+				return ((WildcardType)type).getExtendsBound();
+			}
+			else if(((WildcardType)type).getSuperBound() != null) {
+				// TODO test it I don't know precisely what will happen here
+				return ((WildcardType)type).getSuperBound();
+			}
+			else {
+				return context.getElementUtils().getTypeElement(Object.class.getCanonicalName()).asType();
+			}
+		}
+		return type;
+	}
 
 	@Override
 	public StringBuilder visit(WrapperBeanInfo moduleWrapperBeanInfo, ModuleClassGenerationContext context) {
@@ -469,28 +1032,23 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 	@Override
 	public StringBuilder visit(MultiSocketInfo multiSocketInfo, ModuleClassGenerationContext context) {
 		if(context.getMode() == GenerationMode.BEAN_REFERENCE || context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE) {
-			final TypeMirror unwildDependencyType;
-			if(multiSocketInfo.getType().getKind().equals(TypeKind.WILDCARD)) {
-				if(((WildcardType)multiSocketInfo.getType()).getExtendsBound() != null) {
-					unwildDependencyType = ((WildcardType)multiSocketInfo.getType()).getExtendsBound();
-				}
-				else if(((WildcardType)multiSocketInfo.getType()).getSuperBound() != null) {
-					// TODO test it I don't know precisely what will happen here
-					unwildDependencyType = ((WildcardType)multiSocketInfo.getType()).getSuperBound();
-				}
-				else {
-					unwildDependencyType = context.getElementUtils().getTypeElement(Object.class.getCanonicalName()).asType();
-				}
-			}
-			else {
-				unwildDependencyType = multiSocketInfo.getType();
-			}
+			final TypeMirror unwildDependencyType = this.getUnwildType(multiSocketInfo.getType(), context);
 			
 			if(multiSocketInfo.isResolved()) {
-				TypeMirror beanAggregatorType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_BEANAGGREGATOR_CLASS).asType());
-
 				boolean lazy = multiSocketInfo instanceof ModuleBeanMultiSocketInfo && ((ModuleBeanMultiSocketInfo)multiSocketInfo).isLazy();
 				
+				if(!lazy && multiSocketInfo.getMultiType() == MultiSocketType.ARRAY && multiSocketInfo.getBeans().length > 0 && context.getTypeUtils().isSameType(context.getTypeUtils().erasure(unwildDependencyType), unwildDependencyType) && Arrays.stream(multiSocketInfo.getBeans()).allMatch(beanInfo -> this.isNonNullBean(beanInfo, context))) {
+					// No null bean to filter: the array is created directly
+					StringBuilder beanSocketReference = new StringBuilder().append("new ").append(context.getTypeName(unwildDependencyType)).append("[] {")
+						.append(Arrays.stream(multiSocketInfo.getBeans()).map(beanInfo -> this.visit(beanInfo, context.withMode(GenerationMode.BEAN_REFERENCE))).collect(context.joining(", ")))
+						.append("}");
+					if(context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE) {
+						return new StringBuilder().append(context.getOptionalTypeName()).append(".of(").append(beanSocketReference).append(")");
+					}
+					return beanSocketReference;
+				}
+				
+				TypeMirror beanAggregatorType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(INVERNO_CORE_MODULE_BEANAGGREGATOR_CLASS).asType());
 				StringBuilder beanSocketReference = new StringBuilder().append("new ").append(context.getTypeName(beanAggregatorType)).append("<");
 				if(lazy) {
 					beanSocketReference.append(context.getSupplierTypeName()).append("<").append(context.getTypeName(unwildDependencyType)).append(">");
@@ -498,12 +1056,15 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 				else {
 					beanSocketReference.append(context.getTypeName(unwildDependencyType));
 				}
-				beanSocketReference.append(">()").append(System.lineSeparator());
+				beanSocketReference.append(">(").append(multiSocketInfo.getBeans().length).append(")").append(System.lineSeparator());
 				beanSocketReference.append(Arrays.stream(multiSocketInfo.getBeans())
 					.map(beanInfo -> {
 						StringBuilder beanRef = new StringBuilder(context.indent(1)).append(".add(");
-						if(lazy) {
-							beanRef.append("() -> ");
+						if(lazy && this.isInternalModuleBean(beanInfo, context)) {
+							return beanRef.append(this.generateLazySupplier(beanInfo, context)).append(")");
+						}
+						else if(lazy) {
+							return beanRef.append(this.generateSupplier(unwildDependencyType, this.visit(beanInfo, context.withMode(GenerationMode.BEAN_REFERENCE)), context)).append(")");
 						}
 						return beanRef.append(this.visit(beanInfo, context.withMode(GenerationMode.BEAN_REFERENCE))).append(")");
 					})
@@ -517,7 +1078,15 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 						}
 						else {
 							beanSocketReference.append(".toOptionalArray(");
-						}	beanSocketReference.append(context.getTypeName(unwildDependencyType)).append("[]::new)");
+						}
+						if(context.isLambdaFree()) {
+							TypeMirror intFunctionType = context.getTypeUtils().erasure(context.getElementUtils().getTypeElement(IntFunction.class.getCanonicalName()).asType());
+							String arrayTypeName = context.getTypeName(context.getTypeUtils().getArrayType(unwildDependencyType));
+							beanSocketReference.append("new ").append(context.getTypeName(intFunctionType)).append("<").append(arrayTypeName).append(">() { public ").append(arrayTypeName).append(" apply(int size) { return new ").append(context.getTypeName(unwildDependencyType)).append("[size]; } })");
+						}
+						else {
+							beanSocketReference.append(context.getTypeName(unwildDependencyType)).append("[]::new)");
+						}
 						break;
 					case COLLECTION:
 					case LIST:
@@ -578,7 +1147,19 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 	@Override
 	public StringBuilder visit(ModuleBeanSingleSocketInfo beanSingleSocketInfo, ModuleClassGenerationContext context) {
 		if(beanSingleSocketInfo.isLazy() && (context.getMode() == GenerationMode.BEAN_REFERENCE || context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE)) {
-			return new StringBuilder("() -> ").append(this.visit((SingleSocketInfo)beanSingleSocketInfo, context));
+			if(beanSingleSocketInfo.isResolved() && this.isInternalModuleBean(beanSingleSocketInfo.getBean(), context)) {
+				return this.generateLazySupplier(beanSingleSocketInfo.getBean(), context);
+			}
+			return this.generateSupplier(beanSingleSocketInfo.getType(), this.visit((SingleSocketInfo)beanSingleSocketInfo, context), context);
+		}
+		else if(beanSingleSocketInfo.isPooled() && beanSingleSocketInfo.isResolved() && (context.getMode() == GenerationMode.BEAN_REFERENCE || context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE)) {
+			// Pool is a protected static method inherited by the generated module class
+			BeanInfo beanInfo = beanSingleSocketInfo.getBean();
+			if(this.isInternalModuleBean(beanInfo, context)) {
+				// Internal beans are pools when they are pooled beans
+				return new StringBuilder().append("pool(").append(context.getModuleReference()).append(".").append(context.getFieldName(beanInfo.getQualifiedName())).append(")");
+			}
+			return new StringBuilder().append("pool(").append(this.generateSupplier(beanSingleSocketInfo.getType(), this.visit((SingleSocketInfo)beanSingleSocketInfo, context.withMode(GenerationMode.BEAN_REFERENCE)), context)).append(")");
 		}
 		return this.visit((SingleSocketInfo)beanSingleSocketInfo, context);
 	}
@@ -587,7 +1168,42 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 	public StringBuilder visit(ModuleBeanMultiSocketInfo beanMultiSocketInfo, ModuleClassGenerationContext context) {
 		return this.visit((MultiSocketInfo)beanMultiSocketInfo, context);
 	}
-
+	
+	/**
+	 * <p>
+	 * Determines whether the specified bean is a module bean defined in the module being generated.
+	 * </p>
+	 * 
+	 * @param beanInfo a bean
+	 * @param context  the generation context
+	 * 
+	 * @return true if the bean is referenced by a module bean field, false otherwise
+	 */
+	private boolean isInternalModuleBean(BeanInfo beanInfo, ModuleClassGenerationContext context) {
+		return beanInfo instanceof ModuleBeanInfo && beanInfo.getQualifiedName().getModuleQName().equals(context.getModule());
+	}
+	
+	/**
+	 * <p>
+	 * Determines whether the specified bean always provides a non-null instance when referenced from the module being generated.
+	 * </p>
+	 * 
+	 * <p>
+	 * Beans defined in the module being generated which are neither wrapper beans nor overridable beans always provide an instance, a nested bean reference fails when the nested bean is null.
+	 * </p>
+	 * 
+	 * @param beanInfo a bean
+	 * @param context  the generation context
+	 * 
+	 * @return true if the bean reference is never null, false otherwise
+	 */
+	private boolean isNonNullBean(BeanInfo beanInfo, ModuleClassGenerationContext context) {
+		if(beanInfo instanceof NestedBeanInfo) {
+			return true;
+		}
+		return this.isInternalModuleBean(beanInfo, context) && !(beanInfo instanceof WrapperBeanInfo) && !(beanInfo instanceof OverridableBeanInfo);
+	}
+	
 	@Override
 	public StringBuilder visit(SocketBeanInfo socketBeanInfo, ModuleClassGenerationContext context) {
 		if(context.getMode() == GenerationMode.SOCKET_PARAMETER) {
@@ -630,17 +1246,17 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 			}
 		}
 		else if(context.getMode() == GenerationMode.SOCKET_ASSIGNMENT) {
-			return new StringBuilder().append(context.indent(3)).append("this.").append(socketBeanInfo.getQualifiedName().normalize()).append(" = () -> ").append(socketBeanInfo.getQualifiedName().normalize()).append(";");
+			return new StringBuilder().append(context.indent(3)).append("this.").append(socketBeanInfo.getQualifiedName().normalize()).append(" = ").append(this.generateSupplier(this.getSuppliedType(socketBeanInfo.getSocketType(), context), socketBeanInfo.getQualifiedName().normalize(), context)).append(";");
 		}
 		else if(context.getMode() == GenerationMode.SOCKET_INJECTOR) {
 			StringBuilder plugName = new StringBuilder().append(socketBeanInfo.getQualifiedName().normalize());
 			
 			StringBuilder result = new StringBuilder().append(context.indent(2)).append("public Builder set").append(Character.toUpperCase(plugName.charAt(0))).append(plugName.substring(1)).append("(").append((socketBeanInfo instanceof MultiSocketInfo ? context.getMultiTypeName(socketBeanInfo.getType(), ((MultiSocketInfo)socketBeanInfo).getMultiType() ) : context.getTypeName(socketBeanInfo.getType()))).append(" ").append(plugName).append(") {").append(System.lineSeparator());
 			if(socketBeanInfo.isOptional()) {
-				result.append(context.indent(3)).append("this.").append(plugName).append(" = ").append(context.getOptionalTypeName()).append(".ofNullable(").append(plugName).append(" != null ? () -> ").append(plugName).append(" : null);").append(System.lineSeparator());
+				result.append(context.indent(3)).append("this.").append(plugName).append(" = ").append(context.getOptionalTypeName()).append(".ofNullable(").append(plugName).append(" != null ? ").append(this.generateSupplier(this.getSuppliedType(socketBeanInfo.getSocketType(), context), plugName, context)).append(" : null);").append(System.lineSeparator());
 			}
 			else {
-				result.append(context.indent(3)).append("this.").append(plugName).append(" = () -> ").append(plugName).append(";").append(System.lineSeparator());
+				result.append(context.indent(3)).append("this.").append(plugName).append(" = ").append(this.generateSupplier(this.getSuppliedType(socketBeanInfo.getSocketType(), context), plugName, context)).append(";").append(System.lineSeparator());
 			}
 			result.append(context.indent(3)).append("return this;").append(System.lineSeparator());
 			result.append(context.indent(2)).append("}");
@@ -649,6 +1265,9 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 		}
 		else if(context.getMode() == GenerationMode.BEAN_REFERENCE) {
 			if(socketBeanInfo.isOptional()) {
+				if(context.isLambdaFree()) {
+					return new StringBuilder().append("(").append(socketBeanInfo.getQualifiedName().normalize()).append(".isPresent() ? ").append(socketBeanInfo.getQualifiedName().normalize()).append(".get().get() : null)");
+				}
 				return new StringBuilder().append(socketBeanInfo.getQualifiedName().normalize()).append(".orElse(() -> null).get()");
 			}
 			else {
@@ -657,6 +1276,9 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 		}
 		else if(context.getMode() == GenerationMode.BEAN_OPTIONAL_REFERENCE) {
 			if(socketBeanInfo.isOptional()) {
+				if(context.isLambdaFree()) {
+					return new StringBuilder().append(context.getOptionalTypeName()).append(".ofNullable(").append(socketBeanInfo.getQualifiedName().normalize()).append(".isPresent() ? ").append(socketBeanInfo.getQualifiedName().normalize()).append(".get().get() : null)");
+				}
 				return new StringBuilder().append(socketBeanInfo.getQualifiedName().normalize()).append(".map(").append(context.getSupplierTypeName()).append("::get)");
 			}
 			else {
@@ -690,7 +1312,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 		if(context.getMode() == GenerationMode.COMPONENT_MODULE_BEAN_REFERENCE) {
 			StringBuilder result = new StringBuilder().append("(").append(context.getTypeName(context.getSupplierSocketType(singleSocketBeanInfo.getSocketType()))).append(")");
 			if(singleSocketBeanInfo.isResolved()) {
-				result.append("() -> ").append(this.visit((SingleSocketInfo)singleSocketBeanInfo, context.withMode(GenerationMode.BEAN_REFERENCE)));
+				result.append(this.generateSupplier(this.getSuppliedType(singleSocketBeanInfo.getSocketType(), context), this.visit((SingleSocketInfo)singleSocketBeanInfo, context.withMode(GenerationMode.BEAN_REFERENCE)), context));
 			}
 			else {
 				result.append("null");
@@ -705,7 +1327,7 @@ class ModuleClassGenerator implements ModuleInfoVisitor<StringBuilder, ModuleCla
 		if(context.getMode() == GenerationMode.COMPONENT_MODULE_BEAN_REFERENCE) {
 			StringBuilder result = new StringBuilder().append("(").append(context.getTypeName(context.getSupplierSocketType(multiSocketBeanInfo.getSocketType()))).append(")");
 			if(multiSocketBeanInfo.isResolved()) {
-				result.append("() -> ").append(this.visit((MultiSocketInfo)multiSocketBeanInfo, context.withMode(GenerationMode.BEAN_REFERENCE)));
+				result.append(this.generateSupplier(this.getSuppliedType(multiSocketBeanInfo.getSocketType(), context), this.visit((MultiSocketInfo)multiSocketBeanInfo, context.withMode(GenerationMode.BEAN_REFERENCE)), context));
 			}
 			else {
 				result.append("null");
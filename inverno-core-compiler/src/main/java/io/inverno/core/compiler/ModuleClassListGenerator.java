@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.compiler;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.compiler.spi.ModuleBeanInfo;
+import io.inverno.core.compiler.spi.ModuleInfo;
+import io.inverno.core.compiler.spi.WrapperBeanInfo;
+
+/**
+ * <p>
+ * Generates the list of the classes loaded when a generated module is started.
+ * </p>
+ * 
+ * <p>
+ * The list follows the format of the class lists used to create a class data sharing archive ({@code -XX:SharedClassListFile}): one class per line designated by its internal name. It includes
+ * the generated module classes, the bean classes and the Inverno core runtime classes used by the beans of the module and of its component modules. It can be merged with the class list of other
+ * modules and libraries to create the archive of an application.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+class ModuleClassListGenerator {
+
+	private static final String INVERNO_CORE_PACKAGE = "io/inverno/core/v1/";
+	
+	private static final List<String> INVERNO_CORE_CLASSES = List.of(
+		"Module", "Module$Bean", "Module$ModuleBuilder", "Module$ModuleLinker", "Module$BeanBuilder", "Module$BeanBuilder$FallibleConsumer", "Module$ModuleBeanBuilder", 
+		"AbstractBeanBuilder", "AbstractModuleBeanBuilder", "AbstractModuleBean", "BeanOperations", "TransientLock", 
+		"BeanEvent", "BeanCreateEvent", "BeanInitEvent", "BeanDestroyEvent", "ModuleStartEvent", "ModuleStopEvent", 
+		"StartupRecorder", "StartupRecorder$BeanRecord", "StartupRecorder$Frame", "StartupReport", "StartupReport$BeanStartup", "ShutdownReport", "BeanIndex"
+	);
+	
+	private static final List<String> INVERNO_CORE_WRAPPER_CLASSES = List.of(
+		"Module$WrapperBeanBuilder", "AbstractWrapperBeanBuilder", "AbstractWrapperBeanBuilder$ProvidingWrapper", "AbstractWrapperBean"
+	);
+	
+	private static final Map<Bean.Strategy, List<String>> INVERNO_CORE_STRATEGY_CLASSES = Map.of(
+		Bean.Strategy.SINGLETON, List.of("SingletonModuleBeanBuilder", "SingletonModuleBean"),
+		Bean.Strategy.PROTOTYPE, List.of("PrototypeModuleBeanBuilder", "PrototypeModuleBean", "PrototypeWeakModuleBean", "WeakInstanceRegistry", "WeakInstanceRegistry$Stripe", "WeakInstanceRegistry$InstanceReference"),
+		Bean.Strategy.POOLED, List.of("PooledModuleBeanBuilder", "PooledModuleBean", "Pool", "Pool$Lease"),
+		Bean.Strategy.SCOPED, List.of("ScopedModuleBeanBuilder", "ScopedModuleBean", "Scope", "ScopeCarrier", "ThreadLocalScopeCarrier")
+	);
+	
+	private static final Map<Bean.Strategy, List<String>> INVERNO_CORE_WRAPPER_STRATEGY_CLASSES = Map.of(
+		Bean.Strategy.SINGLETON, List.of("SingletonWrapperBeanBuilder", "SingletonWrapperBean"),
+		Bean.Strategy.PROTOTYPE, List.of("PrototypeWrapperBeanBuilder", "PrototypeWrapperBean", "PrototypeWeakWrapperBean", "WeakInstanceRegistry", "WeakInstanceRegistry$Stripe", "WeakInstanceRegistry$InstanceReference")
+	);
+	
+	private final Types typeUtils;
+	
+	private final Elements elementUtils;
+	
+	/**
+	 * <p>
+	 * Creates a module class list generator.
+	 * </p>
+	 * 
+	 * @param typeUtils    the type utilities
+	 * @param elementUtils the element utilities
+	 */
+	public ModuleClassListGenerator(Types typeUtils, Elements elementUtils) {
+		this.typeUtils = typeUtils;
+		this.elementUtils = elementUtils;
+	}
+	
+	/**
+	 * <p>
+	 * Generates the class list of the specified module.
+	 * </p>
+	 * 
+	 * @param moduleInfo the module info
+	 * 
+	 * @return the class list
+	 */
+	public String generate(ModuleInfo moduleInfo) {
+		Set<String> moduleClasses = new LinkedHashSet<>();
+		Set<String> coreClasses = new LinkedHashSet<>();
+		INVERNO_CORE_CLASSES.forEach(coreClass -> coreClasses.add(INVERNO_CORE_PACKAGE + coreClass));
+		this.collect(moduleInfo, true, moduleClasses, coreClasses);
+		
+		StringBuilder classList = new StringBuilder();
+		classList.append("# Classes loaded by module ").append(moduleInfo.getQualifiedName()).append(System.lineSeparator());
+		moduleClasses.forEach(className -> classList.append(className).append(System.lineSeparator()));
+		coreClasses.forEach(className -> classList.append(className).append(System.lineSeparator()));
+		return classList.toString();
+	}
+	
+	/**
+	 * <p>
+	 * Collects the classes loaded by the specified module and its component modules.
+	 * </p>
+	 * 
+	 * @param moduleInfo    the module info
+	 * @param root          true if the module is the module being generated, false for a component module
+	 * @param moduleClasses the module classes
+	 * @param coreClasses   the Inverno core runtime classes
+	 */
+	private void collect(ModuleInfo moduleInfo, boolean root, Set<String> moduleClasses, Set<String> coreClasses) {
+		String moduleClassName = moduleInfo.getQualifiedName().getClassName().replace('.', '/');
+		moduleClasses.add(moduleClassName);
+		moduleClasses.add(moduleClassName + (root ? "$Builder" : "$Linker"));
+		if(moduleInfo.getPublicBeans().length > 0) {
+			moduleClasses.add(moduleClassName + "$Beans");
+		}
+		for(ModuleBeanInfo beanInfo : moduleInfo.getBeans()) {
+			this.addType(beanInfo.getType(), moduleClasses);
+			Map<Bean.Strategy, List<String>> strategyClasses;
+			if(beanInfo instanceof WrapperBeanInfo) {
+				this.addType(((WrapperBeanInfo)beanInfo).getWrapperType(), moduleClasses);
+				INVERNO_CORE_WRAPPER_CLASSES.forEach(coreClass -> coreClasses.add(INVERNO_CORE_PACKAGE + coreClass));
+				strategyClasses = INVERNO_CORE_WRAPPER_STRATEGY_CLASSES;
+			}
+			else {
+				strategyClasses = INVERNO_CORE_STRATEGY_CLASSES;
+			}
+			strategyClasses.getOrDefault(beanInfo.getStrategy(), List.of()).forEach(coreClass -> coreClasses.add(INVERNO_CORE_PACKAGE + coreClass));
+		}
+		for(ModuleInfo componentModuleInfo : moduleInfo.getModules()) {
+			this.collect(componentModuleInfo, false, moduleClasses, coreClasses);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Adds the class of the specified type to the list of classes.
+	 * </p>
+	 * 
+	 * @param type    a type
+	 * @param classes the list of classes
+	 */
+	private void addType(TypeMirror type, Set<String> classes) {
+		if(type != null && type.getKind() == TypeKind.DECLARED) {
+			TypeElement typeElement = (TypeElement)((DeclaredType)this.typeUtils.erasure(type)).asElement();
+			classes.add(this.elementUtils.getBinaryName(typeElement).toString().replace('.', '/'));
+		}
+	}
+}
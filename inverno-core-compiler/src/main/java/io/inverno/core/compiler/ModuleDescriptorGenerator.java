@@ -143,6 +143,14 @@ class ModuleDescriptorGenerator implements ModuleInfoVisitor<String, String> {
 		if(moduleBeanInfo.getDestroyElements().length > 0) {
 			result.append(Arrays.stream(moduleBeanInfo.getDestroyElements()).map(destroy -> pad +  "  " +  this.indent +  "- " + destroy.toString()).collect(Collectors.joining("\n"))).append("\n");
 		}
+		if(moduleBeanInfo.getResetElements().length > 0) {
+			result.append(pad).append("  ").append("reset:").append("\n");
+			result.append(Arrays.stream(moduleBeanInfo.getResetElements()).map(reset -> pad +  "  " +  this.indent +  "- " + reset.toString()).collect(Collectors.joining("\n"))).append("\n");
+		}
+		if(moduleBeanInfo.getWarmupElements().length > 0) {
+			result.append(pad).append("  ").append("warmup:").append("\n");
+			result.append(Arrays.stream(moduleBeanInfo.getWarmupElements()).map(warmup -> pad +  "  " +  this.indent +  "- " + warmup.toString()).collect(Collectors.joining("\n"))).append("\n");
+		}
 		result.append(pad).append("  ").append("sockets:").append("\n");
 		if(moduleBeanInfo.getSockets().length > 0) {
 			result.append(Arrays.stream(moduleBeanInfo.getSockets()).map(socket -> this.visit(socket, pad + "  " + this.indent)).collect(Collectors.joining("\n"))).append("\n");
@@ -180,6 +188,9 @@ class ModuleDescriptorGenerator implements ModuleInfoVisitor<String, String> {
 			result.append(this.visit((ModuleBeanMultiSocketInfo)beanSocketInfo, pad));
 		}
 		result.append("\n").append(pad).append("  ").append("lazy: ").append(beanSocketInfo.isLazy());
+		if(beanSocketInfo.isPooled()) {
+			result.append("\n").append(pad).append("  ").append("pooled: true");
+		}
 		return result.toString();
 	}
 
@@ -74,6 +74,8 @@ class ModuleGenerator {
 	private ModuleClassGenerator moduleClassGenerator;
 	private ModuleDescriptorGenerator moduleDescriptorGenerator;
 	
+	private ModuleClassListGenerator moduleClassListGenerator;
+	
 	private Map<String, ModuleInfoBuilder> moduleBuilders;
 	private Map<String, Set<Element>> moduleOriginatingElements;
 	private Map<String, List<ModuleBeanInfo>> moduleBeans;
@@ -87,6 +89,7 @@ class ModuleGenerator {
 		this.options = options;
 		this.moduleClassGenerator = new ModuleClassGenerator();
 		this.moduleDescriptorGenerator = new ModuleDescriptorGenerator();
+		this.moduleClassListGenerator = new ModuleClassListGenerator(processingEnv.getTypeUtils(), processingEnv.getElementUtils());
 
 		this.generatedModules = new HashMap<>();
 		this.componentModules = new HashMap<>();
@@ -331,7 +334,7 @@ class ModuleGenerator {
 					try {
 						JavaFileObject moduleSourceFile = this.processingEnvironment.getFiler().createSourceFile(moduleInfo.getQualifiedName().getClassName(), this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
 						try (Writer writer = moduleSourceFile.openWriter()) {
-							writer.write(moduleInfo.accept(this.moduleClassGenerator, new ModuleClassGenerationContext(this.processingEnvironment.getTypeUtils(), this.processingEnvironment.getElementUtils(), GenerationMode.MODULE_CLASS)).toString());
+							writer.write(moduleInfo.accept(this.moduleClassGenerator, new ModuleClassGenerationContext(this.processingEnvironment.getTypeUtils(), this.processingEnvironment.getElementUtils(), GenerationMode.MODULE_CLASS, this.options.isLambdaFree())).toString());
 							writer.flush();
 						}
 
@@ -346,6 +349,30 @@ class ModuleGenerator {
 							e.printStackTrace();
 						}
 					}
+					
+					if(this.options.isGenerateClassList()) {
+						try {
+							FileObject moduleClassListFile;
+							try {
+								// module oriented
+								moduleClassListFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, moduleInfo.getQualifiedName().getValue() + "/", "META-INF/inverno/core/" + moduleInfo.getQualifiedName().getValue() + "/classlist", this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+							}
+							catch (FilerException e) {
+								// not module oriented after all
+								moduleClassListFile = this.processingEnvironment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/inverno/core/" + moduleInfo.getQualifiedName().getValue() + "/classlist", this.moduleOriginatingElements.get(moduleName).stream().toArray(Element[]::new));
+							}
+							try (Writer writer = moduleClassListFile.openWriter()) {
+								writer.write(this.moduleClassListGenerator.generate(moduleInfo));
+								writer.flush();
+							}
+						} 
+						catch (IOException e) {
+							this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Error generating Module class list " + moduleInfo.getQualifiedName() + ": " + e.getMessage());
+							if(this.options.isDebug()) {
+								e.printStackTrace();
+							}
+						}
+					}
 				}
 				roundGeneratedModules.put(moduleName, moduleInfo);
 			}
@@ -44,6 +44,8 @@ abstract class AbstractModuleBeanSocketInfo extends AbstractInfo<BeanSocketQuali
 	protected boolean optional;
 	
 	protected boolean lazy;
+	
+	protected boolean pooled;
 
 	public AbstractModuleBeanSocketInfo(ProcessingEnvironment processingEnvironment, 
 			Element element, 
@@ -86,4 +88,13 @@ abstract class AbstractModuleBeanSocketInfo extends AbstractInfo<BeanSocketQuali
 	public boolean isLazy() {
 		return this.lazy;
 	}
+	
+	@Override
+	public boolean isPooled() {
+		return this.pooled;
+	}
+	
+	void setPooled(boolean pooled) {
+		this.pooled = pooled;
+	}
 }
@@ -48,6 +48,10 @@ class CommonModuleBeanInfo extends AbstractBeanInfo implements ModuleBeanInfo {
 	private List<ExecutableElement> initElements;
 	
 	private List<ExecutableElement> destroyElements;
+	
+	private List<ExecutableElement> resetElements;
+	
+	private List<ExecutableElement> warmupElements;
 
 	private List<? extends NestedBeanInfo> nestedBeanInfos;
 	
@@ -83,6 +87,8 @@ class CommonModuleBeanInfo extends AbstractBeanInfo implements ModuleBeanInfo {
 		this.strategy = strategy != null ? strategy : Bean.Strategy.SINGLETON;
 		this.initElements = initElements != null ? Collections.unmodifiableList(initElements) : Collections.emptyList();
 		this.destroyElements = destroyElements != null ? Collections.unmodifiableList(destroyElements) : Collections.emptyList();
+		this.resetElements = Collections.emptyList();
+		this.warmupElements = Collections.emptyList();
 		this.nestedBeanInfos = Collections.emptyList();
 		this.socketInfos = beanSocketInfos != null ? Collections.unmodifiableList(beanSocketInfos) : Collections.emptyList();
 	}
@@ -111,6 +117,16 @@ class CommonModuleBeanInfo extends AbstractBeanInfo implements ModuleBeanInfo {
 	public ExecutableElement[] getDestroyElements() {
 		return this.destroyElements.stream().toArray(ExecutableElement[]::new);
 	}
+	
+	@Override
+	public ExecutableElement[] getResetElements() {
+		return this.resetElements.stream().toArray(ExecutableElement[]::new);
+	}
+	
+	@Override
+	public ExecutableElement[] getWarmupElements() {
+		return this.warmupElements.stream().toArray(ExecutableElement[]::new);
+	}
 
 	@Override
 	public ModuleBeanSocketInfo[] getSockets() {
@@ -127,6 +143,14 @@ class CommonModuleBeanInfo extends AbstractBeanInfo implements ModuleBeanInfo {
 		return this.socketInfos.stream().filter(socketInfo -> socketInfo.isOptional()).toArray(ModuleBeanSocketInfo[]::new);
 	}
 	
+	void setResetElements(List<ExecutableElement> resetElements) {
+		this.resetElements = resetElements != null ? Collections.unmodifiableList(resetElements) : Collections.emptyList();
+	}
+	
+	void setWarmupElements(List<ExecutableElement> warmupElements) {
+		this.warmupElements = warmupElements != null ? Collections.unmodifiableList(warmupElements) : Collections.emptyList();
+	}
+	
 	void setNestedBeanInfos(List<? extends NestedBeanInfo> nestedBeanInfos) {
 		this.nestedBeanInfos = nestedBeanInfos != null ? Collections.unmodifiableList(nestedBeanInfos) : Collections.emptyList();
 	}
@@ -18,9 +18,11 @@ package io.inverno.core.compiler.bean;
 import io.inverno.core.annotation.Bean;
 import io.inverno.core.annotation.BeanSocket;
 import io.inverno.core.annotation.Destroy;
+import io.inverno.core.annotation.Reset;
 import io.inverno.core.annotation.Init;
 import io.inverno.core.annotation.Overridable;
 import io.inverno.core.annotation.Provide;
+import io.inverno.core.annotation.Warmup;
 import io.inverno.core.annotation.Wrapper;
 import io.inverno.core.compiler.InvernoCompiler;
 import io.inverno.core.compiler.TypeErrorException;
@@ -203,6 +205,40 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 				return true;
 			}).collect(Collectors.toList());
 		
+		// Get Reset
+		boolean pooled = strategy == Bean.Strategy.POOLED;
+		List<ExecutableElement> resetElements = typeElement.getEnclosedElements().stream()
+			.filter(e -> e.getAnnotation(Reset.class) != null)
+			.map(e -> (ExecutableElement)e)
+			.filter(e -> {
+				if(e.getParameters().size() > 0) {
+					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Invalid " + Reset.class.getSimpleName() + " method which should be a no-argument method, it will be ignored", e);
+					return false;
+				}
+				else if(!pooled) {
+					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, Reset.class.getSimpleName() + " method is only invoked for " + Bean.Strategy.POOLED + " beans, it will be ignored", e);
+					return false;
+				}
+				return true;
+			}).collect(Collectors.toList());
+		
+		// Get Warmup
+		boolean singleton = strategy == Bean.Strategy.SINGLETON;
+		List<ExecutableElement> warmupElements = typeElement.getEnclosedElements().stream()
+			.filter(e -> e.getAnnotation(Warmup.class) != null)
+			.map(e -> (ExecutableElement)e)
+			.filter(e -> {
+				if(e.getParameters().size() > 0) {
+					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, "Invalid " + Warmup.class.getSimpleName() + " method which should be a no-argument method, it will be ignored", e);
+					return false;
+				}
+				else if(!singleton) {
+					this.processingEnvironment.getMessager().printMessage(Kind.MANDATORY_WARNING, Warmup.class.getSimpleName() + " method is only invoked for " + Bean.Strategy.SINGLETON + " beans, it will be ignored", e);
+					return false;
+				}
+				return true;
+			}).collect(Collectors.toList());
+		
 		// Get sockets...
 		List<ModuleBeanSocketInfo> beanSocketInfos = new ArrayList<>();
 		Map<String, ModuleBeanSocketInfo> requiredSocketByName = new HashMap<>();
@@ -329,11 +365,16 @@ class CompiledModuleBeanInfoFactory extends ModuleBeanInfoFactory {
 				beanReporter.error("A wrapper bean element must extend " + Supplier.class.getCanonicalName());
 			}
 			
+			if(pooled || strategy == Bean.Strategy.SCOPED) {
+				beanReporter.error("A wrapper bean can't be " + strategy);
+			}
 			moduleBeanInfo = new CompiledWrapperBeanInfo(this.processingEnvironment, typeElement, beanAnnotation.get(), beanQName, wrapperType, beanType, providedType, visibility, strategy, initElements, destroyElements, beanSocketInfos);
 		}
 		else {
 			moduleBeanInfo = new CommonModuleBeanInfo(this.processingEnvironment, typeElement, beanAnnotation.get(), beanQName, beanType, providedType, visibility, strategy, initElements, destroyElements, beanSocketInfos);
 		}
+		moduleBeanInfo.setResetElements(resetElements);
+		moduleBeanInfo.setWarmupElements(warmupElements);
 		
 		if(moduleBeanInfo.getProvidedType() != null && !this.processingEnvironment.getTypeUtils().isAssignable(moduleBeanInfo.getType(), moduleBeanInfo.getProvidedType())) {
 			this.processingEnvironment.getMessager().printMessage(Kind.ERROR, "Type " + providedType + " is incompatible with bean type " + moduleBeanInfo.getType(), typeElement, provideAnnotation.get());
@@ -90,6 +90,16 @@ class CompiledOverridableBeanInfo implements OverridableBeanInfo {
 	public ExecutableElement[] getDestroyElements() {
 		return this.overridableBeanInfo.getDestroyElements();
 	}
+	
+	@Override
+	public ExecutableElement[] getResetElements() {
+		return this.overridableBeanInfo.getResetElements();
+	}
+	
+	@Override
+	public ExecutableElement[] getWarmupElements() {
+		return this.overridableBeanInfo.getWarmupElements();
+	}
 
 	@Override
 	public ModuleBeanSocketInfo[] getSockets() {
@@ -24,6 +24,7 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.ModuleElement;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
@@ -50,10 +51,14 @@ import io.inverno.core.compiler.spi.SocketBeanInfo;
  */
 class ModuleBeanSocketInfoFactory extends AbstractSocketInfoFactory {
 
+	private static final String POOL_CLASS = "io.inverno.core.v1.Pool";
+
 	private BeanQualifiedName beanQName;
 	
 	private TypeMirror supplierType;
 	
+	private TypeMirror poolType;
+	
 	/**
 	 * 
 	 */
@@ -62,6 +67,8 @@ class ModuleBeanSocketInfoFactory extends AbstractSocketInfoFactory {
 		
 		this.beanQName = beanQName;
 		this.supplierType = this.processingEnvironment.getTypeUtils().erasure(this.processingEnvironment.getElementUtils().getTypeElement(Supplier.class.getCanonicalName()).asType());
+		TypeElement poolElement = this.processingEnvironment.getElementUtils().getTypeElement(POOL_CLASS);
+		this.poolType = poolElement != null ? this.processingEnvironment.getTypeUtils().erasure(poolElement.asType()) : null;
 	}
 
 	public static ModuleBeanSocketInfoFactory create(ProcessingEnvironment processingEnvironment, ModuleElement moduleElement, BeanQualifiedName beanQName) {
@@ -98,8 +105,20 @@ class ModuleBeanSocketInfoFactory extends AbstractSocketInfoFactory {
 		
 		boolean lazy = variableElement.getAnnotation(Lazy.class) != null;
 		TypeMirror socketType = variableElement.asType();
+		boolean pooled = this.poolType != null && this.processingEnvironment.getTypeUtils().isSameType(this.processingEnvironment.getTypeUtils().erasure(socketType), this.poolType);
+		if(pooled) {
+			if(lazy) {
+				this.processingEnvironment.getMessager().printMessage(Kind.ERROR, "Pool socket can't be lazy", variableElement);
+				return Optional.empty();
+			}
+			socketType = this.getPoolType(socketType);
+		}
 		MultiSocketType multiType = this.getMultiType(socketType);
 		if(multiType != null) {
+			if(pooled) {
+				this.processingEnvironment.getMessager().printMessage(Kind.ERROR, "Pool socket can't be a multiple socket", variableElement);
+				return Optional.empty();
+			}
 			socketType = this.getComponentType(socketType);
 			if(lazy) {
 				try {
@@ -131,12 +150,24 @@ class ModuleBeanSocketInfoFactory extends AbstractSocketInfoFactory {
 			}
 			// Check if socket type can be resolved otherwise dependency injection might fail
 			this.validateType(socketType);
+			CommonModuleBeanSingleSocketInfo socketInfo;
 			if(optional) {
-				return Optional.of(new CommonModuleBeanSingleSocketInfo(this.processingEnvironment, socketElement, socketQName, socketType, socketElement, selectors, optional, lazy));
+				socketInfo = new CommonModuleBeanSingleSocketInfo(this.processingEnvironment, socketElement, socketQName, socketType, socketElement, selectors, optional, lazy);
 			}
 			else {
-				return Optional.of(new CommonModuleBeanSingleSocketInfo(this.processingEnvironment, variableElement, socketQName, socketType, socketElement, selectors, optional, lazy));
+				socketInfo = new CommonModuleBeanSingleSocketInfo(this.processingEnvironment, variableElement, socketQName, socketType, socketElement, selectors, optional, lazy);
 			}
+			socketInfo.setPooled(pooled);
+			return Optional.of(socketInfo);
+		}
+	}
+	
+	private TypeMirror getPoolType(TypeMirror type) {
+		if(((DeclaredType)type).getTypeArguments().isEmpty()) {
+			return this.processingEnvironment.getElementUtils().getTypeElement(Object.class.getCanonicalName()).asType();
+		}
+		else {
+			return ((DeclaredType)type).getTypeArguments().get(0);
 		}
 	}
 	
@@ -15,12 +15,16 @@
  */
 package io.inverno.core.compiler.cycle;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.inverno.core.compiler.spi.BeanInfo;
 import io.inverno.core.compiler.spi.ModuleBeanInfo;
@@ -38,6 +42,12 @@ import io.inverno.core.compiler.spi.SocketInfo;
  * Detects cycles in a graph of beans.
  * </p>
  * 
+ * <p>
+ * The graph is traversed once in depth-first order following Tarjan's strongly connected components algorithm: each bean and each dependency (socket, nested bean providing bean, overridable
+ * bean overriding socket and component module socket bean) is visited exactly once. A cycle is reported every time a dependency leads to a bean on the current path or to an already visited
+ * bean of the strongly connected component being explored, the latter being closed by a breadth-first search limited to that component.
+ * </p>
+ * 
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  *
  */
@@ -55,61 +65,82 @@ public class BeanCycleDetector {
 	public List<List<CycleInfo>> findCycles() {		
 		CycleDetectionContext context = new CycleDetectionContext();
 		for(BeanInfo bean : this.beans) {
-			this.visitBean(bean, context);
+			if(bean != null && !context.isVisited(bean)) {
+				this.visitBean(bean, context);
+			}
 		}
 		return context.getCycles();
 	}
 	
 	private void visitBean(BeanInfo bean, CycleDetectionContext context) {
-		if(bean != null && !context.isVisited(bean)) {
-			if(context.isOnStack(bean)) {
-				context.addCycle(bean);
+		Deque<BeanNode> path = new ArrayDeque<>();
+		path.push(context.enter(bean, this.getDependencies(bean)));
+		while(!path.isEmpty()) {
+			BeanNode node = path.peek();
+			if(node.nextDependency < node.dependencies.size()) {
+				Dependency dependency = node.dependencies.get(node.nextDependency++);
+				BeanNode dependencyNode = context.getNode(dependency.bean);
+				if(dependencyNode == null) {
+					path.push(context.enter(dependency.bean, this.getDependencies(dependency.bean)));
+				}
+				else if(dependencyNode.onPath) {
+					context.addCycle(path, dependencyNode, List.of());
+					node.lowLink = Math.min(node.lowLink, dependencyNode.index);
+				}
+				else if(dependencyNode.onComponentStack) {
+					context.addCycle(path, dependencyNode);
+					node.lowLink = Math.min(node.lowLink, dependencyNode.index);
+				}
 			}
 			else {
-				context.pushBean(bean);
-				if(NestedBeanInfo.class.isAssignableFrom(bean.getClass())) {
-					context.pushSocket(null);
-					this.visitBean(((NestedBeanInfo)bean).getProvidingBean(), context);
-					context.popSocket();
+				path.pop();
+				context.exit(node);
+				if(!path.isEmpty()) {
+					path.peek().lowLink = Math.min(path.peek().lowLink, node.lowLink);
 				}
-				else if(ModuleBeanInfo.class.isAssignableFrom(bean.getClass())) {
-					for(SocketInfo socket : ((ModuleBeanInfo)bean).getSockets()) {
-						context.pushSocket(socket);
-						if(SingleSocketInfo.class.isAssignableFrom(socket.getClass())) {
-							this.visitBean(((SingleSocketInfo)socket).getBean(), context);
-						}
-						else if(MultiSocketInfo.class.isAssignableFrom(socket.getClass())) {
-							if(((MultiSocketInfo)socket).getBeans() != null) {
-								Arrays.stream(((MultiSocketInfo)socket).getBeans()).forEach(b -> this.visitBean(b, context));
-							}
-						}
-						context.popSocket();
-					}
-					if(OverridableBeanInfo.class.isAssignableFrom(bean.getClass())) {
-						OverridingSocketBeanInfo socket = ((OverridableBeanInfo)bean).getOverridingSocket();
-						context.pushSocket(socket);
-						this.visitBean(socket.getBean(), context);
-						context.popSocket();
-					}
-				}
-				else if(SocketBeanInfo.class.isAssignableFrom(bean.getClass())) {
-					context.pushSocket((SocketBeanInfo)bean);
-					if(!bean.getQualifiedName().getModuleQName().equals(this.moduleQName)) {
-						if(SingleSocketInfo.class.isAssignableFrom(bean.getClass())) {
-							this.visitBean(((SingleSocketInfo)bean).getBean(), context);
-						}
-						else if(MultiSocketInfo.class.isAssignableFrom(bean.getClass())) {
-							if(((MultiSocketInfo)bean).getBeans() != null) {
-								Arrays.stream(((MultiSocketInfo)bean).getBeans()).forEach(b -> this.visitBean(b, context));
-							}
-						}
-					}
-					context.popSocket();
+			}
+		}
+	}
+	
+	private List<Dependency> getDependencies(BeanInfo bean) {
+		List<Dependency> dependencies = new ArrayList<>();
+		if(NestedBeanInfo.class.isAssignableFrom(bean.getClass())) {
+			this.addDependency(dependencies, null, ((NestedBeanInfo)bean).getProvidingBean());
+		}
+		else if(ModuleBeanInfo.class.isAssignableFrom(bean.getClass())) {
+			for(SocketInfo socket : ((ModuleBeanInfo)bean).getSockets()) {
+				this.addDependencies(dependencies, socket, socket);
+			}
+			if(OverridableBeanInfo.class.isAssignableFrom(bean.getClass())) {
+				OverridingSocketBeanInfo socket = ((OverridableBeanInfo)bean).getOverridingSocket();
+				this.addDependency(dependencies, socket, socket.getBean());
+			}
+		}
+		else if(SocketBeanInfo.class.isAssignableFrom(bean.getClass())) {
+			if(!bean.getQualifiedName().getModuleQName().equals(this.moduleQName)) {
+				this.addDependencies(dependencies, (SocketBeanInfo)bean, (SocketInfo)bean);
+			}
+		}
+		return dependencies;
+	}
+	
+	private void addDependencies(List<Dependency> dependencies, SocketInfo socket, SocketInfo wiredSocket) {
+		if(SingleSocketInfo.class.isAssignableFrom(wiredSocket.getClass())) {
+			this.addDependency(dependencies, socket, ((SingleSocketInfo)wiredSocket).getBean());
+		}
+		else if(MultiSocketInfo.class.isAssignableFrom(wiredSocket.getClass())) {
+			if(((MultiSocketInfo)wiredSocket).getBeans() != null) {
+				for(BeanInfo wiredBean : ((MultiSocketInfo)wiredSocket).getBeans()) {
+					this.addDependency(dependencies, socket, wiredBean);
 				}
-				context.popBean();
-				context.setVisited(bean);
 			}
-		}		
+		}
+	}
+	
+	private void addDependency(List<Dependency> dependencies, SocketInfo socket, BeanInfo bean) {
+		if(bean != null) {
+			dependencies.add(new Dependency(socket, bean));
+		}
 	}
 	
 	/**
@@ -138,65 +169,194 @@ public class BeanCycleDetector {
 		}
 	}
 	
-	private class CycleDetectionContext {
-		private LinkedList<BeanInfo> beanStack = new LinkedList<>();
-		private LinkedList<SocketInfo> socketStack = new LinkedList<>();
-		
-		private List<List<CycleInfo>> cycles = new ArrayList<>();
+	/**
+	 * <p>
+	 * A dependency of a bean to another bean through a socket.
+	 * </p>
+	 * 
+	 * <p>
+	 * The socket is null when a nested bean depends on its providing bean.
+	 * </p>
+	 * 
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 *
+	 */
+	private static class Dependency {
 		
-		private Map<BeanInfo, List<BeanInfo>> visitedBeans = new HashMap<>();
+		private final SocketInfo socket;
 		
-		public void addCycle(BeanInfo bean) {
-			LinkedList<CycleInfo> cycle = new LinkedList<>();
-			for(int i=0;i<this.beanStack.size();i++) {
-				cycle.addFirst(new CycleInfo(this.beanStack.get(i), this.socketStack.get(i)));
-				if(bean.equals(this.beanStack.get(i))) {
-					break;
-				}
-			}
-			this.cycles.add(cycle);
+		private final BeanInfo bean;
+
+		public Dependency(SocketInfo socket, BeanInfo bean) {
+			this.socket = socket;
+			this.bean = bean;
 		}
+	}
+	
+	/**
+	 * <p>
+	 * A visited bean in the graph of beans.
+	 * </p>
+	 * 
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 *
+	 */
+	private static class BeanNode {
 		
-		public List<List<CycleInfo>> getCycles() {
-			return this.cycles;
+		private final BeanInfo bean;
+		
+		private final List<Dependency> dependencies;
+		
+		private final int index;
+		
+		private int lowLink;
+		
+		private int nextDependency;
+		
+		private boolean onPath;
+		
+		private boolean onComponentStack;
+
+		public BeanNode(BeanInfo bean, List<Dependency> dependencies, int index) {
+			this.bean = bean;
+			this.dependencies = dependencies;
+			this.index = index;
+			this.lowLink = index;
+			this.onPath = true;
+			this.onComponentStack = true;
 		}
 		
-		public void pushBean(BeanInfo bean) {
-			this.beanStack.push(bean);
+		public Dependency getCurrentDependency() {
+			return this.dependencies.get(this.nextDependency - 1);
 		}
+	}
+	
+	private class CycleDetectionContext {
+		
+		private Map<BeanInfo, BeanNode> nodes = new HashMap<>();
+		
+		private Deque<BeanNode> componentStack = new ArrayDeque<>();
+		
+		private List<List<CycleInfo>> cycles = new ArrayList<>();
+		
+		private Set<List<Object>> cycleKeys = new HashSet<>();
 		
-		public void pushSocket(SocketInfo socket) {
-			this.socketStack.push(socket);
+		public boolean isVisited(BeanInfo bean) {
+			return this.nodes.containsKey(bean);
 		}
 		
-		public void popBean() {
-			this.beanStack.pop();
+		public BeanNode getNode(BeanInfo bean) {
+			return this.nodes.get(bean);
 		}
 		
-		public void popSocket() {
-			this.socketStack.pop();
+		public BeanNode enter(BeanInfo bean, List<Dependency> dependencies) {
+			BeanNode node = new BeanNode(bean, dependencies, this.nodes.size());
+			this.nodes.put(bean, node);
+			this.componentStack.push(node);
+			return node;
 		}
 		
-		public boolean isOnStack(BeanInfo bean) {
-			return this.beanStack.contains(bean);
+		public void exit(BeanNode node) {
+			node.onPath = false;
+			if(node.lowLink == node.index) {
+				// node is the root of a strongly connected component which is now complete
+				BeanNode componentNode;
+				do {
+					componentNode = this.componentStack.pop();
+					componentNode.onComponentStack = false;
+				} while(componentNode != node);
+			}
 		}
 		
-		public boolean isVisited(BeanInfo bean) {
-			if(this.visitedBeans.containsKey(bean) && !this.beanStack.isEmpty()) {
-				return this.visitedBeans.get(bean).contains(this.beanStack.peek());
+		/**
+		 * <p>
+		 * Adds the cycle formed by the current dependency of the last bean in the path which leads to a bean already visited in the strongly connected component being explored.
+		 * </p>
+		 * 
+		 * <p>
+		 * The cycle is closed by the shortest path from that bean to a bean on the current path, such a path necessarily exists and only goes through beans in the component.
+		 * </p>
+		 * 
+		 * @param path           the current path
+		 * @param dependencyNode the visited bean
+		 */
+		public void addCycle(Deque<BeanNode> path, BeanNode dependencyNode) {
+			Map<BeanNode, Dependency> parents = new HashMap<>();
+			Map<BeanNode, BeanNode> parentNodes = new HashMap<>();
+			Deque<BeanNode> queue = new ArrayDeque<>();
+			queue.add(dependencyNode);
+			parents.put(dependencyNode, null);
+			BeanNode pathNode = null;
+			while(pathNode == null && !queue.isEmpty()) {
+				BeanNode node = queue.poll();
+				for(Dependency dependency : node.dependencies) {
+					BeanNode nextNode = this.nodes.get(dependency.bean);
+					if(nextNode != null && nextNode.onComponentStack && !parents.containsKey(nextNode)) {
+						parents.put(nextNode, dependency);
+						parentNodes.put(nextNode, node);
+						if(nextNode.onPath) {
+							pathNode = nextNode;
+							break;
+						}
+						queue.add(nextNode);
+					}
+				}
+			}
+			if(pathNode != null) {
+				LinkedList<CycleInfo> closingPath = new LinkedList<>();
+				BeanNode node = pathNode;
+				while(node != dependencyNode) {
+					BeanNode parentNode = parentNodes.get(node);
+					closingPath.addFirst(new CycleInfo(parentNode.bean, parents.get(node).socket));
+					node = parentNode;
+				}
+				this.addCycle(path, pathNode, closingPath);
 			}
-			return false;
 		}
 		
-		public void setVisited(BeanInfo bean) {
-			if(!this.beanStack.isEmpty()) {
-				List<BeanInfo> fromBeans = this.visitedBeans.get(bean);
-				if(fromBeans == null) {
-					fromBeans = new ArrayList<>();
-					this.visitedBeans.put(bean,  fromBeans);
+		/**
+		 * <p>
+		 * Adds the cycle formed by the beans in the current path from the specified bean to the last bean in the path followed by the specified closing path.
+		 * </p>
+		 * 
+		 * @param path        the current path
+		 * @param pathNode    the first bean of the cycle in the current path
+		 * @param closingPath the beans leading back to the first bean of the cycle
+		 */
+		public void addCycle(Deque<BeanNode> path, BeanNode pathNode, List<CycleInfo> closingPath) {
+			LinkedList<CycleInfo> cycle = new LinkedList<>();
+			Iterator<BeanNode> pathIterator = path.iterator();
+			BeanNode node;
+			do {
+				node = pathIterator.next();
+				cycle.addFirst(new CycleInfo(node.bean, node.getCurrentDependency().socket));
+			} while(node != pathNode);
+			cycle.addAll(closingPath);
+			
+			// The same cycle can be closed by different dependencies
+			CycleInfo first = cycle.get(0);
+			int firstIndex = this.nodes.get(first.beanInfo).index;
+			for(int i=1;i<cycle.size();i++) {
+				int index = this.nodes.get(cycle.get(i).beanInfo).index;
+				if(index < firstIndex) {
+					first = cycle.get(i);
+					firstIndex = index;
 				}
-				fromBeans.add(this.beanStack.peek());
 			}
+			List<Object> cycleKey = new ArrayList<>();
+			int firstPosition = cycle.indexOf(first);
+			for(int i=0;i<cycle.size();i++) {
+				CycleInfo cycleInfo = cycle.get((firstPosition + i) % cycle.size());
+				cycleKey.add(cycleInfo.beanInfo);
+				cycleKey.add(cycleInfo.socketInfo);
+			}
+			if(this.cycleKeys.add(cycleKey)) {
+				this.cycles.add(cycle);
+			}
+		}
+		
+		public List<List<CycleInfo>> getCycles() {
+			return this.cycles;
 		}
 	}
 }
@@ -33,6 +33,7 @@ import javax.lang.model.element.ModuleElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 
+import io.inverno.core.annotation.Bean;
 import io.inverno.core.annotation.Wire;
 import io.inverno.core.annotation.Wires;
 import io.inverno.core.compiler.common.MutableMultiSocketInfo;
@@ -224,6 +225,10 @@ class CompiledModuleInfoBuilder extends AbstractModuleInfoBuilder {
 		
 		BiConsumer<BeanInfo, SocketInfo> resolvedBeanPostProcessor = (beanInfo, socketInfo) -> {
 			if(beanInfo != null) {
+				if(beanInfo instanceof ModuleBeanInfo && ((ModuleBeanInfo)beanInfo).getStrategy() == Bean.Strategy.POOLED && !(socketInfo instanceof ModuleBeanSocketInfo && ((ModuleBeanSocketInfo)socketInfo).isPooled())) {
+					// Instances injected into any other socket would never be returned to the pool
+					socketInfo.error("Pooled bean " + beanInfo.getQualifiedName() + " can only be wired into a socket of type io.inverno.core.v1.Pool<" + beanInfo.getType() + ">");
+				}
 				BeanInfo actualBeanInfo = beanInfo;
 				while(actualBeanInfo instanceof NestedBeanInfo) {
 					actualBeanInfo = ((NestedBeanInfo)actualBeanInfo).getProvidingBean();
@@ -16,9 +16,15 @@
 package io.inverno.core.compiler.module;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import io.inverno.core.compiler.socket.WirableSocketBeanInfo;
 import io.inverno.core.compiler.spi.BeanInfo;
@@ -48,153 +54,342 @@ import io.inverno.core.compiler.spi.WrapperBeanInfo;
  * dependency cycles when a module is used as a component module
  * </p>
  * 
+ * <p>
+ * The beans a socket bean is wired to are accumulated while traversing the
+ * graph from each module bean: a socket bean is wired to all the beans visited
+ * before it in the traversal including the beans already wired to the socket
+ * beans visited before it.
+ * </p>
+ * 
+ * <p>
+ * A bean is expanded only once per traversal: visiting a bean again can't add
+ * any bean to the traversal, it only wires the socket beans reachable from that
+ * bean to the beans visited so far. Each visit of the visitor returns these
+ * socket beans, results are memoized per bean so that beans shared by multiple
+ * dependents are traversed only once.
+ * </p>
+ * 
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  *
  */
-class ModuleBeanSocketWireResolver implements ModuleInfoVisitor<Void, Set<BeanQualifiedName>> {
+class ModuleBeanSocketWireResolver implements ModuleInfoVisitor<Set<SocketBeanInfo>, Void> {
 
 	private ModuleQualifiedName moduleQName;
 	
+	private Map<BeanInfo, Set<SocketBeanInfo>> socketBeansByBean;
+	
 	@Override
-	public Void visit(ModuleInfo moduleInfo, Set<BeanQualifiedName> wiredBeans) {
+	public Set<SocketBeanInfo> visit(ModuleInfo moduleInfo, Void p) {
 		this.moduleQName = moduleInfo.getQualifiedName();
-		Arrays.stream(moduleInfo.getBeans()).forEach(bean -> {
-			this.visit(bean, new HashSet<>());
-		});
+		this.socketBeansByBean = new IdentityHashMap<>();
+		
+		for(ModuleBeanInfo bean : moduleInfo.getBeans()) {
+			// A module bean is not wired to its own overriding socket
+			Traversal traversal = new Traversal();
+			traversal.visitedBeans.add(bean);
+			this.traverseSockets(bean, traversal);
+			traversal.wireSocketBeans();
+		}
+		this.socketBeansByBean = null;
 		return null;
 	}
-
-	@Override
-	public Void visit(BeanInfo beanInfo, Set<BeanQualifiedName> wiredBeans) {
+	
+	/**
+	 * <p>
+	 * Traverses the specified bean.
+	 * </p>
+	 * 
+	 * @param beanInfo  a bean
+	 * @param traversal the current traversal
+	 */
+	private void traverse(BeanInfo beanInfo, Traversal traversal) {
 		// Optional unresolved sockets
 		if(beanInfo == null) {
-			return null;
+			return;
+		}
+		if(!traversal.visitedBeans.add(beanInfo)) {
+			for(SocketBeanInfo socketBean : this.visit(beanInfo, null)) {
+				traversal.wire(socketBean);
+			}
 		}
 		else if(NestedBeanInfo.class.isAssignableFrom(beanInfo.getClass())) {
-			return this.visit((NestedBeanInfo)beanInfo, wiredBeans);
+			this.traverse(((NestedBeanInfo)beanInfo).getProvidingBean(), traversal);
 		}
 		else if(OverridableBeanInfo.class.isAssignableFrom(beanInfo.getClass())) {
-			return this.visit((OverridableBeanInfo)beanInfo, wiredBeans);
+			this.traverse(((OverridableBeanInfo)beanInfo).getOverridingSocket(), traversal);
+			this.traverseSockets((ModuleBeanInfo)beanInfo, traversal);
 		}
 		else if(ModuleBeanInfo.class.isAssignableFrom(beanInfo.getClass())) {
-			return this.visit((ModuleBeanInfo)beanInfo, wiredBeans);
+			this.traverseSockets((ModuleBeanInfo)beanInfo, traversal);
 		}
 		else if(SocketBeanInfo.class.isAssignableFrom(beanInfo.getClass())) {
-			return this.visit((SocketBeanInfo)beanInfo, wiredBeans);
+			SocketBeanInfo socketBeanInfo = (SocketBeanInfo)beanInfo;
+			if(socketBeanInfo.getQualifiedName().getModuleQName().equals(this.moduleQName)) {
+				// this module
+				traversal.wiredBeans.addAll(Arrays.asList(socketBeanInfo.getWiredBeans()));
+				traversal.wire(socketBeanInfo);
+			}
+			// component module
+			else if(SingleSocketBeanInfo.class.isAssignableFrom(socketBeanInfo.getClass())) {
+				this.traverse(((SingleSocketBeanInfo)socketBeanInfo).getBean(), traversal);
+			}
+			else if(MultiSocketBeanInfo.class.isAssignableFrom(socketBeanInfo.getClass()) && ((MultiSocketBeanInfo)socketBeanInfo).getBeans() != null) {
+				for(BeanInfo bean : ((MultiSocketBeanInfo)socketBeanInfo).getBeans()) {
+					this.traverse(bean, traversal);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Adds the specified module bean to the traversal and traverses the beans wired to its sockets.
+	 * </p>
+	 * 
+	 * @param moduleBeanInfo a module bean
+	 * @param traversal      the current traversal
+	 */
+	private void traverseSockets(ModuleBeanInfo moduleBeanInfo, Traversal traversal) {
+		traversal.wiredBeans.add(moduleBeanInfo.getQualifiedName());
+		for(ModuleBeanSocketInfo socket : moduleBeanInfo.getSockets()) {
+			if(ModuleBeanSingleSocketInfo.class.isAssignableFrom(socket.getClass())) {
+				this.traverse(((ModuleBeanSingleSocketInfo)socket).getBean(), traversal);
+			}
+			else if(ModuleBeanMultiSocketInfo.class.isAssignableFrom(socket.getClass()) && ((ModuleBeanMultiSocketInfo)socket).getBeans() != null) {
+				for(BeanInfo bean : ((ModuleBeanMultiSocketInfo)socket).getBeans()) {
+					this.traverse(bean, traversal);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * A traversal of the bean graph from a module bean.
+	 * </p>
+	 * 
+	 * <p>
+	 * Socket beans are wired once the traversal is over to the beans visited before their last visit, this is equivalent to wiring them on each visit since the set of visited beans only
+	 * grows and since the beans wired to a socket bean are only read on its first visit.
+	 * </p>
+	 * 
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 *
+	 */
+	private class Traversal {
+		
+		/**
+		 * The beans visited during the traversal in visit order.
+		 */
+		private final Set<BeanQualifiedName> wiredBeans = new LinkedHashSet<>();
+		
+		/**
+		 * The beans expanded during the traversal.
+		 */
+		private final Set<BeanInfo> visitedBeans = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		/**
+		 * The number of beans visited before the last visit of each socket bean.
+		 */
+		private final Map<SocketBeanInfo, Integer> wiredBeansCountBySocketBean = new IdentityHashMap<>();
+		
+		/**
+		 * <p>
+		 * Wires the specified socket bean to the beans visited so far.
+		 * </p>
+		 * 
+		 * @param socketBean a module socket bean
+		 */
+		private void wire(SocketBeanInfo socketBean) {
+			this.wiredBeansCountBySocketBean.put(socketBean, this.wiredBeans.size());
+		}
+		
+		/**
+		 * <p>
+		 * Sets the beans the socket beans visited during the traversal are wired to.
+		 * </p>
+		 */
+		private void wireSocketBeans() {
+			this.wiredBeansCountBySocketBean.forEach((socketBean, count) -> {
+				// Rebuild the set the way it was accumulated so that the iteration order of the resulting set is deterministic
+				Set<BeanQualifiedName> socketWiredBeans = new HashSet<>();
+				this.wiredBeans.stream().limit(count).forEach(socketWiredBeans::add);
+				((WirableSocketBeanInfo)socketBean).setWiredBeans(socketWiredBeans.stream().filter(beanQName -> beanQName.getModuleQName().equals(ModuleBeanSocketWireResolver.this.moduleQName)).collect(Collectors.toSet()));
+			});
 		}
-		return null;
 	}
 	
+	/**
+	 * <p>
+	 * Returns the module's socket beans reachable from the sockets of the specified module bean.
+	 * </p>
+	 * 
+	 * @param moduleBeanInfo a module bean
+	 * 
+	 * @return a set of socket beans
+	 */
+	private Set<SocketBeanInfo> visitSockets(ModuleBeanInfo moduleBeanInfo) {
+		return this.union(Arrays.stream(moduleBeanInfo.getSockets()), socket -> this.visit(socket, null));
+	}
+	
+	/**
+	 * <p>
+	 * Returns the union of the socket beans reachable from the specified elements.
+	 * </p>
+	 * 
+	 * @param <T>      the type of element
+	 * @param elements the elements
+	 * @param visitor  the visitor function returning the socket beans reachable from an element
+	 * 
+	 * @return a set of socket beans
+	 */
+	private <T> Set<SocketBeanInfo> union(Stream<T> elements, Function<T, Set<SocketBeanInfo>> visitor) {
+		Set<SocketBeanInfo> result = null;
+		for(T element : (Iterable<T>)elements::iterator) {
+			Set<SocketBeanInfo> socketBeans = visitor.apply(element);
+			if(result == null) {
+				result = socketBeans;
+			}
+			else if(!socketBeans.isEmpty() && !result.containsAll(socketBeans)) {
+				if(result.size() < socketBeans.size() && socketBeans.containsAll(result)) {
+					result = socketBeans;
+				}
+				else {
+					Set<SocketBeanInfo> mergedSocketBeans = Collections.newSetFromMap(new IdentityHashMap<>());
+					mergedSocketBeans.addAll(result);
+					mergedSocketBeans.addAll(socketBeans);
+					result = mergedSocketBeans;
+				}
+			}
+		}
+		return result != null ? result : Set.of();
+	}
+
 	@Override
-	public Void visit(NestedBeanInfo nestedBeanInfo, Set<BeanQualifiedName> wiredBeans) {
-		return this.visit(nestedBeanInfo.getProvidingBean(), wiredBeans);
+	public Set<SocketBeanInfo> visit(BeanInfo beanInfo, Void p) {
+		// Optional unresolved sockets
+		if(beanInfo == null) {
+			return Set.of();
+		}
+		Set<SocketBeanInfo> result = this.socketBeansByBean.get(beanInfo);
+		if(result == null) {
+			// Guard against cycles which are reported before resolving wires
+			this.socketBeansByBean.put(beanInfo, Set.of());
+			if(NestedBeanInfo.class.isAssignableFrom(beanInfo.getClass())) {
+				result = this.visit((NestedBeanInfo)beanInfo, p);
+			}
+			else if(OverridableBeanInfo.class.isAssignableFrom(beanInfo.getClass())) {
+				result = this.visit((OverridableBeanInfo)beanInfo, p);
+			}
+			else if(ModuleBeanInfo.class.isAssignableFrom(beanInfo.getClass())) {
+				result = this.visit((ModuleBeanInfo)beanInfo, p);
+			}
+			else if(SocketBeanInfo.class.isAssignableFrom(beanInfo.getClass())) {
+				result = this.visit((SocketBeanInfo)beanInfo, p);
+			}
+			else {
+				result = Set.of();
+			}
+			this.socketBeansByBean.put(beanInfo, result);
+		}
+		return result;
+	}
+	
+	@Override
+	public Set<SocketBeanInfo> visit(NestedBeanInfo nestedBeanInfo, Void p) {
+		return this.visit(nestedBeanInfo.getProvidingBean(), p);
 	}
 
 	@Override
-	public Void visit(ModuleBeanInfo moduleBeanInfo, Set<BeanQualifiedName> wiredBeans) {
-		wiredBeans.add(moduleBeanInfo.getQualifiedName());
-		Arrays.stream(moduleBeanInfo.getSockets()).forEach(socket -> this.visit(socket, wiredBeans));
-		
-		return null;
+	public Set<SocketBeanInfo> visit(ModuleBeanInfo moduleBeanInfo, Void p) {
+		return this.visitSockets(moduleBeanInfo);
 	}
 
 	@Override
-	public Void visit(WrapperBeanInfo wrapperBeanInfo, Set<BeanQualifiedName> wiredBeans) {
-		return this.visit((ModuleBeanInfo)wrapperBeanInfo, wiredBeans);
+	public Set<SocketBeanInfo> visit(WrapperBeanInfo wrapperBeanInfo, Void p) {
+		return this.visit((ModuleBeanInfo)wrapperBeanInfo, p);
 	}
 	
 	@Override
-	public Void visit(OverridableBeanInfo overridableBeanInfo, Set<BeanQualifiedName> wiredBeans) {
-		this.visit(overridableBeanInfo.getOverridingSocket(), wiredBeans);
-		this.visit((ModuleBeanInfo)overridableBeanInfo, wiredBeans);
-		return null;
+	public Set<SocketBeanInfo> visit(OverridableBeanInfo overridableBeanInfo, Void p) {
+		// The overridable bean itself is not wired to its overriding socket but the beans depending on it are 
+		return this.union(Stream.of(this.visit(overridableBeanInfo.getOverridingSocket(), p), this.visit((ModuleBeanInfo)overridableBeanInfo, p)), Function.identity());
 	}
 	
 	@Override
-	public Void visit(ModuleBeanSocketInfo beanSocketInfo, Set<BeanQualifiedName> wiredBeans) {
+	public Set<SocketBeanInfo> visit(ModuleBeanSocketInfo beanSocketInfo, Void p) {
 		if(ModuleBeanSingleSocketInfo.class.isAssignableFrom(beanSocketInfo.getClass())) {
-			return this.visit((ModuleBeanSingleSocketInfo)beanSocketInfo, wiredBeans);
+			return this.visit((ModuleBeanSingleSocketInfo)beanSocketInfo, p);
 		}
 		else if(ModuleBeanMultiSocketInfo.class.isAssignableFrom(beanSocketInfo.getClass())) {
-			return this.visit((ModuleBeanMultiSocketInfo)beanSocketInfo, wiredBeans);
+			return this.visit((ModuleBeanMultiSocketInfo)beanSocketInfo, p);
 		}
-		return null;
+		return Set.of();
 	}
 
 	@Override
-	public Void visit(ModuleBeanSingleSocketInfo beanSingleSocketInfo, Set<BeanQualifiedName> wiredBeans) {
-		if(beanSingleSocketInfo.getBean() != null) {
-			this.visit(beanSingleSocketInfo.getBean(), wiredBeans);
-		}
-		return null;
+	public Set<SocketBeanInfo> visit(ModuleBeanSingleSocketInfo beanSingleSocketInfo, Void p) {
+		return this.visit(beanSingleSocketInfo.getBean(), p);
 	}
 
 	@Override
-	public Void visit(ModuleBeanMultiSocketInfo beanMultiSocketInfo, Set<BeanQualifiedName> wiredBeans) {
+	public Set<SocketBeanInfo> visit(ModuleBeanMultiSocketInfo beanMultiSocketInfo, Void p) {
 		if(beanMultiSocketInfo.getBeans() != null) {
-			Arrays.stream(beanMultiSocketInfo.getBeans()).forEach(bean -> this.visit(bean, wiredBeans));
+			return this.union(Arrays.stream(beanMultiSocketInfo.getBeans()), bean -> this.visit(bean, p));
 		}
-		return null;
+		return Set.of();
 	}
 
 	@Override
-	public Void visit(SocketBeanInfo moduleSocketInfo, Set<BeanQualifiedName> wiredBeans) {
+	public Set<SocketBeanInfo> visit(SocketBeanInfo moduleSocketInfo, Void p) {
 		if(moduleSocketInfo.getQualifiedName().getModuleQName().equals(this.moduleQName)) {
 			// this module
-			wiredBeans.addAll(Arrays.asList(moduleSocketInfo.getWiredBeans()));
-			((WirableSocketBeanInfo)moduleSocketInfo).setWiredBeans(wiredBeans.stream().filter(beanQName -> beanQName.getModuleQName().equals(this.moduleQName)).collect(Collectors.toSet()));
+			Set<SocketBeanInfo> result = Collections.newSetFromMap(new IdentityHashMap<>());
+			result.add(moduleSocketInfo);
+			return Collections.unmodifiableSet(result);
 		}
 		else {
 			// component module
 			if(SingleSocketBeanInfo.class.isAssignableFrom(moduleSocketInfo.getClass())) {
-				return this.visit((SingleSocketBeanInfo)moduleSocketInfo, wiredBeans);
+				return this.visit((SingleSocketBeanInfo)moduleSocketInfo, p);
 			}
 			else if(MultiSocketBeanInfo.class.isAssignableFrom(moduleSocketInfo.getClass())) {
-				return this.visit((MultiSocketBeanInfo)moduleSocketInfo, wiredBeans);
+				return this.visit((MultiSocketBeanInfo)moduleSocketInfo, p);
 			}
 		}
-		return null;
+		return Set.of();
 	}
 
 	@Override
-	public Void visit(SingleSocketBeanInfo moduleSingleSocketInfo, Set<BeanQualifiedName> wiredBeans) {
-		if(moduleSingleSocketInfo.getBean() != null) {
-			/*wiredBeans.addAll(Arrays.stream(moduleSingleSocketInfo.getWiredBeans())
-				.filter(beanQName -> beanQName.getModuleQName().equals(this.moduleQName))
-				.collect(Collectors.toList()));*/
-			this.visit(moduleSingleSocketInfo.getBean(), wiredBeans);
-		}
-		return null;
+	public Set<SocketBeanInfo> visit(SingleSocketBeanInfo moduleSingleSocketInfo, Void p) {
+		return this.visit(moduleSingleSocketInfo.getBean(), p);
 	}
 
 	@Override
-	public Void visit(MultiSocketBeanInfo moduleMultiSocketInfo, Set<BeanQualifiedName> wiredBeans) {
+	public Set<SocketBeanInfo> visit(MultiSocketBeanInfo moduleMultiSocketInfo, Void p) {
 		if(moduleMultiSocketInfo.getBeans() != null) {
-			/*wiredBeans.addAll(Arrays.stream(moduleMultiSocketInfo.getWiredBeans())
-				.filter(beanQName -> beanQName.getModuleQName().equals(this.moduleQName))
-				.collect(Collectors.toList()));*/
-			Arrays.stream(moduleMultiSocketInfo.getBeans()).forEach(bean -> this.visit(bean, wiredBeans));
+			return this.union(Arrays.stream(moduleMultiSocketInfo.getBeans()), bean -> this.visit(bean, p));
 		}
-		return null;
+		return Set.of();
 	}
 	
 	@Override
-	public Void visit(OverridingSocketBeanInfo overridingSocketBeanInfo, Set<BeanQualifiedName> wiredBeans) {
-		return this.visit((SocketBeanInfo)overridingSocketBeanInfo, wiredBeans);
+	public Set<SocketBeanInfo> visit(OverridingSocketBeanInfo overridingSocketBeanInfo, Void p) {
+		return this.visit((SocketBeanInfo)overridingSocketBeanInfo, p);
 	}
 
 	@Override
-	public Void visit(SocketInfo socketInfo, Set<BeanQualifiedName> wiredBeans) {
-		return null;
+	public Set<SocketBeanInfo> visit(SocketInfo socketInfo, Void p) {
+		return Set.of();
 	}
 
 	@Override
-	public Void visit(SingleSocketInfo singleSocketInfo, Set<BeanQualifiedName> wiredBeans) {
-		return null;
+	public Set<SocketBeanInfo> visit(SingleSocketInfo singleSocketInfo, Void p) {
+		return Set.of();
 	}
 
 	@Override
-	public Void visit(MultiSocketInfo multiSocketInfo, Set<BeanQualifiedName> wiredBeans) {
-		return null;
+	public Set<SocketBeanInfo> visit(MultiSocketInfo multiSocketInfo, Void p) {
+		return Set.of();
 	}
 }
@@ -80,6 +80,28 @@ public interface ModuleBeanInfo extends BeanInfo {
 	 * @return an array of executable elements
 	 */
 	ExecutableElement[] getDestroyElements();
+	
+	/**
+	 * <p>
+	 * Returns the methods that should be invoked to reset a bean instance returned to the pool of a pooled bean.
+	 * </p>
+	 * 
+	 * @return an array of executable elements
+	 * 
+	 * @since 1.6
+	 */
+	ExecutableElement[] getResetElements();
+	
+	/**
+	 * <p>
+	 * Returns the methods that should be invoked to warm up a singleton bean instance once the module has been started.
+	 * </p>
+	 * 
+	 * @return an array of executable elements
+	 * 
+	 * @since 1.6
+	 */
+	ExecutableElement[] getWarmupElements();
 
 	/**
 	 * <p>
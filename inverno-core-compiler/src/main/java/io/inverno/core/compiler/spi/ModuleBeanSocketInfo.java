@@ -46,4 +46,19 @@ public interface ModuleBeanSocketInfo extends SocketInfo {
 	 * @return true if the socket is a lazy socket, false otherwise
 	 */
 	boolean isLazy();
+	
+	/**
+	 * <p>
+	 * Determines whether the socket is a pool socket.
+	 * </p>
+	 * 
+	 * <p>
+	 * A pool socket is declared with type {@code io.inverno.core.v1.Pool<T>}, the socket type is then the type of the pooled instances.
+	 * </p>
+	 * 
+	 * @return true if the socket is a pool socket, false otherwise
+	 * 
+	 * @since 1.6
+	 */
+	boolean isPooled();
 }
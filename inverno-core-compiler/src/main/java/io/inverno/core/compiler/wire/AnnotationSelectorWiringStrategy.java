@@ -16,7 +16,9 @@
 package io.inverno.core.compiler.wire;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.AnnotationMirror;
@@ -53,15 +55,28 @@ public class AnnotationSelectorWiringStrategy implements WiringStrategy {
 	
 	@Override
 	public boolean isWirable(BeanInfo bean, SocketInfo socket) {
-		return Arrays.stream(socket.getSelectors())
-			.filter(selector -> this.processingEnvironment.getTypeUtils().isSameType(selector.getAnnotationType(), this.annotationSelectorAnnotationType))
-			.allMatch(annotationSelector -> {
-				final TypeMirror annotionTypeToSelect = this.getAnnotationTypeToSelect(annotationSelector);
+		return this.getAnnotationTypesToSelect(socket).stream()
+			.allMatch(annotionTypeToSelect -> {
 				return this.processingEnvironment.getTypeUtils().asElement(bean.getType()).getAnnotationMirrors().stream()
 					.anyMatch(a -> this.processingEnvironment.getTypeUtils().isSameType(a.getAnnotationType(), annotionTypeToSelect));
 			});
 	}
-
+	
+	/**
+	 * <p>
+	 * Returns the annotation types a bean must be annotated with to be wired into the specified socket.
+	 * </p>
+	 * 
+	 * @param socket a socket
+	 * 
+	 * @return a list of annotation types
+	 */
+	List<TypeMirror> getAnnotationTypesToSelect(SocketInfo socket) {
+		return Arrays.stream(socket.getSelectors())
+			.filter(selector -> this.processingEnvironment.getTypeUtils().isSameType(selector.getAnnotationType(), this.annotationSelectorAnnotationType))
+			.map(this::getAnnotationTypeToSelect)
+			.collect(Collectors.toList());
+	}
 	
 	private TypeMirror getAnnotationTypeToSelect(AnnotationMirror annotationSelector) {
 		for(Entry<? extends ExecutableElement, ? extends AnnotationValue> value : this.processingEnvironment.getElementUtils().getElementValuesWithDefaults(annotationSelector).entrySet()) {
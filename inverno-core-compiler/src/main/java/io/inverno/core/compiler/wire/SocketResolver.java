@@ -17,11 +17,23 @@ package io.inverno.core.compiler.wire;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
 
 import io.inverno.core.annotation.Wire;
 import io.inverno.core.compiler.spi.BeanInfo;
@@ -39,6 +51,14 @@ import io.inverno.core.compiler.spi.WiringStrategy;
  * is at the heart of Inverno dependency injection mechanism.
  * </p>
  * 
+ * <p>
+ * Beans are indexed once when the resolver is created by the erased types they
+ * can be assigned to (their class, superclasses and interfaces) and by the
+ * annotations present on their type. When autowiring a socket, only the beans
+ * indexed under the erased type of the socket and annotated with the
+ * annotations selected by the socket are actually checked for assignability.
+ * </p>
+ * 
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  *
  */
@@ -52,18 +72,161 @@ public class SocketResolver {
 	
 	private Map<BeanQualifiedName, List<BeanInfo>> beansByQName;
 	
+	private TypeWiringStrategy typeWiringStrategy;
+	
+	private AnnotationSelectorWiringStrategy annotationSelectorWiringStrategy;
+	
 	private List<WiringStrategy> selectorWiringStrategies;
 	
+	private Map<String, Set<String>> supertypeNamesByTypeName;
+	
+	private Map<String, BitSet> beansByTypeName;
+	
+	private BitSet unindexedBeans;
+	
+	private Map<String, BitSet> beansByAnnotationName;
+	
 	public SocketResolver(ProcessingEnvironment processingEnvironment, ModuleQualifiedName moduleQName, List<? extends BeanInfo> beans) {
 		this.processingEnvironment = processingEnvironment;
 		this.moduleQName = moduleQName;
 		this.beans = beans;
 		this.beansByQName = beans.stream().collect(Collectors.groupingBy(bean -> bean.getQualifiedName()));
 		
-		this.selectorWiringStrategies = List.of(
-			new TypeWiringStrategy(this.processingEnvironment, this.moduleQName), 
-			new AnnotationSelectorWiringStrategy(this.processingEnvironment)
-		);
+		this.typeWiringStrategy = new TypeWiringStrategy(this.processingEnvironment, this.moduleQName);
+		this.annotationSelectorWiringStrategy = new AnnotationSelectorWiringStrategy(this.processingEnvironment);
+		this.selectorWiringStrategies = List.of(this.typeWiringStrategy, this.annotationSelectorWiringStrategy);
+		
+		this.indexBeans();
+	}
+	
+	/**
+	 * <p>
+	 * Indexes the beans by the erased types they can be assigned to and by the
+	 * annotations present on their type.
+	 * </p>
+	 * 
+	 * <p>
+	 * Beans whose type is not a declared type (eg. arrays or type variables) are
+	 * not indexed by type and always considered as candidates.
+	 * </p>
+	 */
+	private void indexBeans() {
+		this.supertypeNamesByTypeName = new HashMap<>();
+		this.beansByTypeName = new HashMap<>();
+		this.unindexedBeans = new BitSet();
+		this.beansByAnnotationName = new HashMap<>();
+		
+		for(int i=0;i<this.beans.size();i++) {
+			BeanInfo bean = this.beans.get(i);
+			
+			TypeMirror wiringType = this.typeWiringStrategy.getWiringType(bean);
+			if(wiringType.getKind() == TypeKind.WILDCARD && ((WildcardType)wiringType).getExtendsBound() != null) {
+				wiringType = ((WildcardType)wiringType).getExtendsBound();
+			}
+			if(wiringType.getKind() == TypeKind.DECLARED) {
+				for(String typeName : this.getSupertypeNames((DeclaredType)wiringType)) {
+					this.beansByTypeName.computeIfAbsent(typeName, ign -> new BitSet()).set(i);
+				}
+			}
+			else {
+				this.unindexedBeans.set(i);
+			}
+			
+			Element beanElement = this.processingEnvironment.getTypeUtils().asElement(bean.getType());
+			if(beanElement != null) {
+				for(AnnotationMirror annotation : beanElement.getAnnotationMirrors()) {
+					this.beansByAnnotationName.computeIfAbsent(this.getTypeName(annotation.getAnnotationType()), ign -> new BitSet()).set(i);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Returns the names of the erased types a declared type can be assigned to.
+	 * </p>
+	 * 
+	 * @param type a declared type
+	 * 
+	 * @return the names of the type, its superclasses and its interfaces
+	 */
+	private Set<String> getSupertypeNames(DeclaredType type) {
+		String typeName = this.getTypeName(type);
+		Set<String> supertypeNames = this.supertypeNamesByTypeName.get(typeName);
+		if(supertypeNames == null) {
+			supertypeNames = new HashSet<>();
+			supertypeNames.add(typeName);
+			for(TypeMirror supertype : this.processingEnvironment.getTypeUtils().directSupertypes(this.processingEnvironment.getTypeUtils().erasure(type))) {
+				if(supertype.getKind() == TypeKind.DECLARED) {
+					supertypeNames.addAll(this.getSupertypeNames((DeclaredType)supertype));
+				}
+			}
+			this.supertypeNamesByTypeName.put(typeName, supertypeNames);
+		}
+		return supertypeNames;
+	}
+	
+	private String getTypeName(DeclaredType type) {
+		return ((TypeElement)type.asElement()).getQualifiedName().toString();
+	}
+	
+	/**
+	 * <p>
+	 * Returns the beans that might be wired into the specified socket.
+	 * </p>
+	 * 
+	 * <p>
+	 * This is a superset of the beans actually wirable into the socket: the
+	 * assignability of their type to the type of the socket must still be
+	 * checked.
+	 * </p>
+	 * 
+	 * @param socket a socket
+	 * 
+	 * @return the indexes of the candidate beans
+	 */
+	private BitSet getCandidateBeans(SocketInfo socket) {
+		TypeMirror socketType = socket.getType();
+		if(socketType.getKind() == TypeKind.WILDCARD) {
+			WildcardType socketWildcardType = (WildcardType)socketType;
+			socketType = socketWildcardType.getExtendsBound() != null ? socketWildcardType.getExtendsBound() : socketWildcardType.getSuperBound();
+		}
+		
+		BitSet candidates = new BitSet();
+		if(socketType == null || socketType.getKind() != TypeKind.DECLARED) {
+			candidates.set(0, this.beans.size());
+		}
+		else {
+			candidates.or(this.beansByTypeName.getOrDefault(this.getTypeName((DeclaredType)socketType), new BitSet()));
+			candidates.or(this.unindexedBeans);
+			if(socket instanceof MultiSocketInfo) {
+				// Collections can also be wired into a multiple socket
+				candidates.or(this.beansByTypeName.getOrDefault(Collection.class.getCanonicalName(), new BitSet()));
+			}
+		}
+		
+		for(TypeMirror annotationType : this.annotationSelectorWiringStrategy.getAnnotationTypesToSelect(socket)) {
+			candidates.and(this.beansByAnnotationName.getOrDefault(this.getTypeName((DeclaredType)annotationType), new BitSet()));
+		}
+		return candidates;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the beans that can be autowired into the specified socket in the
+	 * order in which they were provided to the resolver.
+	 * </p>
+	 * 
+	 * @param socket a socket
+	 * 
+	 * @return a list of beans
+	 */
+	private List<BeanInfo> getWirableBeans(SocketInfo socket) {
+		// Candidates are already filtered by the annotation selectors
+		return this.getCandidateBeans(socket).stream()
+			.mapToObj(this.beans::get)
+			.filter(beanInfo -> this.typeWiringStrategy.isWirable(beanInfo, socket))
+			.collect(Collectors.toList());
 	}
 	
 	private boolean isWirable(BeanInfo bean, SocketInfo socket) {
@@ -126,9 +289,7 @@ public class SocketResolver {
 		
 		if(result == null) {
 			// Autowiring for a multi socket
-			List<BeanInfo> matchingBeans = beans.stream()
-				.filter(beanInfo -> this.isWirable(beanInfo, socket))
-				.collect(Collectors.toList());
+			List<BeanInfo> matchingBeans = this.getWirableBeans(socket);
 			
 			if(matchingBeans.size() == 0) {
 				if(!socket.isOptional()) {
@@ -192,8 +353,8 @@ public class SocketResolver {
 		
 		if(result == null) {
 			// Autowiring for a single socket
-			List<BeanInfo> matchingBeans = beans.stream()
-				.filter(beanInfo -> this.isWirable(beanInfo, socket) && (!(socket instanceof ModuleBeanSocketInfo) ||  !beanInfo.getQualifiedName().equals(((ModuleBeanSocketInfo)socket).getQualifiedName().getBeanQName())))
+			List<BeanInfo> matchingBeans = this.getWirableBeans(socket).stream()
+				.filter(beanInfo -> !(socket instanceof ModuleBeanSocketInfo) ||  !beanInfo.getQualifiedName().equals(((ModuleBeanSocketInfo)socket).getQualifiedName().getBeanQName()))
 				.collect(Collectors.toList());
 		
 			if(matchingBeans.size() == 0) {
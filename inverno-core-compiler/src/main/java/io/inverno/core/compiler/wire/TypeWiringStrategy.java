@@ -23,7 +23,10 @@ import io.inverno.core.compiler.spi.OverridableBeanInfo;
 import io.inverno.core.compiler.spi.SocketInfo;
 import io.inverno.core.compiler.spi.WiringStrategy;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
@@ -45,21 +48,44 @@ public class TypeWiringStrategy implements WiringStrategy {
 	
 	private ModuleQualifiedName moduleQName;
 	
+	private TypeElement collectionElement;
+	
+	private Map<SocketInfo, TypeMirror[]> multiSocketTypes;
+	
 	public TypeWiringStrategy(ProcessingEnvironment processingEnvironment, ModuleQualifiedName moduleQName) {
 		this.processingEnvironment = processingEnvironment;
 		this.moduleQName = moduleQName;
+		this.collectionElement = this.processingEnvironment.getElementUtils().getTypeElement(Collection.class.getCanonicalName());
+		this.multiSocketTypes = new IdentityHashMap<>();
 	}
 	
 	@Override
 	public boolean isWirable(BeanInfo bean, SocketInfo socket) {
+		return this.isAssignable(this.getWiringType(bean), socket);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the type of the specified bean as seen by the sockets it can be wired to.
+	 * </p>
+	 * 
+	 * <p>
+	 * This is the type provided by an overridable bean or by a bean exposed by a component module, the actual type of the bean otherwise.
+	 * </p>
+	 * 
+	 * @param bean a bean
+	 * 
+	 * @return the type to consider when wiring the bean
+	 */
+	TypeMirror getWiringType(BeanInfo bean) {
 		if(OverridableBeanInfo.class.isAssignableFrom(bean.getClass()) && ((OverridableBeanInfo)bean).getProvidedType() != null) {
-			return this.isAssignable(((ModuleBeanInfo)bean).getProvidedType(), socket);
+			return ((ModuleBeanInfo)bean).getProvidedType();
 		}
 		else if(ModuleBeanInfo.class.isAssignableFrom(bean.getClass()) && !bean.getQualifiedName().getModuleQName().equals(this.moduleQName) && ((ModuleBeanInfo)bean).getProvidedType() != null) {
-			return this.isAssignable(((ModuleBeanInfo)bean).getProvidedType(), socket);
+			return ((ModuleBeanInfo)bean).getProvidedType();
 		}
 		else {
-			return this.isAssignable(bean.getType(), socket);
+			return bean.getType();
 		}
 	}
 
@@ -78,15 +104,10 @@ public class TypeWiringStrategy implements WiringStrategy {
 			}
 		}
 		if(MultiSocketInfo.class.isAssignableFrom(socket.getClass())) {
-			DeclaredType socketCollectionType = this.processingEnvironment.getTypeUtils().getDeclaredType(this.processingEnvironment.getElementUtils().getTypeElement(Collection.class.getCanonicalName()), socket.getType());
-			ArrayType socketArrayType;
-			if(!socket.getType().getKind().equals(TypeKind.WILDCARD)) {
-				socketArrayType = this.processingEnvironment.getTypeUtils().getArrayType(socket.getType());
-			}
-			else {
-				WildcardType socketWildcardType = (WildcardType)socket.getType();
-				socketArrayType = this.processingEnvironment.getTypeUtils().getArrayType(socketWildcardType.getExtendsBound() != null ? socketWildcardType.getExtendsBound() : socketWildcardType.getSuperBound());
-			}
+			// Collection and array types only depend on the socket, they are created once and reused for every bean
+			TypeMirror[] socketTypes = this.multiSocketTypes.computeIfAbsent(socket, this::createMultiSocketTypes);
+			TypeMirror socketCollectionType = socketTypes[0];
+			TypeMirror socketArrayType = socketTypes[1];
 			return this.processingEnvironment.getTypeUtils().isAssignable(type, socket.getType()) || (socketArrayType != null && this.processingEnvironment.getTypeUtils().isAssignable(type, socketArrayType)) || this.processingEnvironment.getTypeUtils().isAssignable(type, socketCollectionType);
 		}
 		else {
@@ -99,4 +120,26 @@ public class TypeWiringStrategy implements WiringStrategy {
 			}
 		}
 	}
+	
+	/**
+	 * <p>
+	 * Creates the collection and array types a bean can have to be wired into the specified multiple socket.
+	 * </p>
+	 * 
+	 * @param socket a multiple socket
+	 * 
+	 * @return an array containing the collection type and the array type
+	 */
+	private TypeMirror[] createMultiSocketTypes(SocketInfo socket) {
+		DeclaredType socketCollectionType = this.processingEnvironment.getTypeUtils().getDeclaredType(this.collectionElement, socket.getType());
+		ArrayType socketArrayType;
+		if(!socket.getType().getKind().equals(TypeKind.WILDCARD)) {
+			socketArrayType = this.processingEnvironment.getTypeUtils().getArrayType(socket.getType());
+		}
+		else {
+			WildcardType socketWildcardType = (WildcardType)socket.getType();
+			socketArrayType = this.processingEnvironment.getTypeUtils().getArrayType(socketWildcardType.getExtendsBound() != null ? socketWildcardType.getExtendsBound() : socketWildcardType.getSuperBound());
+		}
+		return new TypeMirror[] { socketCollectionType, socketArrayType };
+	}
 }
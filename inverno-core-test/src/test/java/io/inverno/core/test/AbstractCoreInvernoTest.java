@@ -16,10 +16,14 @@
 package io.inverno.core.test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
 import io.inverno.test.AbstractInvernoTest;
+import io.inverno.test.InvernoTestCompiler;
 
 /**
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
@@ -27,6 +31,12 @@ import io.inverno.test.AbstractInvernoTest;
  */
 public class AbstractCoreInvernoTest extends AbstractInvernoTest {
 
+	private static final String SYNTHETIC_MODULE_SOURCE = "target/synthetic/mods";
+	
+	private static final String SYNTHETIC_MODULE_SOURCE_TARGET = "target/synthetic/generated-test-sources";
+	
+	private static final String SYNTHETIC_MODULE_TARGET = "target/synthetic/test/mods";
+
 	public AbstractCoreInvernoTest() {
 		super((Function<File, File>)file -> {
 			if(new File("../inverno-test").exists()) {
@@ -52,4 +62,51 @@ public class AbstractCoreInvernoTest extends AbstractInvernoTest {
 			return null;
 		});
 	}
+	
+	/**
+	 * <p>
+	 * Writes the sources of a module generated by a test and returns a compiler for generated modules.
+	 * </p>
+	 * 
+	 * @param moduleName the name of the module which is also the name of its single package
+	 * @param sources    the sources of the module indexed by simple class name
+	 * 
+	 * @return a compiler for generated modules
+	 * 
+	 * @throws IOException if there was an error writing the sources
+	 */
+	protected InvernoTestCompiler createSyntheticModule(String moduleName, Map<String, String> sources) throws IOException {
+		File moduleSourceDir = new File(SYNTHETIC_MODULE_SOURCE, moduleName);
+		this.deleteSyntheticDir(moduleSourceDir);
+		this.deleteSyntheticDir(new File(SYNTHETIC_MODULE_SOURCE_TARGET, moduleName));
+		this.deleteSyntheticDir(new File(SYNTHETIC_MODULE_TARGET, moduleName));
+		
+		File packageDir = new File(moduleSourceDir, moduleName.replace('.', '/'));
+		packageDir.mkdirs();
+		
+		Files.writeString(new File(moduleSourceDir, "module-info.java").toPath(), 
+			"@io.inverno.core.annotation.Module\n" + 
+			"module " + moduleName + " {\n" + 
+			"	requires io.inverno.core;\n" + 
+			"	requires io.inverno.core.annotation;\n" + 
+			"	exports " + moduleName + ";\n" + 
+			"}\n"
+		);
+		for(Map.Entry<String, String> source : sources.entrySet()) {
+			Files.writeString(new File(packageDir, source.getKey() + ".java").toPath(), "package " + moduleName + ";\n" + source.getValue());
+		}
+		
+		InvernoTestCompiler compiler = this.getInvernoCompiler();
+		return new InvernoTestCompiler(new File(SYNTHETIC_MODULE_SOURCE), new File(SYNTHETIC_MODULE_SOURCE_TARGET), new File(SYNTHETIC_MODULE_TARGET), compiler.getModulePaths(), compiler.getAnnotationProcessorModulePaths());
+	}
+	
+	private void deleteSyntheticDir(File file) {
+		File[] contents = file.listFiles();
+		if(contents != null) {
+			for(File f : contents) {
+				this.deleteSyntheticDir(f);
+			}
+		}
+		file.delete();
+	}
 }
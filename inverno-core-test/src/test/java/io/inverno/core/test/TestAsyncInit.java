@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestAsyncInit extends AbstractCoreInvernoTest {
+
+	private static final String MODULEA = "io.inverno.core.test.asyncinit.moduleA";
+	private static final String MODULEB = "io.inverno.core.test.asyncinit.moduleB";
+	
+	@Test
+	public void testStartAsync() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		InvernoModuleProxy moduleA = this.getInvernoCompiler().compile(MODULEA).load(MODULEA).build();
+		
+		CompletableFuture<Void> startup = moduleA.startAsync();
+		try {
+			Assertions.assertFalse(startup.isDone());
+			Assertions.assertNotNull(moduleA.getBean("independentBean"));
+			
+			// Requesting the bean waits for its initialization
+			Object asyncBean = moduleA.getBean("asyncBean");
+			Assertions.assertTrue(asyncBean.getClass().getField("initialized").getBoolean(asyncBean));
+			
+			startup.join();
+			Assertions.assertTrue(moduleA.getStartupReport().isPresent());
+		}
+		finally {
+			startup.join();
+			moduleA.stop();
+		}
+	}
+	
+	@Test
+	public void testDependentWaitsForInit() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		this.clearModuleTarget(MODULEB);
+		InvernoModuleProxy moduleB = this.getInvernoCompiler().withOptions("-Ainverno.lambdaFree=true").compile(MODULEB).load(MODULEB).build();
+		
+		moduleB.start();
+		try {
+			Object asyncBean = moduleB.getBean("asyncBean");
+			Assertions.assertTrue(asyncBean.getClass().getField("initialized").getBoolean(asyncBean));
+			
+			Object dependentBean = moduleB.getBean("dependentBean");
+			Assertions.assertTrue(dependentBean.getClass().getField("asyncBeanInitialized").getBoolean(dependentBean));
+		}
+		finally {
+			moduleB.stop();
+		}
+	}
+	
+	@Test
+	public void testIndependentBeanCreatedDuringInit() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		this.clearModuleTarget(MODULEB);
+		// Lambda-free modules are started in registration order
+		this.assertIndependentBeanCreatedDuringInit(this.getInvernoCompiler().withOptions("-Ainverno.lambdaFree=true").compile(MODULEB).load(MODULEB).build());
+		
+		this.clearModuleTarget(MODULEB);
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(MODULEB);
+		this.assertIndependentBeanCreatedDuringInit(moduleLoader.load(MODULEB).build());
+		
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			this.assertIndependentBeanCreatedDuringInit(moduleLoader.load(MODULEB).startupExecutor(executor).build());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+	
+	private void assertIndependentBeanCreatedDuringInit(InvernoModuleProxy moduleB) throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		CompletableFuture<Void> startup = moduleB.startAsync();
+		try {
+			// Starting the module must not wait for the dependent bean to be created
+			Assertions.assertFalse(startup.isDone());
+			startup.join();
+			
+			Object asyncBean = moduleB.getBean("asyncBean");
+			long initializedAt = asyncBean.getClass().getField("initializedAt").getLong(asyncBean);
+			Object independentBean = moduleB.getBean("independentBean");
+			Assertions.assertTrue(independentBean.getClass().getField("createdAt").getLong(independentBean) < initializedAt);
+			Object dependentBean = moduleB.getBean("dependentBean");
+			Assertions.assertTrue(dependentBean.getClass().getField("createdAt").getLong(dependentBean) > initializedAt);
+			Assertions.assertTrue(dependentBean.getClass().getField("asyncBeanInitialized").getBoolean(dependentBean));
+		}
+		finally {
+			startup.join();
+			moduleB.stop();
+		}
+	}
+}
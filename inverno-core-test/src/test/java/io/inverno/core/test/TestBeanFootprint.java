@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.core.v1.Module;
+
+/**
+ * <p>
+ * Checks the heap retained by the framework for each kind of bean in a module.
+ * </p>
+ * 
+ * <p>
+ * The retained size of a bean is measured by comparing the used heap before and after creating a large number of beans in a module, the best of several runs is kept to limit the influence of
+ * concurrent allocations. It must stay below the footprint measured before lifecycle operations, warm-up, reset and metrics were added to the beans (1.5.x): these features must only cost memory
+ * when they are used.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestBeanFootprint {
+
+	private static final Object INSTANCE = new Object();
+	
+	private static final Supplier<Object> WRAPPER = () -> INSTANCE;
+	
+	private static final int BEAN_COUNT = 50000;
+	
+	private static final int RUNS = 3;
+	
+	@Test
+	public void testSingletonModuleBean() {
+		this.assertFootprint("singleton module bean", FootprintModule::singletonModuleBean, 69);
+	}
+	
+	@Test
+	public void testPrototypeModuleBean() {
+		this.assertFootprint("prototype module bean", FootprintModule::prototypeModuleBean, 69);
+	}
+	
+	@Test
+	public void testPrototypeWeakModuleBean() {
+		this.assertFootprint("prototype weak module bean", FootprintModule::prototypeWeakModuleBean, 133);
+	}
+	
+	@Test
+	public void testSingletonWrapperBean() {
+		this.assertFootprint("singleton wrapper bean", FootprintModule::singletonWrapperBean, 77);
+	}
+	
+	@Test
+	public void testPrototypeWrapperBean() {
+		this.assertFootprint("prototype wrapper bean", FootprintModule::prototypeWrapperBean, 69);
+	}
+	
+	@Test
+	public void testPrototypeWeakWrapperBean() {
+		this.assertFootprint("prototype weak wrapper bean", FootprintModule::prototypeWeakWrapperBean, 125);
+	}
+	
+	/**
+	 * <p>
+	 * Asserts that the heap retained by a bean created by the specified factory is lower than the specified baseline footprint.
+	 * </p>
+	 */
+	private void assertFootprint(String kind, Function<FootprintModule, Object> beanFactory, long baseline) {
+		long footprint = Long.MAX_VALUE;
+		for(int run = 0; run < RUNS; run++) {
+			Object[] beans = new Object[BEAN_COUNT];
+			FootprintModule module = new FootprintModule();
+			long before = usedHeap();
+			for(int i = 0; i < BEAN_COUNT; i++) {
+				beans[i] = beanFactory.apply(module);
+			}
+			long after = usedHeap();
+			footprint = Math.min(footprint, (after - before) / BEAN_COUNT);
+			// keep beans and module reachable until the heap has been measured
+			Assertions.assertNotNull(beans[BEAN_COUNT - 1]);
+			Assertions.assertNotNull(module);
+		}
+		System.out.println(kind + " retains " + footprint + " bytes (baseline " + baseline + " bytes)");
+		Assertions.assertTrue(footprint < baseline, kind + " retains " + footprint + " bytes which is not lower than the baseline of " + baseline + " bytes");
+	}
+	
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for(int i = 0; i < 5; i++) {
+			System.gc();
+			try {
+				Thread.sleep(50);
+			} 
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+	
+	private static class FootprintModule extends Module {
+
+		private FootprintModule() {
+			super("footprint");
+		}
+		
+		public static Object singletonModuleBean(FootprintModule module) {
+			return module.with(ModuleBeanBuilder.singleton("bean", () -> INSTANCE));
+		}
+		
+		public static Object prototypeModuleBean(FootprintModule module) {
+			return module.with(ModuleBeanBuilder.prototype("bean", () -> INSTANCE));
+		}
+		
+		public static Object prototypeWeakModuleBean(FootprintModule module) {
+			return module.with(ModuleBeanBuilder.prototype("bean", () -> INSTANCE).destroy(instance -> {}));
+		}
+		
+		public static Object singletonWrapperBean(FootprintModule module) {
+			return module.with(WrapperBeanBuilder.singleton("bean", () -> WRAPPER));
+		}
+		
+		public static Object prototypeWrapperBean(FootprintModule module) {
+			return module.with(WrapperBeanBuilder.prototype("bean", () -> WRAPPER));
+		}
+		
+		public static Object prototypeWeakWrapperBean(FootprintModule module) {
+			return module.with(WrapperBeanBuilder.prototype("bean", () -> WRAPPER).destroy(wrapper -> {}));
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.core.v1.BeanIndex;
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestBeanIndex extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.beanindex";
+	
+	@Test
+	public void testBeanIndex() throws IOException, InvernoCompilationException, ClassNotFoundException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).build();
+		
+		BeanIndex beans = module.getBeanIndex();
+		Assertions.assertEquals(Set.of("beans", "handlerA", "handlerB", "service"), beans.names());
+		
+		module.start();
+		try {
+			Object handlerA = module.getBean("handlerA");
+			Object service = module.getBean("service");
+			
+			ClassLoader moduleClassLoader = handlerA.getClass().getClassLoader();
+			Class<?> handlerType = moduleClassLoader.loadClass("io.inverno.core.test.beanindex.Handler");
+			Class<?> abstractHandlerType = moduleClassLoader.loadClass("io.inverno.core.test.beanindex.AbstractHandler");
+			Class<?> handlerBType = moduleClassLoader.loadClass("io.inverno.core.test.beanindex.HandlerB");
+			
+			Assertions.assertSame(handlerA, beans.byName("handlerA").get());
+			Assertions.assertSame(handlerA, beans.byName("handlerA", handlerType).get());
+			Assertions.assertTrue(beans.byName("handlerA", Runnable.class).isEmpty());
+			// private beans are not indexed
+			Assertions.assertTrue(beans.byName("internalHandler").isEmpty());
+			
+			List<?> handlers = beans.byType(handlerType);
+			Assertions.assertEquals(2, handlers.size());
+			Assertions.assertSame(handlerA, handlers.get(0));
+			Assertions.assertTrue(handlerBType.isInstance(handlers.get(1)));
+			// a new prototype instance is returned on each lookup
+			Assertions.assertNotSame(handlers.get(1), beans.byType(handlerType).get(1));
+			
+			Assertions.assertEquals(List.of(handlerA), beans.byType(abstractHandlerType));
+			// beans are indexed by their exposed type
+			Assertions.assertEquals(List.of(service), beans.byType(Runnable.class));
+			Assertions.assertEquals(4, beans.byType(Object.class).size());
+			// a bean named beans doesn't conflict with the index accessor
+			Assertions.assertSame(module.getBean("beans"), beans.byName("beans").get());
+			Assertions.assertTrue(beans.byType(String.class).isEmpty());
+		}
+		finally {
+			module.stop();
+		}
+		
+		Assertions.assertThrows(InvernoModuleException.class, () -> beans.byName("handlerA"));
+	}
+}
@@ -16,6 +16,16 @@
 package io.inverno.core.test;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -66,6 +76,38 @@ public class TestBeanStrategy extends AbstractCoreInvernoTest {
 		}
 	}
 	
+	@Test
+	public void testSingletonStrategyConcurrentAccess() throws IOException, InvernoCompilationException, InterruptedException, ExecutionException, ReflectiveOperationException {
+		// the module is lazy so that the singleton is created by the concurrent requests and not on startup
+		InvernoModuleProxy lazyModuleProxy = this.getInvernoCompiler().compile(MODULE).load(MODULE).lazy(true).build();
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			lazyModuleProxy.start();
+			AtomicInteger instanceCount = (AtomicInteger)lazyModuleProxy.getBean("prototypeStrategyBean").getClass().getClassLoader().loadClass(MODULE + ".SingletonStrategyBean").getField("instanceCount").get(null);
+			int initialInstanceCount = instanceCount.get();
+			
+			CyclicBarrier barrier = new CyclicBarrier(16);
+			List<Callable<Object>> tasks = IntStream.range(0, 64).mapToObj(i -> (Callable<Object>)() -> {
+				if(i < 16) {
+					barrier.await();
+				}
+				return lazyModuleProxy.getBean("singletonStrategyBean");
+			}).collect(Collectors.toList());
+			List<Future<Object>> results = executor.invokeAll(tasks);
+			Object singletonBean = results.get(0).get();
+			Assertions.assertNotNull(singletonBean);
+			for(Future<Object> result : results) {
+				Assertions.assertSame(singletonBean, result.get());
+			}
+			Assertions.assertSame(singletonBean, lazyModuleProxy.getBean("singletonStrategyBean"));
+			Assertions.assertEquals(1, instanceCount.get() - initialInstanceCount);
+		}
+		finally {
+			lazyModuleProxy.stop();
+			executor.shutdown();
+		}
+	}
+	
 	@Test
 	public void testPrototypeStrategy() {
 		try {
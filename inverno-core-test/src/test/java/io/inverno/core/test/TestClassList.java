@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoTestCompiler;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestClassList extends AbstractCoreInvernoTest {
+
+	private static final String MODULEA = "io.inverno.core.test.multi.moduleA";
+	private static final String MODULEB = "io.inverno.core.test.multi.moduleB";
+	
+	@Test
+	public void testClassList() throws IOException, InvernoCompilationException, ClassNotFoundException {
+		this.clearModuleTarget(MODULEA, MODULEB);
+		InvernoTestCompiler compiler = this.getInvernoCompiler().withOptions("-Ainverno.generateClassList=true");
+		InvernoModuleLoader moduleLoader = compiler.compile(MODULEA, MODULEB);
+		
+		File classListFile = new File(compiler.getModuleOutputPath(), MODULEB + "/META-INF/inverno/core/" + MODULEB + "/classlist");
+		Assertions.assertTrue(classListFile.exists());
+		
+		List<String> classList = Files.readAllLines(classListFile.toPath()).stream()
+			.filter(line -> !line.isBlank() && !line.startsWith("#"))
+			.collect(Collectors.toList());
+		
+		Assertions.assertTrue(classList.contains("io/inverno/core/test/multi/moduleB/ModuleB"));
+		Assertions.assertTrue(classList.contains("io/inverno/core/test/multi/moduleB/ModuleB$Builder"));
+		Assertions.assertTrue(classList.contains("io/inverno/core/test/multi/moduleB/BeanB"));
+		Assertions.assertTrue(classList.contains("io/inverno/core/test/multi/moduleA/ModuleA"));
+		Assertions.assertTrue(classList.contains("io/inverno/core/test/multi/moduleA/ModuleA$Linker"));
+		Assertions.assertTrue(classList.contains("io/inverno/core/test/multi/moduleA/BeanA"));
+		Assertions.assertTrue(classList.contains("io/inverno/core/v1/SingletonModuleBean"));
+		Assertions.assertFalse(classList.contains("io/inverno/core/v1/PooledModuleBean"));
+		
+		for(String className : classList) {
+			Assertions.assertNotNull(moduleLoader.loadClass(MODULEB, className.replace('/', '.')), className);
+		}
+	}
+	
+	@Test
+	public void testNoClassList() throws IOException, InvernoCompilationException {
+		this.clearModuleTarget(MODULEA);
+		this.getInvernoCompiler().compile(MODULEA);
+		
+		Assertions.assertFalse(new File(this.getInvernoCompiler().getModuleOutputPath(), MODULEA + "/META-INF/inverno/core/" + MODULEA + "/classlist").exists());
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestCleaner extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.cleaner";
+	
+	@Test
+	public void testCleanerDestroy() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, InterruptedException, NoSuchMethodException, InvocationTargetException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).cleaner(Cleaner.create()).build();
+		
+		Object liveResource = null;
+		Object liveHandle = null;
+		try {
+			module.start();
+			
+			liveResource = module.getBean("resourceWrapper");
+			liveHandle = liveResource.getClass().getMethod("getHandle").invoke(liveResource);
+			
+			List<Object> resources = new ArrayList<>();
+			for(int i=0;i<10;i++) {
+				resources.add(module.getBean("resourceWrapper"));
+			}
+			resources = null;
+			
+			// Unreachable resources must be released while the module is running
+			for(int i=0;i<100 && (int)liveResource.getClass().getMethod("getReleased").invoke(null) < 10;i++) {
+				System.gc();
+				Thread.sleep(50);
+			}
+			Assertions.assertEquals(10, liveResource.getClass().getMethod("getReleased").invoke(null));
+			Assertions.assertEquals(0, liveHandle.getClass().getField("releaseCount").get(liveHandle));
+		}
+		finally {
+			module.stop();
+		}
+		// Reachable resources must be released exactly once when the module is stopped
+		Assertions.assertEquals(1, liveHandle.getClass().getField("releaseCount").get(liveHandle));
+		Assertions.assertEquals(11, liveResource.getClass().getMethod("getReleased").invoke(null));
+	}
+}
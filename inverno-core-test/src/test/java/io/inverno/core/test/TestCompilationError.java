@@ -44,6 +44,7 @@ public class TestCompilationError extends AbstractCoreInvernoTest {
 	private static final String MODULEI = "io.inverno.core.test.error.moduleI";
 	private static final String MODULEJ = "io.inverno.core.test.error.moduleJ";
 	private static final String MODULEK = "io.inverno.core.test.error.moduleK";
+	private static final String MODULEL = "io.inverno.core.test.error.moduleL";
 	
 	@Test
 	public void testBeanConcreteClass() throws IOException {
@@ -203,4 +204,19 @@ public class TestCompilationError extends AbstractCoreInvernoTest {
 			Assertions.assertTrue(e.getDiagnostics().stream().map(d -> d.getMessage(Locale.getDefault())).collect(Collectors.toList()).containsAll(List.of(invalidLazySocket)));
 		}
 	}
+	
+	@Test
+	public void testPooledBeanInNonPoolSocket() throws IOException {
+		try {
+			this.getInvernoCompiler().compile(MODULEL);
+			Assertions.fail("Should throw an InvernoCompilationException");
+		}
+		catch(InvernoCompilationException e) {
+			Assertions.assertEquals(2, e.getDiagnostics().size());
+			
+			String pooledBeanInNonPoolSocket = "Pooled bean io.inverno.core.test.error.moduleL:beanB can only be wired into a socket of type io.inverno.core.v1.Pool<io.inverno.core.test.error.moduleL.BeanB>";
+			
+			Assertions.assertTrue(e.getDiagnostics().stream().map(d -> d.getMessage(Locale.getDefault())).allMatch(pooledBeanInNonPoolSocket::equals));
+		}
+	}
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * <p>
+ * Compiles synthetic modules made of stacked diamonds: at each level {@code i}, beans {@code Left<i>} and {@code Right<i>} both depend on {@code Join<i-1>} and {@code Join<i>} depends on
+ * both {@code Left<i>} and {@code Right<i>}. The number of paths through such graph doubles with each level, cycle detection must nonetheless visit each bean only once.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestCycleDetection extends AbstractCoreInvernoTest {
+
+	private static final String MODULE_DIAMONDS = "io.inverno.core.test.synthetic.diamonds";
+	
+	private static final String MODULE_DIAMOND_CYCLE = "io.inverno.core.test.synthetic.diamondcycle";
+	
+	@Test
+	public void testDeepDiamonds() throws IOException, InvernoCompilationException {
+		int depth = 64;
+		
+		InvernoModuleLoader moduleLoader = this.createSyntheticModule(MODULE_DIAMONDS, this.generateDiamonds(depth, false)).compile(MODULE_DIAMONDS);
+		
+		InvernoModuleProxy module = moduleLoader.load(MODULE_DIAMONDS).build();
+		module.start();
+		try {
+			Assertions.assertNotNull(module.getBean("join" + depth));
+		}
+		finally {
+			module.stop();
+		}
+	}
+	
+	@Test
+	public void testDiamondCycle() throws IOException {
+		try {
+			this.createSyntheticModule(MODULE_DIAMOND_CYCLE, this.generateDiamonds(1, true)).compile(MODULE_DIAMOND_CYCLE);
+			Assertions.fail("Should throw an InvernoCompilationException");
+		}
+		catch(InvernoCompilationException e) {
+			// join1 -> left1 -> join0 -> join1 and join1 -> right1 -> join0 -> join1, every bean in a cycle is reported for each cycle it belongs to
+			Assertions.assertEquals(6, e.getDiagnostics().size());
+			
+			List<String> messages = e.getDiagnostics().stream().map(d -> d.getMessage(Locale.getDefault())).collect(Collectors.toList());
+			Assertions.assertEquals(2, messages.stream().filter(message -> message.startsWith("Bean " + MODULE_DIAMOND_CYCLE + ":join0 forms a cycle")).count());
+			Assertions.assertEquals(2, messages.stream().filter(message -> message.startsWith("Bean " + MODULE_DIAMOND_CYCLE + ":join1 forms a cycle")).count());
+			Assertions.assertEquals(1, messages.stream().filter(message -> message.startsWith("Bean " + MODULE_DIAMOND_CYCLE + ":left1 forms a cycle")).count());
+			Assertions.assertEquals(1, messages.stream().filter(message -> message.startsWith("Bean " + MODULE_DIAMOND_CYCLE + ":right1 forms a cycle")).count());
+			
+			Assertions.assertEquals(3, messages.stream().filter(message -> message.contains(MODULE_DIAMOND_CYCLE + ":left1:join\n")).count());
+			Assertions.assertEquals(3, messages.stream().filter(message -> message.contains(MODULE_DIAMOND_CYCLE + ":right1:join\n")).count());
+			Assertions.assertEquals(6, messages.stream().filter(message -> message.contains(MODULE_DIAMOND_CYCLE + ":join0:join\n")).count());
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Generates the sources of a module made of the specified number of stacked diamonds.
+	 * </p>
+	 * 
+	 * @param depth  the number of diamonds
+	 * @param cyclic true to make {@code Join0} depend on the last {@code Join} bean
+	 * 
+	 * @return the sources of the module
+	 */
+	private Map<String, String> generateDiamonds(int depth, boolean cyclic) {
+		Map<String, String> sources = new HashMap<>();
+		sources.put("Join0", 
+			"@io.inverno.core.annotation.Bean\n" + 
+			"public class Join0 {\n" + 
+			(cyclic ? "	public Join0(Join" + depth + " join) {}\n" : "") +
+			"}\n"
+		);
+		for(int i=1;i<=depth;i++) {
+			for(String side : new String[] {"Left", "Right"}) {
+				sources.put(side + i, 
+					"@io.inverno.core.annotation.Bean(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)\n" + 
+					"public class " + side + i + " {\n" + 
+					"	public " + side + i + "(Join" + (i - 1) + " join) {}\n" + 
+					"}\n"
+				);
+			}
+			sources.put("Join" + i, 
+				"@io.inverno.core.annotation.Bean\n" + 
+				"public class Join" + i + " {\n" + 
+				"	public Join" + i + "(Left" + i + " left, Right" + i + " right) {}\n" + 
+				"}\n"
+			);
+		}
+		return sources;
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+import io.inverno.test.InvernoTestCompiler;
+
+/**
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestLambdaFree extends AbstractCoreInvernoTest {
+
+	private static final String LIFECYCLE_MODULEB = "io.inverno.core.test.lifecycle.moduleB";
+	private static final String NESTED_MODULEB = "io.inverno.core.test.nested.moduleB";
+	private static final String LAZY_MODULEA = "io.inverno.core.test.lazy.moduleA";
+	private static final String LAZY_MODULEB = "io.inverno.core.test.lazy.moduleB";
+	private static final String SOCKETBEAN_MODULEB = "io.inverno.core.test.socketbean.moduleB";
+	private static final String SOCKETBEAN_MODULEC = "io.inverno.core.test.socketbean.moduleC";
+	private static final String WRAPPERBEAN_MODULE = "io.inverno.core.test.wrapperbean";
+	private static final String POOLED_MODULE = "io.inverno.core.test.pooled";
+	private static final String AGGREGATE_MODULE = "io.inverno.core.test.aggregate";
+	private static final String BEANINDEX_MODULE = "io.inverno.core.test.beanindex";
+
+	private InvernoTestCompiler getLambdaFreeCompiler() throws IOException {
+		return this.getInvernoCompiler().withOptions("-Ainverno.lambdaFree=true");
+	}
+
+	@Test
+	public void testNoLambda() throws IOException, InvernoCompilationException {
+		String[] modules = {LIFECYCLE_MODULEB, NESTED_MODULEB, LAZY_MODULEA, LAZY_MODULEB, SOCKETBEAN_MODULEB, SOCKETBEAN_MODULEC, WRAPPERBEAN_MODULE, POOLED_MODULE, AGGREGATE_MODULE, BEANINDEX_MODULE};
+		this.clearModuleTarget(modules);
+
+		InvernoTestCompiler invernoCompiler = this.getLambdaFreeCompiler();
+		invernoCompiler.compile(modules);
+
+		for(String module : modules) {
+			List<Path> moduleSources;
+			try(Stream<Path> paths = Files.walk(new File(invernoCompiler.getSourceOutputPath(), module).toPath())) {
+				moduleSources = paths.filter(path -> path.toString().endsWith(".java")).collect(Collectors.toList());
+			}
+			Assertions.assertFalse(moduleSources.isEmpty());
+			for(Path moduleSource : moduleSources) {
+				String source = Files.readString(moduleSource);
+				Assertions.assertFalse(source.contains("->"), "Generated lambda in " + moduleSource);
+				Assertions.assertFalse(source.contains("::"), "Generated method reference in " + moduleSource);
+			}
+		}
+	}
+
+	@Test
+	public void testDestroyWithDI() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleB = this.getLambdaFreeCompiler().compile(LIFECYCLE_MODULEB).load(LIFECYCLE_MODULEB).build();
+
+		Object beanA = null, beanB = null, beanC = null, beanD = null, beanE = null;
+		try {
+			moduleB.start();
+
+			beanA = moduleB.getBean("beanA");
+			beanB = moduleB.getBean("beanB");
+			beanC = moduleB.getBean("beanC");
+			beanD = moduleB.getBean("beanD");
+			beanE = moduleB.getBean("beanE");
+		}
+		finally {
+			moduleB.stop();
+			Assertions.assertFalse(beanA.getClass().getField("destroyFailed").getBoolean(beanA));
+			Assertions.assertTrue(beanA.getClass().getField("destroyed").getBoolean(beanA));
+			Assertions.assertFalse(beanB.getClass().getField("destroyFailed").getBoolean(beanB));
+			Assertions.assertTrue(beanB.getClass().getField("destroyed").getBoolean(beanB));
+			Assertions.assertFalse(beanC.getClass().getField("destroyFailed").getBoolean(beanC));
+			Assertions.assertTrue(beanC.getClass().getField("destroyed").getBoolean(beanC));
+			Assertions.assertFalse(beanD.getClass().getField("destroyFailed").getBoolean(beanD));
+			Assertions.assertTrue(beanD.getClass().getField("destroyed").getBoolean(beanD));
+			Assertions.assertFalse(beanE.getClass().getField("destroyFailed").getBoolean(beanE));
+			Assertions.assertTrue(beanE.getClass().getField("destroyed").getBoolean(beanE));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testNestedAndLazy() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		InvernoModuleLoader moduleLoader = this.getLambdaFreeCompiler().compile(NESTED_MODULEB, LAZY_MODULEA);
+
+		InvernoModuleProxy nestedModule = moduleLoader.load(NESTED_MODULEB).build();
+		nestedModule.start();
+		try {
+			Object beanB = nestedModule.getBean("beanB");
+			Object beanB_someSupplier = beanB.getClass().getField("someSupplier").get(beanB);
+			Assertions.assertNotNull(beanB_someSupplier);
+			Assertions.assertEquals("some supplier", ((Supplier<String>)beanB_someSupplier).get());
+		}
+		finally {
+			nestedModule.stop();
+		}
+
+		InvernoModuleProxy lazyModule = moduleLoader.load(LAZY_MODULEA).build();
+		lazyModule.start();
+		try {
+			Object beanA = lazyModule.getBean("beanA");
+			Object beanB = lazyModule.getBean("beanB");
+
+			Assertions.assertEquals(beanB, beanA.getClass().getField("beanB1").get(beanA));
+			Assertions.assertEquals(beanB, beanA.getClass().getField("beanB2").get(beanA));
+			Assertions.assertNotEquals(beanA.getClass().getField("beanC1").get(beanA), beanA.getClass().getField("beanC2").get(beanA));
+		}
+		finally {
+			lazyModule.stop();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testMultiSocketBean() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		InvernoModuleProxy moduleC = this.getLambdaFreeCompiler().compile(SOCKETBEAN_MODULEB, SOCKETBEAN_MODULEC).load(SOCKETBEAN_MODULEC).build();
+		moduleC.start();
+		try {
+			Object beanC = moduleC.getBean("beanC");
+			Object runnableA = moduleC.getBean("runnableA");
+			Object runnableB = moduleC.getBean("runnableB");
+
+			Object beanC_beanB = beanC.getClass().getField("beanB").get(beanC);
+			List<Runnable> beanC_beanB_runnables = (List<Runnable>)beanC_beanB.getClass().getField("runnables").get(beanC_beanB);
+
+			Assertions.assertTrue(beanC_beanB_runnables.containsAll(List.of(runnableA, runnableB)));
+		}
+		finally {
+			moduleC.stop();
+		}
+	}
+}
@@ -18,6 +18,7 @@ package io.inverno.core.test;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -71,6 +72,36 @@ public class TestLazyBeanSocket extends AbstractCoreInvernoTest {
 		moduleProxy.stop();
 	}
 	
+	@Test
+	public void testLazySupplierRestart() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		InvernoModuleProxy moduleProxy = this.getInvernoCompiler().compile(MODULEA).load(MODULEA).build();
+		
+		moduleProxy.start();
+		
+		Object beanA = moduleProxy.getBean("beanA");
+		Object beanB = moduleProxy.getBean("beanB");
+		
+		Supplier<?> beanA_beanBSupplier = (Supplier<?>)beanA.getClass().getField("beanBSupplier").get(beanA);
+		Supplier<?> beanA_beanCSupplier = (Supplier<?>)beanA.getClass().getField("beanCSupplier").get(beanA);
+		
+		Assertions.assertSame(beanB, beanA_beanBSupplier.get());
+		Assertions.assertSame(beanA_beanBSupplier.get(), beanA_beanBSupplier.get());
+		Assertions.assertNotSame(beanA_beanCSupplier.get(), beanA_beanCSupplier.get());
+		
+		moduleProxy.stop();
+		
+		Assertions.assertThrows(IllegalArgumentException.class, () -> beanA_beanBSupplier.get());
+		
+		moduleProxy.start();
+		
+		Object restartedBeanB = moduleProxy.getBean("beanB");
+		
+		Assertions.assertNotSame(beanB, restartedBeanB);
+		Assertions.assertSame(restartedBeanB, beanA_beanBSupplier.get());
+		
+		moduleProxy.stop();
+	}
+	
 	@Test
 	public void testSingleBeanInComponentModule() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
 		InvernoModuleProxy moduleProxy = this.getInvernoCompiler().compile(MODULEA, MODULEB).load(MODULEB).build();
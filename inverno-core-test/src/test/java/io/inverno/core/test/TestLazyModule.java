@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestLazyModule extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.ondemand";
+	
+	@Test
+	public void testLazyModule() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(MODULE);
+		
+		InvernoModuleProxy eagerModule = moduleLoader.load(MODULE).build();
+		Assertions.assertThrows(InvernoModuleException.class, () -> eagerModule.start());
+		
+		InvernoModuleProxy lazyModule = moduleLoader.load(MODULE).lazy(true).build();
+		Object beanA = null, beanB = null;
+		try {
+			lazyModule.start();
+			
+			beanA = lazyModule.getBean("beanA");
+			beanB = beanA.getClass().getField("beanB").get(beanA);
+			Assertions.assertNotNull(beanB);
+			Assertions.assertSame(beanA, lazyModule.getBean("beanA"));
+			Assertions.assertSame(beanB, lazyModule.getBean("beanB"));
+		}
+		finally {
+			lazyModule.stop();
+			Assertions.assertTrue(beanA.getClass().getField("destroyed").getBoolean(beanA));
+			Assertions.assertFalse(beanA.getClass().getField("destroyFailed").getBoolean(beanA));
+			Assertions.assertTrue(beanB.getClass().getField("destroyed").getBoolean(beanB));
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLazyOrderedModuleDestroyOrder() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		this.clearModuleTarget(MODULE);
+		// Lambda-free modules register beans in a valid creation order
+		InvernoModuleProxy lazyModule = this.getInvernoCompiler().withOptions("-Ainverno.lambdaFree=true").compile(MODULE).load(MODULE).lazy(true).build();
+		List<String> destroyedBeanNames = null;
+		try {
+			lazyModule.start();
+			
+			destroyedBeanNames = (List<String>)lazyModule.getBean("beanC").getClass().getClassLoader().loadClass(MODULE + ".Destructions").getField("BEAN_NAMES").get(null);
+			destroyedBeanNames.clear();
+			// beanB is created before beanA which depends on it
+			lazyModule.getBean("beanA");
+		}
+		finally {
+			lazyModule.stop();
+			this.clearModuleTarget(MODULE);
+		}
+		// beans are destroyed in the reverse creation order
+		Assertions.assertEquals(List.of("beanA", "beanB", "beanC"), destroyedBeanNames);
+	}
+}
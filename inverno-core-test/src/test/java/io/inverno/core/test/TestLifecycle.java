@@ -16,6 +16,24 @@
 package io.inverno.core.test;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -156,4 +174,77 @@ public class TestLifecycle extends AbstractCoreInvernoTest {
 			Assertions.assertTrue(beanE.getClass().getField("destroyed").getBoolean(beanE));
 		}
 	}
+	
+	@Test
+	public void testInitDestroyConcurrent() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, InterruptedException, ExecutionException {
+		this.assertConcurrentPrototypesDestroyed(MODULEA, "prototypeStrategyBean");
+	}
+	
+	@Test
+	public void testInitDestroyWrapperConcurrent() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, InterruptedException, ExecutionException {
+		this.assertConcurrentPrototypesDestroyed(MODULEC, "prototypeStrategyWrapperBean");
+	}
+	
+	@Test
+	public void testLifecycleEvents() throws IOException, InvernoCompilationException {
+		InvernoModuleProxy moduleA = this.getInvernoCompiler().compile(MODULEA).load(MODULEA).build();
+		
+		Path recordingPath = Files.createTempFile("lifecycle", ".jfr");
+		try {
+			try(Recording recording = new Recording()) {
+				List.of("io.inverno.core.ModuleStart", "io.inverno.core.ModuleStop", "io.inverno.core.BeanCreate", "io.inverno.core.BeanInit", "io.inverno.core.BeanDestroy").forEach(eventName -> recording.enable(eventName).withoutThreshold());
+				recording.start();
+				
+				moduleA.start();
+				try {
+					moduleA.getBean("prototypeStrategyBean");
+				}
+				finally {
+					moduleA.stop();
+				}
+				
+				recording.stop();
+				recording.dump(recordingPath);
+			}
+			
+			List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath).stream()
+				.filter(event -> MODULEA.equals(event.getString("moduleName")))
+				.collect(Collectors.toList());
+			
+			Assertions.assertEquals(1, events.stream().filter(event -> event.getEventType().getName().equals("io.inverno.core.ModuleStart")).count());
+			Assertions.assertEquals(1, events.stream().filter(event -> event.getEventType().getName().equals("io.inverno.core.ModuleStop")).count());
+			for(String eventName : List.of("io.inverno.core.BeanCreate", "io.inverno.core.BeanInit", "io.inverno.core.BeanDestroy")) {
+				Assertions.assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(eventName) && event.getString("beanName").equals("singletonStrategyBean") && event.getString("strategy").equals("SINGLETON")));
+				Assertions.assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(eventName) && event.getString("beanName").equals("prototypeStrategyBean") && event.getString("strategy").equals("PROTOTYPE")));
+			}
+		}
+		finally {
+			Files.deleteIfExists(recordingPath);
+		}
+	}
+	
+	private void assertConcurrentPrototypesDestroyed(String module, String beanName) throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException, InterruptedException, ExecutionException {
+		InvernoModuleProxy moduleProxy = this.getInvernoCompiler().compile(module).load(module).build();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		List<Object> prototypeBeans = new ArrayList<>();
+		try {
+			moduleProxy.start();
+			
+			List<Callable<Object>> tasks = IntStream.range(0, 1000).mapToObj(i -> (Callable<Object>)() -> moduleProxy.getBean(beanName)).collect(Collectors.toList());
+			for(Future<Object> result : executor.invokeAll(tasks)) {
+				prototypeBeans.add(result.get());
+			}
+			Set<Object> distinctPrototypeBeans = Collections.newSetFromMap(new IdentityHashMap<>());
+			distinctPrototypeBeans.addAll(prototypeBeans);
+			Assertions.assertEquals(1000, distinctPrototypeBeans.size());
+		}
+		finally {
+			moduleProxy.stop();
+			executor.shutdown();
+			for(Object prototypeBean : prototypeBeans) {
+				Assertions.assertEquals(1, prototypeBean.getClass().getField("destroyCount").get(prototypeBean));
+			}
+		}
+	}
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestModuleMetrics extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.metrics";
+	
+	@Test
+	public void testMetrics() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, InvocationTargetException, NoSuchMethodException, JMException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).metrics(true).build();
+		Assertions.assertTrue(module.getMetrics().isEmpty());
+		
+		Object metrics;
+		List<Object> sessions = new ArrayList<>();
+		module.start();
+		try {
+			metrics = module.getMetrics().get();
+			
+			module.getBean("registry");
+			module.getBean("registry");
+			for(int i=0;i<5;i++) {
+				sessions.add(module.getBean("session"));
+			}
+			Object connection = module.getBean("connection");
+			connection.getClass().getField("fail").set(null, true);
+			Assertions.assertThrows(Exception.class, () -> module.getBean("connection"));
+			
+			Object registryMetrics = this.getBeanMetrics(metrics, "registry");
+			Assertions.assertEquals(1L, this.invoke(registryMetrics, "getCreatedInstances"));
+			Assertions.assertEquals(Optional.of("SINGLETON"), this.invoke(registryMetrics, "getStrategy"));
+			Assertions.assertTrue(((Optional<?>)this.invoke(registryMetrics, "getCreationTime")).isPresent());
+			
+			Object sessionMetrics = this.getBeanMetrics(metrics, "session");
+			Assertions.assertEquals(5L, this.invoke(sessionMetrics, "getCreatedInstances"));
+			Assertions.assertEquals(5L, this.invoke(sessionMetrics, "getAliveInstances"));
+			Assertions.assertEquals(0L, this.invoke(sessionMetrics, "getDestroyedInstances"));
+			Assertions.assertTrue(((Optional<?>)this.invoke(sessionMetrics, "getCreationTime")).isEmpty());
+			
+			Object connectionMetrics = this.getBeanMetrics(metrics, "connection");
+			Assertions.assertEquals(2L, this.invoke(connectionMetrics, "getCreatedInstances"));
+			Assertions.assertEquals(1L, this.invoke(connectionMetrics, "getInitFailures"));
+			
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName("io.inverno.core:type=Module,name=" + MODULE);
+			Assertions.assertTrue(server.isRegistered(objectName));
+			Assertions.assertEquals(MODULE, server.getAttribute(objectName, "ModuleName"));
+			Assertions.assertEquals(-1L, server.getAttribute(objectName, "LastStopDurationMillis"));
+			Map<String, Long> createdInstances = this.toMap((TabularData)server.getAttribute(objectName, "CreatedInstances"));
+			Assertions.assertEquals(Map.of("registry", 1L, "session", 5L, "connection", 2L), createdInstances);
+			Assertions.assertEquals(Map.of("connection", 1L, "registry", 0L, "session", 0L), this.toMap((TabularData)server.getAttribute(objectName, "InitFailures")));
+			Assertions.assertEquals(Map.of("registry", 1L, "session", 5L, "connection", 2L), this.toMap((TabularData)server.getAttribute(objectName, "AliveInstances")));
+			Assertions.assertEquals(1, ((TabularData)server.getAttribute(objectName, "SingletonCreationTimes")).size());
+		}
+		finally {
+			module.stop();
+		}
+		
+		Object sessionMetrics = this.getBeanMetrics(metrics, "session");
+		Assertions.assertEquals(5L, this.invoke(sessionMetrics, "getDestroyedInstances"));
+		Assertions.assertEquals(0L, this.invoke(sessionMetrics, "getAliveInstances"));
+		Assertions.assertEquals(1L, this.invoke(this.getBeanMetrics(metrics, "registry"), "getDestroyedInstances"));
+		Assertions.assertTrue(((Optional<?>)this.invoke(metrics, "getLastStopDuration")).isPresent());
+		for(Object session : sessions) {
+			Assertions.assertTrue((Boolean)session.getClass().getField("closed").get(session));
+		}
+	}
+	
+	@Test
+	public void testMetricsDisabled() throws IOException, InvernoCompilationException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).build();
+		module.start();
+		try {
+			module.getBean("session");
+			Assertions.assertTrue(module.getMetrics().isEmpty());
+		}
+		finally {
+			module.stop();
+		}
+	}
+	
+	private Object getBeanMetrics(Object metrics, String beanName) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		return ((Optional<?>)metrics.getClass().getMethod("getBean", String.class).invoke(metrics, beanName)).get();
+	}
+	
+	private Map<String, Long> toMap(TabularData data) {
+		Map<String, Long> map = new HashMap<>();
+		for(Object row : data.values()) {
+			CompositeData entry = (CompositeData)row;
+			map.put((String)entry.get("key"), (Long)entry.get("value"));
+		}
+		return map;
+	}
+	
+	private Object invoke(Object target, String method) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		return target.getClass().getMethod(method).invoke(target);
+	}
+}
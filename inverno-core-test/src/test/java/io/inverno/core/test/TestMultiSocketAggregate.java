@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestMultiSocketAggregate extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.aggregate";
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testMultiSocketList() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).build();
+		
+		try {
+			module.start();
+			
+			Object handlerA = module.getBean("handlerA");
+			Object handlerB = module.getBean("handlerB");
+			
+			Object router1 = module.getBean("router");
+			Object router2 = module.getBean("router");
+			Assertions.assertNotSame(router1, router2);
+			
+			List<Object> handlers1 = (List<Object>)router1.getClass().getField("handlers").get(router1);
+			List<Object> handlers2 = (List<Object>)router2.getClass().getField("handlers").get(router2);
+			Assertions.assertEquals(List.of(handlerA, handlerB), handlers1);
+			// each injection uses its own aggregator, the aggregate list is never shared
+			Assertions.assertNotSame(handlers1, handlers2);
+			
+			// the injected list belongs to the bean which can modify it
+			handlers1.sort((h1, h2) -> h1 == handlerB ? -1 : h2 == handlerB ? 1 : 0);
+			Assertions.assertEquals(List.of(handlerB, handlerA), handlers1);
+			handlers1.remove(handlerA);
+			handlers1.add(handlerB);
+			Assertions.assertEquals(List.of(handlerB, handlerB), handlers1);
+			Assertions.assertEquals(List.of(handlerA, handlerB), handlers2);
+			Assertions.assertEquals(List.of(handlerA, handlerB), router1.getClass().getField("handlers").get(module.getBean("router")));
+			
+			Object[] handlerArray = (Object[])router1.getClass().getField("handlerArray").get(router1);
+			Assertions.assertArrayEquals(new Object[] {handlerA, handlerB}, handlerArray);
+			Assertions.assertNotSame(handlerArray, router2.getClass().getField("handlerArray").get(router2));
+			
+			Assertions.assertEquals(Set.of(handlerA, handlerB), router1.getClass().getField("handlerSet").get(router1));
+		}
+		finally {
+			module.stop();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestParallelShutdown extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.shutdown";
+	
+	private static final String LIFECYCLE_MODULEB = "io.inverno.core.test.lifecycle.moduleB";
+	
+	@Test
+	public void testBeanShutdownTimeout() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, InvocationTargetException, NoSuchMethodException {
+		ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).shutdownExecutor(executor).beanShutdownTimeout(Duration.ofMillis(500)).build();
+			
+			module.start();
+			Object rootBean = module.getBean("rootBean");
+			Object slowBeanA = module.getBean("slowBeanA");
+			Object slowBeanB = module.getBean("slowBeanB");
+			
+			long t0 = System.nanoTime();
+			module.stop();
+			long shutdownTime = (System.nanoTime() - t0) / 1000000;
+			
+			// Slow beans are destroyed concurrently and the hanging bean is not waited for
+			Assertions.assertTrue(shutdownTime < 1500, "Module stopped in " + shutdownTime + "ms");
+			Assertions.assertTrue(rootBean.getClass().getField("destroyed").getBoolean(rootBean));
+			Assertions.assertFalse(rootBean.getClass().getField("destroyFailed").getBoolean(rootBean));
+			Assertions.assertTrue(slowBeanA.getClass().getField("destroyed").getBoolean(slowBeanA));
+			Assertions.assertTrue(slowBeanB.getClass().getField("destroyed").getBoolean(slowBeanB));
+			
+			// The report is loaded in the module layer, it must be accessed by reflection
+			Object report = module.getShutdownReport().get();
+			Assertions.assertEquals(List.of(MODULE + ":hangingBean"), this.invoke(report, "getTimedOutBeans"));
+			Assertions.assertFalse((Boolean)this.invoke(report, "isTimedOut"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	@Test
+	public void testModuleShutdownTimeout() throws IOException, InvernoCompilationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).shutdownExecutor(executor).shutdownTimeout(Duration.ofMillis(500)).build();
+			
+			module.start();
+			module.getBean("rootBean");
+			
+			long t0 = System.nanoTime();
+			module.stop();
+			long shutdownTime = (System.nanoTime() - t0) / 1000000;
+			
+			Assertions.assertTrue(shutdownTime < 1500, "Module stopped in " + shutdownTime + "ms");
+			
+			Object report = module.getShutdownReport().get();
+			Assertions.assertTrue((Boolean)this.invoke(report, "isTimedOut"));
+			Assertions.assertEquals(List.of(MODULE + ":hangingBean"), this.invoke(report, "getTimedOutBeans"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	@Test
+	public void testParallelShutdownDestroyOrder() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			InvernoModuleProxy moduleB = this.getInvernoCompiler().compile(LIFECYCLE_MODULEB).load(LIFECYCLE_MODULEB).shutdownExecutor(executor).build();
+			
+			Object beanA = null, beanB = null, beanC = null, beanD = null, beanE = null;
+			try {
+				moduleB.start();
+				
+				beanA = moduleB.getBean("beanA");
+				beanB = moduleB.getBean("beanB");
+				beanC = moduleB.getBean("beanC");
+				beanD = moduleB.getBean("beanD");
+				beanE = moduleB.getBean("beanE");
+			}
+			finally {
+				moduleB.stop();
+				for(Object bean : List.of(beanA, beanB, beanC, beanD, beanE)) {
+					Assertions.assertFalse(bean.getClass().getField("destroyFailed").getBoolean(bean));
+					Assertions.assertTrue(bean.getClass().getField("destroyed").getBoolean(bean));
+				}
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+	
+	private Object invoke(Object target, String method) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		return target.getClass().getMethod(method).invoke(target);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestParallelStartup extends AbstractCoreInvernoTest {
+
+	private static final String MODULEA = "io.inverno.core.test.parallel.moduleA";
+	private static final String MODULEB = "io.inverno.core.test.parallel.moduleB";
+	
+	private static final String LIFECYCLE_MODULEB = "io.inverno.core.test.lifecycle.moduleB";
+	
+	@Test
+	public void testParallelStartup() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(MODULEA, MODULEB);
+			InvernoModuleProxy moduleB = moduleLoader.load(MODULEB).startupExecutor(executor).build();
+			
+			Object slowBeanA = null, slowBeanB = null, slowBeanC = null, aggregateBean = null;
+			try {
+				moduleB.start();
+				
+				slowBeanA = moduleB.getBean("slowBeanA");
+				slowBeanB = moduleB.getBean("slowBeanB");
+				slowBeanC = moduleB.getBean("slowBeanC");
+				aggregateBean = moduleB.getBean("aggregateBean");
+				
+				// Slow beans and the component module bean can only be concurrent if they were all initialized at the same time
+				Assertions.assertTrue(slowBeanA.getClass().getField("concurrent").getBoolean(slowBeanA));
+				Assertions.assertTrue(slowBeanB.getClass().getField("concurrent").getBoolean(slowBeanB));
+				Assertions.assertTrue(slowBeanC.getClass().getField("concurrent").getBoolean(slowBeanC));
+				Assertions.assertTrue(aggregateBean.getClass().getField("dependenciesInitialized").getBoolean(aggregateBean));
+			}
+			finally {
+				moduleB.stop();
+				Assertions.assertFalse(aggregateBean.getClass().getField("destroyFailed").getBoolean(aggregateBean));
+				Assertions.assertTrue(slowBeanA.getClass().getField("destroyed").getBoolean(slowBeanA));
+				Assertions.assertTrue(slowBeanB.getClass().getField("destroyed").getBoolean(slowBeanB));
+				Assertions.assertTrue(slowBeanC.getClass().getField("destroyed").getBoolean(slowBeanC));
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testBuilderChaining() throws IOException, InvernoCompilationException, ClassNotFoundException, NoSuchMethodException {
+		InvernoModuleLoader moduleLoader = this.getInvernoCompiler().compile(MODULEA, MODULEB);
+		Class<?> builderClass = moduleLoader.loadClass(MODULEB, MODULEB + ".ModuleB$Builder");
+		
+		// The module builder keeps its single type parameter
+		Class<?> moduleBuilderClass = builderClass.getSuperclass();
+		Assertions.assertEquals(1, moduleBuilderClass.getTypeParameters().length);
+		
+		// Options are overridden in the generated builder so they can be chained with socket methods
+		for(Method method : moduleBuilderClass.getDeclaredMethods()) {
+			if(Modifier.isPublic(method.getModifiers()) && !Modifier.isFinal(method.getModifiers())) {
+				Assertions.assertEquals(builderClass, builderClass.getMethod(method.getName(), method.getParameterTypes()).getReturnType(), method.getName());
+			}
+		}
+	}
+	
+	@Test
+	public void testParallelStartupDestroyOrder() throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, IOException, InvernoCompilationException {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			InvernoModuleProxy moduleB = this.getInvernoCompiler().compile(LIFECYCLE_MODULEB).load(LIFECYCLE_MODULEB).startupExecutor(executor).build();
+			
+			Object beanA = null, beanB = null, beanC = null, beanD = null, beanE = null;
+			try {
+				moduleB.start();
+				
+				beanA = moduleB.getBean("beanA");
+				beanB = moduleB.getBean("beanB");
+				beanC = moduleB.getBean("beanC");
+				beanD = moduleB.getBean("beanD");
+				beanE = moduleB.getBean("beanE");
+			}
+			finally {
+				moduleB.stop();
+				Assertions.assertFalse(beanA.getClass().getField("destroyFailed").getBoolean(beanA));
+				Assertions.assertTrue(beanA.getClass().getField("destroyed").getBoolean(beanA));
+				Assertions.assertFalse(beanB.getClass().getField("destroyFailed").getBoolean(beanB));
+				Assertions.assertTrue(beanB.getClass().getField("destroyed").getBoolean(beanB));
+				Assertions.assertFalse(beanC.getClass().getField("destroyFailed").getBoolean(beanC));
+				Assertions.assertTrue(beanC.getClass().getField("destroyed").getBoolean(beanC));
+				Assertions.assertFalse(beanD.getClass().getField("destroyFailed").getBoolean(beanD));
+				Assertions.assertTrue(beanD.getClass().getField("destroyed").getBoolean(beanD));
+				Assertions.assertFalse(beanE.getClass().getField("destroyFailed").getBoolean(beanE));
+				Assertions.assertTrue(beanE.getClass().getField("destroyed").getBoolean(beanE));
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+}
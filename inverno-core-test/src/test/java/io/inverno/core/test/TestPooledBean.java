@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestPooledBean extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.pooled";
+	
+	@Test
+	public void testPooledBean() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, NoSuchMethodException, InvocationTargetException, ClassNotFoundException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).poolCapacity(1).build();
+		
+		Class<?> bufferClass = null;
+		Object buffer1 = null, buffer2 = null, detachedBuffer = null;
+		try {
+			module.start();
+			
+			Object bufferUser = module.getBean("bufferUser");
+			Object buffers = bufferUser.getClass().getField("buffers").get(bufferUser);
+			Assertions.assertNotNull(buffers);
+			Assertions.assertSame(buffers, bufferUser.getClass().getField("otherBuffers").get(bufferUser));
+			
+			Class<?> poolClass = bufferUser.getClass().getClassLoader().loadClass("io.inverno.core.v1.Pool");
+			Method borrow = poolClass.getMethod("borrow");
+			Method release = poolClass.getMethod("release", Object.class);
+			
+			buffer1 = borrow.invoke(buffers);
+			buffer2 = borrow.invoke(buffers);
+			bufferClass = buffer1.getClass();
+			Assertions.assertNotSame(buffer1, buffer2);
+			Assertions.assertEquals(2, this.getCount(bufferClass, "CREATED"));
+			
+			((StringBuilder)bufferClass.getField("content").get(buffer1)).append("content");
+			release.invoke(buffers, buffer1);
+			// pool is full
+			release.invoke(buffers, buffer2);
+			Assertions.assertFalse(bufferClass.getField("destroyed").getBoolean(buffer1));
+			Assertions.assertTrue(bufferClass.getField("destroyed").getBoolean(buffer2));
+			
+			Object buffer3 = borrow.invoke(buffers);
+			Assertions.assertSame(buffer1, buffer3);
+			Assertions.assertEquals(0, ((StringBuilder)bufferClass.getField("content").get(buffer3)).length());
+			
+			// reset failure evicts the instance
+			bufferClass.getField("poisoned").setBoolean(buffer3, true);
+			release.invoke(buffers, buffer3);
+			Assertions.assertTrue(bufferClass.getField("destroyed").getBoolean(buffer1));
+			Assertions.assertEquals(2, this.getCount(bufferClass, "DESTROYED"));
+			
+			Method write = bufferUser.getClass().getMethod("write", String.class);
+			Assertions.assertEquals("a", write.invoke(bufferUser, "a"));
+			Assertions.assertEquals("b", write.invoke(bufferUser, "b"));
+			Assertions.assertEquals(3, this.getCount(bufferClass, "CREATED"));
+			
+			// an instance obtained outside of a pool is created, it is never returned and it is destroyed with the bean
+			detachedBuffer = module.getBean("buffer");
+			Assertions.assertEquals(4, this.getCount(bufferClass, "CREATED"));
+		}
+		finally {
+			module.stop();
+			Assertions.assertEquals(4, this.getCount(bufferClass, "DESTROYED"));
+			Assertions.assertTrue(bufferClass.getField("destroyed").getBoolean(detachedBuffer));
+		}
+	}
+	
+	@Test
+	public void testGetDoesNotDrainPool() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, NoSuchMethodException, InvocationTargetException, ClassNotFoundException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).poolCapacity(2).build();
+		
+		Class<?> bufferClass = null;
+		Object idleBuffer1 = null, idleBuffer2 = null;
+		try {
+			module.start();
+			
+			Object bufferUser = module.getBean("bufferUser");
+			Object buffers = bufferUser.getClass().getField("buffers").get(bufferUser);
+			
+			Class<?> poolClass = bufferUser.getClass().getClassLoader().loadClass("io.inverno.core.v1.Pool");
+			Method borrow = poolClass.getMethod("borrow");
+			Method release = poolClass.getMethod("release", Object.class);
+			
+			idleBuffer1 = borrow.invoke(buffers);
+			idleBuffer2 = borrow.invoke(buffers);
+			bufferClass = idleBuffer1.getClass();
+			release.invoke(buffers, idleBuffer1);
+			release.invoke(buffers, idleBuffer2);
+			int created = this.getCount(bufferClass, "CREATED");
+			
+			// get() creates detached instances and leaves idle instances in the pool
+			for(int i = 0;i < 3;i++) {
+				Object detachedBuffer = module.getBean("buffer");
+				Assertions.assertNotSame(idleBuffer1, detachedBuffer);
+				Assertions.assertNotSame(idleBuffer2, detachedBuffer);
+			}
+			Assertions.assertEquals(created + 3, this.getCount(bufferClass, "CREATED"));
+			
+			Object buffer1 = borrow.invoke(buffers);
+			Object buffer2 = borrow.invoke(buffers);
+			Assertions.assertTrue((buffer1 == idleBuffer1 && buffer2 == idleBuffer2) || (buffer1 == idleBuffer2 && buffer2 == idleBuffer1));
+			Assertions.assertEquals(created + 3, this.getCount(bufferClass, "CREATED"));
+			release.invoke(buffers, buffer1);
+			release.invoke(buffers, buffer2);
+		}
+		finally {
+			module.stop();
+			Assertions.assertTrue(bufferClass.getField("destroyed").getBoolean(idleBuffer1));
+			Assertions.assertTrue(bufferClass.getField("destroyed").getBoolean(idleBuffer2));
+		}
+	}
+	
+	private int getCount(Class<?> bufferClass, String counter) throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		return ((Number)bufferClass.getField(counter).get(null)).intValue();
+	}
+}
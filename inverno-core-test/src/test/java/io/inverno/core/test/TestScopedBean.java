@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestScopedBean extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.scoped";
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScopedBean() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, ClassNotFoundException, InstantiationException, InvocationTargetException, NoSuchMethodException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).build();
+		
+		try {
+			module.start();
+			
+			InvernoModuleException e = Assertions.assertThrows(InvernoModuleException.class, () -> module.getBean("requestContext"));
+			Assertions.assertInstanceOf(IllegalStateException.class, e.getCause());
+			
+			Object service = module.getBean("service");
+			Supplier<Object> handler = (Supplier<Object>)service.getClass().getField("handler").get(service);
+			
+			Class<?> scopeClass = service.getClass().getClassLoader().loadClass("io.inverno.core.v1.Scope");
+			Method call = scopeClass.getMethod("call", Supplier.class);
+			Method close = scopeClass.getMethod("close");
+			
+			Object scope1 = scopeClass.getConstructor().newInstance();
+			List<Object> scope1Beans = (List<Object>)call.invoke(scope1, (Supplier<List<Object>>)() -> List.of(handler.get(), handler.get(), module.getBean("requestContext")));
+			Object handler1 = scope1Beans.get(0);
+			Object context1 = handler1.getClass().getField("context").get(handler1);
+			Assertions.assertSame(handler1, scope1Beans.get(1));
+			Assertions.assertSame(context1, scope1Beans.get(2));
+			
+			Object scope2 = scopeClass.getConstructor().newInstance();
+			Object handler2 = call.invoke(scope2, (Supplier<Object>)handler::get);
+			Assertions.assertNotSame(handler1, handler2);
+			Assertions.assertEquals(2, ((Number)context1.getClass().getField("CREATED").get(null)).intValue());
+			
+			close.invoke(scope1);
+			Assertions.assertTrue(handler1.getClass().getField("destroyed").getBoolean(handler1));
+			Assertions.assertFalse(handler1.getClass().getField("destroyFailed").getBoolean(handler1));
+			Assertions.assertTrue(context1.getClass().getField("destroyed").getBoolean(context1));
+			Assertions.assertFalse(handler2.getClass().getField("destroyed").getBoolean(handler2));
+			
+			// a closed scope can't be used anymore
+			Assertions.assertThrows(InvocationTargetException.class, () -> call.invoke(scope1, (Supplier<Object>)handler::get));
+			
+			close.invoke(scope2);
+			Assertions.assertTrue(handler2.getClass().getField("destroyed").getBoolean(handler2));
+		}
+		finally {
+			module.stop();
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScopedBeanRestart() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, ClassNotFoundException, InstantiationException, InvocationTargetException, NoSuchMethodException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).build();
+		
+		try {
+			module.start();
+			
+			Object service = module.getBean("service");
+			Class<?> scopeClass = service.getClass().getClassLoader().loadClass("io.inverno.core.v1.Scope");
+			Method call = scopeClass.getMethod("call", Supplier.class);
+			Method close = scopeClass.getMethod("close");
+			
+			Object scope = scopeClass.getConstructor().newInstance();
+			Object context1 = call.invoke(scope, (Supplier<Object>)() -> module.getBean("requestContext"));
+			
+			// instances belong to the scope which outlives the module
+			module.stop();
+			Assertions.assertFalse(context1.getClass().getField("destroyed").getBoolean(context1));
+			
+			module.start();
+			Object context2 = call.invoke(scope, (Supplier<Object>)() -> module.getBean("requestContext"));
+			Assertions.assertNotSame(context1, context2);
+			Assertions.assertSame(context2, call.invoke(scope, (Supplier<Object>)() -> module.getBean("requestContext")));
+			
+			close.invoke(scope);
+			Assertions.assertTrue(context1.getClass().getField("destroyed").getBoolean(context1));
+			Assertions.assertTrue(context2.getClass().getField("destroyed").getBoolean(context2));
+		}
+		finally {
+			module.stop();
+		}
+	}
+}
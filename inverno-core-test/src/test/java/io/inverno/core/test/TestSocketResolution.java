@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleLoader;
+import io.inverno.test.InvernoModuleProxy;
+import io.inverno.test.InvernoTestCompiler;
+
+/**
+ * <p>
+ * Compiles synthetic modules of increasing size in which every bean exposes its own interface and is wired by type and by annotation selector, in order to check that sockets are resolved
+ * correctly and to report how socket resolution scales with the number of beans.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestSocketResolution extends AbstractCoreInvernoTest {
+
+	@Test
+	public void testSyntheticModules() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+		for(int beanCount : new int[] {100, 400}) {
+			String moduleName = "io.inverno.core.test.synthetic.beans" + beanCount;
+			InvernoTestCompiler compiler = this.createSyntheticModule(moduleName, beanCount);
+			
+			InvernoModuleLoader moduleLoader = compiler.compile(moduleName);
+			
+			InvernoModuleProxy module = moduleLoader.load(moduleName).build();
+			module.start();
+			try {
+				Object registry = module.getBean("registry");
+				Object services = registry.getClass().getField("services").get(registry);
+				Object markedServices = registry.getClass().getField("markedServices").get(registry);
+				
+				Assertions.assertEquals(beanCount, Array.getLength(services));
+				Assertions.assertEquals((beanCount + 2) / 3, Array.getLength(markedServices));
+				
+				Object lastBean = null;
+				for(int i=0;i<beanCount;i++) {
+					if(Array.get(services, i).getClass().getSimpleName().equals("Bean" + (beanCount - 1))) {
+						lastBean = Array.get(services, i);
+					}
+				}
+				Assertions.assertNotNull(lastBean);
+				Object parentBean = lastBean.getClass().getField("parent").get(lastBean);
+				Assertions.assertEquals("Bean" + ((beanCount - 1) / 2), parentBean.getClass().getSimpleName());
+			}
+			finally {
+				module.stop();
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Generates a synthetic module with the specified number of beans.
+	 * </p>
+	 * 
+	 * <p>
+	 * Bean {@code i} implements interface {@code Api<i>}, which extends {@code Service}, and defines a single socket of type {@code Api<i/2>}. Every third bean is annotated with
+	 * {@code @Marked}. A registry bean aggregates all services and the marked services in two multiple sockets.
+	 * </p>
+	 */
+	private InvernoTestCompiler createSyntheticModule(String moduleName, int beanCount) throws IOException {
+		Map<String, String> sources = new HashMap<>();
+		sources.put("Service", "public interface Service {}\n");
+		sources.put("Marked", 
+			"@java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE)\n" + 
+			"public @interface Marked {}\n"
+		);
+		sources.put("Registry", 
+			"@io.inverno.core.annotation.Bean\n" + 
+			"public class Registry {\n" + 
+			"	public Service[] services;\n" + 
+			"	public Service[] markedServices;\n" + 
+			"	public Registry(Service[] services, @io.inverno.core.annotation.AnnotationSelector(Marked.class) Service[] markedServices) {\n" + 
+			"		this.services = services;\n" + 
+			"		this.markedServices = markedServices;\n" + 
+			"	}\n" + 
+			"}\n"
+		);
+		for(int i=0;i<beanCount;i++) {
+			sources.put("Api" + i, "public interface Api" + i + " extends Service {}\n");
+			
+			StringBuilder beanSource = new StringBuilder();
+			if(i % 3 == 0) {
+				beanSource.append("@Marked\n");
+			}
+			beanSource.append("@io.inverno.core.annotation.Bean(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)\n");
+			beanSource.append("public class Bean").append(i).append(" implements Api").append(i).append(" {\n");
+			if(i > 0) {
+				beanSource.append("	public Api").append(i / 2).append(" parent;\n");
+				beanSource.append("	public Bean").append(i).append("(Api").append(i / 2).append(" parent) {\n");
+				beanSource.append("		this.parent = parent;\n");
+				beanSource.append("	}\n");
+			}
+			beanSource.append("}\n");
+			sources.put("Bean" + i, beanSource.toString());
+		}
+		return this.createSyntheticModule(moduleName, sources);
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoTestCompiler;
+
+/**
+ * <p>
+ * Checks the beans a module's socket beans are wired to, as generated in the module class.
+ * </p>
+ * 
+ * <p>
+ * The graph is traversed from each module bean, a socket bean is wired to all the beans visited before it including the beans already wired to the socket beans visited before it. The
+ * generated values are compared to the ones obtained by traversing random graphs without memoization.
+ * </p>
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestSocketWiredBeans extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.synthetic.wiredbeans";
+	
+	private static final String MODULE_RANDOM = "io.inverno.core.test.synthetic.randomwiredbeans";
+	
+	private static final String PRIVATE_BEAN = "@io.inverno.core.annotation.Bean(visibility = io.inverno.core.annotation.Bean.Visibility.PRIVATE)\n";
+	
+	private static final Pattern SOCKET_PATTERN = Pattern.compile("@Socket\\(name = \"([^\"]+)\"(?:, wiredTo = \\{([^}]*)\\})?");
+	
+	@Test
+	public void testWiredBeans() throws IOException, InvernoCompilationException {
+		Map<String, String> sources = new HashMap<>();
+		sources.put("ServiceA", "public interface ServiceA {}\n");
+		sources.put("ServiceB", "public interface ServiceB {}\n");
+		sources.put("SocketA", "@io.inverno.core.annotation.Bean public interface SocketA extends java.util.function.Supplier<ServiceA> {}\n");
+		sources.put("SocketB", "@io.inverno.core.annotation.Bean public interface SocketB extends java.util.function.Supplier<ServiceB> {}\n");
+		sources.put("Root", PRIVATE_BEAN + "public class Root { public Root(Independent independent, DependentA dependentA) {} }\n");
+		sources.put("Independent", PRIVATE_BEAN + "public class Independent { public Independent(Leaf leaf) {} }\n");
+		sources.put("Leaf", PRIVATE_BEAN + "public class Leaf {}\n");
+		sources.put("DependentA", PRIVATE_BEAN + "public class DependentA { public DependentA(ServiceA serviceA) {} }\n");
+		sources.put("DependentB", PRIVATE_BEAN + "public class DependentB { public DependentB(DependentA dependentA, ServiceB serviceB) {} }\n");
+		sources.put("Top", PRIVATE_BEAN + "public class Top { public Top(DependentB dependentB, DependentA dependentA) {} }\n");
+		sources.put("Overridable", "@io.inverno.core.annotation.Bean @io.inverno.core.annotation.Overridable public class Overridable { @io.inverno.core.annotation.BeanSocket public Overridable(ServiceA serviceA) {} }\n");
+		sources.put("OverridableDependent", PRIVATE_BEAN + "public class OverridableDependent { public OverridableDependent(Overridable overridable, Leaf leaf) {} }\n");
+		
+		InvernoTestCompiler compiler = this.createSyntheticModule(MODULE, sources);
+		compiler.compile(MODULE);
+		
+		Map<String, Set<String>> wiredBeansBySocket = this.getWiredBeans(new File(compiler.getSourceOutputPath(), MODULE + "/" + MODULE.replace('.', '/') + "/Wiredbeans.java"));
+		
+		// Beans visited before a socket bean in a traversal and beans wired to previously visited socket beans are wired to the socket bean
+		Set<String> allBeans = Set.of("root", "independent", "leaf", "dependentA", "dependentB", "top", "overridable", "overridableDependent");
+		Assertions.assertEquals(allBeans, wiredBeansBySocket.get("socketA"));
+		Assertions.assertEquals(allBeans, wiredBeansBySocket.get("socketB"));
+		// An overridable bean is not wired to its own overriding socket
+		Assertions.assertEquals(Set.of("overridableDependent"), wiredBeansBySocket.get("overridable"));
+	}
+	
+	@Test
+	public void testRandomWiredBeans() throws IOException, InvernoCompilationException {
+		Map<String, String> sources = new HashMap<>();
+		Map<String, List<String>> dependenciesByBean = new HashMap<>();
+		Set<String> socketBeans = new HashSet<>();
+		for(int graph = 0;graph < 3;graph++) {
+			Random random = new Random(graph);
+			String prefix = "G" + graph;
+			int socketCount = 2;
+			for(int i = 0;i < socketCount;i++) {
+				sources.put(prefix + "Service" + i, "public interface " + prefix + "Service" + i + " {}\n");
+				sources.put(prefix + "Socket" + i, "@io.inverno.core.annotation.Bean public interface " + prefix + "Socket" + i + " extends java.util.function.Supplier<" + prefix + "Service" + i + "> {}\n");
+				socketBeans.add(this.getBeanName(prefix + "Socket" + i));
+			}
+			int beanCount = 14;
+			for(int i = 0;i < beanCount;i++) {
+				List<String> dependencies = new ArrayList<>();
+				for(int j = random.nextInt(3);j > 0 && i > 0;j--) {
+					String dependency = prefix + "Bean" + random.nextInt(i);
+					if(!dependencies.contains(dependency)) {
+						dependencies.add(dependency);
+					}
+				}
+				if(random.nextBoolean()) {
+					dependencies.add(random.nextInt(dependencies.size() + 1), prefix + "Service" + random.nextInt(socketCount));
+				}
+				String className = prefix + "Bean" + i;
+				sources.put(className, PRIVATE_BEAN + "public class " + className + " { public " + className + "(" + IntStream.range(0, dependencies.size()).mapToObj(index -> dependencies.get(index) + " dependency" + index).collect(Collectors.joining(", ")) + ") {} }\n");
+				dependenciesByBean.put(this.getBeanName(className), dependencies.stream().map(dependency -> this.getBeanName(dependency.replace("Service", "Socket"))).collect(Collectors.toList()));
+			}
+		}
+		
+		InvernoTestCompiler compiler = this.createSyntheticModule(MODULE_RANDOM, sources);
+		compiler.compile(MODULE_RANDOM);
+		
+		Map<String, Set<String>> wiredBeansBySocket = this.getWiredBeans(new File(compiler.getSourceOutputPath(), MODULE_RANDOM + "/" + MODULE_RANDOM.replace('.', '/') + "/Randomwiredbeans.java"));
+		
+		Map<String, Set<String>> expectedWiredBeansBySocket = new HashMap<>();
+		for(String bean : new TreeSet<>(dependenciesByBean.keySet())) {
+			this.traverse(bean, dependenciesByBean, socketBeans, new HashSet<>(), expectedWiredBeansBySocket);
+		}
+		for(String socketBean : socketBeans) {
+			Assertions.assertEquals(expectedWiredBeansBySocket.getOrDefault(socketBean, Set.of()), wiredBeansBySocket.get(socketBean), socketBean);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Traverses the graph from the specified bean without memoization the way the wired beans were historically resolved.
+	 * </p>
+	 * 
+	 * @param bean               the bean to traverse
+	 * @param dependenciesByBean the dependencies of each bean
+	 * @param socketBeans        the socket beans
+	 * @param wiredBeans         the beans visited during the traversal
+	 * @param wiredBeansBySocket the beans wired to each socket bean
+	 */
+	private void traverse(String bean, Map<String, List<String>> dependenciesByBean, Set<String> socketBeans, Set<String> wiredBeans, Map<String, Set<String>> wiredBeansBySocket) {
+		if(socketBeans.contains(bean)) {
+			wiredBeans.addAll(wiredBeansBySocket.getOrDefault(bean, Set.of()));
+			wiredBeansBySocket.put(bean, new HashSet<>(wiredBeans));
+		}
+		else {
+			wiredBeans.add(bean);
+			for(String dependency : dependenciesByBean.get(bean)) {
+				this.traverse(dependency, dependenciesByBean, socketBeans, wiredBeans, wiredBeansBySocket);
+			}
+		}
+	}
+	
+	private String getBeanName(String className) {
+		return Character.toLowerCase(className.charAt(0)) + className.substring(1);
+	}
+	
+	private Map<String, Set<String>> getWiredBeans(File moduleSource) throws IOException {
+		Map<String, Set<String>> wiredBeansBySocket = new HashMap<>();
+		Matcher matcher = SOCKET_PATTERN.matcher(Files.readString(moduleSource.toPath()));
+		while(matcher.find()) {
+			wiredBeansBySocket.put(matcher.group(1), matcher.group(2) == null ? Set.of() : Arrays.stream(matcher.group(2).split(",")).map(String::trim).map(name -> name.substring(1, name.length() - 1)).collect(Collectors.toSet()));
+		}
+		return wiredBeansBySocket;
+	}
+}
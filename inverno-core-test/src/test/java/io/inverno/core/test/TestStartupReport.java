@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestStartupReport extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.startup";
+	
+	@Test
+	public void testStartupReport() throws IOException, InvernoCompilationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).build();
+		
+		Assertions.assertTrue(module.getStartupReport().isEmpty());
+		
+		module.start();
+		try {
+			// The report is loaded in the module layer, it must be accessed by reflection
+			Object report = module.getStartupReport().get();
+			Assertions.assertEquals(MODULE, this.invoke(report, "getModuleName"));
+			
+			Map<String, Object> beans = new HashMap<>();
+			for(Object bean : (List<?>)this.invoke(report, "getBeans")) {
+				beans.put((String)this.invoke(bean, "getBeanName"), bean);
+			}
+			Assertions.assertEquals(4, beans.size());
+			
+			Object slowBean = beans.get("slowBean");
+			Assertions.assertTrue(((Duration)this.invoke(slowBean, "getInitTime")).compareTo(Duration.ofMillis(200)) >= 0);
+			Assertions.assertTrue((Boolean)this.invoke(slowBean, "isCriticalPath"));
+			
+			// The time spent to instantiate dependencies is not reported in the dependent bean
+			Object dependentBean = beans.get("dependentBean");
+			Assertions.assertTrue(((Duration)this.invoke(dependentBean, "getTotalTime")).compareTo(Duration.ofMillis(200)) < 0);
+			Assertions.assertTrue((Boolean)this.invoke(dependentBean, "isCriticalPath"));
+			
+			Assertions.assertFalse((Boolean)this.invoke(beans.get("fastBean"), "isCriticalPath"));
+			Assertions.assertFalse((Boolean)this.invoke(beans.get("otherBean"), "isCriticalPath"));
+			
+			Assertions.assertEquals(2, ((List<?>)this.invoke(report, "getCriticalPath")).size());
+			Assertions.assertTrue(((Duration)this.invoke(report, "getStartupTime")).compareTo((Duration)this.invoke(report, "getCriticalPathTime")) >= 0);
+		}
+		finally {
+			module.stop();
+		}
+	}
+	
+	private Object invoke(Object target, String method) throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		return target.getClass().getMethod(method).invoke(target);
+	}
+}
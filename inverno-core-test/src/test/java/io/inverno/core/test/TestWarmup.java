@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.inverno.test.InvernoCompilationException;
+import io.inverno.test.InvernoModuleException;
+import io.inverno.test.InvernoModuleProxy;
+
+/**
+ * 
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ *
+ */
+public class TestWarmup extends AbstractCoreInvernoTest {
+
+	private static final String MODULE = "io.inverno.core.test.warmup";
+	
+	private static final String PROPERTY_DELAY = "io.inverno.core.test.warmup.delay";
+	
+	@Test
+	public void testWarmup() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, InterruptedException, ExecutionException, TimeoutException {
+		this.clearModuleTarget(MODULE);
+		ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "warmup"));
+		try {
+			InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).warmupExecutor(executor).build();
+			
+			String ignoredWarmup = "Warmup method is only invoked for SINGLETON beans, it will be ignored";
+			Assertions.assertTrue(this.getInvernoCompiler().getDiagnostics().stream().anyMatch(d -> d.getMessage(Locale.getDefault()).equals(ignoredWarmup)));
+			
+			InvernoModuleException notStarted = Assertions.assertThrows(InvernoModuleException.class, () -> module.getReadiness());
+			Assertions.assertEquals("Module " + MODULE + " has not been started", notStarted.getCause().getMessage());
+			
+			module.start();
+			try {
+				module.getReadiness().get(5, TimeUnit.SECONDS);
+				
+				Object codec = module.getBean("codec");
+				Assertions.assertEquals(1, codec.getClass().getField("warmups").get(codec));
+				Assertions.assertEquals("warmup", codec.getClass().getField("warmupThread").get(codec));
+				
+				Object slowCodec = module.getBean("slowCodec");
+				Assertions.assertTrue((Boolean)slowCodec.getClass().getField("warmedUp").get(slowCodec));
+				
+				// A failing warm-up operation must not prevent the others from being invoked
+				Object brokenCodec = module.getBean("brokenCodec");
+				Assertions.assertTrue((Boolean)brokenCodec.getClass().getField("warmedUp").get(brokenCodec));
+				
+				Object session = module.getBean("session");
+				Assertions.assertFalse((Boolean)session.getClass().getField("warmedUp").get(null));
+			}
+			finally {
+				module.stop();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testWarmupTimeout() throws IOException, InvernoCompilationException, IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException, InterruptedException, ExecutionException, TimeoutException {
+		System.setProperty(PROPERTY_DELAY, "3000");
+		try {
+			InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).warmupTimeout(Duration.ofMillis(200)).build();
+			
+			module.start();
+			try {
+				// The module is ready once the time budget is exhausted
+				module.getReadiness().get(2, TimeUnit.SECONDS);
+				
+				Object slowCodec = module.getBean("slowCodec");
+				Assertions.assertFalse((Boolean)slowCodec.getClass().getField("warmedUp").get(slowCodec));
+				
+				Object codec = module.getBean("codec");
+				Assertions.assertEquals(1, codec.getClass().getField("warmups").get(codec));
+			}
+			finally {
+				module.stop();
+			}
+		}
+		finally {
+			System.clearProperty(PROPERTY_DELAY);
+		}
+	}
+	
+	@Test
+	public void testReadinessCancelledOnStop() throws IOException, InvernoCompilationException {
+		System.setProperty(PROPERTY_DELAY, "1000");
+		try {
+			InvernoModuleProxy module = this.getInvernoCompiler().compile(MODULE).load(MODULE).build();
+			
+			module.start();
+			CompletableFuture<Void> readiness = module.getReadiness();
+			Assertions.assertFalse(readiness.isDone());
+			module.stop();
+			Assertions.assertTrue(readiness.isCompletedExceptionally());
+			Assertions.assertTrue(module.getReadiness().isCompletedExceptionally());
+		}
+		finally {
+			System.clearProperty(PROPERTY_DELAY);
+		}
+	}
+}
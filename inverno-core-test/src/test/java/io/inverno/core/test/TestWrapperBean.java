@@ -16,6 +16,7 @@
 package io.inverno.core.test;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -42,4 +43,22 @@ public class TestWrapperBean extends AbstractCoreInvernoTest {
 		Assertions.assertTrue(simpleProxy.getBean("beanA") instanceof Runnable);
 		simpleProxy.stop();
 	}
+	
+	@Test
+	public void testNullBeanCreation() throws IOException, InvernoCompilationException, ReflectiveOperationException {
+		InvernoModuleProxy simpleProxy = this.getInvernoCompiler().compile(MODULE).load(MODULE).build();
+		
+		Class<?> nullBeanClass = null;
+		try {
+			simpleProxy.start();
+			nullBeanClass = simpleProxy.getBean("beanA").getClass().getClassLoader().loadClass(MODULE + ".NullBean");
+			Assertions.assertNull(simpleProxy.getBean("nullBean"));
+			Assertions.assertNull(simpleProxy.getBean("nullBean"));
+			Assertions.assertEquals(1, ((AtomicInteger)nullBeanClass.getField("createCount").get(null)).get());
+		}
+		finally {
+			simpleProxy.stop();
+		}
+		Assertions.assertEquals(1, ((AtomicInteger)nullBeanClass.getField("destroyCount").get(null)).get());
+	}
 }
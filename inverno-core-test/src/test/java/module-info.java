@@ -24,9 +24,11 @@
  */
 module io.inverno.core.test {
 	requires java.compiler;
+	requires java.management;
 	
 	requires java.sql;
 	requires jdk.httpserver;
+	requires jdk.jfr;
 	requires io.inverno.test;
 	requires io.inverno.core;
 	requires io.inverno.core.compiler;
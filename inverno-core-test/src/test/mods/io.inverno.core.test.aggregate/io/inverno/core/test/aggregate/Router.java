@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.aggregate;
+
+import io.inverno.core.annotation.Bean;
+import java.util.List;
+import java.util.Set;
+
+@Bean(strategy = Bean.Strategy.PROTOTYPE)
+public class Router {
+
+	public List<Handler> handlers;
+	
+	public Handler[] handlerArray;
+	
+	public Set<Handler> handlerSet;
+	
+	public Router(List<Handler> handlers, Handler[] handlerArray) {
+		this.handlers = handlers;
+		this.handlerArray = handlerArray;
+	}
+	
+	public void setHandlerSet(Set<Handler> handlerSet) {
+		this.handlerSet = handlerSet;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.asyncinit.moduleB;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Init;
+
+@Bean
+public class AsyncBean {
+
+	public volatile boolean initialized;
+	
+	public volatile long initializedAt;
+	
+	@Init
+	public CompletableFuture<Void> init() {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				Thread.sleep(200);
+			} 
+			catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			this.initializedAt = System.nanoTime();
+			this.initialized = true;
+		});
+	}
+}
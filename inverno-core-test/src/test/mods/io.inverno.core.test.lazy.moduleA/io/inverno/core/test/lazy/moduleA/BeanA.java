@@ -29,11 +29,17 @@ public class BeanA {
 	public BeanC beanC1;
 	public BeanC beanC2;
 	
+	public Supplier<BeanB> beanBSupplier;
+	public Supplier<BeanC> beanCSupplier;
+	
 	public BeanA(@Lazy Supplier<BeanB> beanB, @Lazy Supplier<BeanC> beanC) {
 		this.beanB1 = beanB.get();
 		this.beanB2 = beanB.get();
 		
 		this.beanC1 = beanC.get();
 		this.beanC2 = beanC.get();
+		
+		this.beanBSupplier = beanB;
+		this.beanCSupplier = beanC;
 	}
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.ondemand;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+
+@Bean
+public class BeanA {
+
+	public BeanB beanB;
+	
+	public boolean destroyed;
+	
+	public boolean destroyFailed;
+	
+	public BeanA(BeanB beanB) {
+		this.beanB = beanB;
+	}
+	
+	@Destroy
+	public void destroy() {
+		// beanB must be destroyed after beanA
+		this.destroyFailed = this.beanB.destroyed;
+		this.destroyed = true;
+		Destructions.BEAN_NAMES.add("beanA");
+	}
+}
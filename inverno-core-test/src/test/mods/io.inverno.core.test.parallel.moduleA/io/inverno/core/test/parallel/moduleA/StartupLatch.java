@@ -0,0 +1,26 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.parallel.moduleA;
+
+import java.util.concurrent.CountDownLatch;
+
+public final class StartupLatch {
+
+	/**
+	 * Counted down by every slow bean of the test modules, the latch can only reach zero when all slow beans are initialized concurrently.
+	 */
+	public static final CountDownLatch INIT = new CountDownLatch(4);
+}
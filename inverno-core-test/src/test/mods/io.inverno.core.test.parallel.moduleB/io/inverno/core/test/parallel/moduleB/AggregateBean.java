@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.parallel.moduleB;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import io.inverno.core.test.parallel.moduleA.ServiceA;
+
+@Bean
+public class AggregateBean {
+
+	public boolean dependenciesInitialized;
+	
+	public boolean destroyFailed;
+	
+	private SlowBeanA slowBeanA;
+	
+	private SlowBeanB slowBeanB;
+	
+	private SlowBeanC slowBeanC;
+	
+	public AggregateBean(SlowBeanA slowBeanA, SlowBeanB slowBeanB, SlowBeanC slowBeanC, ServiceA serviceA) {
+		this.slowBeanA = slowBeanA;
+		this.slowBeanB = slowBeanB;
+		this.slowBeanC = slowBeanC;
+		this.dependenciesInitialized = slowBeanA.initialized && slowBeanB.initialized && slowBeanC.initialized && serviceA.initialized;
+	}
+	
+	@Destroy
+	public void destroy() {
+		this.destroyFailed = this.slowBeanA.destroyed || this.slowBeanB.destroyed || this.slowBeanC.destroyed;
+	}
+}
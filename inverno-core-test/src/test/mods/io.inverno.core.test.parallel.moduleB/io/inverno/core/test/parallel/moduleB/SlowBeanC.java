@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.parallel.moduleB;
+
+import java.util.concurrent.TimeUnit;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import io.inverno.core.annotation.Init;
+import io.inverno.core.test.parallel.moduleA.StartupLatch;
+
+@Bean
+public class SlowBeanC {
+
+	public volatile boolean initialized;
+	
+	public volatile boolean concurrent;
+	
+	public volatile boolean destroyed;
+	
+	@Init
+	public void init() throws InterruptedException {
+		StartupLatch.INIT.countDown();
+		this.concurrent = StartupLatch.INIT.await(5, TimeUnit.SECONDS);
+		this.initialized = true;
+	}
+	
+	@Destroy
+	public void destroy() {
+		this.destroyed = true;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.pooled;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+import io.inverno.core.annotation.Reset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Bean(strategy = Bean.Strategy.POOLED)
+public class Buffer {
+
+	public static final AtomicInteger CREATED = new AtomicInteger();
+	
+	public static final AtomicInteger DESTROYED = new AtomicInteger();
+	
+	public final StringBuilder content;
+	
+	public boolean poisoned;
+	
+	public boolean destroyed;
+	
+	public Buffer() {
+		this.content = new StringBuilder();
+		CREATED.incrementAndGet();
+	}
+	
+	@Reset
+	public void reset() {
+		if(this.poisoned) {
+			throw new IllegalStateException("Buffer is poisoned");
+		}
+		this.content.setLength(0);
+	}
+	
+	@Destroy
+	public void destroy() {
+		this.destroyed = true;
+		DESTROYED.incrementAndGet();
+	}
+}
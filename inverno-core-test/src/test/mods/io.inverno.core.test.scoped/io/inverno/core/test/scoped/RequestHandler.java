@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.scoped;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+
+@Bean(strategy = Bean.Strategy.SCOPED)
+public class RequestHandler {
+
+	public RequestContext context;
+	
+	public boolean destroyed;
+	
+	public boolean destroyFailed;
+	
+	public RequestHandler(RequestContext context) {
+		this.context = context;
+	}
+	
+	@Destroy
+	public void destroy() {
+		// context must be destroyed after the handler
+		this.destroyFailed = this.context.destroyed;
+		this.destroyed = true;
+	}
+}
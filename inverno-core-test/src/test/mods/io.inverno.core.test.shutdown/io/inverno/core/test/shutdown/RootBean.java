@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.test.shutdown;
+
+import io.inverno.core.annotation.Bean;
+import io.inverno.core.annotation.Destroy;
+
+@Bean
+public class RootBean {
+
+	private final SlowBeanA slowBeanA;
+	
+	private final SlowBeanB slowBeanB;
+	
+	private final HangingBean hangingBean;
+	
+	public volatile boolean destroyed;
+	
+	public volatile boolean destroyFailed;
+	
+	public RootBean(SlowBeanA slowBeanA, SlowBeanB slowBeanB, HangingBean hangingBean) {
+		this.slowBeanA = slowBeanA;
+		this.slowBeanB = slowBeanB;
+		this.hangingBean = hangingBean;
+	}
+	
+	@Destroy
+	public void destroy() {
+		// dependencies must be destroyed after the bean
+		this.destroyFailed = this.slowBeanA.destroyed || this.slowBeanB.destroyed || this.hangingBean.destroyed;
+		this.destroyed = true;
+	}
+}
@@ -18,7 +18,21 @@ package io.inverno.core.test.strategy;
 import io.inverno.core.annotation.Bean;
 import io.inverno.core.annotation.Bean.Strategy;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Bean(strategy=Strategy.SINGLETON)
 public class SingletonStrategyBean {
 
+	public static final AtomicInteger instanceCount = new AtomicInteger();
+	
+	public SingletonStrategyBean() {
+		instanceCount.incrementAndGet();
+		try {
+			// widens the window during which concurrent requests can race on the creation
+			Thread.sleep(50);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
 }
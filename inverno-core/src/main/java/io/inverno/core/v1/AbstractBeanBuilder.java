@@ -17,8 +17,8 @@ package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
 import io.inverno.core.v1.Module.BeanBuilder;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 /**
@@ -48,14 +48,24 @@ abstract class AbstractBeanBuilder<T, B extends BeanBuilder<T, B>> implements Be
 	protected final Supplier<T> constructor;
 
 	/**
-	 * The list of bean initialization operations that must be executed after bean instance creation and dependency injection.
+	 * The bean initialization operations that must be executed after bean instance creation and dependency injection.
 	 */
-	protected List<FallibleConsumer<T>> inits;
+	protected FallibleConsumer<T>[] inits;
+	
+	/**
+	 * The bean asynchronous initialization operations that must be executed after the bean initialization operations.
+	 */
+	protected FallibleFunction<T, CompletionStage<?>>[] asyncInits;
 
 	/**
-	 * The list of bean destructions operations that must be executed after a bean instance creation and dependency injection.
+	 * The bean destructions operations that must be executed after a bean instance creation and dependency injection.
+	 */
+	protected FallibleConsumer<T>[] destroys;
+	
+	/**
+	 * The bean warm-up operations that must be executed once the module has been started.
 	 */
-	protected List<FallibleConsumer<T>> destroys;
+	protected FallibleConsumer<T>[] warmups;
 	
 	/**
 	 * <p>
@@ -76,10 +86,17 @@ abstract class AbstractBeanBuilder<T, B extends BeanBuilder<T, B>> implements Be
 	@SuppressWarnings("unchecked")
 	@Override
 	public B init(FallibleConsumer<T> init) {
-		if(this.inits == null) {
-			this.inits = new LinkedList<>();
-		}
-		this.inits.add(init);
+		this.inits = this.inits == null ? arrayOf(init) : append(this.inits, init);
+		return (B)this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public B initAsync(FallibleFunction<T, CompletionStage<?>> init) {
+		this.asyncInits = this.asyncInits == null ? arrayOf(init) : append(this.asyncInits, init);
 		return (B)this;
 	}
 
@@ -89,10 +106,74 @@ abstract class AbstractBeanBuilder<T, B extends BeanBuilder<T, B>> implements Be
 	@SuppressWarnings("unchecked")
 	@Override
 	public B destroy(FallibleConsumer<T> destroy) {
-		if(this.destroys == null) {
-			this.destroys = new LinkedList<>();
-		}
-		this.destroys.add(destroy);
+		this.destroys = this.destroys == null ? arrayOf(destroy) : append(this.destroys, destroy);
 		return (B)this;
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public B warmup(FallibleConsumer<T> warmup) {
+		this.warmups = this.warmups == null ? arrayOf(warmup) : append(this.warmups, warmup);
+		return (B)this;
+	}
+
+	/**
+	 * <p>
+	 * Returns an array containing the specified elements.
+	 * </p>
+	 * 
+	 * <p>
+	 * This is used to create the first array of lifecycle operations whose type is generic.
+	 * </p>
+	 * 
+	 * @param <E>      the type of element
+	 * @param elements the elements
+	 * 
+	 * @return an array
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	protected static <E> E[] arrayOf(E... elements) {
+		return elements;
+	}
+	
+	/**
+	 * <p>
+	 * Returns a copy of the specified array with the specified element appended.
+	 * </p>
+	 * 
+	 * <p>
+	 * Lifecycle operations are stored in arrays which are never modified once assigned, they can then be iterated without allocation when bean instances are created or destroyed and shared
+	 * with overriding builders.
+	 * </p>
+	 * 
+	 * @param <E>      the type of element
+	 * @param elements the elements
+	 * @param element  the element to append
+	 * 
+	 * @return a new array
+	 */
+	protected static <E> E[] append(E[] elements, E element) {
+		E[] result = Arrays.copyOf(elements, elements.length + 1);
+		result[elements.length] = element;
+		return result;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the lifecycle operations to retain in the bean built by this builder.
+	 * </p>
+	 * 
+	 * <p>
+	 * Beans must not retain their builder, they only reference their constructor and these operations which are shared when the bean has no lifecycle operation.
+	 * </p>
+	 * 
+	 * @return bean operations
+	 */
+	protected BeanOperations<T> getOperations() {
+		return BeanOperations.of(this.inits, this.asyncInits, this.destroys, this.warmups, null);
+	}
 }
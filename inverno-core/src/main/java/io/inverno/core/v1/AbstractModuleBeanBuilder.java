@@ -17,7 +17,6 @@ package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
 import io.inverno.core.v1.Module.ModuleBeanBuilder;
-import java.util.LinkedList;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -42,6 +41,11 @@ abstract class AbstractModuleBeanBuilder<P, T> extends AbstractBeanBuilder<T, Mo
 	 */
 	protected final Optional<Supplier<P>> override;
 	
+	/**
+	 * The bean reset operations that must be executed when a bean instance is returned to a pool.
+	 */
+	protected FallibleConsumer<T>[] resets;
+	
 	/**
 	 * <p>
 	 * Creates a module bean builder with the specified bean name and constructor.
@@ -66,7 +70,27 @@ abstract class AbstractModuleBeanBuilder<P, T> extends AbstractBeanBuilder<T, Mo
 	protected AbstractModuleBeanBuilder(AbstractModuleBeanBuilder<?, T> overriddenBuilder, Optional<Supplier<P>> override) {
 		super(overriddenBuilder.beanName, overriddenBuilder.constructor);
 		this.override = override != null ? override : Optional.empty();
-		this.inits = overriddenBuilder.inits != null ? new LinkedList<>(overriddenBuilder.inits) : null;
-		this.destroys = overriddenBuilder.destroys != null ? new LinkedList<>(overriddenBuilder.destroys) : null;
+		this.inits = overriddenBuilder.inits;
+		this.asyncInits = overriddenBuilder.asyncInits;
+		this.destroys = overriddenBuilder.destroys;
+		this.warmups = overriddenBuilder.warmups;
+		this.resets = overriddenBuilder.resets;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ModuleBeanBuilder<P, T> reset(FallibleConsumer<T> reset) {
+		this.resets = this.resets == null ? arrayOf(reset) : append(this.resets, reset);
+		return this;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected BeanOperations<T> getOperations() {
+		return BeanOperations.of(this.inits, this.asyncInits, this.destroys, this.warmups, this.resets);
 	}
 }
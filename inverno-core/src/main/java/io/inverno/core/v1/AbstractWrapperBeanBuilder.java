@@ -17,7 +17,6 @@ package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
 import io.inverno.core.v1.Module.WrapperBeanBuilder;
-import java.util.LinkedList;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -67,8 +66,10 @@ abstract class AbstractWrapperBeanBuilder<P, T, W extends Supplier<T>> extends A
 	protected AbstractWrapperBeanBuilder(AbstractWrapperBeanBuilder<?, T, W> overriddenBuilder, Optional<Supplier<P>> override) {
 		super(overriddenBuilder.beanName, overriddenBuilder.constructor);
 		this.override = override != null ? override : Optional.empty();
-		this.inits = overriddenBuilder.inits != null ? new LinkedList<>(overriddenBuilder.inits) : null;
-		this.destroys = overriddenBuilder.destroys != null ? new LinkedList<>(overriddenBuilder.destroys) : null;
+		this.inits = overriddenBuilder.inits;
+		this.asyncInits = overriddenBuilder.asyncInits;
+		this.destroys = overriddenBuilder.destroys;
+		this.warmups = overriddenBuilder.warmups;
 	}
 	
 	/**
@@ -78,8 +79,11 @@ abstract class AbstractWrapperBeanBuilder<P, T, W extends Supplier<T>> extends A
 	 * 
 	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
 	 * @since 1.5
+	 * 
+	 * @param <P> the type provided by the bean
+	 * @param <W> the type of the underlying wrapper
 	 */
-	protected class ProvidingWrapper implements Supplier<P> {
+	protected static class ProvidingWrapper<P, W extends Supplier<?>> implements Supplier<P> {
 		
 		/**
 		 * The underlying wrapper.
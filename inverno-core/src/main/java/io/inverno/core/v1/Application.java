@@ -23,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -45,6 +46,18 @@ import org.apache.logging.log4j.Logger;
  * {@value Application#PROPERTY_PID_FILE} system property. By default no pidfile is created. An application will fail to start if a pidfile designating a valid process already exists.
  * </p>
  *
+ * <p>
+ * An application is ready once the module has been started and its beans have been warmed up (see {@link Module#getReadiness()}). The readiness is exposed by {@link #getReadiness()} and a ready
+ * file can also be created when the application becomes ready and removed when it is shutdown by specifying the path to the ready file in the {@value Application#PROPERTY_READY_FILE} system
+ * property, allowing an orchestrator to only route traffic to the application once it is ready. By default no ready file is created.
+ * </p>
+ *
+ * <p>
+ * An application can also be run in training mode by setting the {@value Application#PROPERTY_TRAINING} system property, the module is then started, warmed up and stopped and the virtual
+ * machine exits without returning from {@link #run()}. This is typically used to record the classes loaded by the application in order to create a class data sharing archive (eg.
+ * {@code -XX:ArchiveClassesAtExit=app.jsa}) that is used to reduce the startup time of subsequent runs. Warm-up is skipped when the property is set to {@value Application#TRAINING_START}.
+ * </p>
+ *
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  * @since 1.0
  *
@@ -54,6 +67,12 @@ public class Application<T extends Module> {
 
 	private static final String PROPERTY_PID_FILE = "inverno.application.pid_file";
 	
+	private static final String PROPERTY_READY_FILE = "inverno.application.ready_file";
+	
+	private static final String PROPERTY_TRAINING = "inverno.application.training";
+	
+	private static final String TRAINING_START = "start";
+	
 	/**
 	 * Application logger.
 	 */
@@ -69,6 +88,26 @@ public class Application<T extends Module> {
 	 */
 	private final Optional<Path> pidfile;
 	
+	/**
+	 * Path to the ready file if one has been specified.
+	 */
+	private final Optional<Path> readyfile;
+	
+	/**
+	 * The application readiness.
+	 */
+	private final CompletableFuture<T> readiness;
+	
+	/**
+	 * Indicates whether the application is shutting down, guarded by the application monitor so that the ready file is never created once it has been removed.
+	 */
+	private boolean shuttingDown;
+	
+	/**
+	 * The training mode if the application runs in training mode.
+	 */
+	private final Optional<String> training;
+	
 	/**
 	 * The application banner.
 	 */
@@ -90,6 +129,9 @@ public class Application<T extends Module> {
 		this.moduleBuilder = moduleBuilder;
 		this.banner = new StandardBanner();
 		this.pidfile = Optional.ofNullable(System.getProperty(PROPERTY_PID_FILE)).map(Path::of);
+		this.readyfile = Optional.ofNullable(System.getProperty(PROPERTY_READY_FILE)).map(Path::of);
+		this.readiness = new CompletableFuture<>();
+		this.training = Optional.ofNullable(System.getProperty(PROPERTY_TRAINING));
 	}
 
 	/**
@@ -138,15 +180,81 @@ public class Application<T extends Module> {
 		return this;
 	}
 
+	/**
+	 * <p>
+	 * Returns the readiness of the application.
+	 * </p>
+	 *
+	 * <p>
+	 * The returned future completes with the running module once the application has been started and its beans have been warmed up.
+	 * </p>
+	 *
+	 * @return a future which completes once the application is ready
+	 * 
+	 * @since 1.6
+	 */
+	public CompletableFuture<T> getReadiness() {
+		return this.readiness.copy();
+	}
+	
+	/**
+	 * <p>
+	 * Trains the application.
+	 * </p>
+	 *
+	 * <p>
+	 * The module is started, warmed up if requested and then stopped so that the classes involved in the startup, the initialization and the warm-up of the module are loaded.
+	 * </p>
+	 *
+	 * @param warmup true to wait for the module to be warmed up before stopping it, false to stop it right after it has been started
+	 * 
+	 * @return the stopped module
+	 * 
+	 * @throws IllegalStateException if the application is already running
+	 * 
+	 * @since 1.6
+	 */
+	public T train(boolean warmup) throws IllegalStateException {
+		long t0 = System.nanoTime();
+		if (this.module != null) {
+			throw new IllegalStateException("Module " + this.module.getName() + " already started");
+		}
+		this.module = this.moduleBuilder.build();
+		LOGGER.info("Training application {}...", () -> this.module.getName());
+		try {
+			this.module.start();
+			if(warmup) {
+				this.module.getReadiness().join();
+			}
+		}
+		finally {
+			this.module.stop();
+		}
+		LOGGER.info("Application {} trained in {}ms", () -> this.module.getName(), () -> ((System.nanoTime() - t0) / 1000000));
+		return this.module;
+	}
+	
 	/**
 	 * <p>
 	 * Runs the application.
 	 * </p>
 	 * 
+	 * <p>
+	 * In training mode, the application is trained (see {@link #train(boolean)}) and the virtual machine exits with status 0: this method never returns and the code following its invocation is
+	 * never executed. {@link #train(boolean)} should be invoked instead to train the application and return control to the caller.
+	 * </p>
+	 * 
 	 * @return the resulting module.
 	 * @throws IllegalStateException if the application is already running.
 	 */
 	public T run() throws IllegalStateException {
+		if(this.training.isPresent()) {
+			T trainedModule = this.train(!this.training.get().equals(TRAINING_START));
+			LogManager.shutdown();
+			// Class data sharing archives are dumped when the virtual machine exits
+			Runtime.getRuntime().exit(0);
+			return trainedModule;
+		}
 		long t0 = System.nanoTime();
 		this.pidfile.filter(Files::exists).ifPresent(file -> {
 			try {
@@ -164,8 +272,29 @@ public class Application<T extends Module> {
 		if (this.module != null) {
 			throw new IllegalStateException("Module " + this.module.getName() + " already started");
 		}
+		this.readyfile.ifPresent(file -> {
+			// A ready file left by a previous run must not report the application ready
+			try {
+				Files.deleteIfExists(file);
+			} 
+			catch (IOException e) {
+				throw new UncheckedIOException("Error deleting ready file", e);
+			}
+		});
 		this.module = this.moduleBuilder.build();
 		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			// The application must no longer be reported ready while the module is stopping
+			synchronized(this) {
+				this.shuttingDown = true;
+				this.readyfile.ifPresent(file -> {
+					try {
+						Files.deleteIfExists(file);
+					} 
+					catch (IOException e) {
+						LOGGER.error("Error deleting ready file", e);
+					}
+				});
+			}
 			this.module.stop();
 			LogManager.shutdown();
 			this.pidfile.ifPresent(file -> {
@@ -197,6 +326,30 @@ public class Application<T extends Module> {
 			}
 		});
 		LOGGER.info("Application {} started in {}ms", () -> this.module.getName(), () -> ((System.nanoTime() - t0) / 1000000));
+		this.module.getStartupReport().ifPresent(startupReport -> LOGGER.debug("{}", startupReport));
+		this.module.getReadiness().whenComplete((ign, e) -> {
+			if(e != null) {
+				this.readiness.completeExceptionally(e);
+				return;
+			}
+			synchronized(this) {
+				if(this.shuttingDown) {
+					this.readiness.completeExceptionally(new IllegalStateException("Application " + this.module.getName() + " is shutting down"));
+					return;
+				}
+				this.readyfile.ifPresent(file -> {
+					try {
+						Files.createDirectories(file.toAbsolutePath().getParent());
+						Files.write(file, Long.toString(ProcessHandle.current().pid()).getBytes(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+					} 
+					catch (IOException ex) {
+						LOGGER.error("Error creating ready file", ex);
+					}
+				});
+			}
+			LOGGER.info("Application {} ready in {}ms", () -> this.module.getName(), () -> ((System.nanoTime() - t0) / 1000000));
+			this.readiness.complete(this.module);
+		});
 		
 		return this.module;
 	}
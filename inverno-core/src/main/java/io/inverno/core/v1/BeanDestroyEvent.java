@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>
+ * A JDK Flight Recorder event recorded when a bean instance is destroyed.
+ * </p>
+ *
+ * <p>
+ * The event duration covers the invocation of the bean destroy methods.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+@Name(BeanDestroyEvent.NAME)
+@Label("Bean Destroy")
+@Description("A bean instance is destroyed")
+class BeanDestroyEvent extends BeanEvent {
+	
+	/**
+	 * The event name.
+	 */
+	static final String NAME = "io.inverno.core.BeanDestroy";
+}
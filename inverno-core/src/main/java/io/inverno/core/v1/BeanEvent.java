@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+
+/**
+ * <p>
+ * Base class for the JDK Flight Recorder events recorded along the lifecycle of a bean.
+ * </p>
+ *
+ * <p>
+ * This implementation records nothing, it is used on Java versions prior to 17 for which an event extending {@code jdk.jfr.Event} can't be compiled with the {@code --release} option: the
+ * platform API signatures of these versions miss the internal super class of {@code jdk.jfr.Event}. The actual event is provided for Java 17 and later in the versioned section of the
+ * multi-release module JAR.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+abstract class BeanEvent {
+
+	/**
+	 * The singleton bean strategy.
+	 */
+	static final String SINGLETON = "SINGLETON";
+	
+	/**
+	 * The prototype bean strategy.
+	 */
+	static final String PROTOTYPE = "PROTOTYPE";
+	
+	/**
+	 * The pooled bean strategy.
+	 */
+	static final String POOLED = "POOLED";
+	
+	/**
+	 * The scoped bean strategy.
+	 */
+	static final String SCOPED = "SCOPED";
+	
+	/**
+	 * <p>
+	 * Starts the timing of the event.
+	 * </p>
+	 */
+	final void begin() {
+	}
+	
+	/**
+	 * <p>
+	 * Ends the event and commits it if it is enabled and within threshold.
+	 * </p>
+	 * 
+	 * @param bean     the bean
+	 * @param strategy the bean strategy
+	 */
+	final void commit(Bean<?> bean, String strategy) {
+	}
+}
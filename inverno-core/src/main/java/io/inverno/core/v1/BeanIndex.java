@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>
+ * An index of the beans exposed by a module.
+ * </p>
+ *
+ * <p>
+ * The index is generated by the Inverno compiler along with the module class: beans are looked up by name or by type using string switches on the bean name and on the name of the types
+ * the exposed type of a bean is assignable to. Lookups are then performed in constant time without reflection which is convenient to dispatch requests to the beans of a module. A type is
+ * matched by identity and not only by name: a type with the same name defined by another class loader matches no bean.
+ * </p>
+ *
+ * <pre>{@code
+ * List<Handler> handlers = module.getBeanIndex().byType(Handler.class);
+ * }</pre>
+ *
+ * <p>
+ * Only the public beans of the module are indexed, beans are obtained using the bean accessors of the module which must then be active. Types are indexed by their erasure: a generic type
+ * matches all the beans assignable to its raw type.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * 
+ * @see Module#getBeanIndex()
+ */
+public abstract class BeanIndex {
+
+	/**
+	 * An index with no beans.
+	 */
+	static final BeanIndex EMPTY = new BeanIndex() {
+
+		@Override
+		public Set<String> names() {
+			return Set.of();
+		}
+
+		@Override
+		protected Object get(String name) {
+			return null;
+		}
+
+		@Override
+		protected Object[] getByType(Class<?> type) {
+			return null;
+		}
+	};
+	
+	/**
+	 * <p>
+	 * Creates a bean index.
+	 * </p>
+	 */
+	protected BeanIndex() {
+	}
+	
+	/**
+	 * <p>
+	 * Returns the names of the indexed beans.
+	 * </p>
+	 *
+	 * @return a set of bean names
+	 */
+	public abstract Set<String> names();
+	
+	/**
+	 * <p>
+	 * Returns the bean with the specified name.
+	 * </p>
+	 *
+	 * @param name the bean name
+	 *
+	 * @return an optional returning the bean instance or an empty optional if there is no bean with the specified name or if the bean provided a null instance
+	 */
+	public final Optional<Object> byName(String name) {
+		return Optional.ofNullable(this.get(Objects.requireNonNull(name)));
+	}
+	
+	/**
+	 * <p>
+	 * Returns the bean with the specified name and type.
+	 * </p>
+	 *
+	 * @param <T>  the bean type
+	 * @param name the bean name
+	 * @param type the bean type
+	 *
+	 * @return an optional returning the bean instance or an empty optional if there is no bean with the specified name and type or if the bean provided a null instance
+	 */
+	public final <T> Optional<T> byName(String name, Class<T> type) {
+		Object bean = this.get(Objects.requireNonNull(name));
+		return type.isInstance(bean) ? Optional.of(type.cast(bean)) : Optional.empty();
+	}
+	
+	/**
+	 * <p>
+	 * Returns the beans whose exposed type is assignable to the specified type.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans are returned in the order in which they are defined in the module, beans providing null instances are ignored.
+	 * </p>
+	 *
+	 * @param <T>  the bean type
+	 * @param type the bean type
+	 *
+	 * @return an unmodifiable list of bean instances
+	 */
+	public final <T> List<T> byType(Class<T> type) {
+		Object[] beans = this.getByType(Objects.requireNonNull(type));
+		if(beans == null) {
+			return List.of();
+		}
+		List<T> result = new ArrayList<>(beans.length);
+		for(Object bean : beans) {
+			if(bean != null) {
+				result.add(type.cast(bean));
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the bean with the specified name.
+	 * </p>
+	 *
+	 * @param name the bean name
+	 *
+	 * @return a bean instance or null if there is no bean with the specified name
+	 */
+	protected abstract Object get(String name);
+	
+	/**
+	 * <p>
+	 * Returns the beans whose exposed type is assignable to the specified type.
+	 * </p>
+	 *
+	 * <p>
+	 * The generated index switches on the name of the type and then makes sure the type is the one the exposed types of the beans are assignable to before obtaining the beans.
+	 * </p>
+	 *
+	 * @param type a type
+	 *
+	 * @return a new array of bean instances or null if no bean is assignable to the type
+	 */
+	protected abstract Object[] getByType(Class<?> type);
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Lifecycle counters of a bean.
+ * </p>
+ *
+ * <p>
+ * Bean metrics count the instances created and destroyed by a bean as well as the initialization failures, they can be used to detect prototype instances that are never destroyed or
+ * factory beans that are heavily solicited. Counters are striped so that concurrent creations do not contend on a single memory location.
+ * </p>
+ *
+ * <p>
+ * Destroyed instances are only counted for beans which keep track of their instances, that is beans defining destruction operations, the number of alive instances of any other prototype
+ * bean is therefore the number of instances it created.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * 
+ * @see ModuleMetrics
+ */
+public final class BeanMetrics {
+
+	/**
+	 * The bean name.
+	 */
+	private final String beanName;
+	
+	/**
+	 * The number of instances created by the bean.
+	 */
+	private final LongAdder createdInstances;
+	
+	/**
+	 * The number of instances destroyed by the bean.
+	 */
+	private final LongAdder destroyedInstances;
+	
+	/**
+	 * The number of instances which failed to initialize.
+	 */
+	private final LongAdder initFailures;
+	
+	/**
+	 * The strategy of the bean, null until an instance has been created.
+	 */
+	private volatile String strategy;
+	
+	/**
+	 * The time at which the last singleton instance was created in milliseconds since the epoch, 0 if none was created.
+	 */
+	private volatile long creationTime;
+	
+	/**
+	 * <p>
+	 * Creates bean metrics.
+	 * </p>
+	 *
+	 * @param beanName the bean name
+	 */
+	BeanMetrics(String beanName) {
+		this.beanName = beanName;
+		this.createdInstances = new LongAdder();
+		this.destroyedInstances = new LongAdder();
+		this.initFailures = new LongAdder();
+	}
+	
+	/**
+	 * <p>
+	 * Records the creation of an instance.
+	 * </p>
+	 *
+	 * @param strategy the bean strategy
+	 */
+	void instanceCreated(String strategy) {
+		this.createdInstances.increment();
+		if(this.strategy == null) {
+			this.strategy = strategy;
+		}
+		if(strategy == BeanEvent.SINGLETON) {
+			this.creationTime = System.currentTimeMillis();
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Records the destruction of an instance.
+	 * </p>
+	 */
+	void instanceDestroyed() {
+		this.destroyedInstances.increment();
+	}
+	
+	/**
+	 * <p>
+	 * Records the failed initialization of an instance.
+	 * </p>
+	 */
+	void initFailed() {
+		this.initFailures.increment();
+	}
+	
+	/**
+	 * <p>
+	 * Returns the name of the bean.
+	 * </p>
+	 *
+	 * @return the bean name
+	 */
+	public String getBeanName() {
+		return this.beanName;
+	}
+
+	/**
+	 * <p>
+	 * Returns the strategy of the bean.
+	 * </p>
+	 *
+	 * @return an optional returning the strategy (eg. SINGLETON, PROTOTYPE...) or an empty optional if the bean has not created any instance yet
+	 */
+	public Optional<String> getStrategy() {
+		return Optional.ofNullable(this.strategy);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the number of instances created by the bean.
+	 * </p>
+	 *
+	 * @return the number of created instances
+	 */
+	public long getCreatedInstances() {
+		return this.createdInstances.sum();
+	}
+	
+	/**
+	 * <p>
+	 * Returns the number of instances destroyed by the bean.
+	 * </p>
+	 *
+	 * @return the number of destroyed instances
+	 */
+	public long getDestroyedInstances() {
+		return this.destroyedInstances.sum();
+	}
+	
+	/**
+	 * <p>
+	 * Returns the number of instances created by the bean which have not been destroyed yet.
+	 * </p>
+	 *
+	 * @return the number of alive instances
+	 */
+	public long getAliveInstances() {
+		// Read destroyed instances first so that a concurrent creation and destruction can't result in a negative count
+		long destroyed = this.destroyedInstances.sum();
+		return Math.max(0, this.createdInstances.sum() - destroyed);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the number of instances which failed to initialize.
+	 * </p>
+	 *
+	 * @return the number of initialization failures
+	 */
+	public long getInitFailures() {
+		return this.initFailures.sum();
+	}
+	
+	/**
+	 * <p>
+	 * Returns the time at which the last singleton instance of the bean was created.
+	 * </p>
+	 *
+	 * @return an optional returning the creation time or an empty optional if the bean is not a singleton or has not been created yet
+	 */
+	public Optional<Instant> getCreationTime() {
+		long time = this.creationTime;
+		return time > 0 ? Optional.of(Instant.ofEpochMilli(time)) : Optional.empty();
+	}
+
+	@Override
+	public String toString() {
+		return this.beanName + " [created=" + this.getCreatedInstances() + ", destroyed=" + this.getDestroyedInstances() + ", initFailures=" + this.getInitFailures() + "]";
+	}
+}
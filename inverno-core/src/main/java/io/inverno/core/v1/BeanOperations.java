@@ -0,0 +1,361 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import io.inverno.core.v1.Module.BeanBuilder.FallibleConsumer;
+import io.inverno.core.v1.Module.BeanBuilder.FallibleFunction;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * The lifecycle operations of a bean: initialization, asynchronous initialization, destruction, warm-up and reset operations.
+ * </p>
+ *
+ * <p>
+ * Beans built by a bean builder only retain the bean constructor and the operations of the builder. Operations are grouped in this class so that a bean without lifecycle operations, which is
+ * the common case, does not retain any of them: it references the shared {@link #none()} instance.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ *
+ * @param <T> the actual type of the bean
+ */
+final class BeanOperations<T> {
+
+	/**
+	 * The operations of a bean without lifecycle operations.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final BeanOperations NONE = new BeanOperations<>(null, null, null, null, null);
+
+	/**
+	 * The bean initialization operations that must be executed after bean instance creation and dependency injection.
+	 */
+	private final FallibleConsumer<T>[] inits;
+
+	/**
+	 * The bean asynchronous initialization operations that must be executed after the bean initialization operations.
+	 */
+	private final FallibleFunction<T, CompletionStage<?>>[] asyncInits;
+
+	/**
+	 * The bean destructions operations that must be executed after a bean instance creation and dependency injection.
+	 */
+	private final FallibleConsumer<T>[] destroys;
+
+	/**
+	 * The bean warm-up operations that must be executed once the module has been started.
+	 */
+	private final FallibleConsumer<T>[] warmups;
+
+	/**
+	 * The bean reset operations that must be executed before an instance is reused.
+	 */
+	private final FallibleConsumer<T>[] resets;
+
+	/**
+	 * <p>
+	 * Creates bean operations.
+	 * </p>
+	 *
+	 * @param inits      the initialization operations or null
+	 * @param asyncInits the asynchronous initialization operations or null
+	 * @param destroys   the destruction operations or null
+	 * @param warmups    the warm-up operations or null
+	 * @param resets     the reset operations or null
+	 */
+	private BeanOperations(FallibleConsumer<T>[] inits, FallibleFunction<T, CompletionStage<?>>[] asyncInits, FallibleConsumer<T>[] destroys, FallibleConsumer<T>[] warmups, FallibleConsumer<T>[] resets) {
+		this.inits = inits;
+		this.asyncInits = asyncInits;
+		this.destroys = destroys;
+		this.warmups = warmups;
+		this.resets = resets;
+	}
+
+	/**
+	 * <p>
+	 * Returns the operations of a bean without lifecycle operations.
+	 * </p>
+	 *
+	 * @param <T> the actual type of the bean
+	 *
+	 * @return shared bean operations
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> BeanOperations<T> none() {
+		return NONE;
+	}
+
+	/**
+	 * <p>
+	 * Returns the bean operations holding the specified lifecycle operations.
+	 * </p>
+	 *
+	 * <p>
+	 * Arrays of operations are never modified once assigned by a bean builder, they are therefore not copied.
+	 * </p>
+	 *
+	 * @param <T>        the actual type of the bean
+	 * @param inits      the initialization operations or null
+	 * @param asyncInits the asynchronous initialization operations or null
+	 * @param destroys   the destruction operations or null
+	 * @param warmups    the warm-up operations or null
+	 * @param resets     the reset operations or null
+	 *
+	 * @return bean operations
+	 */
+	static <T> BeanOperations<T> of(FallibleConsumer<T>[] inits, FallibleFunction<T, CompletionStage<?>>[] asyncInits, FallibleConsumer<T>[] destroys, FallibleConsumer<T>[] warmups, FallibleConsumer<T>[] resets) {
+		if(inits == null && asyncInits == null && destroys == null && warmups == null && resets == null) {
+			return none();
+		}
+		return new BeanOperations<>(inits, asyncInits, destroys, warmups, resets);
+	}
+
+	/**
+	 * <p>
+	 * Determines whether the bean has destruction operations.
+	 * </p>
+	 *
+	 * @return true if instances must be destroyed, false otherwise
+	 */
+	boolean hasDestroys() {
+		return this.destroys != null;
+	}
+
+	/**
+	 * <p>
+	 * Instantiates the bean by invoking the bean constructor and then the bean initialization operations.
+	 * </p>
+	 *
+	 * <p>
+	 * A {@link BeanCreateEvent} and a {@link BeanInitEvent} are recorded when enabled in the JDK Flight Recorder. Construction and initialization times are also recorded in the startup report
+	 * when the bean is instantiated while its module is starting.
+	 * </p>
+	 *
+	 * <p>
+	 * Stages returned by asynchronous initialization operations are combined and passed to the bean (see {@link Bean#setInitialization(CompletableFuture)}) which determines whether the
+	 * initialization must be awaited before the instance is returned.
+	 * </p>
+	 *
+	 * @param bean        the bean being instantiated
+	 * @param constructor the bean constructor
+	 * @param strategy    the bean strategy
+	 * @param logger      the bean logger
+	 *
+	 * @return a bean instance
+	 *
+	 * @throws RuntimeException if there was an error initializing the bean instance
+	 */
+	T instantiate(Bean<?> bean, Supplier<T> constructor, String strategy, Logger logger) throws RuntimeException {
+		StartupRecorder startupRecorder = bean.parent != null ? bean.parent.startupRecorder : null;
+		if(startupRecorder != null) {
+			startupRecorder.beginConstruction(bean);
+		}
+		try {
+			BeanCreateEvent createEvent = FlightRecorderEvents.ENABLED ? new BeanCreateEvent() : null;
+			if(createEvent != null) {
+				createEvent.begin();
+			}
+			T instance = constructor.get();
+			if(createEvent != null) {
+				createEvent.commit(bean, strategy);
+			}
+			BeanMetrics metrics = getMetrics(bean);
+			if(metrics != null) {
+				metrics.instanceCreated(strategy);
+			}
+			if(startupRecorder != null) {
+				startupRecorder.endConstruction();
+			}
+
+			if(this.inits != null || this.asyncInits != null) {
+				BeanInitEvent initEvent = FlightRecorderEvents.ENABLED ? new BeanInitEvent() : null;
+				if(initEvent != null) {
+					initEvent.begin();
+				}
+				if(this.inits != null) {
+					for(FallibleConsumer<T> init : this.inits) {
+						try {
+							init.accept(instance);
+						}
+						catch (Exception e) {
+							if(metrics != null) {
+								metrics.initFailed();
+							}
+							logger.fatal(() -> "Error initializing bean " + bean.name, e);
+							throw new RuntimeException("Error initializing bean " + bean.name, e);
+						}
+					}
+				}
+				CompletableFuture<?>[] asyncInitializations = null;
+				if(this.asyncInits != null) {
+					asyncInitializations = new CompletableFuture<?>[this.asyncInits.length];
+					int i = 0;
+					for(FallibleFunction<T, CompletionStage<?>> asyncInit : this.asyncInits) {
+						try {
+							asyncInitializations[i++] = asyncInit.apply(instance).toCompletableFuture();
+						}
+						catch (Exception e) {
+							if(metrics != null) {
+								metrics.initFailed();
+							}
+							logger.fatal(() -> "Error initializing bean " + bean.name, e);
+							throw new RuntimeException("Error initializing bean " + bean.name, e);
+						}
+					}
+				}
+				if(initEvent != null) {
+					initEvent.commit(bean, strategy);
+				}
+				if(asyncInitializations != null) {
+					bean.setInitialization(CompletableFuture.allOf(asyncInitializations).handle((ign, e) -> {
+						if(e != null) {
+							Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+							if(metrics != null) {
+								metrics.initFailed();
+							}
+							logger.fatal(() -> "Error initializing bean " + bean.name, cause);
+							throw new RuntimeException("Error initializing bean " + bean.name, cause);
+						}
+						return null;
+					}));
+				}
+			}
+			return instance;
+		}
+		finally {
+			if(startupRecorder != null) {
+				startupRecorder.endInitialization();
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns a task invoking the bean warm-up operations on the specified bean instance.
+	 * </p>
+	 *
+	 * <p>
+	 * Errors raised by warm-up operations are logged, they do not prevent the remaining operations from being invoked.
+	 * </p>
+	 *
+	 * @param bean     the bean owning the instance
+	 * @param logger   the bean logger
+	 * @param instance the bean instance to warm up
+	 *
+	 * @return a warm-up task or null if the bean has no warm-up operation
+	 */
+	Runnable warmupTask(Bean<?> bean, Logger logger, T instance) {
+		FallibleConsumer<T>[] beanWarmups = this.warmups;
+		if(beanWarmups == null) {
+			return null;
+		}
+		return () -> {
+			for(FallibleConsumer<T> warmup : beanWarmups) {
+				try {
+					warmup.accept(instance);
+				}
+				catch (Exception e) {
+					logger.warn(() -> "Error warming up bean " + bean.name, e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * <p>
+	 * Resets the specified bean instance by invoking the bean reset operations.
+	 * </p>
+	 *
+	 * @param bean     the bean owning the instance
+	 * @param logger   the bean logger
+	 * @param instance the bean instance to reset
+	 *
+	 * @return true if the instance was reset, false if a reset operation failed
+	 */
+	boolean reset(Bean<?> bean, Logger logger, T instance) {
+		if(this.resets != null) {
+			for(FallibleConsumer<T> reset : this.resets) {
+				try {
+					reset.accept(instance);
+				}
+				catch (Exception e) {
+					logger.warn(() -> "Error resetting bean " + bean.name, e);
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Disposes the specified bean instance by invoking the bean destruction operations.
+	 * </p>
+	 *
+	 * <p>
+	 * A {@link BeanDestroyEvent} is recorded when enabled in the JDK Flight Recorder.
+	 * </p>
+	 *
+	 * @param bean     the bean owning the instance
+	 * @param strategy the bean strategy
+	 * @param logger   the bean logger
+	 * @param instance the bean instance to dispose
+	 */
+	void dispose(Bean<?> bean, String strategy, Logger logger, T instance) {
+		BeanMetrics metrics = getMetrics(bean);
+		if(metrics != null) {
+			metrics.instanceDestroyed();
+		}
+		if(this.destroys != null) {
+			BeanDestroyEvent destroyEvent = FlightRecorderEvents.ENABLED ? new BeanDestroyEvent() : null;
+			if(destroyEvent != null) {
+				destroyEvent.begin();
+			}
+			for(FallibleConsumer<T> destroy : this.destroys) {
+				try {
+					destroy.accept(instance);
+				}
+				catch (Exception e) {
+					logger.warn(() -> "Error destroying bean " + bean.name, e);
+				}
+			}
+			if(destroyEvent != null) {
+				destroyEvent.commit(bean, strategy);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the lifecycle metrics of the specified bean.
+	 * </p>
+	 *
+	 * @param bean a bean
+	 *
+	 * @return the bean metrics or null if metrics are disabled in the enclosing module
+	 */
+	private static BeanMetrics getMetrics(Bean<?> bean) {
+		ModuleMetrics moduleMetrics = bean.parent != null ? bean.parent.metrics : null;
+		return moduleMetrics != null ? moduleMetrics.getBeanMetrics(bean.name) : null;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * Records the JDK Flight Recorder events of a module when the {@code jdk.jfr} module is available.
+ * </p>
+ *
+ * <p>
+ * The core module only has a static dependency on {@code jdk.jfr} which is not resolved when a modular application does not require it explicitly, events extending {@code jdk.jfr.Event} must
+ * then not be loaded. This class doesn't reference any Flight Recorder type in its signatures so that call sites can be guarded by {@link #ENABLED}, module events are exposed as
+ * {@code Object} since they are captured in callbacks whose signature would otherwise load the event class.
+ * </p>
+ *
+ * <p>
+ * A modular application can record events by resolving {@code jdk.jfr} with {@code --add-modules jdk.jfr}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+final class FlightRecorderEvents {
+
+	/**
+	 * Indicates whether the {@code jdk.jfr} module is readable by the core module.
+	 */
+	static final boolean ENABLED;
+	
+	static {
+		java.lang.Module coreModule = FlightRecorderEvents.class.getModule();
+		Optional<java.lang.Module> jfrModule = ModuleLayer.boot().findModule("jdk.jfr");
+		ENABLED = jfrModule.isPresent() && coreModule.canRead(jfrModule.get());
+	}
+	
+	private FlightRecorderEvents() {}
+	
+	/**
+	 * <p>
+	 * Begins a module start event.
+	 * </p>
+	 *
+	 * @return a module start event or null if Flight Recorder is not available
+	 */
+	static Object beginModuleStart() {
+		if(!ENABLED) {
+			return null;
+		}
+		ModuleStartEvent event = new ModuleStartEvent();
+		event.begin();
+		return event;
+	}
+	
+	/**
+	 * <p>
+	 * Ends the specified module start event and commits it if it is enabled and within threshold.
+	 * </p>
+	 *
+	 * @param event      a module start event or null
+	 * @param moduleName the name of the module
+	 */
+	static void commitModuleStart(Object event, String moduleName) {
+		if(event != null) {
+			ModuleStartEvent startEvent = (ModuleStartEvent)event;
+			startEvent.end();
+			if(startEvent.shouldCommit()) {
+				startEvent.moduleName = moduleName;
+				startEvent.commit();
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Begins a module stop event.
+	 * </p>
+	 *
+	 * @return a module stop event or null if Flight Recorder is not available
+	 */
+	static Object beginModuleStop() {
+		if(!ENABLED) {
+			return null;
+		}
+		ModuleStopEvent event = new ModuleStopEvent();
+		event.begin();
+		return event;
+	}
+	
+	/**
+	 * <p>
+	 * Ends the specified module stop event and commits it if it is enabled and within threshold.
+	 * </p>
+	 *
+	 * @param event      a module stop event or null
+	 * @param moduleName the name of the module
+	 */
+	static void commitModuleStop(Object event, String moduleName) {
+		if(event != null) {
+			ModuleStopEvent stopEvent = (ModuleStopEvent)event;
+			stopEvent.end();
+			if(stopEvent.shouldCommit()) {
+				stopEvent.moduleName = moduleName;
+				stopEvent.commit();
+			}
+		}
+	}
+}
@@ -19,17 +19,24 @@ import static java.lang.annotation.ElementType.PARAMETER;
 import java.lang.annotation.Retention;
 import static java.lang.annotation.RetentionPolicy.CLASS;
 import java.lang.annotation.Target;
+import java.lang.ref.Cleaner;
 import java.lang.ref.WeakReference;
-import java.util.ArrayDeque;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -59,6 +66,17 @@ import org.apache.logging.log4j.Logger;
  * </p>
  *
  * <p>
+ * When a startup executor is specified on the {@link ModuleBuilder}, component modules and beans which do not depend on each other are started and created concurrently on that executor, the
+ * dependency edges declared by the generated module class using {@link #dependsOn(Object, Object...)} are then used to make sure a bean or a component module is only started once all its
+ * dependencies have been created.
+ * </p>
+ *
+ * <p>
+ * When the module is built in lazy mode (see {@link ModuleBuilder#lazy(boolean)}), beans are not created when the module is started but on demand when they are first requested along with the beans
+ * they depend on.
+ * </p>
+ *
+ * <p>
  * The following describes the module destroy steps:
  * </p>
  * <ol>
@@ -67,6 +85,12 @@ import org.apache.logging.log4j.Logger;
  * </ol>
  *
  * <p>
+ * When a shutdown executor is specified on the {@link ModuleBuilder}, beans and component modules are destroyed and stopped concurrently on that executor in the reverse dependency order: a bean
+ * is only destroyed once all the beans depending on it have been destroyed. Shutdown timeouts can also be specified for each bean and for the whole module, beans which did not finish in time are
+ * listed in the {@link ShutdownReport}.
+ * </p>
+ *
+ * <p>
  * A module should always be built using a {@link ModuleBuilder}.
  * </p>
  *
@@ -78,7 +102,7 @@ public abstract class Module {
 	/**
 	 * The module logger.
 	 */
-	private final Logger logger = LogManager.getLogger(this.getClass());
+	final Logger logger = LogManager.getLogger(this.getClass());
 
 	/**
 	 * The module name.
@@ -88,27 +112,132 @@ public abstract class Module {
 	/**
 	 * The list of required Inverno modules include in the module.
 	 */
-	private final List<Module> modules;
+	final List<Module> modules;
 
 	/**
 	 * The list of beans in the module.
 	 */
-	private final List<Bean<?>> beans;
+	final List<Bean<?>> beans;
 
 	/**
 	 * The bean stack used to track bean creation order.
 	 */
-	private final Deque<Bean<?>> beansStack;
+	final Deque<Bean<?>> beansStack;
+	
+	/**
+	 * The beans and component modules in creation order when the module registers them in a valid creation order, null otherwise.
+	 */
+	final List<Object> nodes;
+
+	/**
+	 * The dependency edges between the beans and the component modules of the module.
+	 */
+	final Map<Object, Object[]> dependencies;
 
 	/**
 	 * The parent module.
 	 */
-	private Module parent;
+	Module parent;
+	
+	/**
+	 * The executor used to start component modules and create beans concurrently.
+	 */
+	Executor startupExecutor;
+	
+	/**
+	 * The cleaner used to destroy garbage collected prototype wrapper bean instances.
+	 */
+	private Cleaner cleaner;
+	
+	/**
+	 * Indicates whether beans are created on demand.
+	 */
+	private boolean lazy;
+	
+	/**
+	 * The maximum number of idle instances kept by pooled beans, 0 to use the capacity of the enclosing module.
+	 */
+	private int poolCapacity;
+	
+	/**
+	 * The carrier providing the active scope to scoped beans.
+	 */
+	private ScopeCarrier scopeCarrier;
+	
+	/**
+	 * Indicates whether lifecycle metrics are collected.
+	 */
+	private boolean metricsEnabled;
+	
+	/**
+	 * The executor used to warm up beans once the module has been started.
+	 */
+	Executor warmupExecutor;
+	
+	/**
+	 * The time budget to warm up beans.
+	 */
+	Duration warmupTimeout;
+	
+	/**
+	 * The scheduler warming up the beans of the module, null when the module is not warmed up.
+	 */
+	private volatile WarmupScheduler warmupScheduler;
+	
+	/**
+	 * The module readiness, completes once beans have been warmed up.
+	 */
+	private volatile CompletableFuture<Void> readiness;
+	
+	/**
+	 * The lifecycle metrics of the module, null until the module is started with metrics enabled.
+	 */
+	volatile ModuleMetrics metrics;
+	
+	/**
+	 * The executor used to stop the module concurrently.
+	 */
+	Executor shutdownExecutor;
+	
+	/**
+	 * The time budget to stop the module.
+	 */
+	Duration shutdownTimeout;
+	
+	/**
+	 * The time budget to destroy a bean or to stop a component module.
+	 */
+	Duration beanShutdownTimeout;
+	
+	/**
+	 * The startup recorder, only set while the module is starting.
+	 */
+	volatile StartupRecorder startupRecorder;
+	
+	/**
+	 * The report of the last startup.
+	 */
+	private volatile StartupReport startupReport;
+	
+	/**
+	 * The module startup, completes once pending asynchronous bean initializations have completed.
+	 */
+	private volatile CompletableFuture<Void> startup;
+	
+	/**
+	 * The report of the last shutdown.
+	 */
+	private volatile ShutdownReport shutdownReport;
 	
 	/**
 	 * THe module's state
 	 */
-	private boolean active;
+	private volatile boolean active;
+	
+	/**
+	 * The index of the beans exposed by the module, created on first access and safely published to other threads.
+	 */
+	private volatile BeanIndex beanIndex;
 
 	/**
 	 * <p>
@@ -118,10 +247,33 @@ public abstract class Module {
 	 * @param moduleName the module name
 	 */
 	protected Module(String moduleName) {
+		this(moduleName, false);
+	}
+	
+	/**
+	 * <p>
+	 * Creates a new Module with the specified name which registers its beans and component modules in a valid creation order.
+	 * </p>
+	 *
+	 * <p>
+	 * When ordered, a module's beans and component modules are started in their registration order which must then be a topological order of the dependency graph: a bean or a component module
+	 * must be registered after the beans and component modules it depends on. Beans are still recorded as they are created since they can be created in a different order, on demand in lazy
+	 * mode or once a pending asynchronous initialization completes: they are destroyed in the reverse creation order, after the beans and component modules depending on them, when the module
+	 * is stopped.
+	 * </p>
+	 *
+	 * @param moduleName the module name
+	 * @param ordered    true if beans and component modules are registered in creation order, false otherwise
+	 * 
+	 * @since 1.6
+	 */
+	protected Module(String moduleName, boolean ordered) {
 		this.name = moduleName;
 		this.beans = new ArrayList<>();
-		this.beansStack = new ArrayDeque<>();
+		this.beansStack = new ConcurrentLinkedDeque<>();
 		this.modules = new ArrayList<>();
+		this.dependencies = new HashMap<>();
+		this.nodes = ordered ? new ArrayList<>() : null;
 	}
 
 	/**
@@ -133,7 +285,8 @@ public abstract class Module {
 	 */
 	void recordBean(Bean<?> bean) {
 		// Beans must be recorded as they are created
-		if (this.parent != null) {
+		// An ordered module stops its component modules which then destroy their own beans
+		if (this.nodes == null && this.parent != null && this.parent.nodes == null) {
 			this.parent.recordBean(bean);
 		} else {
 			this.beansStack.push(bean);
@@ -159,6 +312,9 @@ public abstract class Module {
 
 		((Module) module).parent = this;
 		this.modules.add(module);
+		if(this.nodes != null) {
+			this.nodes.add(module);
+		}
 
 		return module;
 	}
@@ -181,6 +337,9 @@ public abstract class Module {
 		Bean<T> bean = beanBuilder.build();
 		bean.parent = this;
 		this.beans.add(bean);
+		if(this.nodes != null) {
+			this.nodes.add(bean);
+		}
 
 		return bean;
 	}
@@ -203,9 +362,99 @@ public abstract class Module {
 		Bean<T> bean = beanBuilder.build();
 		bean.parent = this;
 		this.beans.add(bean);
+		if(this.nodes != null) {
+			this.nodes.add(bean);
+		}
 
 		return bean;
 	}
+	
+	/**
+	 * <p>
+	 * Returns the supplier to inject into a lazy socket resolved to the specified bean.
+	 * </p>
+	 *
+	 * <p>
+	 * The returned supplier is the bean itself which is shared by all the sockets resolved to the bean, it returns the bean instance right away once it has been published by the bean (see
+	 * {@link Bean#peek()}).
+	 * </p>
+	 *
+	 * @param <T>  the type of instance
+	 * @param bean the bean
+	 *
+	 * @return a supplier
+	 * 
+	 * @since 1.6
+	 */
+	@SuppressWarnings("unchecked")
+	protected static <T> Supplier<T> lazy(Bean<? extends T> bean) {
+		return (Supplier<T>)bean;
+	}
+	
+	/**
+	 * <p>
+	 * Returns a pool providing instances from the specified supplier.
+	 * </p>
+	 *
+	 * <p>
+	 * This method is used to inject a {@link Pool} into a bean socket: the supplier is returned as is when it is a pooled bean, otherwise instances are obtained from the supplier and returning
+	 * them to the pool has no effect.
+	 * </p>
+	 *
+	 * @param <T>      the type of instances
+	 * @param supplier the instance supplier
+	 *
+	 * @return a pool
+	 * 
+	 * @since 1.6
+	 */
+	@SuppressWarnings("unchecked")
+	protected static <T> Pool<T> pool(Supplier<? extends T> supplier) {
+		if(supplier instanceof Pool) {
+			return (Pool<T>)supplier;
+		}
+		return new Pool<T>() {
+			
+			@Override
+			public T borrow() {
+				return supplier.get();
+			}
+
+			@Override
+			public void release(T instance) {
+				
+			}
+		};
+	}
+
+	/**
+	 * <p>
+	 * Declares the beans and component modules registered in this module that the specified bean or component module depends on.
+	 * </p>
+	 *
+	 * <p>
+	 * Dependency edges are emitted by the Inverno compiler, they are used when starting the module with a startup executor in order to determine which beans and component modules can be
+	 * created concurrently and, in all cases, to defer the creation of the beans depending on a bean whose asynchronous initialization is pending.
+	 * </p>
+	 *
+	 * @param node         a bean or a component module registered in this module
+	 * @param dependencies the beans and component modules registered in this module the node depends on
+	 *
+	 * @throws IllegalArgumentException if the node or one of its dependencies is neither a bean nor a module
+	 * 
+	 * @since 1.6
+	 */
+	protected void dependsOn(Object node, Object... dependencies) throws IllegalArgumentException {
+		if(!(node instanceof Bean) && !(node instanceof Module)) {
+			throw new IllegalArgumentException("Node must be a bean or a module: " + node);
+		}
+		for(Object dependency : dependencies) {
+			if(!(dependency instanceof Bean) && !(dependency instanceof Module)) {
+				throw new IllegalArgumentException("Dependency must be a bean or a module: " + dependency);
+			}
+		}
+		this.dependencies.put(node, dependencies);
+	}
 
 	/**
 	 * <p>
@@ -220,316 +469,1046 @@ public abstract class Module {
 
 	/**
 	 * <p>
-	 * Determines whether the module is active (ie. started).
+	 * Returns the cleaner used to destroy prototype wrapper bean instances which have been reclaimed by the garbage collector.
 	 * </p>
-	 * 
-	 * @return true if the module is active, false otherwise.
+	 *
+	 * <p>
+	 * Component modules use the cleaner of their enclosing module.
+	 * </p>
+	 *
+	 * @return a cleaner or null
 	 */
-	public boolean isActive() {
-		return active;
+	Cleaner getCleaner() {
+		if(this.cleaner != null) {
+			return this.cleaner;
+		}
+		return this.parent != null ? this.parent.getCleaner() : null;
 	}
 	
 	/**
 	 * <p>
-	 * Determines whether this module or one of its ancestors is active which would indicate that this module is a component module in a tree of module being started.
+	 * Returns the maximum number of idle instances kept by pooled beans.
 	 * </p>
 	 *
-	 * @return true if an ancestor module is active, false otherwise.
+	 * <p>
+	 * Component modules use the capacity of their enclosing module, the number of available processors is used when no capacity was specified.
+	 * </p>
+	 *
+	 * @return a pool capacity
 	 */
-	private boolean isSuperActive() {
-		return this.active || (this.parent != null && this.parent.isSuperActive());
+	int getPoolCapacity() {
+		if(this.poolCapacity > 0) {
+			return this.poolCapacity;
+		}
+		return this.parent != null ? this.parent.getPoolCapacity() : Runtime.getRuntime().availableProcessors();
 	}
-
+	
 	/**
 	 * <p>
-	 * Starts the module.
+	 * Returns the carrier providing the active scope to scoped beans.
 	 * </p>
 	 *
 	 * <p>
-	 * It creates and wires the beans defined within the module and the required Inverno modules it includes, the bean dependency graph determines the order into which beans are created. When the
-	 * module is stopped, beans are destroyed in the reverse order.
+	 * Component modules use the carrier of their enclosing module, the thread local carrier is used when no carrier was specified.
 	 * </p>
 	 *
-	 * @throws IllegalStateException if the module is active.
+	 * @return a scope carrier
 	 */
-	public void start() throws IllegalStateException {
-		if (this.isActive()) {
-			throw new IllegalStateException("Module " + this.name + " is already active");
+	ScopeCarrier getScopeCarrier() {
+		if(this.scopeCarrier != null) {
+			return this.scopeCarrier;
 		}
-		this.active = true;
-		long t0 = System.nanoTime();
-		this.logger.info("Starting Module {}...", () -> this.name);
-		this.modules.stream().filter(module -> !module.isActive()).forEach(module -> module.start());
-		this.beans.stream().forEach(bean -> bean.create());
-		this.logger.info("Module {} started in {}ms", () -> this.name, () -> ((System.nanoTime() - t0) / 1000000));
+		return this.parent != null ? this.parent.getScopeCarrier() : ScopeCarrier.threadLocal();
 	}
-
+	
 	/**
 	 * <p>
-	 * Stops the module.
+	 * Determines whether beans are created on demand instead of when the module is started.
 	 * </p>
 	 *
 	 * <p>
-	 * This methods basically destroy the beans created during startup in the reverse order.
+	 * Component modules are lazy when their enclosing module is lazy.
 	 * </p>
+	 *
+	 * @return true if the module is lazy, false otherwise
 	 */
-	public void stop() {
-		long t0 = System.nanoTime();
-		this.logger.info("Stopping Module {}...", () -> this.name);
-		this.beansStack.forEach(bean -> {
-			long bean_t0 = System.nanoTime();
-			try {
-				bean.destroy();
-			} 
-			catch (Exception e) {
-				this.logger.warn("Error destroying Bean {}", () -> (bean.parent != null ? bean.parent.getName() + ":" : "") + bean.name);
-			}
-			finally {
-				this.logger.debug("Bean {} destroyed in {}ms", () -> (bean.parent != null ? bean.parent.getName() + ":" : "") + bean.name, () -> ((System.nanoTime() - bean_t0) / 1000000));
-			}
-		});
-		this.modules.stream().forEach(module -> module.stop());
-		this.beansStack.clear();
-		this.logger.info("Module {} stopped in {}ms", () -> this.name, () -> ((System.nanoTime() - t0) / 1000000));
-		this.active = false;
+	boolean isLazy() {
+		return this.lazy || (this.parent != null && this.parent.isLazy());
 	}
 	
 	/**
 	 * <p>
-	 * Aggregates single beans, collections of beans and arrays of beans.
+	 * Determines whether lifecycle metrics are collected.
+	 * </p>
+	 *
+	 * <p>
+	 * Metrics are collected for component modules when they are collected for their enclosing module.
+	 * </p>
+	 *
+	 * @return true if metrics are collected, false otherwise
+	 */
+	boolean isMetricsEnabled() {
+		return this.metricsEnabled || (this.parent != null && this.parent.isMetricsEnabled());
+	}
+	
+	/**
+	 * <p>
+	 * Returns the lifecycle metrics of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * Metrics are only collected when they have been enabled on the module or on its enclosing module (see {@link ModuleBuilder#metrics(boolean)}), they are available once the module has been
+	 * started and are kept across restarts.
 	 * </p>
+	 *
+	 * @return an optional returning the module metrics or an empty optional if metrics are disabled or if the module has never been started
 	 * 
-	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.6
+	 */
+	public Optional<ModuleMetrics> getMetrics() {
+		return Optional.ofNullable(this.metrics);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the lifecycle metrics of the component modules that have been started.
+	 * </p>
 	 *
-	 * @param <E> the bean type
+	 * @return a list of module metrics
 	 */
-	protected static class BeanAggregator<E> {
-
-		private final List<E> aggregate;
-
-		/**
-		 * Creates an aggregator.
-		 */
-		public BeanAggregator() {
-			this.aggregate = new ArrayList<>();
-		}
-
-		/**
-		 * <p>
-		 * Appends the specified bean to the aggregate.
-		 * </p>
-		 * 
-		 * @param bean the bean to add.
-		 * 
-		 * @return the aggregator instance.
-		 */
-		public BeanAggregator<E> add(E bean) {
-			if(bean != null) {
-				this.aggregate.add(bean);
-			}
-			return this;
-		}
-
-		/**
-		 * <p>
-		 * Appends the specified collection of beans to the aggregate.
-		 * </p>
-		 * 
-		 * @param beans the beans to add.
-		 * 
-		 * @return the aggregator instance.
-		 */
-		public BeanAggregator<E> add(Collection<E> beans) {
-			if(beans != null) {
-				this.aggregate.addAll(beans);
-			}
-			return this;
+	List<ModuleMetrics> getComponentMetrics() {
+		return this.modules.stream().map(module -> module.metrics).filter(Objects::nonNull).collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * <p>
+	 * Returns the index of the public beans of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * The index is generated by the Inverno compiler, it provides constant time lookups of the beans exposed by the module by name or by type without reflection.
+	 * </p>
+	 *
+	 * @return a bean index
+	 * 
+	 * @since 1.6
+	 */
+	public final BeanIndex getBeanIndex() {
+		BeanIndex index = this.beanIndex;
+		if(index == null) {
+			// Indexes are stateless, we don't care if several instances are created concurrently
+			index = this.createBeanIndex();
+			this.beanIndex = index;
 		}
-
-		/**
-		 * <p>
-		 * Appends the specified array of beans to the aggregate.
-		 * </p>
-		 * 
-		 * @param beans the beans to add.
-		 * 
-		 * @return the aggregator instance.
-		 */
-		public BeanAggregator<E> add(E[] beans) {
-			if(beans != null) {
-				this.aggregate.addAll(Arrays.asList(beans));
+		return index;
+	}
+	
+	/**
+	 * <p>
+	 * Creates the index of the public beans of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * This method is overridden in the generated module class, the default implementation returns an empty index.
+	 * </p>
+	 *
+	 * @return a bean index
+	 * 
+	 * @since 1.6
+	 */
+	protected BeanIndex createBeanIndex() {
+		return BeanIndex.EMPTY;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the report of the last startup of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * The report is available once the module has been started, it lists the time spent to instantiate the beans of the module and of its component modules and indicates the beans on the
+	 * critical path of the startup as determined from the dependencies between the beans and the component modules of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * The report is only created for the module which is explicitly started, component modules are reported in the report of their enclosing module.
+	 * </p>
+	 *
+	 * @return an optional returning the startup report or an empty optional if the module has not been started yet
+	 * 
+	 * @since 1.6
+	 */
+	public Optional<StartupReport> getStartupReport() {
+		return Optional.ofNullable(this.startupReport);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the report of the last shutdown of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * The report is available once the module has been stopped, it lists the beans and component modules which were not destroyed or stopped within their shutdown timeout budget.
+	 * </p>
+	 *
+	 * @return an optional returning the shutdown report or an empty optional if the module has not been stopped yet
+	 * 
+	 * @since 1.6
+	 */
+	public Optional<ShutdownReport> getShutdownReport() {
+		return Optional.ofNullable(this.shutdownReport);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the readiness of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans defining warm-up operations are warmed up once the module has been started, the returned future completes when all warm-up operations have completed or when the warm-up time
+	 * budget is exhausted (see {@link ModuleBuilder#warmupTimeout(Duration)}). It completes as soon as the module is started when there's nothing to warm up. An orchestrator should typically
+	 * wait for the module to be ready before routing traffic to the application. The readiness is cancelled when the module is stopped before it is ready.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans of component modules are warmed up by their enclosing module, the readiness of a component module started by its enclosing module therefore completes when it is started.
+	 * </p>
+	 *
+	 * @return a future which completes once the module is ready
+	 * 
+	 * @throws IllegalStateException if the module has never been started
+	 * 
+	 * @since 1.6
+	 */
+	public CompletableFuture<Void> getReadiness() throws IllegalStateException {
+		CompletableFuture<Void> currentReadiness = this.readiness;
+		if(currentReadiness == null) {
+			throw new IllegalStateException("Module " + this.name + " has not been started");
+		}
+		return currentReadiness.copy();
+	}
+	
+	/**
+	 * <p>
+	 * Determines whether the module is active (ie. started).
+	 * </p>
+	 * 
+	 * @return true if the module is active, false otherwise.
+	 */
+	public boolean isActive() {
+		return active;
+	}
+	
+	/**
+	 * <p>
+	 * Determines whether this module or one of its ancestors is active which would indicate that this module is a component module in a tree of module being started.
+	 * </p>
+	 *
+	 * @return true if an ancestor module is active, false otherwise.
+	 */
+	private boolean isSuperActive() {
+		return this.active || (this.parent != null && this.parent.isSuperActive());
+	}
+
+	/**
+	 * <p>
+	 * Starts the module.
+	 * </p>
+	 *
+	 * <p>
+	 * It creates and wires the beans defined within the module and the required Inverno modules it includes, the bean dependency graph determines the order into which beans are created. When the
+	 * module is stopped, beans are destroyed in the reverse order.
+	 * </p>
+	 *
+	 * <p>
+	 * When a startup executor was specified when building the module, component modules and beans that do not depend on each other are started and created concurrently on that executor.
+	 * </p>
+	 * 
+	 * <p>
+	 * This method returns once all beans have been created and all asynchronous bean initializations have completed.
+	 * </p>
+	 *
+	 * @throws IllegalStateException if the module is active.
+	 * 
+	 * @see #startAsync() 
+	 */
+	public void start() throws IllegalStateException {
+		join(this.startAsync());
+	}
+	
+	/**
+	 * <p>
+	 * Starts the module asynchronously.
+	 * </p>
+	 * 
+	 * <p>
+	 * Beans are created and wired as for {@link #start()} but asynchronous bean initializations (ie. initialization methods returning a {@link CompletionStage}) are not awaited: beans that do not
+	 * depend on a bean being initialized are created in the meantime while dependent beans wait for the initialization to complete. The returned stage completes once all pending asynchronous
+	 * bean initializations have completed, it completes exceptionally if any of them fails.
+	 * </p>
+	 * 
+	 * @return a future which completes once the module is fully started
+	 * 
+	 * @throws IllegalStateException if the module is active.
+	 * 
+	 * @since 1.6
+	 */
+	public CompletableFuture<Void> startAsync() throws IllegalStateException {
+		synchronized(this) {
+			if (this.isActive()) {
+				throw new IllegalStateException("Module " + this.name + " is already active");
+			}
+			this.active = true;
+		}
+		long t0 = System.nanoTime();
+		this.logger.info("Starting Module {}...", () -> this.name);
+		if(this.metrics == null && this.isMetricsEnabled()) {
+			this.metrics = ModuleMetrics.create(this);
+		}
+		Object startEvent = FlightRecorderEvents.beginModuleStart();
+		// Component modules are reported in the report of their enclosing module
+		StartupRecorder parentStartupRecorder = this.parent != null ? this.parent.startupRecorder : null;
+		StartupRecorder startupRecorder = parentStartupRecorder != null ? parentStartupRecorder : new StartupRecorder();
+		this.startupRecorder = startupRecorder;
+		CompletableFuture<Void> initialization;
+		try {
+			initialization = new StartupScheduler(this).start();
+		}
+		catch(RuntimeException | Error e) {
+			this.startupRecorder = null;
+			throw e;
+		}
+		// Beans depending on a pending asynchronous initialization are created once it completes, the recorder must then be kept until the module is started
+		this.startup = initialization.whenComplete((ign, e) -> this.startupRecorder = null).thenRun(() -> {
+			if(parentStartupRecorder == null) {
+				this.startupReport = startupRecorder.toReport(this.name, Duration.ofNanos(System.nanoTime() - t0), startupRecorder.getCriticalPath(this));
+			}
+			FlightRecorderEvents.commitModuleStart(startEvent, this.name);
+			this.logger.info("Module {} started in {}ms", () -> this.name, () -> ((System.nanoTime() - t0) / 1000000));
+		});
+		if(this.parent != null && this.parent.isSuperActive()) {
+			// Beans of a component module are warmed up by its enclosing module
+			this.readiness = this.startup.copy();
+		}
+		else {
+			CompletableFuture<Void> moduleReadiness = new CompletableFuture<>();
+			this.readiness = moduleReadiness;
+			this.startup.whenComplete((ign, e) -> {
+				if(e != null) {
+					moduleReadiness.completeExceptionally(e);
+				}
+				else {
+					WarmupScheduler scheduler = new WarmupScheduler(this);
+					this.warmupScheduler = scheduler;
+					scheduler.warmup(moduleReadiness);
+				}
+			});
+		}
+		return this.startup;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the startup of the module.
+	 * </p>
+	 * 
+	 * @return a future which completes once the module is fully started or null if the module has not been started
+	 */
+	CompletableFuture<Void> getStartup() {
+		return this.startup;
+	}
+	
+	/**
+	 * <p>
+	 * Waits for the specified future to complete.
+	 * </p>
+	 * 
+	 * <p>
+	 * The cause of an exceptional completion is rethrown as is when it is an unchecked exception.
+	 * </p>
+	 * 
+	 * @param future the future to wait for
+	 * 
+	 * @throws CompletionException if the future completed exceptionally with a checked exception
+	 */
+	static void join(CompletableFuture<?> future) throws CompletionException {
+		try {
+			future.join();
+		}
+		catch(CompletionException e) {
+			Throwable cause = e;
+			while(cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if(cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			if(cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw e;
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Stops the module.
+	 * </p>
+	 *
+	 * <p>
+	 * This methods basically destroy the beans created during startup in the reverse order.
+	 * </p>
+	 * 
+	 * <p>
+	 * When a shutdown executor was specified when building the module, beans and component modules are destroyed and stopped concurrently on that executor in the reverse dependency order. The
+	 * method then returns when all beans have been destroyed or when the module shutdown timeout is exceeded, a bean which is not destroyed within the bean shutdown timeout is no longer waited
+	 * for and the beans it depends on are destroyed. Beans which did not finish in time are listed in the {@link ShutdownReport}.
+	 * </p>
+	 */
+	public void stop() {
+		long t0 = System.nanoTime();
+		this.logger.info("Stopping Module {}...", () -> this.name);
+		Object stopEvent = FlightRecorderEvents.beginModuleStop();
+		WarmupScheduler currentWarmupScheduler = this.warmupScheduler;
+		if(currentWarmupScheduler != null) {
+			// Warm-up operations must not be invoked on destroyed bean instances
+			currentWarmupScheduler.stop();
+			this.warmupScheduler = null;
+		}
+		ShutdownScheduler shutdownScheduler = new ShutdownScheduler(this);
+		boolean timedOut = shutdownScheduler.stop(t0);
+		FlightRecorderEvents.commitModuleStop(stopEvent, this.name);
+		this.shutdownReport = new ShutdownReport(this.name, Duration.ofNanos(System.nanoTime() - t0), shutdownScheduler.getTimedOutBeans(), timedOut);
+		if(this.metrics != null) {
+			this.metrics.stopped(this.shutdownReport.getShutdownTime().toNanos());
+		}
+		if(timedOut || !this.shutdownReport.getTimedOutBeans().isEmpty()) {
+			this.logger.warn("{}", this.shutdownReport);
+		}
+		else {
+			this.logger.info("Module {} stopped in {}ms", () -> this.name, () -> ((System.nanoTime() - t0) / 1000000));
+		}
+		CompletableFuture<Void> currentReadiness = this.readiness;
+		if(currentReadiness != null) {
+			currentReadiness.cancel(false);
+		}
+		this.startup = null;
+		this.active = false;
+	}
+	
+	/**
+	 * <p>
+	 * Aggregates single beans, collections of beans and arrays of beans.
+	 * </p>
+	 * 
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 *
+	 * @param <E> the bean type
+	 */
+	protected static class BeanAggregator<E> {
+
+		private final List<E> aggregate;
+
+		/**
+		 * Creates an aggregator.
+		 */
+		public BeanAggregator() {
+			this.aggregate = new ArrayList<>();
+		}
+		
+		/**
+		 * <p>
+		 * Creates an aggregator pre-sized for the specified number of beans.
+		 * </p>
+		 * 
+		 * @param expectedSize the expected number of beans
+		 * 
+		 * @since 1.6
+		 */
+		public BeanAggregator(int expectedSize) {
+			this.aggregate = new ArrayList<>(expectedSize);
+		}
+
+		/**
+		 * <p>
+		 * Appends the specified bean to the aggregate.
+		 * </p>
+		 * 
+		 * <p>
+		 * A null bean is ignored.
+		 * </p>
+		 * 
+		 * @param bean the bean to add.
+		 * 
+		 * @return the aggregator instance.
+		 */
+		public BeanAggregator<E> add(E bean) {
+			if(bean != null) {
+				this.aggregate.add(bean);
+			}
+			return this;
+		}
+
+		/**
+		 * <p>
+		 * Appends the specified collection of beans to the aggregate.
+		 * </p>
+		 * 
+		 * <p>
+		 * Null beans are ignored.
+		 * </p>
+		 * 
+		 * @param beans the beans to add.
+		 * 
+		 * @return the aggregator instance.
+		 */
+		public BeanAggregator<E> add(Collection<E> beans) {
+			if(beans != null) {
+				for(E bean : beans) {
+					if(bean != null) {
+						this.aggregate.add(bean);
+					}
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * <p>
+		 * Appends the specified array of beans to the aggregate.
+		 * </p>
+		 * 
+		 * <p>
+		 * Null beans are ignored.
+		 * </p>
+		 * 
+		 * @param beans the beans to add.
+		 * 
+		 * @return the aggregator instance.
+		 */
+		public BeanAggregator<E> add(E[] beans) {
+			if(beans != null) {
+				for(E bean : beans) {
+					if(bean != null) {
+						this.aggregate.add(bean);
+					}
+				}
 			}
 			return this;
 		}
 
 		/**
 		 * <p>
-		 * Filters null beans and returns a list representation of the aggregate.
+		 * Returns a list representation of the aggregate.
+		 * </p>
+		 * 
+		 * <p>
+		 * Null beans are filtered when they are added. The aggregate list is returned as is, it is mutable and belongs to the caller: the aggregator must not be used once converted. Generated
+		 * modules create an aggregator for each injection, a list injected into a multiple socket can then be modified by the bean and is shared neither with the aggregator nor with other
+		 * beans.
+		 * </p>
+		 * 
+		 * @return a list of beans
+		 */
+		public List<E> toList() {
+			return this.aggregate;
+		}
+		
+		/**
+		 * <p>
+		 * Returns a list representation of the aggregate or an empty optional if the aggregate is empty.
+		 * </p>
+		 * 
+		 * <p>
+		 * As for {@link #toList()}, the aggregate list is returned as is and belongs to the caller.
+		 * </p>
+		 * 
+		 * @return an optional containing the aggregate as a list or an empty optional
+		 */
+		public Optional<List<E>> toOptionalList() {
+			return this.aggregate.isEmpty() ? Optional.empty() : Optional.of(this.aggregate);
+		}
+
+		/**
+		 * <p>
+		 * Returns a set representation of the aggregate.
+		 * </p>
+		 * 
+		 * @return a set of beans
+		 */
+		public Set<E> toSet() {
+			return new HashSet<>(this.aggregate);
+		}
+
+		/**
+		 * <p>
+		 * Returns a set representation of the aggregate or an empty optional if the aggregate is empty.
 		 * </p>
 		 * 
-		 * @return a list of beans
+		 * @return an optional containing the aggregate as a set or an empty optional
 		 */
-		public List<E> toList() {
-			return this.aggregate.stream().filter(Objects::nonNull).collect(Collectors.toList());
+		public Optional<Set<E>> toOptionalSet() {
+			return this.aggregate.isEmpty() ? Optional.empty() : Optional.of(new HashSet<>(this.aggregate));
+		}
+		
+		/**
+		 * <p>
+		 * Returns an array representation of the aggregate.
+		 * </p>
+		 *
+		 * @param generator a function which produces a new array of the desired type and the provided length
+		 *
+		 * @return an array of beans
+		 */
+		public E[] toArray(IntFunction<E[]> generator) {
+			return this.aggregate.toArray(generator.apply(this.aggregate.size()));
 		}
 		
 		/**
 		 * <p>
-		 * Filters null beans and returns a list representation of the aggregate or an empty optional if the aggregate is empty.
+		 * Returns an array representation of the aggregate or an empty optional if the aggregate is empty.
 		 * </p>
 		 * 
-		 * @return an optional containing the aggregate as a list or an empty optional
+		 * @param generator a function which produces a new array of the desired type and the provided length
+		 * 
+		 * @return an optional containing the aggregate as an array or an empty optional
 		 */
-		public Optional<List<E>> toOptionalList() {
-			return Optional.of(this.aggregate.stream().filter(Objects::nonNull).collect(Collectors.toList())).filter(list -> !list.isEmpty());
+		public Optional<E[]> toOptionalArray(IntFunction<E[]> generator) {
+			return this.aggregate.isEmpty() ? Optional.empty() : Optional.of(this.aggregate.toArray(generator.apply(this.aggregate.size())));
+		}
+	}
+
+	/**
+	 * <p>
+	 * The Module Linker base class.
+	 * </p>
+	 *
+	 * <p>
+	 * A Module linker is used within modules implementations to link a dependent modules into the current module. A linker is only used within a module and shall never be used directly.
+	 * </p>
+	 *
+	 * @param <T> the module type to link.
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.0
+	 */
+	protected static abstract class ModuleLinker<T extends Module> {
+
+		/**
+		 * The socket map to be used during linking process.
+		 */
+		protected Map<String, Object> sockets;
+
+		/**
+		 * <p>
+		 * Creates a new Module linker with the specified socket map.
+		 * </p>
+		 * 
+		 * @param sockets the socket map
+		 */
+		public ModuleLinker(Map<String, Object> sockets) {
+			this.sockets = sockets;
 		}
 
 		/**
 		 * <p>
-		 * Filters null beans and returns a set representation of the aggregate.
+		 * Links the socket map in a new module instance and return that instance.
 		 * </p>
 		 * 
-		 * @return a set of beans
+		 * @return a new linked module instance
 		 */
-		public Set<E> toSet() {
-			return this.aggregate.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+		protected abstract T link();
+	}
+
+	/**
+	 * <p>
+	 * The Module Builder base class.
+	 * </p>
+	 * 
+	 * <p>
+	 * All module have to be built by a builder.
+	 * </p>
+	 *
+	 * <p>
+	 * Generated module builders override the module options to return the generated builder type so that options can be chained with socket methods.
+	 * </p>
+	 *
+	 * @param <T> the module type to build.
+	 * 
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.0
+	 */
+	protected static abstract class ModuleBuilder<T extends Module> {
+
+		/**
+		 * The executor used to start the module concurrently.
+		 */
+		private Executor startupExecutor;
+		
+		/**
+		 * The cleaner used to destroy garbage collected prototype wrapper bean instances.
+		 */
+		private Cleaner cleaner;
+		
+		/**
+		 * Indicates whether beans are created on demand.
+		 */
+		private boolean lazy;
+		
+		/**
+		 * The maximum number of idle instances kept by pooled beans.
+		 */
+		private int poolCapacity;
+		
+		/**
+		 * The carrier providing the active scope to scoped beans.
+		 */
+		private ScopeCarrier scopeCarrier;
+		
+		/**
+		 * The executor used to stop the module concurrently.
+		 */
+		private Executor shutdownExecutor;
+		
+		/**
+		 * The time budget to stop the module.
+		 */
+		private Duration shutdownTimeout;
+		
+		/**
+		 * The time budget to destroy a bean or to stop a component module.
+		 */
+		private Duration beanShutdownTimeout;
+		
+		/**
+		 * Indicates whether lifecycle metrics are collected.
+		 */
+		private boolean metricsEnabled;
+		
+		/**
+		 * The executor used to warm up beans once the module has been started.
+		 */
+		private Executor warmupExecutor;
+		
+		/**
+		 * The time budget to warm up beans.
+		 */
+		private Duration warmupTimeout;
+		
+		/**
+		 * <p>
+		 * Creates a new Module Builder.
+		 * </p>
+		 *
+		 * @param nonOptionalSockets an even list of non-optional sockets pairs (name, value) required to build the module
+		 *
+		 * @throws IllegalArgumentException if one or more non-optional sockets are null
+		 */
+		public ModuleBuilder(Object... nonOptionalSockets) throws IllegalArgumentException {
+			if (nonOptionalSockets.length % 2 != 0) {
+				throw new IllegalArgumentException("Invalid list of required socket");
+			}
+			List<String> nullSockets = new ArrayList<>();
+			for (int i = 0; i < nonOptionalSockets.length; i = i + 2) {
+				if (nonOptionalSockets[i + 1] == null) {
+					nullSockets.add(nonOptionalSockets[i].toString());
+				}
+			}
+			if (!nullSockets.isEmpty()) {
+				throw new IllegalArgumentException("Following non-optional sockets are null: "
+						+ nullSockets.stream().collect(Collectors.joining(", ")));
+			}
 		}
 
 		/**
 		 * <p>
-		 * Filters null beans and returns a set representation of the aggregate or an empty optional if the aggregate is empty.
+		 * Builds the module.
+		 * </p>
+		 *
+		 * <p>
+		 * This method actually delegates the actual module creation to the {@link #doBuild()} method.
+		 * </p>
+		 *
+		 * @return a new module instance
+		 */
+		public final T build() {
+			T thisModule = this.doBuild();
+			((Module)thisModule).startupExecutor = this.startupExecutor;
+			((Module)thisModule).cleaner = this.cleaner;
+			((Module)thisModule).lazy = this.lazy;
+			((Module)thisModule).poolCapacity = this.poolCapacity;
+			((Module)thisModule).scopeCarrier = this.scopeCarrier;
+			((Module)thisModule).shutdownExecutor = this.shutdownExecutor;
+			((Module)thisModule).shutdownTimeout = this.shutdownTimeout;
+			((Module)thisModule).beanShutdownTimeout = this.beanShutdownTimeout;
+			((Module)thisModule).metricsEnabled = this.metricsEnabled;
+			((Module)thisModule).warmupExecutor = this.warmupExecutor;
+			((Module)thisModule).warmupTimeout = this.warmupTimeout;
+			return thisModule;
+		}
+		
+		/**
+		 * <p>
+		 * Specifies the executor to use to start component modules and create beans concurrently when starting the module.
+		 * </p>
+		 *
+		 * <p>
+		 * Component modules and beans which do not depend on each other are then started concurrently, this can significantly reduce the startup time of a module whose beans have slow
+		 * initialization methods. Any kind of executor can be used including an executor creating a virtual thread per task. Beans are still destroyed in the reverse creation order when the
+		 * module is stopped.
+		 * </p>
+		 *
+		 * <p>
+		 * Beans and component modules are started sequentially on the caller thread when no executor is specified which is the default.
+		 * </p>
+		 *
+		 * @param startupExecutor an executor or null to start the module sequentially
+		 *
+		 * @return this builder
+		 * 
+		 * @since 1.6
+		 */
+		public ModuleBuilder<T> startupExecutor(Executor startupExecutor) {
+			this.startupExecutor = startupExecutor;
+			return this;
+		}
+		
+		/**
+		 * <p>
+		 * Specifies the cleaner to use to destroy prototype wrapper bean instances as soon as they are reclaimed by the garbage collector.
+		 * </p>
+		 *
+		 * <p>
+		 * Prototype wrapper bean instances are normally destroyed when the module is stopped provided they are still reachable, instances reclaimed by the garbage collector before that are
+		 * simply never destroyed. When a cleaner is specified, the wrapper of a prototype bean instance defining destruction operations is destroyed by the cleaner soon after the bean instance
+		 * becomes unreachable, allowing resources held by the wrapper to be released while the module is running. The cleaner is also used by component modules.
+		 * </p>
+		 *
+		 * <p>
+		 * Destruction operations of module beans are invoked on the bean instance and therefore can't be invoked once the instance has been reclaimed, prototype module beans are not concerned by
+		 * this mode.
+		 * </p>
+		 *
+		 * @param cleaner a cleaner or null to only destroy prototype wrapper bean instances when the module is stopped
+		 *
+		 * @return this builder
+		 * 
+		 * @since 1.6
+		 */
+		public ModuleBuilder<T> cleaner(Cleaner cleaner) {
+			this.cleaner = cleaner;
+			return this;
+		}
+		
+		/**
+		 * <p>
+		 * Specifies whether beans should be created on demand instead of when the module is started.
+		 * </p>
+		 *
+		 * <p>
+		 * In lazy mode, starting the module does not create any bean: a singleton bean is created and initialized the first time it is requested, along with the beans it depends on, which can
+		 * significantly reduce the startup time and the memory footprint of an application that only uses a small subset of a large module. Creation remains thread-safe and beans are still
+		 * destroyed in the reverse order of their actual creation when the module is stopped. Since the code instantiating a bean is only executed when the bean is created, the class of a bean
+		 * which is never requested is normally not loaded.
+		 * </p>
+		 *
+		 * <p>
+		 * Component modules are lazy as well. The startup executor is ignored in lazy mode.
+		 * </p>
+		 *
+		 * @param lazy true to create beans on demand, false to create them when the module is started which is the default
+		 *
+		 * @return this builder
+		 * 
+		 * @since 1.6
+		 */
+		public ModuleBuilder<T> lazy(boolean lazy) {
+			this.lazy = lazy;
+			return this;
+		}
+		
+		/**
+		 * <p>
+		 * Specifies the executor to use to destroy beans and stop component modules concurrently when stopping the module.
+		 * </p>
+		 *
+		 * <p>
+		 * Beans and component modules are still stopped in the reverse dependency order: a bean is destroyed once the beans depending on it have been destroyed, but beans which do not depend on
+		 * each other are destroyed concurrently so that a slow destruction method only delays the beans it depends on. Timeouts can then be enforced using
+		 * {@link #shutdownTimeout(Duration)} and {@link #beanShutdownTimeout(Duration)}.
+		 * </p>
+		 *
+		 * <p>
+		 * Beans and component modules are stopped sequentially on the caller thread when no executor is specified which is the default.
+		 * </p>
+		 *
+		 * @param shutdownExecutor an executor or null to stop the module sequentially
+		 *
+		 * @return this builder
+		 * 
+		 * @since 1.6
+		 */
+		public ModuleBuilder<T> shutdownExecutor(Executor shutdownExecutor) {
+			this.shutdownExecutor = shutdownExecutor;
+			return this;
+		}
+		
+		/**
+		 * <p>
+		 * Specifies the time budget to stop the module.
+		 * </p>
+		 *
+		 * <p>
+		 * When stopping the module concurrently, the module stops waiting for the beans still being destroyed once the timeout is exceeded. These beans are reported in the
+		 * {@link ShutdownReport}. When stopping the module sequentially, the module can't be interrupted and the report only indicates that the timeout was exceeded.
+		 * </p>
+		 *
+		 * @param shutdownTimeout a timeout or null to wait for all beans to be destroyed
+		 *
+		 * @return this builder
+		 * 
+		 * @since 1.6
+		 */
+		public ModuleBuilder<T> shutdownTimeout(Duration shutdownTimeout) {
+			this.shutdownTimeout = shutdownTimeout;
+			return this;
+		}
+		
+		/**
+		 * <p>
+		 * Specifies the time budget to destroy a bean or to stop a component module.
+		 * </p>
+		 *
+		 * <p>
+		 * When stopping the module concurrently, a bean which is not destroyed within the timeout is no longer waited for and the beans it depends on are destroyed. When stopping the module
+		 * sequentially, the bean is only reported. Beans exceeding their budget are listed in the {@link ShutdownReport}.
+		 * </p>
+		 *
+		 * @param beanShutdownTimeout a timeout or null to wait for each bean to be destroyed
+		 *
+		 * @return this builder
+		 * 
+		 * @since 1.6
+		 */
+		public ModuleBuilder<T> beanShutdownTimeout(Duration beanShutdownTimeout) {
+			this.beanShutdownTimeout = beanShutdownTimeout;
+			return this;
+		}
+		
+		/**
+		 * <p>
+		 * Specifies whether lifecycle metrics should be collected.
+		 * </p>
+		 *
+		 * <p>
+		 * When enabled, the module counts the instances created and destroyed by each bean, the initialization failures, records the creation time of singletons and the duration of the last
+		 * stop. Metrics are collected for the beans of component modules as well, they are available from {@link Module#getMetrics()} and are registered in the platform MBean server as a
+		 * {@link ModuleMetricsMXBean} when the module is started. The MXBean remains registered after the module is stopped so that the stop duration can be inspected, it is replaced when a
+		 * module with the same name is started.
+		 * </p>
+		 *
+		 * <p>
+		 * Counters are striped to keep the creation of prototype beans uncontended, metrics are disabled by default in which case they have no cost other than a null check.
 		 * </p>
+		 *
+		 * @param metricsEnabled true to collect lifecycle metrics, false otherwise
+		 *
+		 * @return this builder
 		 * 
-		 * @return an optional containing the aggregate as a set or an empty optional
+		 * @since 1.6
 		 */
-		public Optional<Set<E>> toOptionalSet() {
-			return Optional.of(this.aggregate.stream().filter(Objects::nonNull).collect(Collectors.toSet())).filter(set -> !set.isEmpty());
+		public ModuleBuilder<T> metrics(boolean metricsEnabled) {
+			this.metricsEnabled = metricsEnabled;
+			return this;
 		}
 		
 		/**
 		 * <p>
-		 * Filters null beans and returns an array representation of the aggregate.
+		 * Specifies the executor to use to warm up beans once the module has been started.
 		 * </p>
 		 *
-		 * @param generator a function which produces a new array of the desired type and the provided length
+		 * <p>
+		 * The warm-up operations of each singleton bean are executed in a separate task, the executor then determines how many beans are warmed up in parallel. The common fork-join pool, whose
+		 * parallelism is bounded by the number of available processors, is used when no executor is specified which is the default.
+		 * </p>
 		 *
-		 * @return an array of beans
+		 * @param warmupExecutor an executor or null to use the common pool
+		 *
+		 * @return this builder
+		 * 
+		 * @since 1.6
 		 */
-		public E[] toArray(IntFunction<E[]> generator) {
-			return this.aggregate.stream().filter(Objects::nonNull).toArray(generator);
+		public ModuleBuilder<T> warmupExecutor(Executor warmupExecutor) {
+			this.warmupExecutor = warmupExecutor;
+			return this;
 		}
 		
 		/**
 		 * <p>
-		 * Filters null beans and returns an array representation of the aggregate or an empty optional if the aggregate is empty.
+		 * Specifies the time budget to warm up beans once the module has been started.
 		 * </p>
-		 * 
-		 * @param generator a function which produces a new array of the desired type and the provided length
-		 * 
-		 * @return an optional containing the aggregate as an array or an empty optional
-		 */
-		public Optional<E[]> toOptionalArray(IntFunction<E[]> generator) {
-			return Optional.of(this.aggregate.stream().filter(Objects::nonNull).toArray(generator)).filter(array -> array.length > 0);
-		}
-	}
-
-	/**
-	 * <p>
-	 * The Module Linker base class.
-	 * </p>
-	 *
-	 * <p>
-	 * A Module linker is used within modules implementations to link a dependent modules into the current module. A linker is only used within a module and shall never be used directly.
-	 * </p>
-	 *
-	 * @param <T> the module type to link.
-	 *
-	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
-	 * @since 1.0
-	 */
-	protected static abstract class ModuleLinker<T extends Module> {
-
-		/**
-		 * The socket map to be used during linking process.
-		 */
-		protected Map<String, Object> sockets;
-
-		/**
+		 *
 		 * <p>
-		 * Creates a new Module linker with the specified socket map.
+		 * The module is reported ready when the time budget is exhausted even if some warm-up operations are still running (see {@link Module#getReadiness()}), warm-up operations are not
+		 * interrupted. There's no time budget by default.
 		 * </p>
+		 *
+		 * @param warmupTimeout a time budget or null to wait for all warm-up operations to complete
+		 *
+		 * @return this builder
 		 * 
-		 * @param sockets the socket map
+		 * @since 1.6
 		 */
-		public ModuleLinker(Map<String, Object> sockets) {
-			this.sockets = sockets;
+		public ModuleBuilder<T> warmupTimeout(Duration warmupTimeout) {
+			this.warmupTimeout = warmupTimeout;
+			return this;
 		}
-
+		
 		/**
 		 * <p>
-		 * Links the socket map in a new module instance and return that instance.
+		 * Specifies the maximum number of idle instances kept by each pooled bean.
 		 * </p>
-		 * 
-		 * @return a new linked module instance
-		 */
-		protected abstract T link();
-	}
-
-	/**
-	 * <p>
-	 * The Module Builder base class.
-	 * </p>
-	 * 
-	 * <p>
-	 * All module have to be built by a builder.
-	 * </p>
-	 * 
-	 * @param <T> the module type to build.
-	 * 
-	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
-	 * @since 1.0
-	 */
-	protected static abstract class ModuleBuilder<T extends Module> {
-
-		/**
+		 *
 		 * <p>
-		 * Creates a new Module Builder.
+		 * A pooled bean creates a new instance when no idle instance is available, the capacity then bounds the number of instances kept between two borrows and not the number of instances in
+		 * use: an instance returned to a full pool is destroyed. Component modules use the same capacity. The number of available processors is used when no capacity is specified.
 		 * </p>
 		 *
-		 * @param nonOptionalSockets an even list of non-optional sockets pairs (name, value) required to build the module
+		 * @param poolCapacity a positive capacity or 0 to use the default capacity
 		 *
-		 * @throws IllegalArgumentException if one or more non-optional sockets are null
+		 * @return this builder
+		 * 
+		 * @throws IllegalArgumentException if the specified capacity is negative
+		 * 
+		 * @since 1.6
 		 */
-		public ModuleBuilder(Object... nonOptionalSockets) throws IllegalArgumentException {
-			if (nonOptionalSockets.length % 2 != 0) {
-				throw new IllegalArgumentException("Invalid list of required socket");
-			}
-			List<String> nullSockets = new ArrayList<>();
-			for (int i = 0; i < nonOptionalSockets.length; i = i + 2) {
-				if (nonOptionalSockets[i + 1] == null) {
-					nullSockets.add(nonOptionalSockets[i].toString());
-				}
-			}
-			if (!nullSockets.isEmpty()) {
-				throw new IllegalArgumentException("Following non-optional sockets are null: "
-						+ nullSockets.stream().collect(Collectors.joining(", ")));
+		public ModuleBuilder<T> poolCapacity(int poolCapacity) throws IllegalArgumentException {
+			if(poolCapacity < 0) {
+				throw new IllegalArgumentException("Pool capacity can't be negative");
 			}
+			this.poolCapacity = poolCapacity;
+			return this;
 		}
-
+		
 		/**
 		 * <p>
-		 * Builds the module.
+		 * Specifies the carrier providing the active scope to scoped beans.
 		 * </p>
 		 *
 		 * <p>
-		 * This method actually delegates the actual module creation to the {@link #doBuild()} method.
+		 * Scoped beans provide one instance per active {@link Scope}, scopes must then be bound using the same carrier. Component modules use the same carrier. The thread local carrier (see
+		 * {@link ScopeCarrier#threadLocal()}) is used when no carrier is specified, a carrier based on {@code ScopedValue} can be specified on runtimes supporting it.
 		 * </p>
 		 *
-		 * @return a new module instance
+		 * @param scopeCarrier a scope carrier or null to use the thread local carrier
+		 *
+		 * @return this builder
+		 * 
+		 * @since 1.6
 		 */
-		public final T build() {
-			T thisModule = this.doBuild();
-			return thisModule;
+		public ModuleBuilder<T> scopeCarrier(ScopeCarrier scopeCarrier) {
+			this.scopeCarrier = scopeCarrier;
+			return this;
 		}
 
 		/**
@@ -591,6 +1570,10 @@ public abstract class Module {
 		 * </p>
 		 *
 		 * <p>
+		 * A bean instance that has already been created and published is returned right away (see {@link #peek()}).
+		 * </p>
+		 *
+		 * <p>
 		 * In case the enclosing module is not active but one of its ancestors is active, this method starts the enclosing module in order to start modules in their natural order. If no ancestor is
 		 * active (ie. the enclosing module is not part of a module initialization process), an {@link IllegalStateException} is thrown.
 		 * </p>
@@ -599,6 +1582,22 @@ public abstract class Module {
 		 */
 		@Override
 		public final T get() throws IllegalStateException {
+			T instance = this.peek();
+			if(instance != null) {
+				return instance;
+			}
+			this.requireActive();
+			return this.doGet();
+		}
+		
+		/**
+		 * <p>
+		 * Makes sure the enclosing module is active, starting it when one of its ancestors is active.
+		 * </p>
+		 *
+		 * @throws IllegalStateException if the enclosing module is inactive and not part of a module initialization process.
+		 */
+		final void requireActive() throws IllegalStateException {
 			if (!this.parent.isActive()) {
 				if(this.parent.isSuperActive()) {
 					this.parent.start();
@@ -607,9 +1606,75 @@ public abstract class Module {
 					throw new IllegalArgumentException("Module " + this.parent.getName() + " is inactive.");
 				}
 			}
-			return this.doGet();
 		}
 
+		/**
+		 * <p>
+		 * Returns the bean instance if it can be returned right away without checking the state of the enclosing module.
+		 * </p>
+		 *
+		 * <p>
+		 * This is used to provide a fast access path to an instance that has already been created (eg. a singleton). An instance returned by this method must be safely published and must be
+		 * discarded when the bean is destroyed. The default implementation returns null which means the bean must be obtained by {@link #doGet()}.
+		 * </p>
+		 *
+		 * @return a bean instance or null
+		 * 
+		 * @since 1.6
+		 */
+		protected T peek() {
+			return null;
+		}
+		
+		/**
+		 * <p>
+		 * Returns the task warming up the bean instance.
+		 * </p>
+		 * 
+		 * <p>
+		 * The default implementation returns null which means the bean has nothing to warm up. A bean which creates its instance once (eg. a singleton) can return a task invoking the warm-up
+		 * operations on the instance once it has been created.
+		 * </p>
+		 * 
+		 * @return a warm-up task or null
+		 * 
+		 * @since 1.6
+		 */
+		Runnable getWarmup() {
+			return null;
+		}
+		
+		/**
+		 * <p>
+		 * Handles the pending asynchronous initialization of an instance created by the bean.
+		 * </p>
+		 * 
+		 * <p>
+		 * The default implementation waits for the initialization to complete before the instance is returned. A bean which creates its instance once (eg. a singleton) can defer its publication
+		 * instead so that independent beans can be created in the meantime.
+		 * </p>
+		 * 
+		 * @param initialization a future which completes once the instance is initialized
+		 * 
+		 * @since 1.6
+		 */
+		void setInitialization(CompletableFuture<Void> initialization) {
+			join(initialization);
+		}
+		
+		/**
+		 * <p>
+		 * Returns the pending asynchronous initialization of the bean instance.
+		 * </p>
+		 * 
+		 * @return a future which completes once the bean instance is initialized or null if there is no pending initialization
+		 * 
+		 * @since 1.6
+		 */
+		CompletableFuture<Void> getInitialization() {
+			return null;
+		}
+		
 		/**
 		 * <p>
 		 * Returns the supplied bean instance.
@@ -679,6 +1744,34 @@ public abstract class Module {
 			void accept(T t) throws Exception;
 		}
 		
+		/**
+		 * <p>
+		 * Fallible function used to designates asynchronous init methods which might throw checked exception.
+		 * </p>
+		 *
+		 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+		 * @since 1.6
+		 *
+		 * @param <T> the type of the input to the function
+		 * @param <R> the type of the result of the function
+		 */
+		@FunctionalInterface
+		static interface FallibleFunction<T, R> {
+			
+			/**
+			 * <p>
+			 * Applies this function to the given argument.
+			 * </p>
+			 *
+			 * @param t the input argument
+			 *
+			 * @return the function result
+			 *
+			 * @throws Exception if something goes wrong processing the argument
+			 */
+			R apply(T t) throws Exception;
+		}
+		
 		/**
 		 * <p>
 		 * Adds a bean initialization operation.
@@ -689,6 +1782,24 @@ public abstract class Module {
 		 * @return this builder
 		 */
 		B init(FallibleConsumer<T> init);
+		
+		/**
+		 * <p>
+		 * Adds an asynchronous bean initialization operation.
+		 * </p>
+		 * 
+		 * <p>
+		 * Asynchronous initialization operations are invoked after synchronous initialization operations, the bean instance is only provided to dependent beans once the returned stages
+		 * complete. Beans that do not depend on the bean can be created in the meantime.
+		 * </p>
+		 * 
+		 * @param init the asynchronous bean initialization operation.
+		 * 
+		 * @return this builder
+		 * 
+		 * @since 1.6
+		 */
+		B initAsync(FallibleFunction<T, CompletionStage<?>> init);
 
 		/**
 		 * <p>
@@ -700,6 +1811,24 @@ public abstract class Module {
 		 * @return this builder
 		 */
 		B destroy(FallibleConsumer<T> destroy);
+		
+		/**
+		 * <p>
+		 * Adds a bean warm-up operation.
+		 * </p>
+		 * 
+		 * <p>
+		 * Warm-up operations are invoked on singleton instances once the enclosing module has been started, concurrently with the warm-up operations of other beans. The module is reported ready
+		 * once they have completed (see {@link Module#getReadiness()}). They are ignored for other strategies.
+		 * </p>
+		 * 
+		 * @param warmup the bean warm-up operation
+		 * 
+		 * @return this builder
+		 * 
+		 * @since 1.6
+		 */
+		B warmup(FallibleConsumer<T> warmup);
 	}
 	
 	/**
@@ -770,6 +1899,67 @@ public abstract class Module {
 			return new PrototypeModuleBeanBuilder<>(beanName, constructor);
 		}
 		
+		/**
+		 * <p>
+		 * Returns a pooled module bean builder.
+		 * </p>
+		 *
+		 * <p>
+		 * Pooled {@link Bean}s are useful when instances of a bean are expensive to create and not thread-safe, instances are borrowed from and returned to a bounded pool (see {@link Pool}).
+		 * </p>
+		 *
+		 * @param <T>         the type of the bean to build
+		 * @param beanName    the bean name
+		 * @param constructor the bean instance supplier
+		 *
+		 * @return a pooled Bean Builder
+		 * 
+		 * @since 1.6
+		 */
+		static <T> ModuleBeanBuilder<T, T> pooled(String beanName, Supplier<T> constructor) {
+			return new PooledModuleBeanBuilder<>(beanName, constructor);
+		}
+		
+		/**
+		 * <p>
+		 * Returns a scoped module bean builder.
+		 * </p>
+		 *
+		 * <p>
+		 * Scoped {@link Bean}s are useful when one single instance of a bean should be injected within a unit of work such as a request, instances are cached in the active {@link Scope} and
+		 * destroyed when the scope is closed.
+		 * </p>
+		 *
+		 * @param <T>         the type of the bean to build
+		 * @param beanName    the bean name
+		 * @param constructor the bean instance supplier
+		 *
+		 * @return a scoped Bean Builder
+		 * 
+		 * @since 1.6
+		 */
+		static <T> ModuleBeanBuilder<T, T> scoped(String beanName, Supplier<T> constructor) {
+			return new ScopedModuleBeanBuilder<>(beanName, constructor);
+		}
+		
+		/**
+		 * <p>
+		 * Adds a bean reset operation.
+		 * </p>
+		 * 
+		 * <p>
+		 * Reset operations are invoked when an instance is returned to the pool of a pooled bean, the instance is evicted and destroyed when a reset operation fails. They are ignored for other
+		 * strategies.
+		 * </p>
+		 * 
+		 * @param reset the bean reset operation
+		 * 
+		 * @return this builder
+		 * 
+		 * @since 1.6
+		 */
+		ModuleBeanBuilder<P, T> reset(FallibleConsumer<T> reset);
+		
 		/**
 		 * <p>
 		 * Builds the bean.
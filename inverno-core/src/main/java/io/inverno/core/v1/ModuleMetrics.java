@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Lifecycle metrics of a module.
+ * </p>
+ *
+ * <p>
+ * Module metrics are collected when metrics are enabled on the module (see {@link Module.ModuleBuilder#metrics(boolean)}), they provide live counters for each bean of the module and its
+ * component modules as well as the duration of the last stop of the module. They are available from the module (see {@link Module#getMetrics()}) and through the platform MBean server (see
+ * {@link ModuleMetricsMXBean}).
+ * </p>
+ *
+ * <pre>{@code
+ * ModuleMetrics metrics = module.getMetrics().orElseThrow();
+ * metrics.getBeans().stream()
+ *     .filter(bean -> bean.getAliveInstances() > 1000)
+ *     .forEach(bean -> ...);
+ * }</pre>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * 
+ * @see BeanMetrics
+ */
+public final class ModuleMetrics implements ModuleMetricsMXBean {
+
+	/**
+	 * The domain of the object names of module metrics MXBeans.
+	 */
+	private static final String OBJECT_NAME_DOMAIN = "io.inverno.core";
+	
+	/**
+	 * The module.
+	 */
+	private final Module module;
+	
+	/**
+	 * The metrics of the beans of the module indexed by bean name.
+	 */
+	private final Map<String, BeanMetrics> beans;
+	
+	/**
+	 * The duration of the last stop in nanoseconds, -1 if the module has never been stopped.
+	 */
+	private volatile long lastStopDuration;
+	
+	/**
+	 * <p>
+	 * Creates module metrics.
+	 * </p>
+	 *
+	 * @param module the module
+	 * @param beans  the metrics of the beans of the module
+	 */
+	ModuleMetrics(Module module, List<BeanMetrics> beans) {
+		this.module = module;
+		Map<String, BeanMetrics> beansMap = new LinkedHashMap<>();
+		for(BeanMetrics bean : beans) {
+			beansMap.put(bean.getBeanName(), bean);
+		}
+		this.beans = Collections.unmodifiableMap(beansMap);
+		this.lastStopDuration = -1;
+	}
+	
+	/**
+	 * <p>
+	 * Creates the lifecycle metrics of the specified module and of its beans.
+	 * </p>
+	 *
+	 * <p>
+	 * The metrics of a top module are registered in the platform MBean server when the {@code java.management} module is available.
+	 * </p>
+	 *
+	 * @param module the module
+	 *
+	 * @return module metrics
+	 */
+	static ModuleMetrics create(Module module) {
+		List<BeanMetrics> beansMetrics = new ArrayList<>(module.beans.size());
+		for(Module.Bean<?> bean : module.beans) {
+			beansMetrics.add(new BeanMetrics(bean.name));
+		}
+		ModuleMetrics metrics = new ModuleMetrics(module, beansMetrics);
+		if(module.parent == null) {
+			if(PlatformMBeans.ENABLED) {
+				PlatformMBeans.register(module, metrics);
+			}
+			else {
+				module.logger.debug("Metrics of module {} are not registered in the platform MBean server: java.management is not available", module::getName);
+			}
+		}
+		return metrics;
+	}
+	
+	/**
+	 * <p>
+	 * Records the stop of the module.
+	 * </p>
+	 *
+	 * @param duration the stop duration in nanoseconds
+	 */
+	void stopped(long duration) {
+		this.lastStopDuration = duration;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the name under which the metrics are registered in the platform MBean server.
+	 * </p>
+	 *
+	 * @return an object name
+	 */
+	public String getObjectName() {
+		return OBJECT_NAME_DOMAIN + ":type=Module,name=" + this.module.getName();
+	}
+	
+	@Override
+	public String getModuleName() {
+		return this.module.getName();
+	}
+
+	@Override
+	public boolean isActive() {
+		return this.module.isActive();
+	}
+	
+	/**
+	 * <p>
+	 * Returns the duration of the last stop of the module.
+	 * </p>
+	 *
+	 * @return an optional returning the last stop duration or an empty optional if the module has never been stopped
+	 */
+	public Optional<Duration> getLastStopDuration() {
+		long duration = this.lastStopDuration;
+		return duration >= 0 ? Optional.of(Duration.ofNanos(duration)) : Optional.empty();
+	}
+	
+	@Override
+	public long getLastStopDurationMillis() {
+		long duration = this.lastStopDuration;
+		return duration >= 0 ? duration / 1000000 : -1;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the metrics of the beans of the module.
+	 * </p>
+	 *
+	 * @return a list of bean metrics
+	 */
+	public List<BeanMetrics> getBeans() {
+		return List.copyOf(this.beans.values());
+	}
+	
+	/**
+	 * <p>
+	 * Returns the metrics of the bean with the specified name.
+	 * </p>
+	 *
+	 * @param beanName a bean name
+	 *
+	 * @return an optional returning the bean metrics or an empty optional if there's no bean with the specified name in the module
+	 */
+	public Optional<BeanMetrics> getBean(String beanName) {
+		return Optional.ofNullable(this.beans.get(beanName));
+	}
+	
+	/**
+	 * <p>
+	 * Returns the metrics of the specified bean.
+	 * </p>
+	 *
+	 * @param beanName the name of the bean
+	 *
+	 * @return the bean metrics or null if there's no bean with the specified name in the module
+	 */
+	BeanMetrics getBeanMetrics(String beanName) {
+		return this.beans.get(beanName);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the metrics of the component modules of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * The metrics of a component module are only available once it has been started.
+	 * </p>
+	 *
+	 * @return a list of module metrics
+	 */
+	public List<ModuleMetrics> getModules() {
+		return this.module.getComponentMetrics();
+	}
+	
+	@Override
+	public Map<String, Long> getCreatedInstances() {
+		return this.collect(BeanMetrics::getCreatedInstances);
+	}
+
+	@Override
+	public Map<String, Long> getDestroyedInstances() {
+		return this.collect(BeanMetrics::getDestroyedInstances);
+	}
+
+	@Override
+	public Map<String, Long> getAliveInstances() {
+		return this.collect(BeanMetrics::getAliveInstances);
+	}
+
+	@Override
+	public Map<String, Long> getInitFailures() {
+		return this.collect(BeanMetrics::getInitFailures);
+	}
+
+	@Override
+	public Map<String, Long> getSingletonCreationTimes() {
+		return this.collect(bean -> bean.getCreationTime().map(Instant::toEpochMilli).orElse(null));
+	}
+	
+	/**
+	 * <p>
+	 * Collects a value from the beans of the module and its component modules.
+	 * </p>
+	 *
+	 * @param value a function returning the value of a bean or null to ignore the bean
+	 *
+	 * @return a map of values indexed by bean name
+	 */
+	private Map<String, Long> collect(Function<BeanMetrics, Long> value) {
+		Map<String, Long> values = new LinkedHashMap<>();
+		this.collect("", value, values);
+		return values;
+	}
+	
+	/**
+	 * <p>
+	 * Collects a value from the beans of the module and its component modules, the names of the beans of component modules are prefixed by the name of their module.
+	 * </p>
+	 *
+	 * @param prefix the prefix to add to bean names
+	 * @param value  a function returning the value of a bean or null to ignore the bean
+	 * @param values the map of values
+	 */
+	private void collect(String prefix, Function<BeanMetrics, Long> value, Map<String, Long> values) {
+		for(BeanMetrics bean : this.beans.values()) {
+			Long beanValue = value.apply(bean);
+			if(beanValue != null) {
+				values.put(prefix + bean.getBeanName(), beanValue);
+			}
+		}
+		for(ModuleMetrics module : this.getModules()) {
+			module.collect(prefix + module.getModuleName() + ":", value, values);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.Map;
+
+/**
+ * <p>
+ * Management interface exposing the lifecycle metrics of a module.
+ * </p>
+ *
+ * <p>
+ * When metrics are enabled on a module (see {@link Module.ModuleBuilder#metrics(boolean)}), an MXBean implementing this interface is registered in the platform MBean server under the name
+ * {@code io.inverno.core:type=Module,name=<module>} when the module is started. Per bean counters are exposed as maps indexed by bean name, beans of component modules are prefixed by the
+ * name of their module (eg. {@code component:bean}).
+ * </p>
+ *
+ * <p>
+ * The MXBean is only registered when the {@code java.management} module is resolved, a modular application which doesn't require it must be started with {@code --add-modules java.management}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * 
+ * @see ModuleMetrics
+ */
+public interface ModuleMetricsMXBean {
+
+	/**
+	 * <p>
+	 * Returns the name of the module.
+	 * </p>
+	 *
+	 * @return the module name
+	 */
+	String getModuleName();
+	
+	/**
+	 * <p>
+	 * Determines whether the module is active.
+	 * </p>
+	 *
+	 * @return true if the module is active, false otherwise
+	 */
+	boolean isActive();
+	
+	/**
+	 * <p>
+	 * Returns the duration of the last stop of the module.
+	 * </p>
+	 *
+	 * @return the last stop duration in milliseconds or -1 if the module has never been stopped
+	 */
+	long getLastStopDurationMillis();
+	
+	/**
+	 * <p>
+	 * Returns the number of instances created per bean.
+	 * </p>
+	 *
+	 * @return a map of created instances indexed by bean name
+	 */
+	Map<String, Long> getCreatedInstances();
+	
+	/**
+	 * <p>
+	 * Returns the number of instances destroyed per bean.
+	 * </p>
+	 *
+	 * @return a map of destroyed instances indexed by bean name
+	 */
+	Map<String, Long> getDestroyedInstances();
+	
+	/**
+	 * <p>
+	 * Returns the number of alive instances per bean.
+	 * </p>
+	 *
+	 * @return a map of alive instances indexed by bean name
+	 */
+	Map<String, Long> getAliveInstances();
+	
+	/**
+	 * <p>
+	 * Returns the number of initialization failures per bean.
+	 * </p>
+	 *
+	 * @return a map of initialization failures indexed by bean name
+	 */
+	Map<String, Long> getInitFailures();
+	
+	/**
+	 * <p>
+	 * Returns the creation time of singleton beans.
+	 * </p>
+	 *
+	 * @return a map of creation times in milliseconds since the epoch indexed by bean name
+	 */
+	Map<String, Long> getSingletonCreationTimes();
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+/**
+ * <p>
+ * A JDK Flight Recorder event recorded when a module is started.
+ * </p>
+ *
+ * <p>
+ * This implementation records nothing, it is used on Java versions prior to 17 (see {@link BeanEvent}). The actual event is provided for Java 17 and later in the versioned section of the
+ * multi-release module JAR.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+class ModuleStartEvent {
+	
+	/**
+	 * The name of the module.
+	 */
+	String moduleName;
+	
+	/**
+	 * <p>
+	 * Starts the timing of the event.
+	 * </p>
+	 */
+	final void begin() {
+	}
+	
+	/**
+	 * <p>
+	 * Ends the timing of the event.
+	 * </p>
+	 */
+	final void end() {
+	}
+	
+	/**
+	 * <p>
+	 * Determines whether the event must be committed.
+	 * </p>
+	 * 
+	 * @return false
+	 */
+	final boolean shouldCommit() {
+		return false;
+	}
+	
+	/**
+	 * <p>
+	 * Commits the event.
+	 * </p>
+	 */
+	final void commit() {
+	}
+}
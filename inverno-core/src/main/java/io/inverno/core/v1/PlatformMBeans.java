@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * <p>
+ * Registers module metrics in the platform MBean server when the {@code java.management} module is available.
+ * </p>
+ *
+ * <p>
+ * The core module only has a static dependency on {@code java.management} which is not resolved when a modular application does not require it explicitly, management types must then not be
+ * loaded. This class doesn't reference any management type in its signatures so that call sites can be guarded by {@link #ENABLED}.
+ * </p>
+ *
+ * <p>
+ * A modular application can expose module metrics through JMX by resolving {@code java.management} with {@code --add-modules java.management}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+final class PlatformMBeans {
+
+	/**
+	 * Indicates whether the {@code java.management} module is readable by the core module.
+	 */
+	static final boolean ENABLED;
+	
+	static {
+		java.lang.Module coreModule = PlatformMBeans.class.getModule();
+		Optional<java.lang.Module> managementModule = ModuleLayer.boot().findModule("java.management");
+		ENABLED = managementModule.isPresent() && coreModule.canRead(managementModule.get());
+	}
+	
+	private PlatformMBeans() {}
+	
+	/**
+	 * <p>
+	 * Registers the specified module metrics in the platform MBean server, replacing the metrics of any previous module with the same name.
+	 * </p>
+	 *
+	 * @param module  the module
+	 * @param metrics the module metrics
+	 */
+	static void register(Module module, ModuleMetrics metrics) {
+		Registrar.register(module, metrics);
+	}
+	
+	/**
+	 * <p>
+	 * Registers MBeans in the platform MBean server.
+	 * </p>
+	 *
+	 * <p>
+	 * Management types are only referenced in this class which is loaded on first registration: the verification of the enclosing class, which happens as soon as {@link #ENABLED} is read,
+	 * would otherwise load them.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.6
+	 */
+	private static final class Registrar {
+		
+		private Registrar() {}
+		
+		/**
+		 * <p>
+		 * Registers the specified module metrics in the platform MBean server, replacing the metrics of any previous module with the same name.
+		 * </p>
+		 *
+		 * @param module  the module
+		 * @param metrics the module metrics
+		 */
+		static void register(Module module, ModuleMetrics metrics) {
+			try {
+				MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+				ObjectName objectName = new ObjectName(metrics.getObjectName());
+				if(server.isRegistered(objectName)) {
+					server.unregisterMBean(objectName);
+				}
+				server.registerMBean(metrics, objectName);
+			}
+			catch(JMException e) {
+				module.logger.warn(() -> "Error registering metrics of module " + module.getName(), e);
+			}
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A pool of bean instances.
+ * </p>
+ *
+ * <p>
+ * A pool is injected into a bean socket declared with type {@code Pool<T>}, it is mostly useful to access a bean declared with the {@link io.inverno.core.annotation.Bean.Strategy#POOLED POOLED}
+ * strategy: instances are borrowed from the pool and must be returned once they are no longer used so they can be reused by other threads. When the socket is resolved to a bean declared with
+ * another strategy, instances are obtained from the bean and returning them has no effect.
+ * </p>
+ *
+ * <pre>{@code
+ * public MyBean(Pool<Digester> digesters) {
+ *     this.digesters = digesters;
+ * }
+ *
+ * public byte[] digest(byte[] data) {
+ *     try(Pool.Lease<Digester> digester = this.digesters.lease()) {
+ *         return digester.get().digest(data);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ *
+ * @param <T> the type of the pooled instances
+ */
+public interface Pool<T> {
+
+	/**
+	 * <p>
+	 * Borrows an instance from the pool.
+	 * </p>
+	 *
+	 * <p>
+	 * An idle instance is returned when available, otherwise a new instance is created.
+	 * </p>
+	 *
+	 * @return an instance
+	 */
+	T borrow();
+	
+	/**
+	 * <p>
+	 * Returns an instance to the pool.
+	 * </p>
+	 *
+	 * <p>
+	 * The instance is reset and kept in the pool if there is room for it, otherwise it is evicted and destroyed. An instance must not be used once it has been returned.
+	 * </p>
+	 *
+	 * @param instance the instance to return
+	 */
+	void release(T instance);
+	
+	/**
+	 * <p>
+	 * Borrows an instance from the pool within a lease which returns the instance to the pool when closed.
+	 * </p>
+	 *
+	 * @return a lease
+	 */
+	default Lease<T> lease() {
+		T instance = this.borrow();
+		return new Lease<T>() {
+			
+			private boolean released;
+			
+			@Override
+			public T get() {
+				if(this.released) {
+					throw new IllegalStateException("Lease was closed");
+				}
+				return instance;
+			}
+
+			@Override
+			public void close() {
+				if(!this.released) {
+					this.released = true;
+					Pool.this.release(instance);
+				}
+			}
+		};
+	}
+	
+	/**
+	 * <p>
+	 * An instance borrowed from a pool, which is returned to the pool when the lease is closed.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.6
+	 *
+	 * @param <T> the type of the pooled instance
+	 */
+	interface Lease<T> extends Supplier<T>, AutoCloseable {
+		
+		/**
+		 * <p>
+		 * Returns the instance to the pool.
+		 * </p>
+		 */
+		@Override
+		void close();
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * A pooled module {@link Bean} implementation.
+ * </p>
+ *
+ * <p>
+ * A pooled bean keeps a bounded number of idle instances which are reused across borrowers, it is useful for beans which are expensive to create but not thread-safe. Instances are borrowed and
+ * returned through the {@link Pool} interface. The compiler rejects a pooled bean wired into a socket which is not a {@link Pool} socket.
+ * </p>
+ *
+ * <p>
+ * Only instances borrowed through {@link #borrow()} or {@link #lease()} are recycled. An instance obtained through {@link #get()} (eg. moduleInstance.pooledBean()) is never taken from the idle
+ * instances which would otherwise drain the pool since it is never returned: it is basically a prototype instance which is created on each call and, like prototype instances, it is weakly
+ * referenced by the bean in order to be destroyed when the bean is destroyed. It must not be returned to the pool.
+ * </p>
+ *
+ * <p>
+ * Idle instances are stored in an array of slots updated with compare-and-set operations, borrowing and returning an instance are then lock-free. Borrowers start scanning the slots at an index
+ * derived from the current thread in order to limit contention. A new instance is created when no idle instance is available. A returned instance is first reset, it is evicted and destroyed when
+ * the reset fails or when there is no free slot left.
+ * </p>
+ *
+ * <p>
+ * Idle instances are destroyed when the bean is destroyed, instances that are still borrowed at that time are destroyed when they are returned.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * @see Bean
+ * @see Pool
+ * @see PooledModuleBeanBuilder
+ *
+ * @param <T> the actual type of the bean
+ */
+abstract class PooledModuleBean<T> extends AbstractModuleBean<T> implements Pool<T> {
+
+	/**
+	 * The bean logger.
+	 */
+	protected static final Logger LOGGER = LogManager.getLogger(PooledModuleBean.class);
+	
+	/**
+	 * The updater of the lock used to create and destroy the bean.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<PooledModuleBean, ReentrantLock> LOCK = AtomicReferenceFieldUpdater.newUpdater(PooledModuleBean.class, ReentrantLock.class, "lock");
+	
+	/**
+	 * The lock used to create and destroy the bean, only set while it is held.
+	 */
+	private volatile ReentrantLock lock;
+	
+	/**
+	 * The idle instances, null when the bean is not created.
+	 */
+	private volatile AtomicReferenceArray<T> idleInstances;
+	
+	/**
+	 * The registry of instances obtained through {@link #get()} which are never returned to the pool.
+	 */
+	private volatile WeakInstanceRegistry<T, Void> detachedInstances;
+
+	/**
+	 * <p>
+	 * Creates a pooled module bean with the specified name.
+	 * </p>
+	 *
+	 * @param name     the bean name
+	 * @param override An optional override
+	 */
+	public PooledModuleBean(String name, Optional<Supplier<T>> override) {
+		super(name, override);
+	}
+
+	/**
+	 * <p>
+	 * Creates the pooled bean.
+	 * </p>
+	 *
+	 * <p>
+	 * This method allocates the pool whose capacity is determined by the enclosing module, instances are created when they are borrowed.
+	 * </p>
+	 */
+	@Override
+	public final void create() {
+		if (this.idleInstances == null) {
+			ReentrantLock lock = TransientLock.lock(this, LOCK);
+			try {
+				if (this.idleInstances == null) {
+					LOGGER.debug("Creating pooled bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
+					this.detachedInstances = new WeakInstanceRegistry<>();
+					this.idleInstances = new AtomicReferenceArray<>(this.parent.getPoolCapacity());
+					this.parent.recordBean(this);
+				}
+			}
+			finally {
+				TransientLock.unlock(this, LOCK, lock);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Creates a bean instance which is never returned to the pool.
+	 * </p>
+	 * 
+	 * <p>
+	 * Idle instances are left in the pool, the new instance is registered in order to be destroyed when the bean is destroyed.
+	 * </p>
+	 * 
+	 * @return a bean instance
+	 */
+	@Override
+	public final T doGet() {
+		this.create();
+		if(this.override.isPresent()) {
+			return this.override.get().get();
+		}
+		T instance = this.createInstance();
+		WeakInstanceRegistry<T, Void> registry = this.detachedInstances;
+		if(registry != null) {
+			registry.register(instance, null);
+		}
+		return instance;
+	}
+	
+	/**
+	 * <p>
+	 * Borrows a bean instance making sure the enclosing module is active.
+	 * </p>
+	 */
+	@Override
+	public final T borrow() {
+		this.requireActive();
+		return this.take();
+	}
+	
+	/**
+	 * <p>
+	 * Takes an idle instance from the pool or creates a new instance when none is available.
+	 * </p>
+	 * 
+	 * @return a bean instance
+	 */
+	private T take() {
+		this.create();
+		if(this.override.isPresent()) {
+			return this.override.get().get();
+		}
+		AtomicReferenceArray<T> slots = this.idleInstances;
+		if(slots != null) {
+			int length = slots.length();
+			int start = this.getStartIndex(length);
+			for(int i = 0;i < length;i++) {
+				int index = (start + i) % length;
+				if(slots.get(index) != null) {
+					T instance = slots.getAndSet(index, null);
+					if(instance != null) {
+						return instance;
+					}
+				}
+			}
+		}
+		return this.createInstance();
+	}
+
+	@Override
+	public final void release(T instance) {
+		if(instance == null || this.override.isPresent()) {
+			return;
+		}
+		AtomicReferenceArray<T> slots = this.idleInstances;
+		if(slots != null && this.resetInstance(instance)) {
+			int length = slots.length();
+			int start = this.getStartIndex(length);
+			for(int i = 0;i < length;i++) {
+				int index = (start + i) % length;
+				if(slots.get(index) == null && slots.compareAndSet(index, null, instance)) {
+					if(this.idleInstances != slots && slots.compareAndSet(index, instance, null)) {
+						// the bean was destroyed in the meantime
+						break;
+					}
+					return;
+				}
+			}
+		}
+		LOGGER.debug("Evicting pooled bean instance {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
+		this.destroyInstance(instance);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the index of the slot from which the current thread starts scanning the pool.
+	 * </p>
+	 * 
+	 * @param length the number of slots
+	 * 
+	 * @return a slot index
+	 */
+	private int getStartIndex(int length) {
+		return (int)(Thread.currentThread().getId() % length);
+	}
+
+	/**
+	 * <p>
+	 * Destroys the pooled bean and as a result the idle instances and the instances obtained through {@link #get()}.
+	 * </p>
+	 *
+	 * <p>
+	 * This method delegates bean instance destruction to the {@link #destroyInstance(Object)} method.
+	 * </p>
+	 */
+	@Override
+	public final void destroy() {
+		if (this.idleInstances != null) {
+			ReentrantLock lock = TransientLock.lock(this, LOCK);
+			try {
+				AtomicReferenceArray<T> slots = this.idleInstances;
+				if(slots != null) {
+					LOGGER.debug("Destroying pooled bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
+					this.idleInstances = null;
+					for(int i = 0;i < slots.length();i++) {
+						T instance = slots.getAndSet(i, null);
+						if(instance != null) {
+							this.destroyInstance(instance);
+						}
+					}
+					WeakInstanceRegistry<T, Void> registry = this.detachedInstances;
+					this.detachedInstances = null;
+					registry.forEach((instance, value) -> this.destroyInstance(instance));
+					registry.clear();
+				}
+			}
+			finally {
+				TransientLock.unlock(this, LOCK, lock);
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Resets the specified instance before it is returned to the pool.
+	 * </p>
+	 * 
+	 * @param instance the instance to reset
+	 * 
+	 * @return true if the instance can be returned to the pool, false if it must be evicted
+	 */
+	protected abstract boolean resetInstance(T instance);
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import io.inverno.core.v1.Module.BeanBuilder;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Pooled module {@link BeanBuilder} implementation.
+ * </p>
+ *
+ * <p>
+ * A {@link PooledModuleBeanBuilder} must be used to create pooled beans, when instances are expensive to create and not thread-safe and must then be reused across dependent beans.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ *
+ * @see BeanBuilder
+ * @see Bean
+ * @see PooledModuleBean
+ *
+ * @param <P> the type provided by the bean
+ * @param <T> the actual type of the bean
+ */
+class PooledModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
+
+	/**
+	 * <p>
+	 * Creates a pooled module bean builder with the specified bean name and constructor.
+	 * </p>
+	 *
+	 * @param beanName    the bean name
+	 * @param constructor the bean constructor
+	 */
+	public PooledModuleBeanBuilder(String beanName, Supplier<T> constructor) {
+		super(beanName, constructor);
+	}
+	
+	/**
+	 * <p>
+	 * Creates an overridable pooled module bean builder.
+	 * </p>
+	 *
+	 * @param overriddenBuilder the overridden pooled module bean builder
+	 * @param override          the override
+	 */
+	public PooledModuleBeanBuilder(PooledModuleBeanBuilder<?, T> overriddenBuilder, Optional<Supplier<P>> override) {
+		super(overriddenBuilder, override);
+	}
+
+	@Override
+	public <P> Module.ModuleBeanBuilder<P, T> override(Optional<Supplier<P>> override) {
+		return new PooledModuleBeanBuilder<>(this, override);
+	}
+	
+	/**
+	 * <p>
+	 * Builds the bean.
+	 * </p>
+	 * 
+	 * @return a pooled bean
+	 */
+	@Override
+	public Bean<P> build() {
+		return build(this.beanName, this.override, this.constructor, this.getOperations());
+	}
+	
+	/**
+	 * <p>
+	 * Creates a pooled bean which retains the specified constructor and operations but not the builder.
+	 * </p>
+	 *
+	 * @param <P>         the type provided by the bean
+	 * @param <T>         the actual type of the bean
+	 * @param beanName    the bean name
+	 * @param override    the override
+	 * @param constructor the bean constructor
+	 * @param operations  the bean operations
+	 *
+	 * @return a pooled bean
+	 */
+	private static <P, T> Bean<P> build(String beanName, Optional<Supplier<P>> override, Supplier<T> constructor, BeanOperations<T> operations) {
+		return new PooledModuleBean<P>(beanName, override) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			protected P createInstance() {
+				return (P)operations.instantiate(this, constructor, BeanEvent.POOLED, LOGGER);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			protected boolean resetInstance(P instance) {
+				return operations.reset(this, LOGGER, (T)instance);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			protected void destroyInstance(P instance) {
+				operations.dispose(this, BeanEvent.POOLED, LOGGER, (T)instance);
+			}
+		};
+	}
+}
@@ -98,11 +98,10 @@ abstract class PrototypeModuleBean<T> extends AbstractModuleBean<T> {
 	@Override
 	public final T doGet() {
 		this.create();
-		return this.override
-			.map(Supplier::get)
-			.orElseGet(() -> {
-				return this.createInstance();
-			});
+		if(this.override.isPresent()) {
+			return this.override.get().get();
+		}
+		return this.createInstance();
 	}
 
 	/**
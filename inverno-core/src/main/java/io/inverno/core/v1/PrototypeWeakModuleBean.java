@@ -16,12 +16,7 @@
 package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.WeakReference;
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -71,11 +66,9 @@ abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 	protected static final Logger LOGGER = LogManager.getLogger(PrototypeWeakModuleBean.class);
 
 	/**
-	 * The list of instances issued by the bean.
+	 * The registry of instances issued by the bean.
 	 */
-	private Set<WeakReference<T>> instances;
-
-	private ReferenceQueue<T> referenceQueue;
+	private volatile WeakInstanceRegistry<T, Void> instances;
 
 	/**
 	 * <p>
@@ -89,16 +82,6 @@ abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 		super(name, override);
 	}
 
-	/**
-	 * Expunges stale instances from the list.
-	 */
-	@SuppressWarnings("unchecked")
-	private void expungeStaleInstances() {
-		for (WeakReference<T> ref; (ref = (WeakReference<T>) this.referenceQueue.poll()) != null;) {
-			this.instances.remove(ref);
-		}
-	}
-
 	/**
 	 * <p>
 	 * Creates the prototype bean.
@@ -112,10 +95,11 @@ abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 	public final void create() {
 		if (this.instances == null) {
 			synchronized(this) {
-				LOGGER.debug("Creating prototype bean {} {}", () ->  (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.instances = new HashSet<>();
-				this.referenceQueue = new ReferenceQueue<>();
-				this.parent.recordBean(this);
+				if (this.instances == null) {
+					LOGGER.debug("Creating prototype bean {} {}", () ->  (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
+					this.instances = new WeakInstanceRegistry<>();
+					this.parent.recordBean(this);
+				}
 			}
 		}
 	}
@@ -134,18 +118,15 @@ abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 	@Override
 	public final T doGet() {
 		this.create();
-		return this.override
-			.map(Supplier::get)
-			.orElseGet(() -> {
-				this.expungeStaleInstances();
-				T instance = this.createInstance();
-				WeakReference<T> reference = new WeakReference<>(instance, this.referenceQueue);
-				synchronized (this) {
-					this.instances.add(reference);
-				}
-		
-				return instance;
-			});
+		if(this.override.isPresent()) {
+			return this.override.get().get();
+		}
+		T instance = this.createInstance();
+		WeakInstanceRegistry<T, Void> registry = this.instances;
+		if(registry != null) {
+			registry.register(instance, null);
+		}
+		return instance;
 	}
 
 	/**
@@ -162,15 +143,14 @@ abstract class PrototypeWeakModuleBean<T> extends AbstractModuleBean<T> {
 		if (this.instances != null) {
 			synchronized(this) {
 				LOGGER.debug("Destroying prototype bean {}", () ->  (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
-				if(!this.override.isPresent()) {
-					this.expungeStaleInstances();
-					this.instances.stream()
-						.map(WeakReference::get)
-						.filter(Objects::nonNull)
-						.forEach(instance -> this.destroyInstance(instance));
-					this.instances.clear();
+				WeakInstanceRegistry<T, Void> registry = this.instances;
+				if(registry != null) {
+					if(!this.override.isPresent()) {
+						registry.forEach((instance, value) -> this.destroyInstance(instance));
+						registry.clear();
+					}
+					this.instances = null;
 				}
-				this.instances = null;
 			}
 		}
 	}
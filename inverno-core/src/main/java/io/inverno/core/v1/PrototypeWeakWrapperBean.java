@@ -16,8 +16,8 @@
 package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
+import java.lang.ref.Cleaner;
 import java.util.Optional;
-import java.util.WeakHashMap;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -44,6 +44,13 @@ import org.apache.logging.log4j.Logger;
  * leading to memory leaks. A {@link WeakReference} should be then used in such situations. Note that this issue does not exist for singleton wrapper beans.
  * </p>
  *
+ * <p>
+ * By default, the wrapper instances whose bean instance has been reclaimed by the garbage collector are simply discarded and never destroyed. When a {@link Cleaner} is specified on the module
+ * builder, each bean instance is registered to the cleaner which destroys the corresponding wrapper instance soon after the bean instance becomes phantom reachable. The wrapper instance holds the
+ * state required to destroy the bean instance (eg. sockets, buffers...) separately from the bean instance which is why this only applies to wrapper beans. Wrapper instances whose bean instance is
+ * still reachable when the module is stopped are destroyed as usual and exactly once.
+ * </p>
+ *
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  * @since 1.0
  * 
@@ -62,9 +69,14 @@ abstract class PrototypeWeakWrapperBean<W extends Supplier<T>, T> extends Abstra
 	protected static final Logger LOGGER = LogManager.getLogger(PrototypeWeakWrapperBean.class);
 	
 	/**
-	 * A weak hash map holding the bean instances issued by the bean as keys and their corresponding wrapper instance as value.
+	 * The registry holding the bean instances issued by the bean and the corresponding wrapper instance, or the corresponding cleanable when a cleaner is used.
+	 */
+	private volatile WeakInstanceRegistry<T, Object> instances;
+	
+	/**
+	 * The cleaner used to destroy wrapper instances whose bean instance has been reclaimed by the garbage collector.
 	 */
-	private WeakHashMap<T, W> instances;
+	private Cleaner cleaner;
 	
 	/**
 	 * <p>
@@ -91,9 +103,12 @@ abstract class PrototypeWeakWrapperBean<W extends Supplier<T>, T> extends Abstra
 	public final void create() {
 		if (this.instances == null) {
 			synchronized(this) {
-				LOGGER.debug("Creating prototype bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.instances = new WeakHashMap<>();
-				this.parent.recordBean(this);
+				if (this.instances == null) {
+					LOGGER.debug("Creating prototype bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
+					this.cleaner = this.parent.getCleaner();
+					this.instances = new WeakInstanceRegistry<>();
+					this.parent.recordBean(this);
+				}
 			}
 		}
 	}
@@ -112,17 +127,22 @@ abstract class PrototypeWeakWrapperBean<W extends Supplier<T>, T> extends Abstra
 	@Override
 	public final T doGet() {
 		this.create();
-		
-		return this.override
-			.map(Supplier::get)
-			.orElseGet(() -> {
-				W wrapper = this.createWrapper();
-				T instance = wrapper.get();
-				synchronized (this) {
-					this.instances.put(instance, wrapper);
-				}
-				return instance;
-			});
+		if(this.override.isPresent()) {
+			return this.override.get().get();
+		}
+		W wrapper = this.createWrapper();
+		T instance = wrapper.get();
+		WeakInstanceRegistry<T, Object> registry = this.instances;
+		if(registry != null) {
+			if(this.cleaner != null) {
+				// The cleaning action must not reference the instance otherwise it would never become phantom reachable
+				registry.register(instance, this.cleaner.register(instance, () -> this.destroyWrapper(wrapper)));
+			}
+			else {
+				registry.register(instance, wrapper);
+			}
+		}
+		return instance;
 	}
 
 	/**
@@ -139,12 +159,36 @@ abstract class PrototypeWeakWrapperBean<W extends Supplier<T>, T> extends Abstra
 		if (this.instances != null) {
 			synchronized(this) {
 				LOGGER.debug("Destroying prototype bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
-				if(!this.override.isPresent()) {
-					this.instances.values().stream().forEach(wrapper -> this.destroyWrapper(wrapper));
-					this.instances.clear();
+				WeakInstanceRegistry<T, Object> registry = this.instances;
+				if(registry != null) {
+					if(!this.override.isPresent()) {
+						registry.forEach((instance, value) -> this.destroyRegistered(value));
+						registry.clear();
+					}
+					this.instances = null;
 				}
-				this.instances = null;
 			}
 		}
 	}
+	
+	/**
+	 * <p>
+	 * Destroys the wrapper instance registered with a bean instance.
+	 * </p>
+	 *
+	 * <p>
+	 * When a cleaner is used, the cleanable is cleaned which guarantees that the wrapper instance is destroyed exactly once whether the bean instance has been reclaimed or not.
+	 * </p>
+	 *
+	 * @param value the wrapper instance or the cleanable registered with the bean instance
+	 */
+	@SuppressWarnings("unchecked")
+	private void destroyRegistered(Object value) {
+		if(this.cleaner != null) {
+			((Cleaner.Cleanable)value).clean();
+		}
+		else {
+			this.destroyWrapper((W)value);
+		}
+	}
 }
@@ -106,13 +106,10 @@ abstract class PrototypeWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	@Override
 	public final T doGet() {
 		this.create();
-		
-		return this.override
-			.map(Supplier::get)
-			.orElseGet(() -> {
-				W wrapper = this.createWrapper();
-				return wrapper.get();
-			});
+		if(this.override.isPresent()) {
+			return this.override.get().get();
+		}
+		return this.createWrapper().get();
 	}
 
 	/**
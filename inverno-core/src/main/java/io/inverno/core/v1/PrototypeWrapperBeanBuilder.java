@@ -80,58 +80,45 @@ class PrototypeWrapperBeanBuilder<P, T, W extends Supplier<T>> extends AbstractW
 	 */
 	@Override
 	public Bean<P> build() {
-		if(this.destroys == null || this.destroys.isEmpty()) {
-			return new PrototypeWrapperBean<ProvidingWrapper, P>(this.beanName, this.override) {
+		return build(this.beanName, this.override, this.constructor, this.getOperations());
+	}
+	
+	/**
+	 * <p>
+	 * Creates a prototype bean which retains the specified constructor and operations but not the builder.
+	 * </p>
+	 *
+	 * @param <P>         the type provided by the bean
+	 * @param <T>         the actual type of the bean
+	 * @param <W>         the type of wrapper
+	 * @param beanName    the bean name
+	 * @param override    the override
+	 * @param constructor the bean constructor
+	 * @param operations  the bean operations
+	 *
+	 * @return a prototype bean
+	 */
+	private static <P, T, W extends Supplier<T>> Bean<P> build(String beanName, Optional<Supplier<P>> override, Supplier<W> constructor, BeanOperations<W> operations) {
+		if(!operations.hasDestroys()) {
+			return new PrototypeWrapperBean<ProvidingWrapper<P, W>, P>(beanName, override) {
 
 				@Override
-				protected ProvidingWrapper createWrapper() {
-					W wrapper = constructor.get();
-					if(inits != null) {
-						inits.stream().forEach(init -> {
-							try {
-								init.accept(wrapper);
-							} 
-							catch (Exception e) {
-								LOGGER.fatal(() -> "Error initializing bean " + name, e);
-								throw new RuntimeException("Error initializing bean " + name, e);
-							}
-						});
-					}
-					return new ProvidingWrapper(wrapper);
+				protected ProvidingWrapper<P, W> createWrapper() {
+					return new ProvidingWrapper<>(operations.instantiate(this, constructor, BeanEvent.PROTOTYPE, LOGGER));
 				}
 			};
 		}
 		else {
-			return new PrototypeWeakWrapperBean<ProvidingWrapper, P>(this.beanName, this.override) {
+			return new PrototypeWeakWrapperBean<ProvidingWrapper<P, W>, P>(beanName, override) {
 
 				@Override
-				protected ProvidingWrapper createWrapper() {
-					W wrapper = constructor.get();
-					if(inits != null) {
-						inits.stream().forEach(init -> {
-							try {
-								init.accept(wrapper);
-							} 
-							catch (Exception e) {
-								LOGGER.fatal(() -> "Error initializing bean " + name, e);
-								throw new RuntimeException("Error initializing bean " + name, e);
-							}
-						});
-					}
-					return new ProvidingWrapper(wrapper);
+				protected ProvidingWrapper<P, W> createWrapper() {
+					return new ProvidingWrapper<>(operations.instantiate(this, constructor, BeanEvent.PROTOTYPE, LOGGER));
 				}
 
 				@Override
-				protected void destroyWrapper(ProvidingWrapper wrapper) {
-					if(destroys != null) {
-						destroys.stream().forEach(destroy -> {
-							try {
-								destroy.accept(wrapper.wrapper);
-							} catch (Exception e) {
-								LOGGER.warn(() -> "Error destroying bean " + name, e);
-							}
-						});
-					}
+				protected void destroyWrapper(ProvidingWrapper<P, W> wrapper) {
+					operations.dispose(this, BeanEvent.PROTOTYPE, LOGGER, wrapper.wrapper);
 				}
 			};
 		}
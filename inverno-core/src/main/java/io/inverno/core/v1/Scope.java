@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * A scope represents a unit of work such as a request or a batch partition to which the lifetime of scoped beans is bound.
+ * </p>
+ *
+ * <p>
+ * A bean declared with the {@link io.inverno.core.annotation.Bean.Strategy#SCOPED SCOPED} strategy provides one instance per active scope: the instance is created the first time it is
+ * requested within a scope and then returned to any subsequent request within the same scope. Instances are destroyed in the reverse creation order when the scope is closed.
+ * </p>
+ *
+ * <p>
+ * A scope is made active using a {@link ScopeCarrier} which must be the carrier used by the module providing the scoped beans, the module uses the thread local carrier by default.
+ * </p>
+ *
+ * <pre>{@code
+ * try(Scope scope = new Scope()) {
+ *     scope.run(() -> app.requestHandler().handle(request));
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Scoped beans must be injected lazily into beans which outlive the scope, a scoped bean requested when no scope is active results in an {@link IllegalStateException}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * 
+ * @see ScopeCarrier
+ */
+public final class Scope implements AutoCloseable {
+
+	private static final Logger LOGGER = LogManager.getLogger(Scope.class);
+	
+	/**
+	 * The scope carrier.
+	 */
+	private final ScopeCarrier carrier;
+	
+	/**
+	 * The lock guarding the instances of the scope.
+	 */
+	private final ReentrantLock lock;
+	
+	/**
+	 * The instances created in the scope.
+	 */
+	private Map<Object, Object> instances;
+	
+	/**
+	 * The destruction operations of the instances created in the scope in creation order.
+	 */
+	private List<Runnable> destroys;
+	
+	/**
+	 * Indicates whether the scope is closed, it is written while holding the lock but read without it when executing an action within the scope.
+	 */
+	private volatile boolean closed;
+
+	/**
+	 * <p>
+	 * Creates a scope bound using the thread local scope carrier.
+	 * </p>
+	 */
+	public Scope() {
+		this(ScopeCarrier.threadLocal());
+	}
+	
+	/**
+	 * <p>
+	 * Creates a scope bound using the specified scope carrier.
+	 * </p>
+	 * 
+	 * @param carrier a scope carrier
+	 */
+	public Scope(ScopeCarrier carrier) {
+		this.carrier = carrier;
+		this.lock = new ReentrantLock();
+	}
+	
+	/**
+	 * <p>
+	 * Executes the specified action within the scope.
+	 * </p>
+	 * 
+	 * @param action the action to execute
+	 * 
+	 * @throws IllegalStateException if the scope is closed
+	 */
+	public void run(Runnable action) throws IllegalStateException {
+		this.call(() -> {
+			action.run();
+			return null;
+		});
+	}
+	
+	/**
+	 * <p>
+	 * Executes the specified action within the scope and returns its result.
+	 * </p>
+	 * 
+	 * @param <T>    the type of result
+	 * @param action the action to execute
+	 * 
+	 * @return the result of the action
+	 * 
+	 * @throws IllegalStateException if the scope is closed
+	 */
+	public <T> T call(Supplier<T> action) throws IllegalStateException {
+		if(this.closed) {
+			throw new IllegalStateException("Scope is closed");
+		}
+		return this.carrier.call(this, action);
+	}
+	
+	/**
+	 * <p>
+	 * Returns the instance of the specified bean in the scope, creating it if needed.
+	 * </p>
+	 * 
+	 * <p>
+	 * The creation of an instance can request other scoped instances, the scope lock is reentrant. A {@link ReentrantLock} is used instead of a monitor so that a virtual thread creating an
+	 * instance doesn't pin its carrier thread.
+	 * </p>
+	 * 
+	 * @param <T>      the type of instance
+	 * @param bean     the key identifying the bean providing the instance
+	 * @param factory  the instance factory
+	 * @param destroy  the instance destruction operation
+	 * 
+	 * @return an instance
+	 * 
+	 * @throws IllegalStateException if the scope is closed
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T getInstance(Object bean, Supplier<T> factory, Consumer<T> destroy) throws IllegalStateException {
+		this.lock.lock();
+		try {
+			if(this.closed) {
+				throw new IllegalStateException("Scope is closed");
+			}
+			if(this.instances == null) {
+				this.instances = new HashMap<>();
+				this.destroys = new ArrayList<>();
+			}
+			T instance = (T)this.instances.get(bean);
+			if(instance == null) {
+				instance = factory.get();
+				this.instances.put(bean, instance);
+				T createdInstance = instance;
+				this.destroys.add(() -> destroy.accept(createdInstance));
+			}
+			return instance;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Closes the scope and destroys the instances created in the scope in the reverse creation order.
+	 * </p>
+	 */
+	@Override
+	public void close() {
+		List<Runnable> scopeDestroys;
+		this.lock.lock();
+		try {
+			if(this.closed) {
+				return;
+			}
+			this.closed = true;
+			scopeDestroys = this.destroys;
+			this.instances = null;
+			this.destroys = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if(scopeDestroys != null) {
+			for(int i = scopeDestroys.size() - 1;i >= 0;i--) {
+				try {
+					scopeDestroys.get(i).run();
+				}
+				catch(RuntimeException e) {
+					LOGGER.warn("Error destroying scoped bean instance", e);
+				}
+			}
+		}
+	}
+}
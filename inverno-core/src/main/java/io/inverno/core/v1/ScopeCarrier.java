@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A scope carrier binds a {@link Scope} to the execution of an action.
+ * </p>
+ *
+ * <p>
+ * Beans declared with the {@link io.inverno.core.annotation.Bean.Strategy#SCOPED SCOPED} strategy use the carrier of their module to determine the active scope in which instances are cached.
+ * The default carrier returned by {@link #threadLocal()} relies on a {@link ThreadLocal}, a carrier based on another mechanism such as a {@code ScopedValue} on runtimes supporting it can be
+ * specified when building a module (see {@link Module.ModuleBuilder#scopeCarrier(ScopeCarrier)}).
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * 
+ * @see Scope
+ */
+public interface ScopeCarrier {
+
+	/**
+	 * <p>
+	 * Returns the scope bound to the current execution.
+	 * </p>
+	 * 
+	 * @return the active scope or null if no scope is active
+	 */
+	Scope current();
+	
+	/**
+	 * <p>
+	 * Executes the specified action within the specified scope.
+	 * </p>
+	 * 
+	 * <p>
+	 * The scope is the active scope while the action is executed, the previously active scope, if any, is restored once the action returns.
+	 * </p>
+	 * 
+	 * @param <T>    the type of result
+	 * @param scope  the scope to bind
+	 * @param action the action to execute
+	 * 
+	 * @return the result of the action
+	 */
+	<T> T call(Scope scope, Supplier<T> action);
+	
+	/**
+	 * <p>
+	 * Returns the default scope carrier which binds scopes to the current thread.
+	 * </p>
+	 * 
+	 * @return a scope carrier
+	 */
+	static ScopeCarrier threadLocal() {
+		return ThreadLocalScopeCarrier.INSTANCE;
+	}
+}
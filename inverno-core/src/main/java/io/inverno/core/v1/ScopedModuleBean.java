@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * A scoped module {@link Bean} implementation.
+ * </p>
+ *
+ * <p>
+ * A scoped bean provides one instance per active {@link Scope} as determined by the {@link ScopeCarrier} of the enclosing module. Instances are cached in the scope and destroyed when the scope
+ * is closed, they are not destroyed when the bean is destroyed.
+ * </p>
+ *
+ * <p>
+ * Instances are cached in a scope under a key which is renewed each time the bean is created: when the module is stopped and started again while a scope is open, the instances created in
+ * that scope before the module was stopped are no longer returned and new instances are created instead. Stale instances are still destroyed when the scope is closed.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * @see Bean
+ * @see Scope
+ * @see ScopedModuleBeanBuilder
+ *
+ * @param <T> the actual type of the bean
+ */
+abstract class ScopedModuleBean<T> extends AbstractModuleBean<T> {
+
+	/**
+	 * The bean logger.
+	 */
+	protected static final Logger LOGGER = LogManager.getLogger(ScopedModuleBean.class);
+	
+	/**
+	 * The updater of the lock used to create and destroy the bean.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<ScopedModuleBean, ReentrantLock> LOCK = AtomicReferenceFieldUpdater.newUpdater(ScopedModuleBean.class, ReentrantLock.class, "lock");
+	
+	/**
+	 * The lock used to create and destroy the bean, only set while it is held.
+	 */
+	private volatile ReentrantLock lock;
+	
+	/**
+	 * The key identifying the instances of the bean in scopes, null when the bean is not created.
+	 */
+	private volatile Object key;
+	
+	/**
+	 * <p>
+	 * Creates a scoped module bean with the specified name.
+	 * </p>
+	 *
+	 * @param name     the bean name
+	 * @param override An optional override
+	 */
+	public ScopedModuleBean(String name, Optional<Supplier<T>> override) {
+		super(name, override);
+	}
+
+	/**
+	 * <p>
+	 * Creates the scoped bean.
+	 * </p>
+	 *
+	 * <p>
+	 * Instances are created when they are first requested within a scope.
+	 * </p>
+	 */
+	@Override
+	public final void create() {
+		if (this.key == null) {
+			ReentrantLock lock = TransientLock.lock(this, LOCK);
+			try {
+				if (this.key == null) {
+					LOGGER.debug("Creating scoped bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
+					this.parent.recordBean(this);
+					this.key = new Object();
+				}
+			}
+			finally {
+				TransientLock.unlock(this, LOCK, lock);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the bean instance of the active scope.
+	 * </p>
+	 * 
+	 * @return a bean instance
+	 * 
+	 * @throws IllegalStateException if no scope is active or if the bean was destroyed in the meantime
+	 */
+	@Override
+	public final T doGet() throws IllegalStateException {
+		this.create();
+		if(this.override.isPresent()) {
+			return this.override.get().get();
+		}
+		Scope scope = this.parent.getScopeCarrier().current();
+		if(scope == null) {
+			throw new IllegalStateException("No active scope to provide scoped bean " + (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
+		}
+		Object scopeKey = this.key;
+		if(scopeKey == null) {
+			throw new IllegalStateException("Scoped bean " + (this.parent != null ? this.parent.getName() + ":" : "") + this.name + " is destroyed");
+		}
+		return scope.getInstance(scopeKey, this::createInstance, this::destroyInstance);
+	}
+
+	/**
+	 * <p>
+	 * Destroys the scoped bean.
+	 * </p>
+	 * 
+	 * <p>
+	 * Instances belong to their scope and are destroyed when the scope is closed, the instances cached in open scopes are invalidated by discarding the key identifying them.
+	 * </p>
+	 */
+	@Override
+	public final void destroy() {
+		if (this.key != null) {
+			ReentrantLock lock = TransientLock.lock(this, LOCK);
+			try {
+				if (this.key != null) {
+					LOGGER.debug("Destroying scoped bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
+					this.key = null;
+				}
+			}
+			finally {
+				TransientLock.unlock(this, LOCK, lock);
+			}
+		}
+	}
+}
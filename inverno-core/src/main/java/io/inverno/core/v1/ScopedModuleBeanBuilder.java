@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import io.inverno.core.v1.Module.BeanBuilder;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Scoped module {@link BeanBuilder} implementation.
+ * </p>
+ *
+ * <p>
+ * A {@link ScopedModuleBeanBuilder} must be used to create scoped beans, when an instance must be shared within a unit of work such as a request but not across units of work.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ *
+ * @see BeanBuilder
+ * @see Bean
+ * @see ScopedModuleBean
+ *
+ * @param <P> the type provided by the bean
+ * @param <T> the actual type of the bean
+ */
+class ScopedModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
+
+	/**
+	 * <p>
+	 * Creates a scoped module bean builder with the specified bean name and constructor.
+	 * </p>
+	 *
+	 * @param beanName    the bean name
+	 * @param constructor the bean constructor
+	 */
+	public ScopedModuleBeanBuilder(String beanName, Supplier<T> constructor) {
+		super(beanName, constructor);
+	}
+	
+	/**
+	 * <p>
+	 * Creates an overridable scoped module bean builder.
+	 * </p>
+	 *
+	 * @param overriddenBuilder the overridden scoped module bean builder
+	 * @param override          the override
+	 */
+	public ScopedModuleBeanBuilder(ScopedModuleBeanBuilder<?, T> overriddenBuilder, Optional<Supplier<P>> override) {
+		super(overriddenBuilder, override);
+	}
+
+	@Override
+	public <P> Module.ModuleBeanBuilder<P, T> override(Optional<Supplier<P>> override) {
+		return new ScopedModuleBeanBuilder<>(this, override);
+	}
+	
+	/**
+	 * <p>
+	 * Builds the bean.
+	 * </p>
+	 * 
+	 * @return a scoped bean
+	 */
+	@Override
+	public Bean<P> build() {
+		return build(this.beanName, this.override, this.constructor, this.getOperations());
+	}
+	
+	/**
+	 * <p>
+	 * Creates a scoped bean which retains the specified constructor and operations but not the builder.
+	 * </p>
+	 *
+	 * @param <P>         the type provided by the bean
+	 * @param <T>         the actual type of the bean
+	 * @param beanName    the bean name
+	 * @param override    the override
+	 * @param constructor the bean constructor
+	 * @param operations  the bean operations
+	 *
+	 * @return a scoped bean
+	 */
+	private static <P, T> Bean<P> build(String beanName, Optional<Supplier<P>> override, Supplier<T> constructor, BeanOperations<T> operations) {
+		return new ScopedModuleBean<P>(beanName, override) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			protected P createInstance() {
+				return (P)operations.instantiate(this, constructor, BeanEvent.SCOPED, LOGGER);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			protected void destroyInstance(P instance) {
+				operations.dispose(this, BeanEvent.SCOPED, LOGGER, (T)instance);
+			}
+		};
+	}
+}
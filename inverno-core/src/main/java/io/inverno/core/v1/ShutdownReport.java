@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * A report describing the shutdown of a module.
+ * </p>
+ *
+ * <p>
+ * A shutdown report lists the beans and the component modules which were not destroyed or stopped within their shutdown timeout budget. The shutdown of the module proceeds without waiting
+ * for them, they might still be running when the module is reported stopped.
+ * </p>
+ *
+ * <pre>{@code
+ * module.stop();
+ * ShutdownReport report = module.getShutdownReport().orElseThrow();
+ * if(!report.getTimedOutBeans().isEmpty()) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * 
+ * @see Module#getShutdownReport()
+ */
+public final class ShutdownReport {
+
+	/**
+	 * The name of the module.
+	 */
+	private final String moduleName;
+	
+	/**
+	 * The module shutdown time.
+	 */
+	private final Duration shutdownTime;
+	
+	/**
+	 * The beans and component modules which did not finish in time.
+	 */
+	private final List<String> timedOutBeans;
+	
+	/**
+	 * Indicates whether the module shutdown timeout was exceeded.
+	 */
+	private final boolean timedOut;
+	
+	/**
+	 * <p>
+	 * Creates a shutdown report.
+	 * </p>
+	 *
+	 * @param moduleName    the name of the module
+	 * @param shutdownTime  the module shutdown time
+	 * @param timedOutBeans the beans and component modules which did not finish in time
+	 * @param timedOut      true if the module shutdown timeout was exceeded, false otherwise
+	 */
+	ShutdownReport(String moduleName, Duration shutdownTime, List<String> timedOutBeans, boolean timedOut) {
+		this.moduleName = moduleName;
+		this.shutdownTime = shutdownTime;
+		this.timedOutBeans = Collections.unmodifiableList(timedOutBeans);
+		this.timedOut = timedOut;
+	}
+
+	/**
+	 * <p>
+	 * Returns the name of the module.
+	 * </p>
+	 * 
+	 * @return the module name
+	 */
+	public String getModuleName() {
+		return moduleName;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the time it took to stop the module.
+	 * </p>
+	 * 
+	 * @return the module shutdown time
+	 */
+	public Duration getShutdownTime() {
+		return shutdownTime;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the beans and the component modules which were not destroyed or stopped in time.
+	 * </p>
+	 * 
+	 * <p>
+	 * Beans are identified by their qualified name (ie. {@code module:bean}) and component modules by their name.
+	 * </p>
+	 * 
+	 * @return a list of bean and module names
+	 */
+	public List<String> getTimedOutBeans() {
+		return timedOutBeans;
+	}
+	
+	/**
+	 * <p>
+	 * Determines whether the module shutdown timeout was exceeded.
+	 * </p>
+	 * 
+	 * @return true if the module was not stopped within its shutdown timeout, false otherwise
+	 */
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("Module ").append(this.moduleName).append(" stopped in ").append(this.shutdownTime.toMillis()).append("ms").append(this.timedOut ? " (timed out)" : "");
+		for(String bean : this.timedOutBeans) {
+			str.append(System.lineSeparator()).append("   ").append(bean).append(" did not finish in time");
+		}
+		return str.toString();
+	}
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>
+ * Destroys the beans and stops the component modules of a module.
+ * </p>
+ *
+ * <p>
+ * Beans are destroyed in the reverse creation order and always after the beans depending on them. When a shutdown executor was specified, beans and component modules are destroyed and stopped
+ * concurrently on that executor following the reverse dependency edges of the module and shutdown timeouts are enforced. Beans and component modules which did not finish in time are
+ * collected in order to be listed in the {@link ShutdownReport}.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+final class ShutdownScheduler {
+
+	/**
+	 * The module to stop.
+	 */
+	private final Module module;
+
+	/**
+	 * The executor used to stop the module concurrently, null to stop it in the calling thread.
+	 */
+	private final Executor executor;
+
+	/**
+	 * The time budget to stop the module.
+	 */
+	private final Duration timeout;
+
+	/**
+	 * The time budget to destroy a bean or to stop a component module.
+	 */
+	private final Duration beanTimeout;
+
+	/**
+	 * The beans and component modules which did not finish in time.
+	 */
+	private final List<String> timedOutBeans;
+
+	/**
+	 * <p>
+	 * Creates a shutdown scheduler.
+	 * </p>
+	 *
+	 * @param module the module to stop
+	 */
+	ShutdownScheduler(Module module) {
+		this.module = module;
+		this.executor = module.shutdownExecutor;
+		this.timeout = module.shutdownTimeout;
+		this.beanTimeout = module.beanShutdownTimeout;
+		this.timedOutBeans = Collections.synchronizedList(new ArrayList<>());
+	}
+
+	/**
+	 * <p>
+	 * Destroys the beans and stops the component modules of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * When stopping the module concurrently, this method returns when all beans have been destroyed or when the module shutdown timeout is exceeded, a bean which is not destroyed within the
+	 * bean shutdown timeout is no longer waited for and the beans it depends on are destroyed. When stopping the module sequentially, the module can't be interrupted and timeouts are only
+	 * reported.
+	 * </p>
+	 *
+	 * @param t0 the time at which the shutdown started
+	 *
+	 * @return true if the module shutdown timeout was exceeded, false otherwise
+	 */
+	boolean stop(long t0) {
+		if(this.executor != null) {
+			return this.stopConcurrently(t0);
+		}
+		if(this.module.nodes != null) {
+			this.stopOrdered();
+		}
+		else {
+			this.module.beansStack.forEach(this::stopNode);
+			this.module.modules.stream().forEach(Module::stop);
+			this.module.beansStack.clear();
+		}
+		return this.timeout != null && System.nanoTime() - t0 > this.timeout.toNanos();
+	}
+
+	/**
+	 * <p>
+	 * Returns the beans and component modules which did not finish in time.
+	 * </p>
+	 *
+	 * @return a list of qualified bean names and module names
+	 */
+	List<String> getTimedOutBeans() {
+		return new ArrayList<>(this.timedOutBeans);
+	}
+
+	/**
+	 * <p>
+	 * Destroys beans and stops component modules concurrently on the shutdown executor following the reverse module dependency edges.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans recorded in a non-ordered module might belong to component modules, a bean is then destroyed after the beans depending on it or on any of its enclosing component modules.
+	 * </p>
+	 *
+	 * @param t0 the time at which the shutdown started
+	 *
+	 * @return true if the module shutdown timeout was exceeded, false otherwise
+	 */
+	private boolean stopConcurrently(long t0) {
+		Collection<Object> nodes = this.module.nodes != null ? this.module.nodes : new ArrayList<>(this.module.beansStack);
+		Map<Module, List<Object>> enclosedNodes = this.module.nodes != null ? Map.of() : this.getEnclosedNodes(nodes);
+		Set<Object> nodesSet = new HashSet<>(nodes);
+		Map<Object, List<Object>> dependents = new HashMap<>();
+		for(Object node : nodes) {
+			for(Object dependency : this.getShutdownDependencies(node, nodesSet, enclosedNodes)) {
+				dependents.computeIfAbsent(dependency, ign -> new ArrayList<>()).add(node);
+			}
+		}
+
+		Map<Object, CompletableFuture<Void>> tasks = new HashMap<>();
+		Set<Object> stoppedNodes = ConcurrentHashMap.newKeySet();
+		nodes.forEach(node -> this.scheduleStop(node, dependents, tasks, stoppedNodes));
+
+		boolean timedOut = this.await(tasks.values(), t0);
+		if(timedOut) {
+			this.reportTimedOut(nodes, stoppedNodes);
+		}
+		if(this.module.nodes == null && !this.module.modules.isEmpty()) {
+			// Component modules are stopped once their beans have been destroyed within what remains of the module shutdown budget
+			Set<Object> stoppedModules = ConcurrentHashMap.newKeySet();
+			List<CompletableFuture<Void>> moduleTasks = new ArrayList<>();
+			for(Module componentModule : this.module.modules) {
+				moduleTasks.add(CompletableFuture.runAsync(() -> {
+					this.stopNode(componentModule);
+					stoppedModules.add(componentModule);
+				}, this.executor));
+			}
+			if(this.await(moduleTasks, t0)) {
+				timedOut = true;
+				this.reportTimedOut(this.module.modules, stoppedModules);
+			}
+		}
+		this.module.beansStack.clear();
+		return timedOut;
+	}
+
+	/**
+	 * <p>
+	 * Waits for the specified tasks to complete within what remains of the module shutdown budget.
+	 * </p>
+	 *
+	 * @param tasks the tasks to wait for
+	 * @param t0    the time at which the shutdown started
+	 *
+	 * @return true if the module shutdown timeout was exceeded, false otherwise
+	 */
+	private boolean await(Collection<CompletableFuture<Void>> tasks, long t0) {
+		CompletableFuture<Void> shutdown = CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new));
+		try {
+			if(this.timeout != null) {
+				shutdown.get(Math.max(0, this.timeout.toNanos() - (System.nanoTime() - t0)), TimeUnit.NANOSECONDS);
+			}
+			else {
+				shutdown.join();
+			}
+		}
+		catch(TimeoutException e) {
+			return true;
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return true;
+		}
+		catch(ExecutionException e) {
+			// Errors are logged when destroying beans and stopping modules
+		}
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * Reports the specified beans and component modules which have not been stopped as timed out.
+	 * </p>
+	 *
+	 * @param nodes        the beans and component modules that were stopped
+	 * @param stoppedNodes the beans and component modules which have been stopped
+	 */
+	private void reportTimedOut(Collection<?> nodes, Set<Object> stoppedNodes) {
+		for(Object node : nodes) {
+			String nodeName = getNodeName(node);
+			if(!stoppedNodes.contains(node) && !this.timedOutBeans.contains(nodeName)) {
+				this.timedOutBeans.add(nodeName);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Destroys the beans and stops the component modules of an ordered module.
+	 * </p>
+	 *
+	 * <p>
+	 * Beans are destroyed in the reverse creation order, which differs from the registration order when beans are created on demand, then remaining beans and component modules are stopped in the
+	 * reverse registration order. A bean or a component module is always stopped after the beans and component modules depending on it.
+	 * </p>
+	 */
+	private void stopOrdered() {
+		Map<Object, List<Object>> dependents = new HashMap<>();
+		for(Object node : this.module.nodes) {
+			for(Object dependency : this.module.dependencies.getOrDefault(node, new Object[0])) {
+				dependents.computeIfAbsent(dependency, ign -> new ArrayList<>()).add(node);
+			}
+		}
+		Set<Object> stoppedNodes = new HashSet<>();
+		for(Bean<?> bean : this.module.beansStack) {
+			this.stopOrdered(bean, dependents, stoppedNodes);
+		}
+		for(ListIterator<Object> nodesIterator = this.module.nodes.listIterator(this.module.nodes.size());nodesIterator.hasPrevious();) {
+			this.stopOrdered(nodesIterator.previous(), dependents, stoppedNodes);
+		}
+		this.module.beansStack.clear();
+	}
+
+	/**
+	 * <p>
+	 * Stops the specified bean or component module of an ordered module after the beans and component modules depending on it.
+	 * </p>
+	 *
+	 * @param node         a bean or a component module
+	 * @param dependents   the beans and component modules depending on each node
+	 * @param stoppedNodes the beans and component modules already stopped
+	 */
+	private void stopOrdered(Object node, Map<Object, List<Object>> dependents, Set<Object> stoppedNodes) {
+		if(stoppedNodes.add(node)) {
+			List<Object> nodeDependents = dependents.getOrDefault(node, List.of());
+			for(ListIterator<Object> dependentsIterator = nodeDependents.listIterator(nodeDependents.size());dependentsIterator.hasPrevious();) {
+				this.stopOrdered(dependentsIterator.previous(), dependents, stoppedNodes);
+			}
+			this.stopNode(node);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the beans and component modules that the specified bean or component module depends on and which must then be stopped after it.
+	 * </p>
+	 *
+	 * @param node          a bean or a component module
+	 * @param nodes         the beans and component modules to stop
+	 * @param enclosedNodes the beans to stop enclosed in each component module of a non-ordered module
+	 *
+	 * @return a list of beans and component modules
+	 */
+	private List<Object> getShutdownDependencies(Object node, Set<Object> nodes, Map<Module, List<Object>> enclosedNodes) {
+		if(this.module.nodes != null) {
+			return Arrays.asList(this.module.dependencies.getOrDefault(node, new Object[0]));
+		}
+		List<Object> shutdownDependencies = new ArrayList<>();
+		Object current = node;
+		Module currentModule = ((Bean<?>)node).parent;
+		while(currentModule != null) {
+			for(Object dependency : currentModule.dependencies.getOrDefault(current, new Object[0])) {
+				if(dependency instanceof Module) {
+					shutdownDependencies.addAll(enclosedNodes.getOrDefault(dependency, List.of()));
+				}
+				else if(nodes.contains(dependency)) {
+					shutdownDependencies.add(dependency);
+				}
+			}
+			if(currentModule == this.module) {
+				break;
+			}
+			current = currentModule;
+			currentModule = currentModule.parent;
+		}
+		return shutdownDependencies;
+	}
+
+	/**
+	 * <p>
+	 * Returns the beans enclosed in each component module of a non-ordered module.
+	 * </p>
+	 *
+	 * <p>
+	 * A bean is enclosed in the module in which it is registered and in all the enclosing modules of that module up to the module being stopped.
+	 * </p>
+	 *
+	 * @param nodes the beans to stop
+	 *
+	 * @return the beans enclosed in each component module
+	 */
+	private Map<Module, List<Object>> getEnclosedNodes(Collection<Object> nodes) {
+		Map<Module, List<Object>> enclosedNodes = new HashMap<>();
+		for(Object node : nodes) {
+			for(Module current = ((Bean<?>)node).parent;current != null && current != this.module;current = current.parent) {
+				enclosedNodes.computeIfAbsent(current, ign -> new ArrayList<>()).add(node);
+			}
+		}
+		return enclosedNodes;
+	}
+
+	/**
+	 * <p>
+	 * Schedules the destruction of the specified bean or the stop of the specified component module once the beans and component modules depending on it have been stopped or have timed out.
+	 * </p>
+	 *
+	 * @param node         a bean or a component module
+	 * @param dependents   the beans and component modules depending on each node
+	 * @param tasks        the tasks already scheduled
+	 * @param stoppedNodes the nodes which have been stopped
+	 *
+	 * @return a future which completes once the node has been stopped or has timed out
+	 */
+	private CompletableFuture<Void> scheduleStop(Object node, Map<Object, List<Object>> dependents, Map<Object, CompletableFuture<Void>> tasks, Set<Object> stoppedNodes) {
+		CompletableFuture<Void> task = tasks.get(node);
+		if(task == null) {
+			CompletableFuture<?>[] dependentTasks = dependents.getOrDefault(node, List.of()).stream()
+				.map(dependent -> this.scheduleStop(dependent, dependents, tasks, stoppedNodes))
+				.toArray(CompletableFuture[]::new);
+
+			task = CompletableFuture.allOf(dependentTasks).thenCompose(ign -> {
+				CompletableFuture<Boolean> stop = CompletableFuture.runAsync(() -> {
+						this.stopNode(node);
+						stoppedNodes.add(node);
+					}, this.executor)
+					.handle((ign2, e) -> true);
+				if(this.beanTimeout != null) {
+					stop = stop.completeOnTimeout(false, this.beanTimeout.toNanos(), TimeUnit.NANOSECONDS);
+				}
+				return stop.thenAccept(completed -> {
+					if(!completed) {
+						this.module.logger.warn("{} did not finish in time", () -> getNodeName(node));
+						this.timedOutBeans.add(getNodeName(node));
+					}
+				});
+			});
+			tasks.put(node, task);
+		}
+		return task;
+	}
+
+	/**
+	 * <p>
+	 * Destroys the specified bean or stops the specified component module.
+	 * </p>
+	 *
+	 * <p>
+	 * When stopping the module sequentially, a bean which takes longer than the bean shutdown timeout to destroy is reported as timed out.
+	 * </p>
+	 *
+	 * @param node a bean or a component module
+	 */
+	private void stopNode(Object node) {
+		long node_t0 = System.nanoTime();
+		if(node instanceof Module) {
+			try {
+				((Module)node).stop();
+			}
+			catch (Exception e) {
+				this.module.logger.warn("Error stopping Module {}", () -> ((Module)node).getName());
+			}
+		}
+		else {
+			this.destroyBean((Bean<?>)node);
+		}
+		if(this.executor == null && this.beanTimeout != null && System.nanoTime() - node_t0 > this.beanTimeout.toNanos()) {
+			this.timedOutBeans.add(getNodeName(node));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Returns the name of the specified bean or component module as reported in the shutdown report.
+	 * </p>
+	 *
+	 * @param node a bean or a component module
+	 *
+	 * @return the qualified name of the bean or the name of the component module
+	 */
+	private static String getNodeName(Object node) {
+		if(node instanceof Module) {
+			return ((Module)node).getName();
+		}
+		Bean<?> bean = (Bean<?>)node;
+		return (bean.parent != null ? bean.parent.getName() + ":" : "") + bean.name;
+	}
+
+	/**
+	 * <p>
+	 * Destroys the specified bean.
+	 * </p>
+	 *
+	 * @param bean the bean to destroy
+	 */
+	private void destroyBean(Bean<?> bean) {
+		long bean_t0 = System.nanoTime();
+		try {
+			bean.destroy();
+		}
+		catch (Exception e) {
+			this.module.logger.warn("Error destroying Bean {}", () -> getNodeName(bean));
+		}
+		finally {
+			this.module.logger.debug("Bean {} destroyed in {}ms", () -> getNodeName(bean), () -> ((System.nanoTime() - bean_t0) / 1000000));
+		}
+	}
+}
@@ -17,6 +17,9 @@ package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -30,6 +33,16 @@ import org.apache.logging.log4j.Logger;
  * A Singleton module bean is instantiated once for the whole application, every dependent beans receive the same instance.
  * </p>
  *
+ * <p>
+ * The instance is created exactly once under a lock and then safely published so that subsequent accesses only cost a volatile read. A {@link ReentrantLock} is used instead of a monitor in
+ * order not to pin the carrier thread when the bean is created from a virtual thread.
+ * </p>
+ * 
+ * <p>
+ * When the bean has asynchronous initialization operations, the instance is only published once its initialization has completed, dependent beans requesting the instance in the meantime wait
+ * for the initialization to complete.
+ * </p>
+ *
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  * @since 1.0
  * @see Bean
@@ -43,10 +56,31 @@ abstract class SingletonModuleBean<T> extends AbstractModuleBean<T> {
 	 */
 	protected static final Logger LOGGER = LogManager.getLogger(SingletonModuleBean.class);
 
+	/**
+	 * The updater of the lock used to create and destroy the bean instance.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<SingletonModuleBean, ReentrantLock> LOCK = AtomicReferenceFieldUpdater.newUpdater(SingletonModuleBean.class, ReentrantLock.class, "lock");
+	
+	/**
+	 * The lock used to create and destroy the bean instance, only set while it is held.
+	 */
+	private volatile ReentrantLock lock;
+	
 	/**
 	 * The bean instance.
 	 */
-	protected T instance;
+	protected volatile T instance;
+	
+	/**
+	 * The bean instance being initialized asynchronously.
+	 */
+	private T pendingInstance;
+	
+	/**
+	 * The pending asynchronous initialization of the bean instance.
+	 */
+	private volatile CompletableFuture<Void> initialization;
 	
 	/**
 	 * <p>
@@ -71,26 +105,142 @@ abstract class SingletonModuleBean<T> extends AbstractModuleBean<T> {
 	 */
 	@Override
 	public final void create() {
-		if (this.instance == null) {
-			synchronized(this) {
-				LOGGER.debug("Creating singleton bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.instance = this.override.map(Supplier::get).orElseGet(this::createInstance);
-				this.parent.recordBean(this);
+		if (this.instance == null && this.initialization == null) {
+			ReentrantLock lock = TransientLock.lock(this, LOCK);
+			try {
+				if (this.instance == null && this.initialization == null) {
+					LOGGER.debug("Creating singleton bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
+					T createdInstance = this.override.map(Supplier::get).orElseGet(this::createInstance);
+					if(this.initialization != null) {
+						this.pendingInstance = createdInstance;
+					}
+					else {
+						this.instance = createdInstance;
+					}
+					this.parent.recordBean(this);
+				}
+			}
+			finally {
+				TransientLock.unlock(this, LOCK, lock);
 			}
 		}
 	}
 
+	/**
+	 * <p>
+	 * Returns the bean singleton if it has already been created.
+	 * </p>
+	 * 
+	 * @return the bean singleton or null
+	 */
+	@Override
+	protected final T peek() {
+		return this.instance;
+	}
+
+	/**
+	 * <p>
+	 * Returns a supplier which resolves to the bean singleton once it has been created.
+	 * </p>
+	 * 
+	 * <p>
+	 * The supplier reads the bean instance which is discarded when the bean is destroyed, it is then safe to keep it after the enclosing module has been stopped.
+	 * </p>
+	 */
+	/**
+	 * <p>
+	 * Returns the task warming up the bean singleton if it has been created.
+	 * </p>
+	 * 
+	 * <p>
+	 * This method delegates the creation of the task to the {@link #createWarmup(Object)} method, an overridden instance is not warmed up.
+	 * </p>
+	 */
+	@Override
+	final Runnable getWarmup() {
+		T result = this.instance;
+		CompletableFuture<Void> pendingInitialization = this.initialization;
+		if(result == null && pendingInitialization != null && pendingInitialization.isDone() && !pendingInitialization.isCompletedExceptionally()) {
+			result = this.awaitInstance();
+		}
+		return result != null && !this.override.isPresent() ? this.createWarmup(result) : null;
+	}
+	
+	/**
+	 * <p>
+	 * Creates the task warming up the specified bean instance.
+	 * </p>
+	 * 
+	 * @param instance the bean instance
+	 * 
+	 * @return a warm-up task or null if the bean has no warm-up operation
+	 */
+	protected Runnable createWarmup(T instance) {
+		return null;
+	}
+	
+	/**
+	 * <p>
+	 * Keeps track of the pending initialization in order to defer the publication of the bean instance.
+	 * </p>
+	 */
+	@Override
+	final void setInitialization(CompletableFuture<Void> initialization) {
+		this.initialization = initialization;
+	}
+
+	@Override
+	final CompletableFuture<Void> getInitialization() {
+		return this.initialization;
+	}
+
 	/**
 	 * <p>
 	 * Returns the bean singleton.
 	 * </p>
+	 * 
+	 * <p>
+	 * This method waits for the pending asynchronous initialization of the bean instance to complete.
+	 * </p>
 	 *
 	 * @return the bean singleton
 	 */
 	@Override
 	public final T doGet() {
-		this.create();
-		return this.instance;
+		T result = this.instance;
+		if(result == null) {
+			this.create();
+			result = this.instance;
+			if(result == null) {
+				result = this.awaitInstance();
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * <p>
+	 * Waits for the pending initialization of the bean instance to complete and publishes the instance.
+	 * </p>
+	 * 
+	 * @return the bean singleton
+	 */
+	private T awaitInstance() {
+		CompletableFuture<Void> pendingInitialization = this.initialization;
+		if(pendingInitialization != null) {
+			Module.join(pendingInitialization);
+		}
+		ReentrantLock lock = TransientLock.lock(this, LOCK);
+		try {
+			if(this.instance == null && this.pendingInstance != null) {
+				this.instance = this.pendingInstance;
+				this.pendingInstance = null;
+			}
+			return this.instance;
+		}
+		finally {
+			TransientLock.unlock(this, LOCK, lock);
+		}
 	}
 
 	/**
@@ -104,13 +254,27 @@ abstract class SingletonModuleBean<T> extends AbstractModuleBean<T> {
 	 */
 	@Override
 	public final void destroy() {
-		if (this.instance != null) {
-			synchronized(this) {
-				LOGGER.debug("Destroying singleton bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
-				if(!this.override.isPresent()) {
-					this.destroyInstance(this.instance);
+		CompletableFuture<Void> pendingInitialization = this.initialization;
+		if(pendingInitialization != null) {
+			// the instance can't be destroyed while it is being initialized
+			pendingInitialization.exceptionally(e -> null).join();
+		}
+		if (this.instance != null || pendingInitialization != null) {
+			ReentrantLock lock = TransientLock.lock(this, LOCK);
+			try {
+				T destroyedInstance = this.instance != null ? this.instance : this.pendingInstance;
+				if (destroyedInstance != null) {
+					LOGGER.debug("Destroying singleton bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
+					if(!this.override.isPresent()) {
+						this.destroyInstance(destroyedInstance);
+					}
+					this.instance = null;
+					this.pendingInstance = null;
+					this.initialization = null;
 				}
-				this.instance = null;
+			}
+			finally {
+				TransientLock.unlock(this, LOCK, lock);
 			}
 		}
 	}
@@ -79,37 +79,42 @@ class SingletonModuleBeanBuilder<P, T> extends AbstractModuleBeanBuilder<P, T> {
 	 */
 	@Override
 	public Bean<P> build() {
-		return new SingletonModuleBean<P>(this.beanName, this.override) {
+		return build(this.beanName, this.override, this.constructor, this.getOperations());
+	}
+	
+	/**
+	 * <p>
+	 * Creates a singleton bean which retains the specified constructor and operations but not the builder.
+	 * </p>
+	 *
+	 * @param <P>         the type provided by the bean
+	 * @param <T>         the actual type of the bean
+	 * @param beanName    the bean name
+	 * @param override    the override
+	 * @param constructor the bean constructor
+	 * @param operations  the bean operations
+	 *
+	 * @return a singleton bean
+	 */
+	private static <P, T> Bean<P> build(String beanName, Optional<Supplier<P>> override, Supplier<T> constructor, BeanOperations<T> operations) {
+		return new SingletonModuleBean<P>(beanName, override) {
 
 			@Override
 			@SuppressWarnings("unchecked")
 			protected P createInstance() {
-				T instance = constructor.get();
-				if(inits != null) {
-					inits.stream().forEach(init -> {
-						try {
-							init.accept(instance);
-						} catch (Exception e) {
-							LOGGER.fatal(() -> "Error initializing bean " + name, e);
-							throw new RuntimeException("Error initializing bean " + name, e);
-						}
-					});
-				}
-				return (P)instance;
+				return (P)operations.instantiate(this, constructor, BeanEvent.SINGLETON, LOGGER);
 			}
 
 			@Override
 			@SuppressWarnings("unchecked")
 			protected void destroyInstance(P instance) {
-				if(destroys != null) {
-					destroys.stream().forEach(destroy -> {
-						try {
-							destroy.accept((T)instance);
-						} catch (Exception e) {
-							LOGGER.warn(() -> "Error destroying bean " + name, e);
-						}
-					});
-				}
+				operations.dispose(this, BeanEvent.SINGLETON, LOGGER, (T)instance);
+			}
+			
+			@Override
+			@SuppressWarnings("unchecked")
+			protected Runnable createWarmup(P instance) {
+				return operations.warmupTask(this, LOGGER, (T)instance);
 			}
 		};
 	}
@@ -17,6 +17,9 @@ package io.inverno.core.v1;
 
 import io.inverno.core.v1.Module.Bean;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,6 +32,11 @@ import org.apache.logging.log4j.Logger;
  * <p>
  * A Singleton bean is instantiated once for the whole application, every dependent beans receive the same instance.
  * </p>
+ * 
+ * <p>
+ * When the wrapper has asynchronous initialization operations, the instance is only obtained from the wrapper and published once the wrapper initialization has completed, dependent beans
+ * requesting the instance in the meantime wait for the initialization to complete.
+ * </p>
  *
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
  * @since 1.0
@@ -45,14 +53,30 @@ abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	protected static final Logger LOGGER = LogManager.getLogger(SingletonWrapperBean.class);
 
 	/**
-	 * The wrapper instance.
+	 * The updater of the lock used to create and destroy the bean instance.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<SingletonWrapperBean, ReentrantLock> LOCK = AtomicReferenceFieldUpdater.newUpdater(SingletonWrapperBean.class, ReentrantLock.class, "lock");
+	
+	/**
+	 * The lock used to create and destroy the bean instance, only set while it is held.
 	 */
-	protected W wrapper;
+	private volatile ReentrantLock lock;
+	
+	/**
+	 * The wrapper instance, written after the bean instance in order to safely publish both.
+	 */
+	protected volatile W wrapper;
 	
 	/**
 	 * The bean instance.
 	 */
-	protected T instance;
+	protected volatile T instance;
+	
+	/**
+	 * The pending asynchronous initialization of the wrapper instance.
+	 */
+	private volatile CompletableFuture<Void> initialization;
 	
 	/**
 	 * <p>
@@ -76,18 +100,65 @@ abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	 * </p>
 	 */
 	public final void create() {
-		if (this.wrapper == null) {
-			synchronized(this) {
-				LOGGER.debug("Creating singleton bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
-				this.instance = this.override.map(Supplier::get).orElseGet(() -> {
-					this.wrapper = this.createWrapper();
-					return this.wrapper.get();
-				});
-				this.parent.recordBean(this);
+		if (!this.isCreated()) {
+			ReentrantLock lock = TransientLock.lock(this, LOCK);
+			try {
+				if (!this.isCreated()) {
+					LOGGER.debug("Creating singleton bean {} {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name, () -> this.override.map(s -> "(overridden)").orElse(""));
+					if(this.override.isPresent()) {
+						this.instance = this.override.get().get();
+					}
+					else {
+						W createdWrapper = this.createWrapper();
+						// the wrapper is asked for the instance once it is initialized
+						this.instance = this.initialization == null ? createdWrapper.get() : null;
+						this.wrapper = createdWrapper;
+					}
+					this.parent.recordBean(this);
+				}
+			}
+			finally {
+				TransientLock.unlock(this, LOCK, lock);
 			}
 		}
 	}
+	
+	/**
+	 * <p>
+	 * Determines whether the singleton bean has been created.
+	 * </p>
+	 * 
+	 * <p>
+	 * A wrapper is allowed to return a null instance, the wrapper instance must then be considered unless the bean is overridden.
+	 * </p>
+	 * 
+	 * @return true if the bean has been created, false otherwise
+	 */
+	private boolean isCreated() {
+		return this.override.isPresent() ? this.instance != null : this.wrapper != null;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the bean singleton if it has already been created.
+	 * </p>
+	 * 
+	 * @return the bean singleton or null
+	 */
+	@Override
+	protected final T peek() {
+		return this.instance;
+	}
 
+	/**
+	 * <p>
+	 * Returns a supplier which resolves to the bean singleton once it has been created.
+	 * </p>
+	 * 
+	 * <p>
+	 * The supplier reads the bean instance which is discarded when the bean is destroyed, it is then safe to keep it after the enclosing module has been stopped.
+	 * </p>
+	 */
 	/**
 	 * <p>
 	 * Returns the bean singleton.
@@ -96,8 +167,93 @@ abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	 * @return the bean singleton
 	 */
 	public final T doGet() {
-		this.create();
-		return this.instance;
+		T result = this.instance;
+		if(result == null) {
+			this.create();
+			result = this.instance;
+			if(result == null) {
+				result = this.awaitInstance();
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the task warming up the wrapper instance if the bean singleton has been created.
+	 * </p>
+	 * 
+	 * <p>
+	 * This method delegates the creation of the task to the {@link #createWarmup(Supplier)} method, an overridden instance is not warmed up.
+	 * </p>
+	 */
+	@Override
+	final Runnable getWarmup() {
+		CompletableFuture<Void> pendingInitialization = this.initialization;
+		if(pendingInitialization != null) {
+			if(!pendingInitialization.isDone() || pendingInitialization.isCompletedExceptionally()) {
+				return null;
+			}
+			if(this.instance == null) {
+				this.awaitInstance();
+			}
+		}
+		W result = this.wrapper;
+		return result != null && !this.override.isPresent() ? this.createWarmup(result) : null;
+	}
+	
+	/**
+	 * <p>
+	 * Creates the task warming up the specified wrapper instance.
+	 * </p>
+	 * 
+	 * @param wrapper the wrapper instance
+	 * 
+	 * @return a warm-up task or null if the bean has no warm-up operation
+	 */
+	protected Runnable createWarmup(W wrapper) {
+		return null;
+	}
+	
+	/**
+	 * <p>
+	 * Keeps track of the pending initialization in order to defer the publication of the bean instance.
+	 * </p>
+	 */
+	@Override
+	final void setInitialization(CompletableFuture<Void> initialization) {
+		this.initialization = initialization;
+	}
+
+	@Override
+	final CompletableFuture<Void> getInitialization() {
+		return this.initialization;
+	}
+	
+	/**
+	 * <p>
+	 * Waits for the pending initialization of the wrapper instance to complete and publishes the bean instance.
+	 * </p>
+	 * 
+	 * @return the bean singleton
+	 */
+	private T awaitInstance() {
+		CompletableFuture<Void> pendingInitialization = this.initialization;
+		if(pendingInitialization == null) {
+			// the wrapper returned a null instance
+			return this.instance;
+		}
+		Module.join(pendingInitialization);
+		ReentrantLock lock = TransientLock.lock(this, LOCK);
+		try {
+			if(this.instance == null && this.wrapper != null) {
+				this.instance = this.wrapper.get();
+			}
+			return this.instance;
+		}
+		finally {
+			TransientLock.unlock(this, LOCK, lock);
+		}
 	}
 
 	/**
@@ -110,14 +266,26 @@ abstract class SingletonWrapperBean<W extends Supplier<T>, T> extends AbstractWr
 	 * </p>
 	 */
 	public final void destroy() {
-		if (this.wrapper != null) {
-			synchronized(this) {
-				LOGGER.debug("Destroying singleton bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
-				if(!this.override.isPresent()) {
-					this.destroyWrapper(this.wrapper);
-					this.wrapper = null;
+		CompletableFuture<Void> pendingInitialization = this.initialization;
+		if(pendingInitialization != null) {
+			// the wrapper can't be destroyed while it is being initialized
+			pendingInitialization.exceptionally(e -> null).join();
+		}
+		if (this.isCreated()) {
+			ReentrantLock lock = TransientLock.lock(this, LOCK);
+			try {
+				if (this.isCreated()) {
+					LOGGER.debug("Destroying singleton bean {}", () -> (this.parent != null ? this.parent.getName() + ":" : "") + this.name);
+					if(!this.override.isPresent()) {
+						this.destroyWrapper(this.wrapper);
+						this.wrapper = null;
+					}
+					this.instance = null;
+					this.initialization = null;
 				}
-				this.instance = null;
+			}
+			finally {
+				TransientLock.unlock(this, LOCK, lock);
 			}
 		}
 	}
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Records the time spent to instantiate beans while a module is starting.
+ * </p>
+ *
+ * <p>
+ * Beans instantiated from the constructor or the initialization methods of another bean are tracked on a per-thread stack so that the time reported for a bean excludes the time spent to
+ * instantiate its dependencies.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * 
+ * @see StartupReport
+ */
+class StartupRecorder {
+
+	/**
+	 * The bean records in creation order.
+	 */
+	private final Map<Bean<?>, BeanRecord> records;
+	
+	/**
+	 * The per-thread stack of beans being instantiated.
+	 */
+	private final ThreadLocal<Deque<Frame>> frames;
+	
+	/**
+	 * <p>
+	 * Creates a startup recorder.
+	 * </p>
+	 */
+	public StartupRecorder() {
+		this.records = new LinkedHashMap<>();
+		this.frames = ThreadLocal.withInitial(ArrayDeque::new);
+	}
+	
+	/**
+	 * <p>
+	 * Signals that the construction of an instance of the specified bean has started.
+	 * </p>
+	 * 
+	 * @param bean a bean
+	 */
+	public void beginConstruction(Bean<?> bean) {
+		this.frames.get().push(new Frame(bean));
+	}
+	
+	/**
+	 * <p>
+	 * Signals that the bean instance being constructed on the current thread has been constructed and is about to be initialized.
+	 * </p>
+	 */
+	public void endConstruction() {
+		this.frames.get().peek().endConstruction();
+	}
+	
+	/**
+	 * <p>
+	 * Signals that the bean instance being instantiated on the current thread has been initialized or that its instantiation failed.
+	 * </p>
+	 */
+	public void endInitialization() {
+		Deque<Frame> threadFrames = this.frames.get();
+		Frame frame = threadFrames.pop();
+		long end = System.nanoTime();
+		if(!frame.constructed) {
+			frame.endConstruction();
+		}
+		Frame parentFrame = threadFrames.peek();
+		if(parentFrame != null) {
+			parentFrame.nested += end - frame.start;
+		}
+		
+		long constructionTime = frame.constructionEnd - frame.start - frame.constructionNested;
+		long initTime = end - frame.constructionEnd - (frame.nested - frame.constructionNested);
+		synchronized(this.records) {
+			this.records.computeIfAbsent(frame.bean, ign -> new BeanRecord()).add(constructionTime, initTime);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Returns the time spent to instantiate the specified bean.
+	 * </p>
+	 * 
+	 * @param bean a bean
+	 * 
+	 * @return a time in nanoseconds
+	 */
+	public long getTime(Bean<?> bean) {
+		synchronized(this.records) {
+			BeanRecord record = this.records.get(bean);
+			return record != null ? record.constructionTime + record.initTime : 0;
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Determines the beans on the critical path of the startup of the specified module.
+	 * </p>
+	 *
+	 * <p>
+	 * The critical path is the chain of dependent beans and component modules which takes the longest time to start. A component module is considered as a whole since its beans are created
+	 * within the task starting it, all its beans are then on the critical path when the component module is.
+	 * </p>
+	 *
+	 * @param module the started module
+	 *
+	 * @return the beans on the critical path
+	 */
+	public Set<Bean<?>> getCriticalPath(Module module) {
+		Map<Object, Long> completionTimes = new HashMap<>();
+		Object node = null;
+		long nodeCompletionTime = -1;
+		List<Object> nodes = new ArrayList<>(module.modules);
+		nodes.addAll(module.beans);
+		for(Object currentNode : nodes) {
+			long currentNodeCompletionTime = this.getCompletionTime(module, currentNode, completionTimes);
+			if(currentNodeCompletionTime > nodeCompletionTime) {
+				node = currentNode;
+				nodeCompletionTime = currentNodeCompletionTime;
+			}
+		}
+		
+		Set<Bean<?>> criticalPath = new HashSet<>();
+		while(node != null) {
+			if(node instanceof Module) {
+				collectBeans((Module)node, criticalPath);
+			}
+			else {
+				criticalPath.add((Bean<?>)node);
+			}
+			Object dependency = null;
+			long dependencyCompletionTime = -1;
+			for(Object currentDependency : module.dependencies.getOrDefault(node, new Object[0])) {
+				long currentDependencyCompletionTime = completionTimes.get(currentDependency);
+				if(currentDependencyCompletionTime > dependencyCompletionTime) {
+					dependency = currentDependency;
+					dependencyCompletionTime = currentDependencyCompletionTime;
+				}
+			}
+			node = dependency;
+		}
+		return criticalPath;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the earliest time at which the specified bean or component module can be started when the module is started with unlimited concurrency.
+	 * </p>
+	 *
+	 * @param module          the started module
+	 * @param node            a bean or a component module of the module
+	 * @param completionTimes the completion times computed so far
+	 *
+	 * @return a time in nanoseconds
+	 */
+	private long getCompletionTime(Module module, Object node, Map<Object, Long> completionTimes) {
+		Long completionTime = completionTimes.get(node);
+		if(completionTime == null) {
+			long dependenciesCompletionTime = 0;
+			for(Object dependency : module.dependencies.getOrDefault(node, new Object[0])) {
+				dependenciesCompletionTime = Math.max(dependenciesCompletionTime, this.getCompletionTime(module, dependency, completionTimes));
+			}
+			completionTime = dependenciesCompletionTime + (node instanceof Module ? this.getStartupTime((Module)node) : this.getTime((Bean<?>)node));
+			completionTimes.put(node, completionTime);
+		}
+		return completionTime;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the total time spent to instantiate the beans of the specified module and of its component modules.
+	 * </p>
+	 *
+	 * @param module a module
+	 *
+	 * @return a time in nanoseconds
+	 */
+	private long getStartupTime(Module module) {
+		return module.modules.stream().mapToLong(this::getStartupTime).sum() + module.beans.stream().mapToLong(this::getTime).sum();
+	}
+	
+	/**
+	 * <p>
+	 * Adds the beans of the specified module and of its component modules to the specified set.
+	 * </p>
+	 *
+	 * @param module a module
+	 * @param beans  the set of beans to populate
+	 */
+	private static void collectBeans(Module module, Set<Bean<?>> beans) {
+		module.modules.forEach(component -> collectBeans(component, beans));
+		beans.addAll(module.beans);
+	}
+	
+	/**
+	 * <p>
+	 * Creates the startup report.
+	 * </p>
+	 * 
+	 * @param moduleName   the name of the started module
+	 * @param startupTime  the module startup time
+	 * @param criticalPath the beans on the critical path
+	 * 
+	 * @return a startup report
+	 */
+	public StartupReport toReport(String moduleName, Duration startupTime, Set<Bean<?>> criticalPath) {
+		synchronized(this.records) {
+			return new StartupReport(moduleName, startupTime, this.records.entrySet().stream()
+				.map(e -> new StartupReport.BeanStartup(
+					e.getKey().parent != null ? e.getKey().parent.getName() : null, 
+					e.getKey().name, 
+					e.getValue().instances, 
+					e.getValue().constructionTime, 
+					e.getValue().initTime, 
+					criticalPath.contains(e.getKey())
+				))
+				.collect(Collectors.toList())
+			);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * The times recorded for a bean.
+	 * </p>
+	 * 
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.6
+	 */
+	private static class BeanRecord {
+		
+		int instances;
+		
+		long constructionTime;
+		
+		long initTime;
+		
+		void add(long constructionTime, long initTime) {
+			this.instances++;
+			this.constructionTime += constructionTime;
+			this.initTime += initTime;
+		}
+	}
+	
+	/**
+	 * <p>
+	 * A bean instance being instantiated.
+	 * </p>
+	 * 
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.6
+	 */
+	private static class Frame {
+		
+		final Bean<?> bean;
+		
+		final long start;
+		
+		boolean constructed;
+		
+		long constructionEnd;
+		
+		/**
+		 * The time spent to instantiate nested beans.
+		 */
+		long nested;
+		
+		/**
+		 * The time spent to instantiate nested beans during construction.
+		 */
+		long constructionNested;
+		
+		Frame(Bean<?> bean) {
+			this.bean = bean;
+			this.start = System.nanoTime();
+		}
+		
+		void endConstruction() {
+			this.constructed = true;
+			this.constructionEnd = System.nanoTime();
+			this.constructionNested = this.nested;
+		}
+	}
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * A report describing the startup of a module.
+ * </p>
+ *
+ * <p>
+ * A startup report lists the beans instantiated while the module and its component modules were starting in creation order along with the time spent to construct and initialize them. The
+ * time reported for a bean excludes the time spent to instantiate the beans it depends on when they are instantiated from its constructor or its initialization methods.
+ * </p>
+ *
+ * <p>
+ * The report also exposes the critical path of the startup which is the chain of dependent beans and component modules that takes the longest time to start. Since a bean can't be created before
+ * the beans it depends on, the critical path time is the lower bound of the module startup time, even when the module is started concurrently. Beans on the critical path are the one to make lazy
+ * or to move off the startup path in order to reduce the startup time.
+ * </p>
+ *
+ * <pre>{@code
+ * StartupReport report = module.getStartupReport().orElseThrow();
+ * if(report.getStartupTime().compareTo(Duration.ofSeconds(2)) > 0) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ * 
+ * @see Module#getStartupReport()
+ */
+public final class StartupReport {
+
+	/**
+	 * The name of the module.
+	 */
+	private final String moduleName;
+	
+	/**
+	 * The module startup time.
+	 */
+	private final Duration startupTime;
+	
+	/**
+	 * The beans in creation order.
+	 */
+	private final List<BeanStartup> beans;
+	
+	/**
+	 * <p>
+	 * Creates a startup report.
+	 * </p>
+	 *
+	 * @param moduleName  the name of the module
+	 * @param startupTime the module startup time
+	 * @param beans       the beans in creation order
+	 */
+	StartupReport(String moduleName, Duration startupTime, List<BeanStartup> beans) {
+		this.moduleName = moduleName;
+		this.startupTime = startupTime;
+		this.beans = Collections.unmodifiableList(beans);
+	}
+
+	/**
+	 * <p>
+	 * Returns the name of the module.
+	 * </p>
+	 * 
+	 * @return the module name
+	 */
+	public String getModuleName() {
+		return moduleName;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the time it took to start the module.
+	 * </p>
+	 * 
+	 * @return the module startup time
+	 */
+	public Duration getStartupTime() {
+		return startupTime;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the beans instantiated during startup in creation order.
+	 * </p>
+	 * 
+	 * @return a list of bean startups
+	 */
+	public List<BeanStartup> getBeans() {
+		return beans;
+	}
+	
+	/**
+	 * <p>
+	 * Returns the beans on the startup critical path in creation order.
+	 * </p>
+	 * 
+	 * @return a list of bean startups
+	 */
+	public List<BeanStartup> getCriticalPath() {
+		return this.beans.stream().filter(BeanStartup::isCriticalPath).collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * <p>
+	 * Returns the time spent to instantiate the beans on the startup critical path.
+	 * </p>
+	 * 
+	 * @return the critical path time
+	 */
+	public Duration getCriticalPathTime() {
+		return this.beans.stream().filter(BeanStartup::isCriticalPath).map(BeanStartup::getTotalTime).reduce(Duration.ZERO, Duration::plus);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder();
+		str.append("Module ").append(this.moduleName).append(" started in ").append(this.startupTime.toMillis()).append("ms (critical path: ").append(this.getCriticalPathTime().toMillis()).append("ms)");
+		for(BeanStartup bean : this.beans) {
+			str.append(System.lineSeparator()).append(bean.isCriticalPath() ? " * " : "   ").append(bean);
+		}
+		return str.toString();
+	}
+	
+	/**
+	 * <p>
+	 * Describes the instantiation of a bean during the startup of a module.
+	 * </p>
+	 * 
+	 * <p>
+	 * A prototype bean can be instantiated multiple times during startup, reported times are then the sum of the times spent to instantiate each instance.
+	 * </p>
+	 * 
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.6
+	 */
+	public static final class BeanStartup {
+		
+		/**
+		 * The name of the module into which the bean is registered.
+		 */
+		private final String moduleName;
+		
+		/**
+		 * The bean name.
+		 */
+		private final String beanName;
+		
+		/**
+		 * The number of instances created during startup.
+		 */
+		private final int instances;
+		
+		/**
+		 * The time spent to construct the bean instances in nanoseconds.
+		 */
+		private final long constructionTime;
+		
+		/**
+		 * The time spent to initialize the bean instances in nanoseconds.
+		 */
+		private final long initTime;
+		
+		/**
+		 * Indicates whether the bean is on the critical path.
+		 */
+		private final boolean criticalPath;
+
+		/**
+		 * <p>
+		 * Creates a bean startup.
+		 * </p>
+		 * 
+		 * @param moduleName       the name of the module into which the bean is registered
+		 * @param beanName         the bean name
+		 * @param instances        the number of instances created during startup
+		 * @param constructionTime the time spent to construct the bean instances in nanoseconds
+		 * @param initTime         the time spent to initialize the bean instances in nanoseconds
+		 * @param criticalPath     true if the bean is on the critical path, false otherwise
+		 */
+		BeanStartup(String moduleName, String beanName, int instances, long constructionTime, long initTime, boolean criticalPath) {
+			this.moduleName = moduleName;
+			this.beanName = beanName;
+			this.instances = instances;
+			this.constructionTime = constructionTime;
+			this.initTime = initTime;
+			this.criticalPath = criticalPath;
+		}
+		
+		/**
+		 * <p>
+		 * Returns the name of the module into which the bean is registered.
+		 * </p>
+		 * 
+		 * @return the module name
+		 */
+		public String getModuleName() {
+			return moduleName;
+		}
+		
+		/**
+		 * <p>
+		 * Returns the bean name.
+		 * </p>
+		 * 
+		 * @return the bean name
+		 */
+		public String getBeanName() {
+			return beanName;
+		}
+		
+		/**
+		 * <p>
+		 * Returns the number of instances created during startup.
+		 * </p>
+		 * 
+		 * @return the number of instances
+		 */
+		public int getInstances() {
+			return instances;
+		}
+		
+		/**
+		 * <p>
+		 * Returns the time spent to construct the bean instances.
+		 * </p>
+		 * 
+		 * @return the construction time
+		 */
+		public Duration getConstructionTime() {
+			return Duration.ofNanos(this.constructionTime);
+		}
+		
+		/**
+		 * <p>
+		 * Returns the time spent to initialize the bean instances.
+		 * </p>
+		 * 
+		 * @return the initialization time
+		 */
+		public Duration getInitTime() {
+			return Duration.ofNanos(this.initTime);
+		}
+		
+		/**
+		 * <p>
+		 * Returns the total time spent to instantiate the bean instances.
+		 * </p>
+		 * 
+		 * @return the total time
+		 */
+		public Duration getTotalTime() {
+			return Duration.ofNanos(this.constructionTime + this.initTime);
+		}
+		
+		/**
+		 * <p>
+		 * Determines whether the bean is on the startup critical path.
+		 * </p>
+		 * 
+		 * @return true if the bean is on the critical path, false otherwise
+		 */
+		public boolean isCriticalPath() {
+			return criticalPath;
+		}
+
+		@Override
+		public String toString() {
+			return this.moduleName + ":" + this.beanName + (this.instances > 1 ? " (" + this.instances + " instances)" : "") + " constructed in " + (this.constructionTime / 1000) + "us, initialized in " + (this.initTime / 1000) + "us";
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Starts the component modules and creates the beans of a module.
+ * </p>
+ *
+ * <p>
+ * A bean or a component module depending on a bean or a component module whose asynchronous initialization is pending is only started once the initialization has completed, the nodes which
+ * do not depend on it are started in the meantime. When a startup executor was specified, nodes are started on that executor, otherwise they are started in the calling thread or, when they
+ * have to wait for an initialization, in the thread completing the initialization.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+final class StartupScheduler {
+
+	/**
+	 * The module to start.
+	 */
+	private final Module module;
+
+	/**
+	 * The executor used to start component modules and create beans concurrently, null to start them in the calling thread.
+	 */
+	private final Executor executor;
+
+	/**
+	 * The tasks starting the beans and the component modules of the module.
+	 */
+	private final Map<Object, CompletableFuture<Void>> tasks;
+
+	/**
+	 * <p>
+	 * Creates a startup scheduler.
+	 * </p>
+	 *
+	 * @param module the module to start
+	 */
+	StartupScheduler(Module module) {
+		this.module = module;
+		this.executor = module.startupExecutor;
+		this.tasks = new HashMap<>();
+	}
+
+	/**
+	 * <p>
+	 * Starts the component modules and creates the beans of the module.
+	 * </p>
+	 *
+	 * <p>
+	 * In lazy mode, component modules are started in order to be able to provide their beans but beans are only created when they are first requested.
+	 * </p>
+	 *
+	 * @return a future which completes once pending asynchronous initializations of component modules and beans have completed
+	 */
+	CompletableFuture<Void> start() {
+		if(this.module.isLazy()) {
+			this.module.modules.stream().filter(component -> !component.isActive()).forEach(component -> component.startAsync());
+			return CompletableFuture.allOf(this.module.modules.stream().map(Module::getStartup).filter(Objects::nonNull).toArray(CompletableFuture[]::new));
+		}
+		Iterable<Object> nodes = this.module.nodes != null ? this.module.nodes : Stream.concat(this.module.modules.stream(), this.module.beans.stream())::iterator;
+		for(Object node : nodes) {
+			CompletableFuture<Void> task = this.schedule(node);
+			if(this.executor == null && task.isCompletedExceptionally()) {
+				// The node failed to start in the calling thread, remaining nodes are not started
+				return task;
+			}
+		}
+		return CompletableFuture.allOf(this.tasks.values().toArray(CompletableFuture[]::new));
+	}
+
+	/**
+	 * <p>
+	 * Schedules the start of the specified bean or component module once its dependencies have been started.
+	 * </p>
+	 *
+	 * <p>
+	 * Component modules do not inherit the startup executor, their beans are created within the task starting the component module in order to prevent tasks from waiting for other tasks on a
+	 * bounded executor. A bean or a component module is started once the asynchronous initializations of its dependencies have completed without blocking any thread.
+	 * </p>
+	 *
+	 * @param node a bean or a component module
+	 *
+	 * @return a future which completes once the node has been started and initialized
+	 */
+	private CompletableFuture<Void> schedule(Object node) {
+		CompletableFuture<Void> task = this.tasks.get(node);
+		if(task == null) {
+			CompletableFuture<?>[] dependencyTasks = Arrays.stream(this.module.dependencies.getOrDefault(node, new Object[0]))
+				.map(this::schedule)
+				.toArray(CompletableFuture[]::new);
+
+			final Runnable startNode;
+			final Supplier<CompletableFuture<Void>> initialization;
+			if(node instanceof Module) {
+				Module component = (Module)node;
+				startNode = () -> {
+					if(!component.isActive()) {
+						component.startAsync();
+					}
+				};
+				initialization = component::getStartup;
+			}
+			else {
+				Bean<?> bean = (Bean<?>)node;
+				startNode = bean::create;
+				initialization = bean::getInitialization;
+			}
+			CompletableFuture<Void> dependenciesStarted = CompletableFuture.allOf(dependencyTasks);
+			// Without startup executor, the node is started right away when its dependencies are started
+			CompletableFuture<Void> creation = this.executor != null ? dependenciesStarted.thenRunAsync(startNode, this.executor) : dependenciesStarted.thenRun(startNode);
+			task = creation.thenCompose(ign -> {
+				CompletableFuture<Void> nodeInitialization = initialization.get();
+				return nodeInitialization != null ? nodeInitialization : CompletableFuture.completedFuture(null);
+			});
+			this.tasks.put(node, task);
+		}
+		return task;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A {@link ScopeCarrier} implementation which binds scopes to the current thread.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+final class ThreadLocalScopeCarrier implements ScopeCarrier {
+
+	/**
+	 * The thread local scope carrier.
+	 */
+	static final ThreadLocalScopeCarrier INSTANCE = new ThreadLocalScopeCarrier();
+	
+	/**
+	 * The active scope.
+	 */
+	private final ThreadLocal<Scope> scope;
+
+	/**
+	 * <p>
+	 * Creates a thread local scope carrier.
+	 * </p>
+	 */
+	private ThreadLocalScopeCarrier() {
+		this.scope = new ThreadLocal<>();
+	}
+	
+	@Override
+	public Scope current() {
+		return this.scope.get();
+	}
+
+	@Override
+	public <T> T call(Scope scope, Supplier<T> action) {
+		Scope previousScope = this.scope.get();
+		this.scope.set(scope);
+		try {
+			return action.get();
+		}
+		finally {
+			if(previousScope != null) {
+				this.scope.set(previousScope);
+			}
+			else {
+				this.scope.remove();
+			}
+		}
+	}
+}
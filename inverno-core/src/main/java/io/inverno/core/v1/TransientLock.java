@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * Utility methods to guard a critical section with a lock which is only allocated while it is held.
+ * </p>
+ *
+ * <p>
+ * A singleton bean only needs a lock when its instance is created or destroyed, keeping a {@link ReentrantLock} in each bean would retain it for the lifetime of the module. The lock is
+ * instead stored in a volatile field of the owner which is set when the lock is acquired and cleared when it is released by its last holder. A thread waiting for a lock which has been
+ * released in the meantime retries with the lock currently set in the field so that at most one thread at a time holds the lock of an owner.
+ * </p>
+ *
+ * <p>
+ * Like {@link ReentrantLock}, a thread waiting for the lock doesn't pin a virtual thread to its carrier and the lock is reentrant.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+final class TransientLock {
+
+	private TransientLock() {}
+	
+	/**
+	 * <p>
+	 * Acquires the lock of the specified owner.
+	 * </p>
+	 *
+	 * @param <O>     the type of owner
+	 * @param owner   the owner of the lock
+	 * @param updater the updater of the owner field holding the lock
+	 *
+	 * @return the lock which must be released with {@link #unlock(Object, AtomicReferenceFieldUpdater, ReentrantLock)}
+	 */
+	static <O> ReentrantLock lock(O owner, AtomicReferenceFieldUpdater<O, ReentrantLock> updater) {
+		for(;;) {
+			ReentrantLock lock = updater.get(owner);
+			if(lock == null) {
+				lock = new ReentrantLock();
+				lock.lock();
+				if(updater.compareAndSet(owner, null, lock)) {
+					return lock;
+				}
+			}
+			else {
+				lock.lock();
+				if(updater.get(owner) == lock) {
+					return lock;
+				}
+				// The lock has been released by its last holder while we were waiting
+				lock.unlock();
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Releases the lock of the specified owner.
+	 * </p>
+	 *
+	 * @param <O>     the type of owner
+	 * @param owner   the owner of the lock
+	 * @param updater the updater of the owner field holding the lock
+	 * @param lock    the lock returned by {@link #lock(Object, AtomicReferenceFieldUpdater)}
+	 */
+	static <O> void unlock(O owner, AtomicReferenceFieldUpdater<O, ReentrantLock> updater, ReentrantLock lock) {
+		if(lock.getHoldCount() == 1) {
+			updater.set(owner, null);
+		}
+		lock.unlock();
+	}
+}
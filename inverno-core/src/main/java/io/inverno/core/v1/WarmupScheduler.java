@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>
+ * Warms up the beans of a started module and of its component modules.
+ * </p>
+ *
+ * <p>
+ * Warm-up tasks are executed concurrently on the warm-up executor of the module or on the common pool when none was specified, the module readiness is completed when all tasks have
+ * completed or when the warm-up time budget is exhausted. Tasks which have not started when the time budget is exhausted are cancelled.
+ * </p>
+ *
+ * <p>
+ * The scheduler must be stopped before the beans of the module are destroyed: pending tasks are cancelled and running tasks are awaited so that no warm-up operation is invoked on a destroyed
+ * bean instance. The module readiness is then cancelled.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+final class WarmupScheduler {
+
+	/**
+	 * The module to warm up.
+	 */
+	private final Module module;
+	
+	/**
+	 * The scheduled warm-up tasks.
+	 */
+	private final List<CompletableFuture<Void>> tasks;
+	
+	/**
+	 * The completions of the warm-up tasks currently running.
+	 */
+	private final Set<CompletableFuture<Void>> runningTasks;
+	
+	/**
+	 * Indicates whether the scheduler has been stopped.
+	 */
+	private volatile boolean stopped;
+
+	/**
+	 * <p>
+	 * Creates a warm-up scheduler.
+	 * </p>
+	 *
+	 * @param module the module to warm up
+	 */
+	WarmupScheduler(Module module) {
+		this.module = module;
+		this.tasks = new ArrayList<>();
+		this.runningTasks = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * <p>
+	 * Warms up the beans of the module and of its component modules.
+	 * </p>
+	 *
+	 * @param moduleReadiness the module readiness to complete once beans have been warmed up
+	 */
+	void warmup(CompletableFuture<Void> moduleReadiness) {
+		List<Runnable> warmups = new ArrayList<>();
+		collectWarmups(this.module, warmups);
+		if(warmups.isEmpty()) {
+			moduleReadiness.complete(null);
+			return;
+		}
+		long t0 = System.nanoTime();
+		this.module.logger.info("Warming up Module {}...", () -> this.module.getName());
+		Executor executor = this.module.warmupExecutor != null ? this.module.warmupExecutor : ForkJoinPool.commonPool();
+		synchronized(this.tasks) {
+			for(Runnable warmup : warmups) {
+				this.tasks.add(CompletableFuture.runAsync(() -> this.run(warmup), executor));
+			}
+		}
+		CompletableFuture<Void> warmup = CompletableFuture.allOf(this.tasks.toArray(CompletableFuture[]::new));
+		if(this.module.warmupTimeout != null) {
+			warmup.orTimeout(this.module.warmupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		warmup.whenComplete((ign, e) -> {
+			if(e instanceof TimeoutException) {
+				this.module.logger.warn("Module {} warm-up exceeded its time budget of {}ms", () -> this.module.getName(), () -> this.module.warmupTimeout.toMillis());
+				this.cancel();
+			}
+			else if(this.stopped) {
+				this.module.logger.debug("Module {} warm-up interrupted by module shutdown", () -> this.module.getName());
+				// the module is not ready since it has been stopped
+				moduleReadiness.cancel(false);
+				return;
+			}
+			else if(e != null) {
+				this.module.logger.warn(() -> "Error warming up module " + this.module.getName(), e);
+			}
+			else {
+				this.module.logger.info("Module {} warmed up in {}ms", () -> this.module.getName(), () -> ((System.nanoTime() - t0) / 1000000));
+			}
+			moduleReadiness.complete(null);
+		});
+	}
+	
+	/**
+	 * <p>
+	 * Runs the specified warm-up task unless the scheduler has been stopped.
+	 * </p>
+	 *
+	 * @param warmup a warm-up task
+	 */
+	private void run(Runnable warmup) {
+		CompletableFuture<Void> completion = new CompletableFuture<>();
+		// The task must be registered before checking the stopped flag so that it is either skipped or awaited by stop()
+		this.runningTasks.add(completion);
+		try {
+			if(!this.stopped) {
+				warmup.run();
+			}
+		}
+		finally {
+			this.runningTasks.remove(completion);
+			completion.complete(null);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Cancels the warm-up tasks which have not started yet.
+	 * </p>
+	 */
+	private void cancel() {
+		synchronized(this.tasks) {
+			for(CompletableFuture<Void> task : this.tasks) {
+				task.cancel(false);
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Stops the scheduler.
+	 * </p>
+	 *
+	 * <p>
+	 * Pending warm-up tasks are cancelled and running tasks are awaited within the module shutdown time budget when one was specified.
+	 * </p>
+	 */
+	void stop() {
+		this.stopped = true;
+		this.cancel();
+		CompletableFuture<Void> running = CompletableFuture.allOf(this.runningTasks.toArray(CompletableFuture[]::new));
+		try {
+			if(this.module.shutdownTimeout != null) {
+				running.get(this.module.shutdownTimeout.toNanos(), TimeUnit.NANOSECONDS);
+			}
+			else {
+				running.join();
+			}
+		}
+		catch(TimeoutException e) {
+			this.module.logger.warn("Module {} warm-up tasks did not finish in time", () -> this.module.getName());
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch(ExecutionException e) {
+			// Warm-up errors are logged by the beans
+		}
+	}
+	/**
+	 * <p>
+	 * Collects the warm-up tasks of the beans of the specified module and of its component modules.
+	 * </p>
+	 *
+	 * @param module  a module
+	 * @param warmups the list of warm-up tasks
+	 */
+	private static void collectWarmups(Module module, List<Runnable> warmups) {
+		for(Bean<?> bean : module.beans) {
+			Runnable warmup = bean.getWarmup();
+			if(warmup != null) {
+				warmups.add(warmup);
+			}
+		}
+		for(Module component : module.modules) {
+			collectWarmups(component, warmups);
+		}
+	}
+}
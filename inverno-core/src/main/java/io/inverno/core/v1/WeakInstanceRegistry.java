@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * A concurrent registry of weakly referenced bean instances.
+ * </p>
+ *
+ * <p>
+ * Prototype beans use this registry to track the instances they issue in order to destroy them when the module is stopped. Instances are registered by identity, they are weakly referenced so
+ * they can be garbage collected when they are no longer used and a value (eg. the wrapper of the instance) can be associated to each instance.
+ * </p>
+ *
+ * <p>
+ * Registrations are spread over stripes selected by the registering thread, the number of stripes being the smallest power of two greater or equal to the number of available processors. A stripe
+ * is a doubly linked list of references guarded by its own monitor, threads registering instances concurrently then rarely contend on the same stripe. The reference itself is the node of the list
+ * so a registration only allocates the reference. Each stripe has its own reference queue, the references of collected instances are expunged in small batches on registration so that the cost of
+ * cleaning up the registry is amortized across registrations.
+ * </p>
+ *
+ * <p>
+ * Stripes are only allocated when a first instance is registered so that a prototype bean which never issues instances retains as little memory as possible.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ *
+ * @param <T> the type of the instances
+ * @param <V> the type of the values associated to the instances
+ */
+class WeakInstanceRegistry<T, V> {
+
+	/**
+	 * The maximum number of stale references expunged on registration.
+	 */
+	private static final int EXPUNGE_BATCH_SIZE = 16;
+	
+	/**
+	 * The maximum number of stripes.
+	 */
+	private static final int MAX_STRIPES = 64;
+	
+	/**
+	 * The number of stripes.
+	 */
+	private static final int STRIPES;
+	
+	static {
+		int stripes = 1;
+		while(stripes < Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES)) {
+			stripes <<= 1;
+		}
+		STRIPES = stripes;
+	}
+	
+	/**
+	 * The stripes, null until a first instance is registered.
+	 */
+	private volatile Stripe<T, V>[] stripes;
+	
+	/**
+	 * <p>
+	 * Creates a weak instance registry.
+	 * </p>
+	 */
+	public WeakInstanceRegistry() {
+	}
+	
+	/**
+	 * <p>
+	 * Allocates the stripes.
+	 * </p>
+	 *
+	 * @return the stripes
+	 */
+	@SuppressWarnings("unchecked")
+	private synchronized Stripe<T, V>[] initialize() {
+		if(this.stripes == null) {
+			Stripe<T, V>[] newStripes = (Stripe<T, V>[])new Stripe<?, ?>[STRIPES];
+			for(int i = 0;i < newStripes.length;i++) {
+				newStripes[i] = new Stripe<>();
+			}
+			this.stripes = newStripes;
+		}
+		return this.stripes;
+	}
+	
+	/**
+	 * <p>
+	 * Registers the specified instance with the specified value.
+	 * </p>
+	 *
+	 * @param instance the instance to register
+	 * @param value    the value to associate to the instance
+	 */
+	public void register(T instance, V value) {
+		Stripe<T, V>[] registryStripes = this.stripes;
+		if(registryStripes == null) {
+			registryStripes = this.initialize();
+		}
+		// A thread always registers into the same stripe, thread ids are sequential which spreads threads evenly over the stripes
+		Stripe<T, V> stripe = registryStripes[(int)Thread.currentThread().getId() & (registryStripes.length - 1)];
+		InstanceReference<T, V> reference = new InstanceReference<>(instance, value, stripe);
+		synchronized(stripe) {
+			stripe.expungeStaleReferences(EXPUNGE_BATCH_SIZE);
+			stripe.link(reference);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Invokes the specified action on the registered instances that have not been garbage collected.
+	 * </p>
+	 *
+	 * <p>
+	 * The action is invoked outside of the stripes monitors so that it can safely register instances.
+	 * </p>
+	 *
+	 * @param action the action to invoke with the instance and its associated value
+	 */
+	public void forEach(BiConsumer<T, V> action) {
+		Stripe<T, V>[] registryStripes = this.stripes;
+		if(registryStripes == null) {
+			return;
+		}
+		List<InstanceReference<T, V>> references = new ArrayList<>();
+		for(Stripe<T, V> stripe : registryStripes) {
+			synchronized(stripe) {
+				stripe.expungeStaleReferences(Integer.MAX_VALUE);
+				for(InstanceReference<T, V> reference = stripe.head;reference != null;reference = reference.next) {
+					references.add(reference);
+				}
+			}
+		}
+		for(InstanceReference<T, V> reference : references) {
+			T instance = reference.get();
+			if(instance != null) {
+				action.accept(instance, reference.value);
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Removes all registered instances.
+	 * </p>
+	 */
+	public void clear() {
+		Stripe<T, V>[] registryStripes = this.stripes;
+		if(registryStripes == null) {
+			return;
+		}
+		for(Stripe<T, V> stripe : registryStripes) {
+			synchronized(stripe) {
+				stripe.clear();
+			}
+		}
+	}
+	
+	/**
+	 * <p>
+	 * A stripe of the registry.
+	 * </p>
+	 *
+	 * <p>
+	 * A stripe is the reference queue of the references it holds, it must be accessed while holding its monitor.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.6
+	 *
+	 * @param <T> the type of the instances
+	 * @param <V> the type of the values
+	 */
+	private static class Stripe<T, V> extends ReferenceQueue<T> {
+		
+		/**
+		 * The first reference of the stripe.
+		 */
+		private InstanceReference<T, V> head;
+		
+		/**
+		 * <p>
+		 * Adds the specified reference at the head of the stripe.
+		 * </p>
+		 *
+		 * @param reference the reference to add
+		 */
+		private void link(InstanceReference<T, V> reference) {
+			reference.next = this.head;
+			if(this.head != null) {
+				this.head.previous = reference;
+			}
+			this.head = reference;
+		}
+		
+		/**
+		 * <p>
+		 * Removes the specified reference from the stripe if it is still linked.
+		 * </p>
+		 *
+		 * @param reference the reference to remove
+		 */
+		private void unlink(InstanceReference<T, V> reference) {
+			if(reference.previous != null) {
+				reference.previous.next = reference.next;
+			}
+			else if(this.head == reference) {
+				this.head = reference.next;
+			}
+			else {
+				// The reference has already been removed
+				return;
+			}
+			if(reference.next != null) {
+				reference.next.previous = reference.previous;
+			}
+			reference.previous = null;
+			reference.next = null;
+		}
+		
+		/**
+		 * <p>
+		 * Removes at most the specified number of references whose instance have been garbage collected.
+		 * </p>
+		 *
+		 * @param max the maximum number of references to expunge
+		 */
+		@SuppressWarnings("unchecked")
+		private void expungeStaleReferences(int max) {
+			InstanceReference<T, V> reference;
+			for(int i = 0;i < max && (reference = (InstanceReference<T, V>)this.poll()) != null;i++) {
+				this.unlink(reference);
+			}
+		}
+		
+		/**
+		 * <p>
+		 * Removes all references.
+		 * </p>
+		 */
+		private void clear() {
+			InstanceReference<T, V> reference = this.head;
+			this.head = null;
+			while(reference != null) {
+				InstanceReference<T, V> next = reference.next;
+				reference.previous = null;
+				reference.next = null;
+				reference = next;
+			}
+			this.expungeStaleReferences(Integer.MAX_VALUE);
+		}
+	}
+	
+	/**
+	 * <p>
+	 * A weak reference to a registered instance holding the value associated to the instance.
+	 * </p>
+	 *
+	 * <p>
+	 * References are the nodes of the list of the stripe in which they are registered, they do not override {@link Object#equals(Object)} and {@link Object#hashCode()}, the registry then relies on
+	 * the identity of the instances and not on their own equality.
+	 * </p>
+	 *
+	 * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+	 * @since 1.6
+	 *
+	 * @param <T> the type of the instance
+	 * @param <V> the type of the value
+	 */
+	private static class InstanceReference<T, V> extends WeakReference<T> {
+		
+		/**
+		 * The value associated to the instance.
+		 */
+		private final V value;
+		
+		/**
+		 * The previous reference in the stripe.
+		 */
+		private InstanceReference<T, V> previous;
+		
+		/**
+		 * The next reference in the stripe.
+		 */
+		private InstanceReference<T, V> next;
+		
+		/**
+		 * <p>
+		 * Creates an instance reference.
+		 * </p>
+		 *
+		 * @param instance       the instance
+		 * @param value          the value associated to the instance
+		 * @param referenceQueue the queue into which the reference is enqueued when the instance is garbage collected
+		 */
+		public InstanceReference(T instance, V value, ReferenceQueue<? super T> referenceQueue) {
+			super(instance, referenceQueue);
+			this.value = value;
+		}
+	}
+}
@@ -28,6 +28,8 @@
  * @since 1.0
  */
 module io.inverno.core {
+	requires static java.management;
+	requires static jdk.jfr;
 	requires org.apache.logging.log4j;
 	requires static transitive java.compiler;
 	
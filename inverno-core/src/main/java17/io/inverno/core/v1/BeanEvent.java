@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import io.inverno.core.v1.Module.Bean;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>
+ * Base class for the JDK Flight Recorder events recorded along the lifecycle of a bean.
+ * </p>
+ *
+ * <p>
+ * Bean events are meant to be cheap when disabled: fields are only set once it has been determined that the event must be committed.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+@Category({"Inverno", "Lifecycle"})
+@StackTrace(false)
+abstract class BeanEvent extends Event {
+
+	/**
+	 * The singleton bean strategy.
+	 */
+	static final String SINGLETON = "SINGLETON";
+	
+	/**
+	 * The prototype bean strategy.
+	 */
+	static final String PROTOTYPE = "PROTOTYPE";
+	
+	/**
+	 * The pooled bean strategy.
+	 */
+	static final String POOLED = "POOLED";
+	
+	/**
+	 * The scoped bean strategy.
+	 */
+	static final String SCOPED = "SCOPED";
+
+	/**
+	 * The name of the module into which the bean is registered.
+	 */
+	@Label("Module")
+	String moduleName;
+	
+	/**
+	 * The name of the bean.
+	 */
+	@Label("Bean")
+	String beanName;
+	
+	/**
+	 * The bean strategy.
+	 */
+	@Label("Strategy")
+	String strategy;
+	
+	/**
+	 * <p>
+	 * Ends the event and commits it if it is enabled and within threshold.
+	 * </p>
+	 * 
+	 * @param bean     the bean
+	 * @param strategy the bean strategy
+	 */
+	final void commit(Bean<?> bean, String strategy) {
+		this.end();
+		if(this.shouldCommit()) {
+			this.moduleName = bean.parent != null ? bean.parent.getName() : null;
+			this.beanName = bean.name;
+			this.strategy = strategy;
+			this.commit();
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Jeremy KUHN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.inverno.core.v1;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>
+ * A JDK Flight Recorder event recorded when a module is started.
+ * </p>
+ *
+ * <p>
+ * The event duration covers the creation of the beans and the startup of the component modules of the module.
+ * </p>
+ *
+ * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
+ * @since 1.6
+ */
+@Name(ModuleStartEvent.NAME)
+@Label("Module Start")
+@Description("A module is started")
+@Category({"Inverno", "Lifecycle"})
+@StackTrace(false)
+class ModuleStartEvent extends Event {
+	
+	/**
+	 * The event name.
+	 */
+	static final String NAME = "io.inverno.core.ModuleStart";
+
+	/**
+	 * The name of the module.
+	 */
+	@Label("Module")
+	String moduleName;
+}
@@ -16,8 +16,16 @@
 package io.inverno.test;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import io.inverno.core.v1.BeanIndex;
 import io.inverno.core.v1.Module;
+import io.inverno.core.v1.ModuleMetrics;
+import io.inverno.core.v1.ShutdownReport;
+import io.inverno.core.v1.StartupReport;
 
 /**
  * @author <a href="mailto:jeremy.kuhn@inverno.io">Jeremy Kuhn</a>
@@ -60,6 +68,21 @@ public class InvernoModuleProxy extends Module {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public CompletableFuture<Void> startAsync() throws InvernoModuleException {
+		try {
+			return (CompletableFuture<Void>)this.module.getClass().getMethod("startAsync").invoke(this.module);
+		} 
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	@Override
 	public void stop() throws InvernoModuleException {
 		try {
@@ -74,8 +97,132 @@ public class InvernoModuleProxy extends Module {
 		}
 	}
 	
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<StartupReport> getStartupReport() throws InvernoModuleException {
+		try {
+			// The report might have been loaded in a different module layer
+			return (Optional<StartupReport>)this.module.getClass().getMethod("getStartupReport").invoke(this.module);
+		}
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<ShutdownReport> getShutdownReport() throws InvernoModuleException {
+		try {
+			// The report might have been loaded in a different module layer
+			return (Optional<ShutdownReport>)this.module.getClass().getMethod("getShutdownReport").invoke(this.module);
+		}
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public CompletableFuture<Void> getReadiness() throws InvernoModuleException {
+		try {
+			return (CompletableFuture<Void>)this.module.getClass().getMethod("getReadiness").invoke(this.module);
+		}
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<ModuleMetrics> getMetrics() throws InvernoModuleException {
+		try {
+			// The metrics might have been loaded in a different module layer
+			return (Optional<ModuleMetrics>)this.module.getClass().getMethod("getMetrics").invoke(this.module);
+		}
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	@Override
+	protected BeanIndex createBeanIndex() throws InvernoModuleException {
+		try {
+			// The index might have been loaded in a different module layer
+			Object beanIndex = this.module.getClass().getMethod("getBeanIndex").invoke(this.module);
+			Class<?> beanIndexClass = beanIndex.getClass();
+			while(!beanIndexClass.getName().equals(BeanIndex.class.getName())) {
+				// The generated index is a private class
+				beanIndexClass = beanIndexClass.getSuperclass();
+			}
+			Class<?> publicBeanIndexClass = beanIndexClass;
+			return new BeanIndex() {
+				
+				@SuppressWarnings("unchecked")
+				@Override
+				public Set<String> names() {
+					return (Set<String>)this.invoke("names", new Class<?>[0]);
+				}
+				
+				@Override
+				protected Object get(String name) {
+					return ((Optional<?>)this.invoke("byName", new Class<?>[] {String.class}, name)).orElse(null);
+				}
+				
+				@Override
+				protected Object[] getByType(Class<?> type) {
+					try {
+						Class<?> moduleType = Class.forName(type.getName(), false, InvernoModuleProxy.this.module.getClass().getClassLoader());
+						return ((List<?>)this.invoke("byType", new Class<?>[] {Class.class}, moduleType)).toArray();
+					}
+					catch (ClassNotFoundException e) {
+						return null;
+					}
+				}
+				
+				private Object invoke(String methodName, Class<?>[] parameterTypes, Object... args) {
+					try {
+						return publicBeanIndexClass.getMethod(methodName, parameterTypes).invoke(beanIndex, args);
+					}
+					catch (InvocationTargetException e) {
+						throw new InvernoModuleException(e.getCause());
+					}
+					catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException | SecurityException e) {
+						throw new RuntimeException(e);
+					}
+				}
+			};
+		}
+		catch (InvocationTargetException e) {
+			throw new InvernoModuleException(e.getCause());
+		}
+		catch (IllegalAccessException | IllegalArgumentException | NoSuchMethodException
+				| SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
 	public Object getBean(String name) throws InvernoModuleException {
+		if(this.getBeanIndex().names().contains(name)) {
+			return this.getBeanIndex().byName(name).orElse(null);
+		}
 		try {
+			// Beans are otherwise obtained from their accessor (eg. the normalized name of a bean whose name contains dots)
 			return this.module.getClass().getMethod(name).invoke(this.module);
 		}
 		catch (InvocationTargetException e) {
@@ -15,13 +15,16 @@
  */
 package io.inverno.test;
 
+import java.lang.ref.Cleaner;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -40,6 +43,26 @@ public class InvernoModuleProxyBuilder {
 
 	private List<Consumer<Object>> moduleOptionalSetters;
 	
+	private Executor startupExecutor;
+	
+	private Cleaner cleaner;
+	
+	private boolean lazy;
+	
+	private int poolCapacity;
+	
+	private Executor shutdownExecutor;
+	
+	private Duration shutdownTimeout;
+	
+	private Duration beanShutdownTimeout;
+	
+	private boolean metrics;
+	
+	private Executor warmupExecutor;
+	
+	private Duration warmupTimeout;
+	
 	public InvernoModuleProxyBuilder(String moduleName, Class<?> moduleBuilderClass) {
 		this.moduleName = moduleName;
 		this.moduleBuilderClass = moduleBuilderClass;
@@ -113,6 +136,56 @@ public class InvernoModuleProxyBuilder {
 		return this;
 	}
 	
+	public InvernoModuleProxyBuilder startupExecutor(Executor startupExecutor) {
+		this.startupExecutor = startupExecutor;
+		return this;
+	}
+	
+	public InvernoModuleProxyBuilder cleaner(Cleaner cleaner) {
+		this.cleaner = cleaner;
+		return this;
+	}
+	
+	public InvernoModuleProxyBuilder lazy(boolean lazy) {
+		this.lazy = lazy;
+		return this;
+	}
+	
+	public InvernoModuleProxyBuilder poolCapacity(int poolCapacity) {
+		this.poolCapacity = poolCapacity;
+		return this;
+	}
+	
+	public InvernoModuleProxyBuilder shutdownExecutor(Executor shutdownExecutor) {
+		this.shutdownExecutor = shutdownExecutor;
+		return this;
+	}
+	
+	public InvernoModuleProxyBuilder shutdownTimeout(Duration shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+		return this;
+	}
+	
+	public InvernoModuleProxyBuilder beanShutdownTimeout(Duration beanShutdownTimeout) {
+		this.beanShutdownTimeout = beanShutdownTimeout;
+		return this;
+	}
+	
+	public InvernoModuleProxyBuilder metrics(boolean metrics) {
+		this.metrics = metrics;
+		return this;
+	}
+	
+	public InvernoModuleProxyBuilder warmupExecutor(Executor warmupExecutor) {
+		this.warmupExecutor = warmupExecutor;
+		return this;
+	}
+	
+	public InvernoModuleProxyBuilder warmupTimeout(Duration warmupTimeout) {
+		this.warmupTimeout = warmupTimeout;
+		return this;
+	}
+	
 	public InvernoModuleProxy build() throws InvernoModuleException {
 		if(this.moduleBuilderSupplier == null) {
 			final Constructor<?> moduleBuilderConstructor;
@@ -142,6 +215,36 @@ public class InvernoModuleProxyBuilder {
 		}
 		
 		try {
+			if(this.startupExecutor != null) {
+				this.moduleBuilderClass.getMethod("startupExecutor", Executor.class).invoke(moduleBuilder, this.startupExecutor);
+			}
+			if(this.cleaner != null) {
+				this.moduleBuilderClass.getMethod("cleaner", Cleaner.class).invoke(moduleBuilder, this.cleaner);
+			}
+			if(this.lazy) {
+				this.moduleBuilderClass.getMethod("lazy", boolean.class).invoke(moduleBuilder, this.lazy);
+			}
+			if(this.poolCapacity > 0) {
+				this.moduleBuilderClass.getMethod("poolCapacity", int.class).invoke(moduleBuilder, this.poolCapacity);
+			}
+			if(this.shutdownExecutor != null) {
+				this.moduleBuilderClass.getMethod("shutdownExecutor", Executor.class).invoke(moduleBuilder, this.shutdownExecutor);
+			}
+			if(this.shutdownTimeout != null) {
+				this.moduleBuilderClass.getMethod("shutdownTimeout", Duration.class).invoke(moduleBuilder, this.shutdownTimeout);
+			}
+			if(this.beanShutdownTimeout != null) {
+				this.moduleBuilderClass.getMethod("beanShutdownTimeout", Duration.class).invoke(moduleBuilder, this.beanShutdownTimeout);
+			}
+			if(this.metrics) {
+				this.moduleBuilderClass.getMethod("metrics", boolean.class).invoke(moduleBuilder, this.metrics);
+			}
+			if(this.warmupExecutor != null) {
+				this.moduleBuilderClass.getMethod("warmupExecutor", Executor.class).invoke(moduleBuilder, this.warmupExecutor);
+			}
+			if(this.warmupTimeout != null) {
+				this.moduleBuilderClass.getMethod("warmupTimeout", Duration.class).invoke(moduleBuilder, this.warmupTimeout);
+			}
 			return new InvernoModuleProxy(this.moduleBuilderClass.getMethod("build").invoke(moduleBuilder));
 		} 
 		catch (InvocationTargetException e) {
@@ -18,6 +18,7 @@ package io.inverno.test;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
@@ -48,6 +49,7 @@ public class InvernoTestCompiler {
 	private File moduleSourcePath;
 	private File moduleOutputPath;
 	private File sourceOutputPath;
+	private List<String> options = List.of();
 	
 	private InvernoCompilerDiagnosticListener diagnosticListener;
 	
@@ -66,7 +68,7 @@ public class InvernoTestCompiler {
 		
 		this.compiler = ToolProvider.getSystemJavaCompiler();
 		
-		this.fileManager = this.compiler.getStandardFileManager(null, null, null);
+		this.fileManager = this.compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
 
 		this.fileManager.setLocation(StandardLocation.CLASS_PATH, this.classPaths);
 		this.fileManager.setLocation(StandardLocation.MODULE_PATH, Stream.concat(this.modulePaths.stream(), this.annotationProcessorModulePaths.stream()).collect(Collectors.toList()));
@@ -79,7 +81,7 @@ public class InvernoTestCompiler {
 	}
 	
 	public InvernoModuleLoader compile(String... modules) throws IOException, InvernoCompilationException {
-		CompilationTask task = this.compiler.getTask(new PrintWriter(System.out), this.fileManager, this.diagnosticListener, Arrays.asList("--module", Arrays.stream(modules).collect(Collectors.joining(",")), "-Ainverno.debug=true", "-Ainverno.verbose=true", "-Ainverno.generateDescriptor=true"), null, null);
+		CompilationTask task = this.compiler.getTask(new PrintWriter(System.out), this.fileManager, this.diagnosticListener, Stream.concat(Stream.of("--module", Arrays.stream(modules).collect(Collectors.joining(",")), "-Ainverno.debug=true", "-Ainverno.verbose=true", "-Ainverno.generateDescriptor=true"), this.options.stream()).collect(Collectors.toList()), null, null);
 		if(!task.call()) {
 			for(Diagnostic<? extends JavaFileObject> d : this.diagnosticListener.getDiagnotics()) {
 				System.err.println(d.toString());
@@ -97,7 +99,19 @@ public class InvernoTestCompiler {
 	}
 	
 	public InvernoTestCompiler withModulePaths(List<File> modulePaths) throws IOException {
-		return new InvernoTestCompiler(this.moduleSourcePath, this.sourceOutputPath, this.moduleOutputPath, Stream.concat(this.modulePaths.stream(), modulePaths.stream()).collect(Collectors.toList()), this.annotationProcessorModulePaths, this.classPaths);
+		InvernoTestCompiler invernoCompiler = new InvernoTestCompiler(this.moduleSourcePath, this.sourceOutputPath, this.moduleOutputPath, Stream.concat(this.modulePaths.stream(), modulePaths.stream()).collect(Collectors.toList()), this.annotationProcessorModulePaths, this.classPaths);
+		invernoCompiler.options = this.options;
+		return invernoCompiler;
+	}
+	
+	public InvernoTestCompiler withOptions(String... options) throws IOException {
+		InvernoTestCompiler invernoCompiler = new InvernoTestCompiler(this.moduleSourcePath, this.sourceOutputPath, this.moduleOutputPath, this.modulePaths, this.annotationProcessorModulePaths, this.classPaths);
+		invernoCompiler.options = Stream.concat(this.options.stream(), Arrays.stream(options)).collect(Collectors.toList());
+		return invernoCompiler;
+	}
+
+	public List<String> getOptions() {
+		return options;
 	}
 
 	public List<File> getModulePaths() {